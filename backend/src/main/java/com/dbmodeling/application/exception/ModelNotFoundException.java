@@ -0,0 +1,12 @@
+package com.dbmodeling.application.exception;
+
+/**
+ * 요청한 모델 요소(프로젝트, 테이블, 컬럼, 인덱스)가 없을 때 발생하는 예외
+ * 기존 호출부가 잡던 IllegalArgumentException을 그대로 상속하며, 웹 계층에서는 404로 응답합니다.
+ */
+public class ModelNotFoundException extends IllegalArgumentException {
+
+    public ModelNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.dbmodeling.application.port.in;
 
+import com.dbmodeling.domain.model.CursorPage;
 import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.ProjectSummary;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,4 +25,20 @@ public interface GetProjectUseCase {
      * @return 프로젝트 목록
      */
     List<Project> getAllProjects();
-}
\ No newline at end of file
+    
+    /**
+     * 모든 프로젝트 요약 목록 조회 (테이블 로딩 없음)
+     * 
+     * @return 프로젝트 요약 목록
+     */
+    List<ProjectSummary> getProjectSummaries();
+    
+    /**
+     * 프로젝트 요약 키셋 페이지 조회 (최신순)
+     * 
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 프로젝트 요약 페이지
+     */
+    CursorPage<ProjectSummary> getProjectSummaryPage(String cursor, int size);
+}
@@ -1,6 +1,8 @@
 package com.dbmodeling.application.port.in;
 
+import com.dbmodeling.domain.model.CursorPage;
 import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.model.TableSummary;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +26,22 @@ public interface GetTableUseCase {
      * @return 테이블 목록
      */
     List<Table> getTablesByProjectId(UUID projectId);
-}
\ No newline at end of file
+    
+    /**
+     * 프로젝트의 테이블 요약 목록 조회 (컬럼/인덱스 로딩 없음)
+     * 
+     * @param projectId 프로젝트 ID
+     * @return 테이블 요약 목록
+     */
+    List<TableSummary> getTableSummariesByProjectId(UUID projectId);
+    
+    /**
+     * 프로젝트의 테이블 요약 키셋 페이지 조회 (이름순)
+     * 
+     * @param projectId 프로젝트 ID
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 테이블 요약 페이지
+     */
+    CursorPage<TableSummary> getTableSummaryPage(UUID projectId, String cursor, int size);
+}
@@ -0,0 +1,31 @@
+package com.dbmodeling.application.port.in;
+
+import com.dbmodeling.domain.model.Table;
+import java.util.Iterator;
+import java.util.UUID;
+
+/**
+ * 프로젝트 일괄 가져오기 유스케이스
+ */
+public interface ImportProjectUseCase {
+    
+    /**
+     * 테이블(컬럼/인덱스 포함) 스트림을 프로젝트에 일괄 추가
+     * 인덱스 컬럼은 columnName으로 같은 테이블의 컬럼을 참조
+     * 
+     * @param projectId 대상 프로젝트 ID
+     * @param tables 가져올 테이블 스트림
+     * @return 가져오기 결과
+     */
+    ImportResult importTables(UUID projectId, Iterator<Table> tables);
+    
+    /**
+     * 가져오기 결과
+     */
+    record ImportResult(
+        int tableCount,
+        int columnCount,
+        int indexCount,
+        long elapsedMillis
+    ) {}
+}
@@ -0,0 +1,41 @@
+package com.dbmodeling.application.port.out;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대량 쓰기 아웃바운드 포트
+ * 수천 건 단위의 컬럼/인덱스를 엔티티 병합 없이 일괄 저장
+ */
+public interface BulkWritePort {
+    
+    /**
+     * 컬럼 일괄 삽입 (ID와 생성/수정 일시가 채워짐)
+     */
+    BulkWriteResult insertColumns(UUID tableId, List<Column> columns);
+    
+    /**
+     * 컬럼 일괄 수정 (버전이 달라졌거나 대상 행이 없으면 낙관적 잠금 예외, 성공하면 버전이 1 증가)
+     */
+    BulkWriteResult updateColumns(List<Column> columns);
+    
+    /**
+     * 인덱스 일괄 삽입 (ID와 생성/수정 일시가 채워짐)
+     */
+    BulkWriteResult insertIndexes(UUID tableId, List<Index> indexes);
+    
+    /**
+     * 대량 쓰기 결과
+     */
+    record BulkWriteResult(int rowCount, long elapsedNanos) {
+        
+        /**
+         * 초당 처리 행 수
+         */
+        public double rowsPerSecond() {
+            return elapsedNanos > 0 ? rowCount * 1_000_000_000.0 / elapsedNanos : rowCount;
+        }
+    }
+}
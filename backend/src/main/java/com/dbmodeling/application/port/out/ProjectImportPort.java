@@ -0,0 +1,38 @@
+package com.dbmodeling.application.port.out;
+
+import com.dbmodeling.domain.model.Table;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 프로젝트 일괄 가져오기 출력 포트
+ * 검증이 끝난 테이블 그래프를 스테이징 후 한 번에 병합
+ */
+public interface ProjectImportPort {
+    
+    /**
+     * 프로젝트에 이미 존재하는 테이블 이름 조회
+     */
+    Set<String> findTableNames(UUID projectId);
+    
+    /**
+     * 현재 트랜잭션에서 가져오기 배치 시작
+     */
+    ImportBatch openBatch(UUID projectId);
+    
+    /**
+     * 가져오기 배치 (ID가 모두 할당된 테이블 그래프를 받아 스테이징)
+     */
+    interface ImportBatch {
+        
+        /**
+         * 테이블과 하위 컬럼/인덱스를 스테이징
+         */
+        void add(Table table);
+        
+        /**
+         * 스테이징된 데이터를 실제 테이블로 병합
+         */
+        void complete();
+    }
+}
@@ -1,15 +1,24 @@
 package com.dbmodeling.application.service;
 
+import com.dbmodeling.application.exception.ModelNotFoundException;
+import com.dbmodeling.application.port.out.BulkWritePort;
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.ColumnOrder;
 import com.dbmodeling.domain.model.Index;
 import com.dbmodeling.domain.repository.ColumnRepository;
 import com.dbmodeling.domain.repository.IndexRepository;
+import com.dbmodeling.domain.repository.TableRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -19,46 +28,68 @@ import java.util.stream.Collectors;
 @Transactional
 public class BatchProcessingService {
 
+    /**
+     * 이 건수 이상이면 JPA saveAll 대신 대량 쓰기 포트 사용
+     */
+    static final int BULK_WRITE_THRESHOLD = 100;
+
+    private final TableRepository tableRepository;
     private final ColumnRepository columnRepository;
     private final IndexRepository indexRepository;
+    private final BulkWritePort bulkWritePort;
 
     public BatchProcessingService(
+            TableRepository tableRepository,
             ColumnRepository columnRepository,
-            IndexRepository indexRepository) {
+            IndexRepository indexRepository,
+            BulkWritePort bulkWritePort) {
+        this.tableRepository = tableRepository;
         this.columnRepository = columnRepository;
         this.indexRepository = indexRepository;
+        this.bulkWritePort = bulkWritePort;
     }
 
     /**
      * 컬럼 순서 일괄 업데이트
-     * 개별 업데이트 대신 배치로 처리하여 성능 향상
+     * 정렬 키나 위치가 바뀐 컬럼만 저장
      */
     public List<Column> updateColumnOrderBatch(UUID tableId, List<ColumnOrderUpdate> updates) {
-        // 기존 컬럼들 조회
-        List<Column> existingColumns = columnRepository.findByTableIdOrderByOrderIndex(tableId);
+        // 기존 컬럼들을 정렬 키 순서로 조회
+        List<Column> existingColumns = new ArrayList<>(columnRepository.findByTableIdOrderByOrderIndex(tableId));
+        existingColumns.sort(ColumnOrder.BY_SORT_KEY);
+        ColumnOrder.applyPositions(existingColumns);
         Map<UUID, Column> columnMap = existingColumns.stream()
                 .collect(Collectors.toMap(Column::getId, column -> column));
 
-        // 순서 업데이트 적용
+        // 요청된 순서를 적용해 목표 순서 계산 (같은 순서면 기존 순서 유지)
         for (ColumnOrderUpdate update : updates) {
             Column column = columnMap.get(update.getColumnId());
             if (column != null) {
                 column.updateOrderIndex(update.getOrderIndex());
             }
         }
+        existingColumns.sort(Comparator.comparing(Column::getOrderIndex,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        ColumnOrder.applyPositions(existingColumns);
 
-        // 배치로 저장
-        return columnRepository.saveAll(existingColumns);
+        columnRepository.saveColumnOrder(tableId, existingColumns);
+        return existingColumns;
     }
 
     /**
      * 인덱스 일괄 생성
      */
     public List<Index> createIndexesBatch(UUID tableId, List<Index> indexes) {
+        requireTable(tableId);
+        
         // 테이블 ID 설정
         indexes.forEach(index -> index.setTableId(tableId));
         
-        // 배치로 저장
+        // 대량이면 다중 행 INSERT, 아니면 배치로 저장
+        if (indexes.size() >= BULK_WRITE_THRESHOLD) {
+            bulkWritePort.insertIndexes(tableId, indexes);
+            return indexes;
+        }
         return indexRepository.saveAll(indexes);
     }
 
@@ -66,23 +97,61 @@ public class BatchProcessingService {
      * 컬럼 일괄 생성
      */
     public List<Column> createColumnsBatch(UUID tableId, List<Column> columns) {
-        // 테이블 ID 설정 및 순서 인덱스 자동 설정
-        for (int i = 0; i < columns.size(); i++) {
-            Column column = columns.get(i);
+        requireTable(tableId);
+        
+        // 테이블 ID 설정, 순서가 지정되지 않은 컬럼은 기존 컬럼 뒤에 차례로 추가
+        Integer maxOrderIndex = columnRepository.findMaxOrderIndexByTableId(tableId);
+        int nextOrderIndex = (maxOrderIndex != null) ? maxOrderIndex + 1 : 0;
+        Long sortKey = columnRepository.findMaxSortKeyByTableId(tableId);
+        for (Column column : columns) {
             column.setTableId(tableId);
-            if (column.getOrderIndex() == null) {
-                column.setOrderIndex(i);
+            if (column.getOrderIndex() == null && column.getSortKey() == null) {
+                sortKey = ColumnOrder.nextKey(sortKey);
+                column.setOrderIndex(nextOrderIndex++);
+                column.setSortKey(sortKey);
             }
         }
         
-        // 배치로 저장
+        // 대량이면 다중 행 INSERT, 아니면 배치로 저장
+        if (columns.size() >= BULK_WRITE_THRESHOLD) {
+            bulkWritePort.insertColumns(tableId, columns);
+            return columns;
+        }
         return columnRepository.saveAll(columns);
     }
 
     /**
-     * 컬럼 일괄 업데이트
+     * 테이블 컬럼 일괄 업데이트
+     * 요청의 버전이 현재 버전과 다르면 아무것도 저장하지 않고 낙관적 잠금 예외를 던짐
+     */
+    public List<Column> updateColumnsBatch(UUID tableId, List<ColumnUpdate> updates) {
+        Map<UUID, Column> columnMap = columnRepository.findByTableIdOrderByOrderIndex(tableId).stream()
+                .collect(Collectors.toMap(Column::getId, column -> column));
+
+        List<Column> changed = new ArrayList<>(updates.size());
+        for (ColumnUpdate update : updates) {
+            Column column = columnMap.get(update.getColumnId());
+            if (column == null) {
+                throw new ModelNotFoundException("컬럼을 찾을 수 없습니다: " + update.getColumnId());
+            }
+            if (!Objects.equals(column.getVersion(), update.getVersion())) {
+                throw new OptimisticLockingFailureException(
+                        "다른 사용자에 의해 수정된 컬럼입니다: " + update.getColumnId());
+            }
+            update.getChanges().accept(column);
+            changed.add(column);
+        }
+        return updateColumnsBatch(changed);
+    }
+
+    /**
+     * 컬럼 일괄 업데이트 (각 컬럼의 버전이 저장소와 같아야 함)
      */
     public List<Column> updateColumnsBatch(List<Column> columns) {
+        if (columns.size() >= BULK_WRITE_THRESHOLD) {
+            bulkWritePort.updateColumns(columns);
+            return columns;
+        }
         return columnRepository.saveAll(columns);
     }
 
@@ -100,6 +169,31 @@ public class BatchProcessingService {
         indexRepository.deleteAllById(indexIds);
     }
 
+    private void requireTable(UUID tableId) {
+        if (!tableRepository.existsById(tableId)) {
+            throw new ModelNotFoundException("테이블을 찾을 수 없습니다: " + tableId);
+        }
+    }
+
+    /**
+     * 컬럼 일괄 수정 항목 (조회 시 받은 버전과 적용할 변경)
+     */
+    public static class ColumnUpdate {
+        private final UUID columnId;
+        private final Long version;
+        private final Consumer<Column> changes;
+
+        public ColumnUpdate(UUID columnId, Long version, Consumer<Column> changes) {
+            this.columnId = columnId;
+            this.version = version;
+            this.changes = changes;
+        }
+
+        public UUID getColumnId() { return columnId; }
+        public Long getVersion() { return version; }
+        public Consumer<Column> getChanges() { return changes; }
+    }
+
     /**
      * 컬럼 순서 업데이트 DTO
      */
@@ -2,11 +2,15 @@ package com.dbmodeling.application.service;
 
 import com.dbmodeling.application.port.in.ManageColumnUseCase;
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.ColumnOrder;
+import com.dbmodeling.domain.model.Index;
 import com.dbmodeling.domain.repository.ColumnRepository;
+import com.dbmodeling.domain.repository.IndexRepository;
 import com.dbmodeling.domain.repository.TableRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,10 +24,13 @@ public class ColumnService implements ManageColumnUseCase {
     
     private final ColumnRepository columnRepository;
     private final TableRepository tableRepository;
+    private final IndexRepository indexRepository;
     
-    public ColumnService(ColumnRepository columnRepository, TableRepository tableRepository) {
+    public ColumnService(ColumnRepository columnRepository, TableRepository tableRepository,
+                        IndexRepository indexRepository) {
         this.columnRepository = columnRepository;
         this.tableRepository = tableRepository;
+        this.indexRepository = indexRepository;
     }
     
     @Override
@@ -45,6 +52,7 @@ public class ColumnService implements ManageColumnUseCase {
         // 새 컬럼 생성
         Column column = new Column(command.name(), command.dataType(), nextOrderIndex);
         column.setTableId(command.tableId());
+        column.setSortKey(ColumnOrder.nextKey(columnRepository.findMaxSortKeyByTableId(command.tableId())));
         column.setDescription(command.description());
         
         // 데이터 타입 속성 설정
@@ -111,6 +119,14 @@ public class ColumnService implements ManageColumnUseCase {
             throw new IllegalArgumentException("컬럼을 찾을 수 없습니다: " + id);
         }
         
+        // 이 컬럼만으로 구성된 인덱스는 구성 컬럼이 없어지므로 함께 삭제
+        // (다른 인덱스의 구성 행은 index_columns FK CASCADE로 제거됨)
+        for (Index index : indexRepository.findByColumnId(id)) {
+            if (index.getColumns() == null || index.getColumns().size() <= 1) {
+                indexRepository.deleteById(index.getId());
+            }
+        }
+        
         // 컬럼 삭제
         columnRepository.deleteById(id);
     }
@@ -133,53 +149,26 @@ public class ColumnService implements ManageColumnUseCase {
         Column column = columnRepository.findById(columnId)
             .orElseThrow(() -> new IllegalArgumentException("컬럼을 찾을 수 없습니다: " + columnId));
         
-        // 같은 테이블의 모든 컬럼 조회
-        List<Column> columns = columnRepository.findByTableIdOrderByOrderIndex(column.getTableId());
-        
-        // 순서 재정렬
-        reorderColumns(columns, column, newOrderIndex);
-        
-        // 모든 컬럼 저장
-        columns.forEach(columnRepository::save);
-        
-        return column;
-    }
-    
-    /**
-     * 컬럼 목록의 순서를 재정렬하는 헬퍼 메서드
-     */
-    private void reorderColumns(List<Column> columns, Column targetColumn, Integer newOrderIndex) {
-        int oldIndex = targetColumn.getOrderIndex();
-        
-        if (newOrderIndex < 0 || newOrderIndex >= columns.size()) {
+        // 같은 테이블의 모든 컬럼을 정렬 키 순서로 조회
+        List<Column> columns = new ArrayList<>(columnRepository.findByTableIdOrderByOrderIndex(column.getTableId()));
+        if (newOrderIndex == null || newOrderIndex < 0 || newOrderIndex >= columns.size()) {
             throw new IllegalArgumentException("잘못된 순서 인덱스입니다: " + newOrderIndex);
         }
+        columns.sort(ColumnOrder.BY_SORT_KEY);
         
-        if (oldIndex == newOrderIndex) {
-            return; // 순서 변경 없음
-        }
+        // 대상 컬럼을 목표 위치로 이동
+        Column target = columns.stream()
+            .filter(col -> col.getId().equals(columnId))
+            .findFirst()
+            .orElse(column);
+        columns.removeIf(col -> col.getId().equals(columnId));
+        columns.add(newOrderIndex, target);
+        ColumnOrder.applyPositions(columns);
         
-        // 순서 재정렬
-        if (oldIndex < newOrderIndex) {
-            // 뒤로 이동: 중간 컬럼들을 앞으로 이동
-            for (Column col : columns) {
-                int currentOrder = col.getOrderIndex();
-                if (currentOrder > oldIndex && currentOrder <= newOrderIndex) {
-                    col.setOrderIndex(currentOrder - 1);
-                }
-            }
-        } else {
-            // 앞으로 이동: 중간 컬럼들을 뒤로 이동
-            for (Column col : columns) {
-                int currentOrder = col.getOrderIndex();
-                if (currentOrder >= newOrderIndex && currentOrder < oldIndex) {
-                    col.setOrderIndex(currentOrder + 1);
-                }
-            }
-        }
+        // 정렬 키나 위치가 바뀐 컬럼만 저장
+        columnRepository.saveColumnOrder(column.getTableId(), columns);
         
-        // 대상 컬럼의 순서 설정
-        targetColumn.setOrderIndex(newOrderIndex);
+        return target;
     }
     
     /**
@@ -206,6 +195,7 @@ public class ColumnService implements ManageColumnUseCase {
         // 새 컬럼 생성 (원본 컬럼의 속성 복사)
         Column newColumn = new Column(newName, originalColumn.getDataType(), nextOrderIndex);
         newColumn.setTableId(originalColumn.getTableId());
+        newColumn.setSortKey(ColumnOrder.nextKey(columnRepository.findMaxSortKeyByTableId(originalColumn.getTableId())));
         newColumn.setDescription(originalColumn.getDescription());
         newColumn.setDataTypeProperties(
             originalColumn.getMaxLength(), 
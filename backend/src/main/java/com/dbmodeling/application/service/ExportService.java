@@ -1,13 +1,20 @@
 package com.dbmodeling.application.service;
 
 import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.SchemaGenerationOptions;
 import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
 import com.dbmodeling.domain.service.SchemaExportService;
+import com.dbmodeling.domain.service.ScriptWriter;
 import com.dbmodeling.domain.service.SqlGeneratorService;
 import com.dbmodeling.domain.service.ValidationDomainService;
+import com.dbmodeling.infrastructure.cache.ModelCache;
+import com.dbmodeling.infrastructure.cache.SchemaOutputCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,18 +26,27 @@ import java.util.UUID;
 public class ExportService {
     
     private final ProjectRepository projectRepository;
+    private final SummaryQueryRepository summaryQueryRepository;
     private final SchemaExportService schemaExportService;
     private final SqlGeneratorService sqlGeneratorService;
     private final ValidationDomainService validationDomainService;
+    private final SchemaOutputCache schemaOutputCache;
+    private final ModelCache modelCache;
     
     public ExportService(ProjectRepository projectRepository,
+                        SummaryQueryRepository summaryQueryRepository,
                         SchemaExportService schemaExportService,
                         SqlGeneratorService sqlGeneratorService,
-                        ValidationDomainService validationDomainService) {
+                        ValidationDomainService validationDomainService,
+                        SchemaOutputCache schemaOutputCache,
+                        ModelCache modelCache) {
         this.projectRepository = projectRepository;
+        this.summaryQueryRepository = summaryQueryRepository;
         this.schemaExportService = schemaExportService;
         this.sqlGeneratorService = sqlGeneratorService;
         this.validationDomainService = validationDomainService;
+        this.schemaOutputCache = schemaOutputCache;
+        this.modelCache = modelCache;
     }
     
     /**
@@ -42,11 +58,10 @@ public class ExportService {
      */
     public ExportResult exportProject(UUID projectId, ExportFormat format) {
         // 프로젝트 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
         // 스키마 내보내기 서비스를 통해 내보내기 실행
-        SchemaExportService.ExportResult domainResult = schemaExportService.exportSchema(
+        SchemaExportService.ExportResult domainResult = exportSchema(
             project, 
             convertToSchemaExportFormat(format)
         );
@@ -67,10 +82,10 @@ public class ExportService {
      * @return SQL 스크립트
      */
     public String generateSqlScript(UUID projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
-        return sqlGeneratorService.generateProjectSql(project);
+        return schemaOutputCache.get(project, SchemaOutputCache.variantOf(SchemaGenerationOptions.defaultOptions()),
+            () -> sqlGeneratorService.generateProjectSql(project));
     }
     
     /**
@@ -80,11 +95,20 @@ public class ExportService {
      * @param options 생성 옵션
      * @return SQL 스크립트
      */
-    public String generateSqlScript(UUID projectId, com.dbmodeling.domain.model.SchemaGenerationOptions options) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
-        
-        return sqlGeneratorService.generateProjectSql(project, options);
+    public String generateSqlScript(UUID projectId, SchemaGenerationOptions options) {
+        return generateSqlScript(loadProject(projectId), options);
+    }
+    
+    /**
+     * 이미 조회한 프로젝트로 SQL 스크립트 생성 (옵션 지정)
+     * 
+     * @param project 프로젝트 전체 그래프
+     * @param options 생성 옵션
+     * @return SQL 스크립트
+     */
+    public String generateSqlScript(Project project, SchemaGenerationOptions options) {
+        return schemaOutputCache.get(project, SchemaOutputCache.variantOf(options),
+            () -> sqlGeneratorService.generateProjectSql(project, options));
     }
     
     /**
@@ -94,10 +118,9 @@ public class ExportService {
      * @return 검증 정보가 포함된 SQL 스크립트
      */
     public String generateSqlScriptWithValidation(UUID projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
-        SchemaExportService.ExportResult result = schemaExportService.exportSchema(
+        SchemaExportService.ExportResult result = exportSchema(
             project, 
             SchemaExportService.ExportFormat.SQL_WITH_VALIDATION
         );
@@ -112,10 +135,9 @@ public class ExportService {
      * @return 마크다운 문서
      */
     public String generateDocumentation(UUID projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
-        SchemaExportService.ExportResult result = schemaExportService.exportSchema(
+        SchemaExportService.ExportResult result = exportSchema(
             project, 
             SchemaExportService.ExportFormat.DOCUMENTATION
         );
@@ -130,10 +152,9 @@ public class ExportService {
      * @return HTML 문서
      */
     public String generateHtmlDocumentation(UUID projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
-        SchemaExportService.ExportResult result = schemaExportService.exportSchema(
+        SchemaExportService.ExportResult result = exportSchema(
             project, 
             SchemaExportService.ExportFormat.HTML_DOCUMENTATION
         );
@@ -148,10 +169,9 @@ public class ExportService {
      * @return JSON 스키마
      */
     public String generateJsonSchema(UUID projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
-        SchemaExportService.ExportResult result = schemaExportService.exportSchema(
+        SchemaExportService.ExportResult result = exportSchema(
             project, 
             SchemaExportService.ExportFormat.JSON_SCHEMA
         );
@@ -166,10 +186,9 @@ public class ExportService {
      * @return CSV 테이블 목록
      */
     public String generateCsvTableList(UUID projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
-        SchemaExportService.ExportResult result = schemaExportService.exportSchema(
+        SchemaExportService.ExportResult result = exportSchema(
             project, 
             SchemaExportService.ExportFormat.CSV_TABLE_LIST
         );
@@ -177,6 +196,56 @@ public class ExportService {
         return result.getContent();
     }
     
+    /**
+     * 이미 조회한 프로젝트를 지정된 형식으로 생성
+     * 
+     * @param project 프로젝트 전체 그래프
+     * @param format 내보내기 형식
+     * @return 생성된 내용
+     */
+    public String generateContent(Project project, ExportFormat format) {
+        return exportSchema(project, convertToSchemaExportFormat(format)).getContent();
+    }
+    
+    /**
+     * 프로젝트 전체 그래프 조회 (내보내기 요청에서 한 번만 조회해 재사용)
+     * 
+     * @param projectId 프로젝트 ID
+     * @return 프로젝트 전체 그래프
+     */
+    public Project getProject(UUID projectId) {
+        return loadProject(projectId);
+    }
+    
+    /**
+     * SQL 스크립트를 출력 대상에 바로 쓰기 (다운로드 스트리밍용)
+     * 같은 버전과 옵션의 결과가 캐시에 있으면 그대로 쓰고, 없으면 전체를 문자열로 모으지 않고 생성하며 씁니다.
+     * 이미 조회한 프로젝트 그래프만 사용하므로 DB 연결을 잡지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeSqlScript(Project project, SchemaGenerationOptions options, ScriptWriter out) {
+        Optional<String> cached = schemaOutputCache.find(project, SchemaOutputCache.variantOf(options));
+        if (cached.isPresent()) {
+            out.append(cached.get());
+            return;
+        }
+        sqlGeneratorService.writeProjectSql(project, options, out);
+    }
+    
+    /**
+     * 지정된 형식의 내보내기 결과를 출력 대상에 바로 쓰기 (다운로드 스트리밍용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExport(Project project, ExportFormat format, ScriptWriter out) {
+        SchemaExportService.ExportFormat schemaFormat = convertToSchemaExportFormat(format);
+        Optional<SchemaExportService.ExportResult> cached = schemaOutputCache.find(project, schemaFormat.name());
+        if (cached.isPresent()) {
+            out.append(cached.get().getContent());
+            return;
+        }
+        schemaExportService.exportSchema(project, schemaFormat, out);
+    }
+    
     /**
      * 프로젝트 내보내기 가능 여부 확인
      * 
@@ -184,8 +253,7 @@ public class ExportService {
      * @return 내보내기 가능 여부와 검증 결과
      */
     public ValidationSummary validateForExport(UUID projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+        Project project = loadProject(projectId);
         
         ValidationDomainService.SchemaValidationResult validationResult = 
             validationDomainService.validateForSchemaExport(project);
@@ -199,6 +267,23 @@ public class ExportService {
         );
     }
     
+    /**
+     * 프로젝트 전체 그래프 조회 (같은 버전의 동시 요청은 한 번의 로드를 공유하고, 없는 ID는 잠시 기억)
+     */
+    private Project loadProject(UUID projectId) {
+        return modelCache.loadProjectGraph(projectId,
+                summaryQueryRepository::findProjectVersion, projectRepository::findByIdWithFullGraph)
+            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
+    }
+    
+    /**
+     * 스키마 내보내기 (같은 버전과 형식이면 캐시된 결과 사용)
+     */
+    private SchemaExportService.ExportResult exportSchema(Project project, SchemaExportService.ExportFormat format) {
+        return schemaOutputCache.get(project, format.name(),
+            () -> schemaExportService.exportSchema(project, format));
+    }
+    
     /**
      * 애플리케이션 계층 내보내기 형식을 도메인 계층 형식으로 변환
      */
@@ -0,0 +1,120 @@
+package com.dbmodeling.application.service;
+
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
+import com.dbmodeling.infrastructure.cache.ModelCache;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 모델 버전 조회 애플리케이션 서비스
+ * 조건부 요청(ETag) 처리를 위해 그래프를 읽지 않고 프로젝트 집합 버전만 조회합니다.
+ * 테이블과 컬럼은 자신이 속한 프로젝트의 집합 버전을 사용합니다.
+ * 조건부 수정(If-Match)은 복제본이 아닌 주 데이터소스의 쓰기 트랜잭션 안에서 확인합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ModelVersionService {
+
+    private final SummaryQueryRepository summaryQueryRepository;
+    private final ModelCache modelCache;
+    private final ProjectChangeTracker changeTracker;
+
+    public ModelVersionService(SummaryQueryRepository summaryQueryRepository,
+                               ModelCache modelCache,
+                               ProjectChangeTracker changeTracker) {
+        this.summaryQueryRepository = summaryQueryRepository;
+        this.modelCache = modelCache;
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * 프로젝트 집합 버전 조회
+     */
+    public long getProjectVersion(UUID projectId) {
+        // 최근에 없다고 확인된 ID는 데이터베이스를 조회하지 않음
+        if (modelCache.isKnownMissing(projectId)) {
+            throw new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
+        return summaryQueryRepository.findProjectVersion(projectId)
+            .orElseThrow(() -> {
+                modelCache.markMissing(projectId);
+                return new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId);
+            });
+    }
+
+    /**
+     * 테이블이 속한 프로젝트의 집합 버전 조회
+     */
+    public long getTableVersion(UUID tableId) {
+        return summaryQueryRepository.findProjectVersionByTableId(tableId)
+            .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다: " + tableId));
+    }
+
+    /**
+     * 컬럼이 속한 프로젝트의 집합 버전 조회
+     */
+    public long getColumnVersion(UUID columnId) {
+        return summaryQueryRepository.findProjectVersionByColumnId(columnId)
+            .orElseThrow(() -> new IllegalArgumentException("컬럼을 찾을 수 없습니다: " + columnId));
+    }
+
+    /**
+     * 프로젝트 집합 버전이 기대값과 같을 때만 수정 실행
+     * 버전 행을 먼저 올려 잠근 뒤 같은 트랜잭션에서 수정하므로 확인과 수정 사이에 다른 수정이 끼어들 수 없습니다.
+     *
+     * @param expectedVersions If-Match의 버전 (비어 있으면 확인하지 않음)
+     * @return 수정 결과와 커밋될 집합 버전
+     * @throws OptimisticLockingFailureException 현재 버전이 기대값과 다를 때
+     */
+    @Transactional
+    public <T> Versioned<T> updateProjectIfMatch(UUID projectId, Set<Long> expectedVersions, Supplier<T> update) {
+        if (modelCache.isKnownMissing(projectId)) {
+            throw new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
+        return updateIfMatch(projectId, expectedVersions, update);
+    }
+
+    /**
+     * 테이블이 속한 프로젝트의 집합 버전이 기대값과 같을 때만 수정 실행
+     */
+    @Transactional
+    public <T> Versioned<T> updateTableIfMatch(UUID tableId, Set<Long> expectedVersions, Supplier<T> update) {
+        UUID projectId = summaryQueryRepository.findProjectIdByTableId(tableId)
+            .orElseThrow(() -> new IllegalArgumentException("테이블을 찾을 수 없습니다: " + tableId));
+        return updateIfMatch(projectId, expectedVersions, update);
+    }
+
+    /**
+     * 컬럼이 속한 프로젝트의 집합 버전이 기대값과 같을 때만 수정 실행
+     */
+    @Transactional
+    public <T> Versioned<T> updateColumnIfMatch(UUID columnId, Set<Long> expectedVersions, Supplier<T> update) {
+        UUID projectId = summaryQueryRepository.findProjectIdByColumnId(columnId)
+            .orElseThrow(() -> new IllegalArgumentException("컬럼을 찾을 수 없습니다: " + columnId));
+        return updateIfMatch(projectId, expectedVersions, update);
+    }
+
+    private <T> Versioned<T> updateIfMatch(UUID projectId, Set<Long> expectedVersions, Supplier<T> update) {
+        long version = changeTracker.claimVersion(projectId, expectedVersions).orElseThrow(() -> {
+            if (summaryQueryRepository.findProjectVersion(projectId).isEmpty()) {
+                return new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId);
+            }
+            return new OptimisticLockingFailureException("다른 사용자가 먼저 수정한 프로젝트입니다: " + projectId);
+        });
+        return new Versioned<>(update.get(), version);
+    }
+
+    /**
+     * 조건부 수정 결과
+     *
+     * @param version 수정과 함께 커밋된 프로젝트 집합 버전
+     */
+    public record Versioned<T>(T value, long version) {
+    }
+}
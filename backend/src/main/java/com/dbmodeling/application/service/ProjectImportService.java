@@ -0,0 +1,163 @@
+package com.dbmodeling.application.service;
+
+import com.dbmodeling.application.exception.ModelNotFoundException;
+import com.dbmodeling.application.port.in.ImportProjectUseCase;
+import com.dbmodeling.application.port.out.ProjectImportPort;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 프로젝트 일괄 가져오기 서비스
+ * 이름 검증은 메모리에서 수행하고, 쓰기는 스테이징 후 단일 트랜잭션으로 병합
+ */
+@Service
+@Transactional
+public class ProjectImportService implements ImportProjectUseCase {
+    
+    private static final int MAX_NAME_LENGTH = 255;
+    
+    private final ProjectRepository projectRepository;
+    private final ProjectImportPort projectImportPort;
+    
+    public ProjectImportService(ProjectRepository projectRepository,
+                               ProjectImportPort projectImportPort) {
+        this.projectRepository = projectRepository;
+        this.projectImportPort = projectImportPort;
+    }
+    
+    @Override
+    public ImportResult importTables(UUID projectId, Iterator<Table> tables) {
+        long start = System.nanoTime();
+        
+        // 프로젝트 존재 확인
+        if (!projectRepository.existsById(projectId)) {
+            throw new ModelNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
+        
+        // 기존 테이블 이름은 한 번만 조회하고 이후 중복 검사는 메모리에서 수행
+        Set<String> tableNames = new HashSet<>(projectImportPort.findTableNames(projectId));
+        ProjectImportPort.ImportBatch batch = projectImportPort.openBatch(projectId);
+        LocalDateTime now = LocalDateTime.now();
+        
+        int tableCount = 0;
+        int columnCount = 0;
+        int indexCount = 0;
+        while (tables.hasNext()) {
+            Table table = tables.next();
+            validateTable(table, tableNames);
+            prepareTable(projectId, table, now);
+            batch.add(table);
+            
+            tableCount++;
+            columnCount += table.getColumns().size();
+            indexCount += table.getIndexes().size();
+        }
+        
+        batch.complete();
+        return new ImportResult(tableCount, columnCount, indexCount, (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    /**
+     * 테이블, 컬럼, 인덱스 이름 및 참조 검증
+     */
+    private void validateTable(Table table, Set<String> tableNames) {
+        requireName(table.getName(), "테이블");
+        if (!tableNames.add(table.getName())) {
+            throw new IllegalArgumentException("이미 존재하는 테이블 이름입니다: " + table.getName());
+        }
+        
+        Set<String> columnNames = new HashSet<>();
+        for (Column column : table.getColumns()) {
+            requireName(column.getName(), "컬럼");
+            if (!columnNames.add(column.getName())) {
+                throw new IllegalArgumentException(
+                    "이미 존재하는 컬럼 이름입니다: " + table.getName() + "." + column.getName());
+            }
+            if (column.getDataType() == null) {
+                throw new IllegalArgumentException(
+                    "데이터 타입은 필수입니다: " + table.getName() + "." + column.getName());
+            }
+        }
+        
+        Set<String> indexNames = new HashSet<>();
+        boolean hasClustered = false;
+        for (Index index : table.getIndexes()) {
+            requireName(index.getName(), "인덱스");
+            if (!indexNames.add(index.getName())) {
+                throw new IllegalArgumentException(
+                    "이미 존재하는 인덱스 이름입니다: " + table.getName() + "." + index.getName());
+            }
+            if (index.getType() == Index.IndexType.CLUSTERED) {
+                if (hasClustered) {
+                    throw new IllegalArgumentException(
+                        "테이블에는 하나의 클러스터드 인덱스만 생성할 수 있습니다: " + table.getName());
+                }
+                hasClustered = true;
+            }
+            if (index.getColumns() == null || index.getColumns().isEmpty()) {
+                throw new IllegalArgumentException(
+                    "인덱스에는 최소 하나의 컬럼이 필요합니다: " + table.getName() + "." + index.getName());
+            }
+            for (Index.IndexColumn indexColumn : index.getColumns()) {
+                if (!columnNames.contains(indexColumn.getColumnName())) {
+                    throw new IllegalArgumentException(
+                        "컬럼을 찾을 수 없습니다: " + table.getName() + "." + indexColumn.getColumnName());
+                }
+            }
+        }
+    }
+    
+    /**
+     * ID, 순서, 시각 할당 및 인덱스 컬럼 이름을 컬럼 ID로 변환
+     */
+    private void prepareTable(UUID projectId, Table table, LocalDateTime now) {
+        table.setId(UUID.randomUUID());
+        table.setProjectId(projectId);
+        table.setCreatedAt(now);
+        table.setUpdatedAt(now);
+        
+        Map<String, UUID> columnIds = new HashMap<>();
+        List<Column> columns = table.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            column.setId(UUID.randomUUID());
+            column.setTableId(table.getId());
+            column.setOrderIndex(i);
+            column.setCreatedAt(now);
+            column.setUpdatedAt(now);
+            columnIds.put(column.getName(), column.getId());
+        }
+        
+        for (Index index : table.getIndexes()) {
+            index.setId(UUID.randomUUID());
+            index.setTableId(table.getId());
+            index.setCreatedAt(now);
+            index.setUpdatedAt(now);
+            for (Index.IndexColumn indexColumn : index.getColumns()) {
+                indexColumn.setColumnId(columnIds.get(indexColumn.getColumnName()));
+            }
+        }
+    }
+    
+    private void requireName(String name, String kind) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException(kind + " 이름은 필수입니다.");
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException(kind + " 이름은 " + MAX_NAME_LENGTH + "자 이하여야 합니다: " + name);
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.dbmodeling.application.service;
 
 import com.dbmodeling.application.port.in.*;
+import com.dbmodeling.domain.model.CursorPage;
+import com.dbmodeling.domain.model.KeysetCursor;
 import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.ProjectSummary;
 import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
+import com.dbmodeling.infrastructure.cache.ModelCache;
 import com.dbmodeling.infrastructure.config.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,13 +31,18 @@ public class ProjectService implements
     DeleteProjectUseCase {
     
     private final ProjectRepository projectRepository;
+    private final SummaryQueryRepository summaryQueryRepository;
+    private final ModelCache modelCache;
     
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository,
+                         SummaryQueryRepository summaryQueryRepository,
+                         ModelCache modelCache) {
         this.projectRepository = projectRepository;
+        this.summaryQueryRepository = summaryQueryRepository;
+        this.modelCache = modelCache;
     }
     
     @Override
-    @CacheEvict(value = CacheConfig.PROJECT_CACHE, allEntries = true)
     public Project createProject(CreateProjectCommand command) {
         // 이름 중복 검사
         if (projectRepository.existsByName(command.name())) {
@@ -47,10 +57,6 @@ public class ProjectService implements
     }
     
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.PROJECT_CACHE, key = "#command.id()"),
-        @CacheEvict(value = CacheConfig.PROJECT_CACHE, allEntries = true)
-    })
     public Project updateProject(UpdateProjectCommand command) {
         // 기존 프로젝트 조회
         Project project = projectRepository.findById(command.id())
@@ -71,25 +77,60 @@ public class ProjectService implements
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheConfig.PROJECT_CACHE, key = "#id")
+    @Cacheable(value = CacheConfig.PROJECT_CACHE, key = "#id", sync = true)
     public Project getProjectById(UUID id) {
-        return projectRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + id));
+        // sync: 같은 키의 동시 캐시 실패는 한 번만 로드, 없는 ID는 잠시 기억해 데이터베이스까지 보내지 않음
+        if (modelCache.isKnownMissing(id)) {
+            throw new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + id);
+        }
+        // 방금 변경된 프로젝트는 복제 지연 동안 주 데이터소스에서 읽어 변경 전 상태를 캐시하지 않음
+        return modelCache.readAfterWrite(id, () -> projectRepository.findById(id))
+            .orElseThrow(() -> {
+                modelCache.markMissing(id);
+                return new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + id);
+            });
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheConfig.PROJECT_CACHE, key = "'all'")
     public List<Project> getAllProjects() {
-        return projectRepository.findAll();
+        // 캐시 무효화는 커밋 시 변경된 키만 대상으로 리포지토리 계층에서 수행
+        return modelCache.getAllProjects(projectRepository::findAll, projectRepository::findById);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> getProjectSummaries() {
+        return summaryQueryRepository.findProjectSummaries();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectSummary> getProjectSummaryPage(String cursor, int size) {
+        LocalDateTime afterCreatedAt = null;
+        UUID afterId = null;
+        if (cursor != null) {
+            String[] keys = KeysetCursor.decode(cursor, 2);
+            try {
+                afterCreatedAt = LocalDateTime.parse(keys[0]);
+                afterId = UUID.fromString(keys[1]);
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 페이지 커서입니다: " + cursor);
+            }
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ProjectSummary> rows = summaryQueryRepository.findProjectSummariesAfter(afterCreatedAt, afterId, size + 1);
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        
+        List<ProjectSummary> content = rows.subList(0, size);
+        ProjectSummary last = content.get(size - 1);
+        return new CursorPage<>(content, KeysetCursor.encode(last.createdAt().toString(), last.id().toString()));
     }
     
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.PROJECT_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.PROJECT_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.TABLE_CACHE, allEntries = true)
-    })
     public void deleteProject(UUID id) {
         // 프로젝트 존재 확인
         if (!projectRepository.existsById(id)) {
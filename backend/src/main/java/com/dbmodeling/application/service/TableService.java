@@ -2,9 +2,13 @@ package com.dbmodeling.application.service;
 
 import com.dbmodeling.application.port.in.*;
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.CursorPage;
+import com.dbmodeling.domain.model.KeysetCursor;
 import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.model.TableSummary;
 import com.dbmodeling.domain.repository.ColumnRepository;
 import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
 import com.dbmodeling.domain.repository.TableRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,13 +32,16 @@ public class TableService implements
     private final TableRepository tableRepository;
     private final ColumnRepository columnRepository;
     private final ProjectRepository projectRepository;
+    private final SummaryQueryRepository summaryQueryRepository;
     
     public TableService(TableRepository tableRepository, 
                        ColumnRepository columnRepository,
-                       ProjectRepository projectRepository) {
+                       ProjectRepository projectRepository,
+                       SummaryQueryRepository summaryQueryRepository) {
         this.tableRepository = tableRepository;
         this.columnRepository = columnRepository;
         this.projectRepository = projectRepository;
+        this.summaryQueryRepository = summaryQueryRepository;
     }
     
     @Override
@@ -109,6 +116,27 @@ public class TableService implements
         return tableRepository.findByProjectId(projectId);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<TableSummary> getTableSummariesByProjectId(UUID projectId) {
+        return summaryQueryRepository.findTableSummariesByProjectId(projectId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TableSummary> getTableSummaryPage(UUID projectId, String cursor, int size) {
+        String afterName = cursor != null ? KeysetCursor.decode(cursor, 1)[0] : null;
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TableSummary> rows = summaryQueryRepository.findTableSummariesAfter(projectId, afterName, size + 1);
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        
+        List<TableSummary> content = rows.subList(0, size);
+        return new CursorPage<>(content, KeysetCursor.encode(content.get(size - 1).name()));
+    }
+    
     @Override
     public void deleteTable(UUID id) {
         // 테이블 존재 확인
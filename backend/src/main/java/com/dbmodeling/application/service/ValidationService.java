@@ -5,6 +5,7 @@ import com.dbmodeling.domain.repository.ColumnRepository;
 import com.dbmodeling.domain.repository.IndexRepository;
 import com.dbmodeling.domain.repository.ProjectRepository;
 import com.dbmodeling.domain.repository.TableRepository;
+import com.dbmodeling.infrastructure.cache.ValidationMemo;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,19 +21,24 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ValidationService {
     
+    private static final String PROJECT_RULE_SET = "project";
+    
     private final ProjectRepository projectRepository;
     private final TableRepository tableRepository;
     private final ColumnRepository columnRepository;
     private final IndexRepository indexRepository;
+    private final ValidationMemo validationMemo;
     
     public ValidationService(ProjectRepository projectRepository,
                            TableRepository tableRepository,
                            ColumnRepository columnRepository,
-                           IndexRepository indexRepository) {
+                           IndexRepository indexRepository,
+                           ValidationMemo validationMemo) {
         this.projectRepository = projectRepository;
         this.tableRepository = tableRepository;
         this.columnRepository = columnRepository;
         this.indexRepository = indexRepository;
+        this.validationMemo = validationMemo;
     }
     
     /**
@@ -42,8 +48,8 @@ public class ValidationService {
      * @return 검증 결과
      */
     public ValidationResult validateProject(UUID projectId) {
-        // 프로젝트 조회
-        Project project = projectRepository.findById(projectId)
+        // 프로젝트 전체 그래프 일괄 조회
+        Project project = projectRepository.findByIdWithFullGraph(projectId)
             .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + projectId));
         
         ValidationResult result = new ValidationResult(projectId);
@@ -60,21 +66,32 @@ public class ValidationService {
             return result;
         }
         
-        // 테이블 검증
-        List<Table> tables = tableRepository.findByProjectId(projectId);
-        for (Table table : tables) {
-            validateTable(table, namingRules, result);
-            // SQL Server 특화 검증
-            validateSqlServerRules(table, namingRules, result);
+        // 테이블 검증 (이미 로딩된 컬럼/인덱스 사용, 내용이 같은 테이블은 이전 결과 재사용)
+        for (Table table : project.getTables()) {
+            result.merge(validationMemo.get(PROJECT_RULE_SET, table, namingRules,
+                () -> validateTableWithSqlServerRules(table, namingRules)));
         }
         
         return result;
     }
     
+    /**
+     * 테이블 하나의 검증 결과 (테이블 내용과 네이밍 규칙에만 의존)
+     */
+    private ValidationResult validateTableWithSqlServerRules(Table table, NamingRules namingRules) {
+        // 같은 내용의 테이블끼리 공유되므로 프로젝트 ID는 두지 않음
+        ValidationResult tableResult = new ValidationResult(null);
+        validateTable(table, table.getColumns(), table.getIndexes(), namingRules, tableResult);
+        // SQL Server 특화 검증
+        validateSqlServerRules(table, namingRules, tableResult);
+        return tableResult;
+    }
+    
     /**
      * 테이블 검증
      */
-    private void validateTable(Table table, NamingRules namingRules, ValidationResult result) {
+    private void validateTable(Table table, List<Column> columns, List<Index> indexes,
+                               NamingRules namingRules, ValidationResult result) {
         // 테이블 이름 검증
         if (!namingRules.validateTableName(table.getName())) {
             String suggestion = namingRules.suggestTableName(table.getName());
@@ -88,13 +105,11 @@ public class ValidationService {
         }
         
         // 컬럼 검증
-        List<Column> columns = columnRepository.findByTableIdOrderByOrderIndex(table.getId());
         for (Column column : columns) {
             validateColumn(column, namingRules, result);
         }
         
         // 인덱스 검증
-        List<Index> indexes = indexRepository.findByTableId(table.getId());
         for (Index index : indexes) {
             validateIndex(index, namingRules, result);
         }
@@ -242,7 +257,13 @@ public class ValidationService {
             .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + table.getProjectId()));
         
         ValidationResult result = new ValidationResult(project.getId());
-        validateTable(table, project.getNamingRules(), result);
+        validateTable(
+            table,
+            columnRepository.findByTableIdOrderByOrderIndex(table.getId()),
+            indexRepository.findByTableId(table.getId()),
+            project.getNamingRules(),
+            result
+        );
         
         return result;
     }
@@ -322,7 +343,7 @@ public class ValidationService {
      */
     private void validateSqlServerRules(Table table, NamingRules namingRules, ValidationResult result) {
         // 테이블명 대문자 강제 검증
-        if (namingRules.isEnforceUpperCase() && !table.getName().equals(table.getName().toUpperCase())) {
+        if (namingRules.isEnforceUpperCase() && !CompiledNamingRules.isUpperCase(table.getName())) {
             result.addError(new ValidationError(
                 ValidationError.ErrorType.SQL_SERVER_NAMING,
                 "TABLE",
@@ -402,7 +423,7 @@ public class ValidationService {
                 }
                 
                 // 컬럼명 대문자 강제 검증
-                if (namingRules.isEnforceUpperCase() && !columnName.equals(columnName.toUpperCase())) {
+                if (namingRules.isEnforceUpperCase() && !CompiledNamingRules.isUpperCase(columnName)) {
                     result.addError(new ValidationError(
                         ValidationError.ErrorType.SQL_SERVER_NAMING,
                         "COLUMN",
@@ -438,7 +459,7 @@ public class ValidationService {
         if (namingRules == null) return null;
         
         // 대문자 강제 검증
-        if (namingRules.isEnforceUpperCase() && !name.equals(name.toUpperCase())) {
+        if (namingRules.isEnforceUpperCase() && !CompiledNamingRules.isUpperCase(name)) {
             return new ValidationError(
                 ValidationError.ErrorType.SQL_SERVER_NAMING,
                 objectType,
@@ -486,6 +507,11 @@ public class ValidationService {
             this.warnings.add(warning);
         }
         
+        public void merge(ValidationResult other) {
+            this.errors.addAll(other.errors);
+            this.warnings.addAll(other.warnings);
+        }
+        
         public boolean hasErrors() {
             return !errors.isEmpty();
         }
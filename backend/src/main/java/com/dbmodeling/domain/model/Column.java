@@ -23,6 +23,8 @@ public class Column {
     private Integer identityIncrement;
     private String defaultValue;
     private Integer orderIndex;
+    private Long sortKey;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -224,6 +226,25 @@ public class Column {
         this.orderIndex = orderIndex;
     }
 
+    public Long getSortKey() {
+        return sortKey;
+    }
+
+    public void setSortKey(Long sortKey) {
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * 동시 수정 감지용 버전 (저장 전 새 컬럼은 null)
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
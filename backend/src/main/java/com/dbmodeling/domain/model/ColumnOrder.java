@@ -0,0 +1,156 @@
+package com.dbmodeling.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 컬럼 정렬 키 계산
+ * 간격을 둔 정렬 키만 저장하고 순서 인덱스는 정렬 키 순위로 계산해 순서 변경 시 이동한 컬럼만 갱신합니다.
+ */
+public final class ColumnOrder {
+
+    /**
+     * 인접한 정렬 키 사이의 기본 간격
+     */
+    public static final long GAP = 1024L;
+
+    /**
+     * 정렬 키 오름차순 비교자
+     */
+    public static final Comparator<Column> BY_SORT_KEY = Comparator.comparingLong(ColumnOrder::keyOf);
+
+    private ColumnOrder() {
+    }
+
+    /**
+     * 컬럼 정렬 키 (미지정 시 순서 인덱스로부터 계산)
+     */
+    public static long keyOf(Column column) {
+        if (column.getSortKey() != null) {
+            return column.getSortKey();
+        }
+        Integer orderIndex = column.getOrderIndex();
+        return ((orderIndex != null ? orderIndex : 0) + 1L) * GAP;
+    }
+
+    /**
+     * 테이블 마지막에 추가할 컬럼의 정렬 키
+     */
+    public static long nextKey(Long maxSortKey) {
+        return maxSortKey != null ? maxSortKey + GAP : GAP;
+    }
+
+    /**
+     * 현재 정렬 키를 확정한 뒤 목록 위치를 순서 인덱스로 반영 (메모리 값만 바뀌며 저장 대상 아님)
+     */
+    public static void applyPositions(List<Column> orderedColumns) {
+        for (int i = 0; i < orderedColumns.size(); i++) {
+            Column column = orderedColumns.get(i);
+            column.setSortKey(keyOf(column));
+            column.setOrderIndex(i);
+        }
+    }
+
+    /**
+     * 목표 순서에 맞게 정렬 키 재할당
+     * 현재 키 순서가 유지되는 최장 증가 부분열은 그대로 두고 나머지 컬럼에만 새 키를 부여합니다.
+     *
+     * @param orderedColumns 목표 순서로 정렬된 컬럼 목록
+     * @return 정렬 키가 바뀐 컬럼 목록, 키 간격이 부족하면 빈 Optional
+     */
+    public static Optional<List<Column>> reassignKeys(List<Column> orderedColumns) {
+        int size = orderedColumns.size();
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = keyOf(orderedColumns.get(i));
+        }
+
+        boolean[] kept = longestIncreasing(keys);
+        long[] assigned = keys.clone();
+        int start = 0;
+        while (start < size) {
+            if (kept[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < size && !kept[end]) {
+                end++;
+            }
+            Long previous = start > 0 ? assigned[start - 1] : null;
+            Long next = end < size ? assigned[end] : null;
+            if (!fill(assigned, start, end, previous, next)) {
+                return Optional.empty();
+            }
+            start = end;
+        }
+
+        List<Column> changed = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Column column = orderedColumns.get(i);
+            if (column.getSortKey() == null || column.getSortKey() != assigned[i]) {
+                column.setSortKey(assigned[i]);
+                changed.add(column);
+            }
+        }
+        return Optional.of(changed);
+    }
+
+    /**
+     * 이동 구간 [start, end)에 previous와 next 사이의 키를 균등 분배
+     */
+    private static boolean fill(long[] assigned, int start, int end, Long previous, Long next) {
+        int count = end - start;
+        for (int i = 0; i < count; i++) {
+            if (previous == null && next == null) {
+                assigned[start + i] = (i + 1L) * GAP;
+            } else if (previous == null) {
+                assigned[start + i] = next - (count - i) * GAP;
+            } else if (next == null) {
+                assigned[start + i] = previous + (i + 1L) * GAP;
+            } else {
+                long step = (next - previous) / (count + 1);
+                if (step < 1) {
+                    return false;
+                }
+                assigned[start + i] = previous + (i + 1L) * step;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 최장 증가 부분열에 속하는 위치 표시 (O(n log n))
+     */
+    private static boolean[] longestIncreasing(long[] keys) {
+        int size = keys.length;
+        int[] tails = new int[size];
+        int[] predecessors = new int[size];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[tails[mid]] < keys[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] kept = new boolean[size];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+            kept[i] = true;
+        }
+        return kept;
+    }
+}
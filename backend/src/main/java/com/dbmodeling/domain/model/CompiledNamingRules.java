@@ -0,0 +1,273 @@
+package com.dbmodeling.domain.model;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 컴파일된 네이밍 규칙 평가기
+ * 사용자 패턴을 한 번만 컴파일하고 케이스 검사와 변환을 정규식 없이 수행합니다.
+ * 불변 객체이므로 여러 스레드에서 공유할 수 있으며, 규칙이 바뀌면 {@link NamingRules#compiled()}가 새로 만듭니다.
+ */
+public final class CompiledNamingRules {
+
+    private final String tablePrefix;
+    private final String tableSuffix;
+    private final RulePattern tablePattern;
+    private final RulePattern columnPattern;
+    private final RulePattern indexPattern;
+    private final NamingRules.CaseType enforceCase;
+    private final boolean enforceUpperCase;
+
+    CompiledNamingRules(NamingRules rules) {
+        this.tablePrefix = rules.getTablePrefix();
+        this.tableSuffix = rules.getTableSuffix();
+        this.tablePattern = RulePattern.of(rules.getTablePattern());
+        this.columnPattern = RulePattern.of(rules.getColumnPattern());
+        this.indexPattern = RulePattern.of(rules.getIndexPattern());
+        this.enforceCase = rules.getEnforceCase();
+        this.enforceUpperCase = rules.isEnforceUpperCase();
+    }
+
+    public boolean validateTableName(String tableName) {
+        if (isBlank(tableName)) {
+            return false;
+        }
+        if (tablePrefix != null && !tableName.startsWith(tablePrefix)) {
+            return false;
+        }
+        if (tableSuffix != null && !tableName.endsWith(tableSuffix)) {
+            return false;
+        }
+        return tablePattern.matches(tableName) && validateCommon(tableName);
+    }
+
+    public boolean validateColumnName(String columnName) {
+        if (isBlank(columnName)) {
+            return false;
+        }
+        return columnPattern.matches(columnName) && validateCommon(columnName);
+    }
+
+    public boolean validateIndexName(String indexName) {
+        if (isBlank(indexName)) {
+            return false;
+        }
+        return indexPattern.matches(indexName) && validateCommon(indexName);
+    }
+
+    /**
+     * 테이블 패턴 일치 여부 (패턴이 없으면 true)
+     */
+    public boolean matchesTablePattern(String name) {
+        return tablePattern.matches(name);
+    }
+
+    /**
+     * 컬럼 패턴 일치 여부 (패턴이 없으면 true)
+     */
+    public boolean matchesColumnPattern(String name) {
+        return columnPattern.matches(name);
+    }
+
+    /**
+     * 인덱스 패턴 일치 여부 (패턴이 없으면 true)
+     */
+    public boolean matchesIndexPattern(String name) {
+        return indexPattern.matches(name);
+    }
+
+    public String suggestTableName(String originalName) {
+        if (originalName == null) return null;
+
+        String suggested = applyCaseRule(originalName);
+        if (tablePrefix != null && !suggested.startsWith(tablePrefix)) {
+            suggested = tablePrefix + suggested;
+        }
+        if (tableSuffix != null && !suggested.endsWith(tableSuffix)) {
+            suggested = suggested + tableSuffix;
+        }
+        return suggested;
+    }
+
+    public String suggestColumnName(String originalName) {
+        if (originalName == null) return null;
+        return applyCaseRule(originalName);
+    }
+
+    public String suggestIndexName(String tableName, String columnName) {
+        if (tableName == null || columnName == null) return null;
+        return applyCaseRule("IX_" + tableName + "_" + columnName);
+    }
+
+    private boolean validateCommon(String name) {
+        // SQL Server 대문자 강제 검증
+        if (enforceUpperCase && !isUpperCase(name)) {
+            return false;
+        }
+        return validateCase(name);
+    }
+
+    private boolean validateCase(String name) {
+        if (enforceCase == null) {
+            return true;
+        }
+        return switch (enforceCase) {
+            case UPPER -> isUpperCase(name);
+            case LOWER -> isLowerCase(name);
+            case PASCAL -> isPascalCase(name);
+            case SNAKE -> isSnakeCase(name);
+        };
+    }
+
+    private String applyCaseRule(String name) {
+        if (enforceCase == null) return name;
+
+        return switch (enforceCase) {
+            case UPPER -> name.toUpperCase();
+            case LOWER -> name.toLowerCase();
+            case PASCAL -> toPascalCase(name);
+            case SNAKE -> toSnakeCase(name);
+        };
+    }
+
+    /**
+     * name.equals(name.toUpperCase())와 같은 결과 (ASCII는 복사 없이 검사)
+     */
+    public static boolean isUpperCase(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0x80) {
+                return name.equals(name.toUpperCase());
+            }
+            if (c >= 'a' && c <= 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * name.equals(name.toLowerCase())와 같은 결과 (ASCII는 복사 없이 검사)
+     */
+    public static boolean isLowerCase(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0x80) {
+                return name.equals(name.toLowerCase());
+            }
+            if (c >= 'A' && c <= 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPascalCase(String name) {
+        if (name.isEmpty()) return false;
+        return Character.isUpperCase(name.charAt(0)) && name.indexOf('_') < 0 && name.indexOf('-') < 0;
+    }
+
+    private static boolean isSnakeCase(String name) {
+        return isLowerCase(name) && name.indexOf('-') < 0 && name.indexOf(' ') < 0;
+    }
+
+    /**
+     * 구분자(_, 공백, -)와 camelCase 경계로 단어를 나눠 각 단어를 첫 글자만 대문자로 변환
+     */
+    static String toPascalCase(String name) {
+        if (name == null || name.isEmpty()) return name;
+
+        StringBuilder result = new StringBuilder(name.length());
+        int start = -1;
+        for (int i = 0; i <= name.length(); i++) {
+            boolean boundary = i == name.length()
+                || isSeparator(name.charAt(i))
+                || (i > 0 && isAsciiLower(name.charAt(i - 1)) && isAsciiUpper(name.charAt(i)));
+            if (boundary && start >= 0) {
+                result.append(Character.toUpperCase(name.charAt(start)));
+                if (i - start > 1) {
+                    result.append(name.substring(start + 1, i).toLowerCase());
+                }
+                start = -1;
+            }
+            if (i < name.length() && !isSeparator(name.charAt(i)) && start < 0) {
+                start = i;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * camelCase 경계에 _를 넣고 공백과 -의 연속을 _ 하나로 바꾼 뒤 소문자로 변환
+     */
+    static String toSnakeCase(String name) {
+        if (name == null || name.isEmpty()) return name;
+
+        StringBuilder result = new StringBuilder(name.length() + 8);
+        boolean inGap = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isWhitespace(c) || c == '-') {
+                if (!inGap) {
+                    result.append('_');
+                    inGap = true;
+                }
+                continue;
+            }
+            inGap = false;
+            if (i > 0 && isAsciiLower(name.charAt(i - 1)) && isAsciiUpper(c)) {
+                result.append('_');
+            }
+            result.append(c);
+        }
+        return result.toString().toLowerCase();
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '_' || c == '-' || isWhitespace(c);
+    }
+
+    // 정규식 \s와 같은 문자 집합
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isAsciiUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isBlank(String name) {
+        return name == null || name.trim().isEmpty();
+    }
+
+    /**
+     * 컴파일된 사용자 패턴
+     * 잘못된 패턴은 기존 String.matches와 같이 해당 패턴을 사용할 때 예외를 던집니다.
+     */
+    private record RulePattern(Pattern pattern, PatternSyntaxException error) {
+
+        private static final RulePattern NONE = new RulePattern(null, null);
+
+        static RulePattern of(String regex) {
+            if (regex == null) {
+                return NONE;
+            }
+            try {
+                return new RulePattern(Pattern.compile(regex), null);
+            } catch (PatternSyntaxException e) {
+                return new RulePattern(null, e);
+            }
+        }
+
+        boolean matches(String name) {
+            if (error != null) {
+                throw new PatternSyntaxException(error.getDescription(), error.getPattern(), error.getIndex());
+            }
+            return pattern == null || pattern.matcher(name).matches();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.dbmodeling.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 컴파일된 프로젝트 스키마 모델
+ * ID/이름 조회 맵, 기본키 목록, 인덱스 컬럼 해석을 한 번만 만들어 생성기, 검증기, 내보내기에서 함께 사용합니다.
+ * 컴파일 시점의 내용을 담은 불변 객체이므로 여러 스레드에서 공유할 수 있으며, 프로젝트를 수정하면 다시 컴파일합니다.
+ */
+public final class CompiledSchema {
+
+    private final Project project;
+    private final List<CompiledTable> tables;
+    private final Map<UUID, CompiledTable> tablesById;
+    private final Map<String, CompiledTable> tablesByName;
+    private final List<Table> duplicateNamedTables;
+
+    private CompiledSchema(Project project) {
+        this.project = project;
+
+        List<CompiledTable> compiledTables = new ArrayList<>(project.getTables().size());
+        Map<UUID, CompiledTable> byId = new HashMap<>();
+        Map<String, CompiledTable> byName = new HashMap<>();
+        List<Table> duplicates = new ArrayList<>();
+        for (Table table : project.getTables()) {
+            CompiledTable compiled = new CompiledTable(table);
+            compiledTables.add(compiled);
+            if (table.getId() != null) {
+                byId.putIfAbsent(table.getId(), compiled);
+            }
+            if (byName.putIfAbsent(lowerCase(table.getName()), compiled) != null) {
+                duplicates.add(table);
+            }
+        }
+
+        this.tables = Collections.unmodifiableList(compiledTables);
+        this.tablesById = byId;
+        this.tablesByName = byName;
+        this.duplicateNamedTables = Collections.unmodifiableList(duplicates);
+    }
+
+    public static CompiledSchema of(Project project) {
+        return new CompiledSchema(project);
+    }
+
+    /**
+     * 테이블 하나만 컴파일 (테이블 단위 공개 API용)
+     */
+    public static CompiledTable compile(Table table) {
+        return new CompiledTable(table);
+    }
+
+    public Project project() {
+        return project;
+    }
+
+    /**
+     * 프로젝트에 정의된 순서의 테이블 목록
+     */
+    public List<CompiledTable> tables() {
+        return tables;
+    }
+
+    /**
+     * ID로 테이블 조회 (없으면 null)
+     */
+    public CompiledTable table(UUID tableId) {
+        return tablesById.get(tableId);
+    }
+
+    /**
+     * 대소문자 구분 없이 이름으로 테이블 조회 (같은 이름이 여럿이면 먼저 정의된 테이블, 없으면 null)
+     */
+    public CompiledTable tableByName(String name) {
+        return tablesByName.get(lowerCase(name));
+    }
+
+    /**
+     * 대소문자 구분 없이 앞선 테이블과 이름이 겹치는 테이블 (정의 순서)
+     */
+    public List<Table> duplicateNamedTables() {
+        return duplicateNamedTables;
+    }
+
+    private static String lowerCase(String name) {
+        return name != null ? name.toLowerCase() : null;
+    }
+
+    /**
+     * 컴파일된 테이블
+     */
+    public static final class CompiledTable {
+
+        private static final Comparator<Column> BY_ORDER =
+            (c1, c2) -> Integer.compare(c1.getOrderIndex(), c2.getOrderIndex());
+
+        private final Table table;
+        private final List<Column> columns;
+        private final List<String> lowerCaseColumnNames;
+        private final List<Column> sortedColumns;
+        private final Map<UUID, Column> columnsById;
+        private final Map<String, Column> columnsByName;
+        private final List<Column> duplicateNamedColumns;
+        private final List<Column> primaryKeyColumns;
+        private final List<Column> sortedPrimaryKeyColumns;
+        private final List<Index> indexes;
+        private final Map<Index, List<ResolvedIndexColumn>> indexColumns;
+
+        private CompiledTable(Table table) {
+            this.table = table;
+            this.columns = List.copyOf(table.getColumns());
+
+            List<String> lowerNames = new ArrayList<>(columns.size());
+            Map<UUID, Column> byId = new HashMap<>();
+            Map<String, Column> byName = new HashMap<>();
+            List<Column> duplicates = new ArrayList<>();
+            List<Column> primaryKeys = new ArrayList<>();
+            for (Column column : columns) {
+                String lowerName = lowerCase(column.getName());
+                lowerNames.add(lowerName);
+                // ID가 없는 컬럼도 인덱스 컬럼 해석에서 기존과 같게 찾을 수 있도록 null 키로 보관
+                byId.putIfAbsent(column.getId(), column);
+                if (byName.putIfAbsent(lowerName, column) != null) {
+                    duplicates.add(column);
+                }
+                if (column.isPrimaryKey()) {
+                    primaryKeys.add(column);
+                }
+            }
+
+            this.lowerCaseColumnNames = Collections.unmodifiableList(lowerNames);
+            this.sortedColumns = columns.stream().sorted(BY_ORDER).toList();
+            this.columnsById = byId;
+            this.columnsByName = byName;
+            this.duplicateNamedColumns = Collections.unmodifiableList(duplicates);
+            this.primaryKeyColumns = Collections.unmodifiableList(primaryKeys);
+            this.sortedPrimaryKeyColumns = primaryKeys.stream().sorted(BY_ORDER).toList();
+            this.indexes = List.copyOf(table.getIndexes());
+
+            Map<Index, List<ResolvedIndexColumn>> resolved = new IdentityHashMap<>();
+            for (Index index : indexes) {
+                resolved.put(index, resolve(index));
+            }
+            this.indexColumns = resolved;
+        }
+
+        private List<ResolvedIndexColumn> resolve(Index index) {
+            List<ResolvedIndexColumn> resolved = new ArrayList<>(index.getColumns().size());
+            for (Index.IndexColumn indexColumn : index.getColumns()) {
+                resolved.add(new ResolvedIndexColumn(indexColumn, columnsById.get(indexColumn.getColumnId())));
+            }
+            return Collections.unmodifiableList(resolved);
+        }
+
+        public Table table() {
+            return table;
+        }
+
+        public String name() {
+            return table.getName();
+        }
+
+        /**
+         * 정의된 순서의 컬럼 목록
+         */
+        public List<Column> columns() {
+            return columns;
+        }
+
+        /**
+         * {@link #columns()}와 같은 순서의 소문자 컬럼명
+         */
+        public List<String> lowerCaseColumnNames() {
+            return lowerCaseColumnNames;
+        }
+
+        /**
+         * orderIndex 순으로 정렬된 컬럼 목록
+         */
+        public List<Column> sortedColumns() {
+            return sortedColumns;
+        }
+
+        /**
+         * ID로 컬럼 조회 (없으면 null)
+         */
+        public Column column(UUID columnId) {
+            return columnsById.get(columnId);
+        }
+
+        /**
+         * 대소문자 구분 없이 이름으로 컬럼 조회 (같은 이름이 여럿이면 먼저 정의된 컬럼, 없으면 null)
+         */
+        public Column columnByName(String name) {
+            return columnsByName.get(lowerCase(name));
+        }
+
+        /**
+         * 대소문자 구분 없이 앞선 컬럼과 이름이 겹치는 컬럼 (정의 순서)
+         */
+        public List<Column> duplicateNamedColumns() {
+            return duplicateNamedColumns;
+        }
+
+        /**
+         * 정의된 순서의 기본키 컬럼
+         */
+        public List<Column> primaryKeyColumns() {
+            return primaryKeyColumns;
+        }
+
+        /**
+         * orderIndex 순으로 정렬된 기본키 컬럼
+         */
+        public List<Column> sortedPrimaryKeyColumns() {
+            return sortedPrimaryKeyColumns;
+        }
+
+        public boolean hasPrimaryKey() {
+            return !primaryKeyColumns.isEmpty();
+        }
+
+        public List<Index> indexes() {
+            return indexes;
+        }
+
+        /**
+         * 인덱스 컬럼과 실제 컬럼 (인덱스에 정의된 순서, 테이블에 등록되지 않은 인덱스는 호출 시 해석)
+         */
+        public List<ResolvedIndexColumn> indexColumns(Index index) {
+            List<ResolvedIndexColumn> resolved = indexColumns.get(index);
+            return resolved != null ? resolved : resolve(index);
+        }
+    }
+
+    /**
+     * 해석된 인덱스 컬럼
+     *
+     * @param indexColumn 인덱스 컬럼 정의
+     * @param column 참조하는 테이블 컬럼 (테이블에 없으면 null)
+     */
+    public record ResolvedIndexColumn(Index.IndexColumn indexColumn, Column column) {
+
+        public boolean isResolved() {
+            return column != null;
+        }
+    }
+}
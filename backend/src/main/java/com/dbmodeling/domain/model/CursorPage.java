@@ -0,0 +1,23 @@
+package com.dbmodeling.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋(커서) 기반 페이지
+ * 다음 페이지가 없으면 nextCursor는 null
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+    
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+    
+    /**
+     * 페이지 내용 변환
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+}
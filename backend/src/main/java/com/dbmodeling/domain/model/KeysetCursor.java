@@ -0,0 +1,56 @@
+package com.dbmodeling.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 인코더
+ * 정렬 키 값들을 URL 안전한 불투명 토큰으로 변환
+ */
+public final class KeysetCursor {
+    
+    private static final String SEPARATOR = ".";
+    
+    private KeysetCursor() {
+        // 유틸리티 클래스
+    }
+    
+    /**
+     * 정렬 키 값들을 커서 토큰으로 인코딩
+     */
+    public static String encode(String... keys) {
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                token.append(SEPARATOR);
+            }
+            token.append(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(keys[i].getBytes(StandardCharsets.UTF_8)));
+        }
+        return token.toString();
+    }
+    
+    /**
+     * 커서 토큰을 정렬 키 값들로 디코딩
+     */
+    public static String[] decode(String cursor, int expectedKeys) {
+        if (cursor == null || cursor.isBlank()) {
+            throw new IllegalArgumentException("유효하지 않은 페이지 커서입니다: " + cursor);
+        }
+        
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != expectedKeys) {
+            throw new IllegalArgumentException("유효하지 않은 페이지 커서입니다: " + cursor);
+        }
+        
+        try {
+            String[] keys = new String[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                keys[i] = new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 페이지 커서입니다: " + cursor);
+        }
+    }
+}
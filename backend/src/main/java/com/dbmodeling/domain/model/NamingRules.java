@@ -20,6 +20,9 @@ public class NamingRules {
     private boolean enforceConstraintNaming = false;
     private String abbreviationRules;
 
+    // 컴파일된 평가기 캐시 (평가에 쓰이는 규칙이 바뀌면 비움)
+    private transient volatile CompiledNamingRules compiled;
+
     // 기본 생성자
     public NamingRules() {
         this.enforceCase = CaseType.PASCAL;
@@ -33,162 +36,41 @@ public class NamingRules {
         this.enforceCase = enforceCase != null ? enforceCase : CaseType.PASCAL;
     }
 
-    // 비즈니스 메서드
-    public boolean validateTableName(String tableName) {
-        if (tableName == null || tableName.trim().isEmpty()) {
-            return false;
-        }
-
-        // 접두사 검증
-        if (tablePrefix != null && !tableName.startsWith(tablePrefix)) {
-            return false;
-        }
-
-        // 접미사 검증
-        if (tableSuffix != null && !tableName.endsWith(tableSuffix)) {
-            return false;
-        }
-
-        // 패턴 검증
-        if (tablePattern != null && !tableName.matches(tablePattern)) {
-            return false;
-        }
-
-        // SQL Server 대문자 강제 검증
-        if (enforceUpperCase && !tableName.equals(tableName.toUpperCase())) {
-            return false;
+    /**
+     * 현재 규칙으로 컴파일된 평가기 (규칙을 변경하면 다음 호출 시 다시 컴파일)
+     */
+    public CompiledNamingRules compiled() {
+        CompiledNamingRules current = compiled;
+        if (current == null) {
+            current = new CompiledNamingRules(this);
+            compiled = current;
         }
+        return current;
+    }
 
-        // 케이스 검증
-        return validateCase(tableName);
+    // 비즈니스 메서드
+    public boolean validateTableName(String tableName) {
+        return compiled().validateTableName(tableName);
     }
 
     public boolean validateColumnName(String columnName) {
-        if (columnName == null || columnName.trim().isEmpty()) {
-            return false;
-        }
-
-        // 패턴 검증
-        if (columnPattern != null && !columnName.matches(columnPattern)) {
-            return false;
-        }
-
-        // SQL Server 대문자 강제 검증
-        if (enforceUpperCase && !columnName.equals(columnName.toUpperCase())) {
-            return false;
-        }
-
-        // 케이스 검증
-        return validateCase(columnName);
+        return compiled().validateColumnName(columnName);
     }
 
     public boolean validateIndexName(String indexName) {
-        if (indexName == null || indexName.trim().isEmpty()) {
-            return false;
-        }
-
-        // 패턴 검증
-        if (indexPattern != null && !indexName.matches(indexPattern)) {
-            return false;
-        }
-
-        // SQL Server 대문자 강제 검증
-        if (enforceUpperCase && !indexName.equals(indexName.toUpperCase())) {
-            return false;
-        }
-
-        // 케이스 검증
-        return validateCase(indexName);
-    }
-
-    private boolean validateCase(String name) {
-        if (enforceCase == null) {
-            return true;
-        }
-
-        return switch (enforceCase) {
-            case UPPER -> name.equals(name.toUpperCase());
-            case LOWER -> name.equals(name.toLowerCase());
-            case PASCAL -> isPascalCase(name);
-            case SNAKE -> isSnakeCase(name);
-        };
-    }
-
-    private boolean isPascalCase(String name) {
-        if (name.isEmpty()) return false;
-        return Character.isUpperCase(name.charAt(0)) && !name.contains("_") && !name.contains("-");
-    }
-
-    private boolean isSnakeCase(String name) {
-        return name.equals(name.toLowerCase()) && !name.contains("-") && !name.contains(" ");
+        return compiled().validateIndexName(indexName);
     }
 
     public String suggestTableName(String originalName) {
-        if (originalName == null) return null;
-        
-        String suggested = applyCaseRule(originalName);
-        
-        if (tablePrefix != null && !suggested.startsWith(tablePrefix)) {
-            suggested = tablePrefix + suggested;
-        }
-        
-        if (tableSuffix != null && !suggested.endsWith(tableSuffix)) {
-            suggested = suggested + tableSuffix;
-        }
-        
-        return suggested;
+        return compiled().suggestTableName(originalName);
     }
 
     public String suggestColumnName(String originalName) {
-        if (originalName == null) return null;
-        return applyCaseRule(originalName);
+        return compiled().suggestColumnName(originalName);
     }
 
     public String suggestIndexName(String tableName, String columnName) {
-        if (tableName == null || columnName == null) return null;
-        
-        String suggested = "IX_" + tableName + "_" + columnName;
-        return applyCaseRule(suggested);
-    }
-
-    private String applyCaseRule(String name) {
-        if (enforceCase == null) return name;
-        
-        return switch (enforceCase) {
-            case UPPER -> name.toUpperCase();
-            case LOWER -> name.toLowerCase();
-            case PASCAL -> toPascalCase(name);
-            case SNAKE -> toSnakeCase(name);
-        };
-    }
-
-    private String toPascalCase(String name) {
-        if (name == null || name.isEmpty()) return name;
-        
-        // camelCase를 먼저 처리 (userId -> user_id)
-        String processed = name.replaceAll("([a-z])([A-Z])", "$1_$2");
-        
-        String[] parts = processed.split("[_\\s-]+");
-        StringBuilder result = new StringBuilder();
-        
-        for (String part : parts) {
-            if (!part.isEmpty()) {
-                result.append(Character.toUpperCase(part.charAt(0)));
-                if (part.length() > 1) {
-                    result.append(part.substring(1).toLowerCase());
-                }
-            }
-        }
-        
-        return result.toString();
-    }
-
-    private String toSnakeCase(String name) {
-        if (name == null || name.isEmpty()) return name;
-        
-        return name.replaceAll("([a-z])([A-Z])", "$1_$2")
-                   .replaceAll("[\\s-]+", "_")
-                   .toLowerCase();
+        return compiled().suggestIndexName(tableName, columnName);
     }
 
     // SQL Server 특화 검증 메서드
@@ -235,6 +117,7 @@ public class NamingRules {
 
     public void setTablePrefix(String tablePrefix) {
         this.tablePrefix = tablePrefix;
+        this.compiled = null;
     }
 
     public String getTableSuffix() {
@@ -243,6 +126,7 @@ public class NamingRules {
 
     public void setTableSuffix(String tableSuffix) {
         this.tableSuffix = tableSuffix;
+        this.compiled = null;
     }
 
     public String getTablePattern() {
@@ -251,6 +135,7 @@ public class NamingRules {
 
     public void setTablePattern(String tablePattern) {
         this.tablePattern = tablePattern;
+        this.compiled = null;
     }
 
     public String getColumnPattern() {
@@ -259,6 +144,7 @@ public class NamingRules {
 
     public void setColumnPattern(String columnPattern) {
         this.columnPattern = columnPattern;
+        this.compiled = null;
     }
 
     public String getIndexPattern() {
@@ -267,6 +153,7 @@ public class NamingRules {
 
     public void setIndexPattern(String indexPattern) {
         this.indexPattern = indexPattern;
+        this.compiled = null;
     }
 
     public CaseType getEnforceCase() {
@@ -275,6 +162,7 @@ public class NamingRules {
 
     public void setEnforceCase(CaseType enforceCase) {
         this.enforceCase = enforceCase;
+        this.compiled = null;
     }
 
     // SQL Server 특화 규칙 Getters and Setters
@@ -284,6 +172,7 @@ public class NamingRules {
 
     public void setEnforceUpperCase(boolean enforceUpperCase) {
         this.enforceUpperCase = enforceUpperCase;
+        this.compiled = null;
     }
 
     public boolean isRecommendAuditColumns() {
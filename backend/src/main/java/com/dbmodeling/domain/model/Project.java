@@ -17,6 +17,8 @@ public class Project {
     private List<Table> tables;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 하위 내용(테이블, 컬럼, 인덱스)을 포함한 집합 버전 (생성 결과 캐시 키로 사용)
+    private Long contentVersion;
 
     // 기본 생성자
     public Project() {
@@ -115,4 +117,12 @@ public class Project {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion(Long contentVersion) {
+        this.contentVersion = contentVersion;
+    }
 }
\ No newline at end of file
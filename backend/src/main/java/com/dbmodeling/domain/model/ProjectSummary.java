@@ -0,0 +1,17 @@
+package com.dbmodeling.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 프로젝트 요약 읽기 모델
+ * 테이블을 로딩하지 않고 집계 쿼리 결과로 구성
+ */
+public record ProjectSummary(
+    UUID id,
+    String name,
+    String description,
+    int tableCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
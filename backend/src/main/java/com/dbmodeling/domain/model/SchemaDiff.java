@@ -0,0 +1,330 @@
+package com.dbmodeling.domain.model;
+
+import com.dbmodeling.domain.model.CompiledSchema.CompiledTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 두 프로젝트 스냅샷 간 스키마 차이
+ * 테이블, 컬럼, 인덱스를 ID 기준 해시 맵으로 짝지어 비교하므로 테이블 수와 컬럼 수에 비례하는 시간에 계산되며,
+ * ID가 같고 이름이 다르면 이름 변경으로 판단합니다.
+ */
+public final class SchemaDiff {
+
+    private final CompiledSchema original;
+    private final CompiledSchema modified;
+    private final List<CompiledTable> createdTables;
+    private final List<CompiledTable> droppedTables;
+    private final List<TableDiff> changedTables;
+
+    private SchemaDiff(CompiledSchema original, CompiledSchema modified) {
+        this.original = original;
+        this.modified = modified;
+
+        List<CompiledTable> created = new ArrayList<>();
+        List<TableDiff> changed = new ArrayList<>();
+        Set<UUID> matchedIds = new HashSet<>();
+        for (CompiledTable table : modified.tables()) {
+            UUID id = table.table().getId();
+            CompiledTable before = id != null ? original.table(id) : null;
+            if (before == null || !matchedIds.add(id)) {
+                created.add(table);
+                continue;
+            }
+            TableDiff diff = compare(before, table);
+            if (!diff.isEmpty()) {
+                changed.add(diff);
+            }
+        }
+
+        List<CompiledTable> dropped = new ArrayList<>();
+        for (CompiledTable table : original.tables()) {
+            UUID id = table.table().getId();
+            if (id == null || !matchedIds.contains(id) || original.table(id) != table) {
+                dropped.add(table);
+            }
+        }
+
+        this.createdTables = Collections.unmodifiableList(created);
+        this.droppedTables = Collections.unmodifiableList(dropped);
+        this.changedTables = Collections.unmodifiableList(changed);
+    }
+
+    public static SchemaDiff between(Project original, Project modified) {
+        return between(CompiledSchema.of(original), CompiledSchema.of(modified));
+    }
+
+    public static SchemaDiff between(CompiledSchema original, CompiledSchema modified) {
+        return new SchemaDiff(original, modified);
+    }
+
+    /**
+     * 같은 테이블의 두 버전 비교
+     */
+    public static TableDiff compare(CompiledTable original, CompiledTable modified) {
+        return new TableDiff(original, modified);
+    }
+
+    public CompiledSchema original() {
+        return original;
+    }
+
+    public CompiledSchema modified() {
+        return modified;
+    }
+
+    /**
+     * 새로 추가된 테이블 (변경 후 정의 순서)
+     */
+    public List<CompiledTable> createdTables() {
+        return createdTables;
+    }
+
+    /**
+     * 삭제된 테이블 (변경 전 정의 순서)
+     */
+    public List<CompiledTable> droppedTables() {
+        return droppedTables;
+    }
+
+    /**
+     * 이름, 컬럼, 인덱스 중 하나라도 바뀐 테이블 (변경 후 정의 순서)
+     */
+    public List<TableDiff> changedTables() {
+        return changedTables;
+    }
+
+    public boolean isEmpty() {
+        return createdTables.isEmpty() && droppedTables.isEmpty() && changedTables.isEmpty();
+    }
+
+    /**
+     * 테이블 하나의 변경사항
+     * 정의가 바뀐 인덱스와 삭제되거나 타입이 바뀌는 컬럼을 참조하는 인덱스는 삭제 후 다시 생성하도록 양쪽 목록에 모두 포함됩니다.
+     */
+    public static final class TableDiff {
+
+        private final CompiledTable original;
+        private final CompiledTable modified;
+        private final List<Column> addedColumns = new ArrayList<>();
+        private final List<Column> droppedColumns = new ArrayList<>();
+        private final List<ColumnChange> renamedColumns = new ArrayList<>();
+        private final List<ColumnChange> alteredColumns = new ArrayList<>();
+        private final List<Index> addedIndexes = new ArrayList<>();
+        private final List<Index> droppedIndexes = new ArrayList<>();
+        private final List<IndexChange> renamedIndexes = new ArrayList<>();
+        private final boolean primaryKeyChanged;
+
+        private TableDiff(CompiledTable original, CompiledTable modified) {
+            this.original = original;
+            this.modified = modified;
+
+            // 컬럼: 변경 후 목록을 기준으로 ID로 짝짓기
+            Set<UUID> matchedColumnIds = new HashSet<>();
+            Set<UUID> retypedColumnIds = new HashSet<>();
+            for (Column column : modified.columns()) {
+                UUID id = column.getId();
+                Column before = id != null ? original.column(id) : null;
+                if (before == null || !matchedColumnIds.add(id)) {
+                    addedColumns.add(column);
+                    continue;
+                }
+                ColumnChange change = new ColumnChange(before, column);
+                if (change.isRenamed()) {
+                    renamedColumns.add(change);
+                }
+                if (change.isTypeChanged() || change.isDefaultChanged() || change.isIdentityChanged()) {
+                    alteredColumns.add(change);
+                }
+                if (change.isTypeChanged()) {
+                    retypedColumnIds.add(id);
+                }
+            }
+            Set<UUID> droppedColumnIds = new HashSet<>();
+            for (Column column : original.columns()) {
+                if (column.getId() == null || !matchedColumnIds.contains(column.getId())
+                        || original.column(column.getId()) != column) {
+                    droppedColumns.add(column);
+                    droppedColumnIds.add(column.getId());
+                }
+            }
+
+            // 기본키: 구성 컬럼이 바뀌거나 구성 컬럼의 타입이 바뀌면 다시 생성
+            List<UUID> originalKey = columnIds(original.sortedPrimaryKeyColumns());
+            List<UUID> modifiedKey = columnIds(modified.sortedPrimaryKeyColumns());
+            this.primaryKeyChanged = !originalKey.equals(modifiedKey)
+                || originalKey.stream().anyMatch(retypedColumnIds::contains);
+
+            // 인덱스: ID로 짝짓고 정의가 바뀌었거나 영향받는 컬럼을 참조하면 다시 생성
+            Map<UUID, Index> originalIndexes = new HashMap<>();
+            for (Index index : original.indexes()) {
+                if (index.getId() != null) {
+                    originalIndexes.putIfAbsent(index.getId(), index);
+                }
+            }
+            Set<Index> keptIndexes = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Index index : modified.indexes()) {
+                Index before = index.getId() != null ? originalIndexes.remove(index.getId()) : null;
+                if (before == null) {
+                    addedIndexes.add(index);
+                } else if (!sameDefinition(before, index)
+                        || references(before, droppedColumnIds) || references(before, retypedColumnIds)) {
+                    addedIndexes.add(index);
+                } else {
+                    keptIndexes.add(before);
+                    if (!Objects.equals(before.getName(), index.getName())) {
+                        renamedIndexes.add(new IndexChange(before, index));
+                    }
+                }
+            }
+            for (Index index : original.indexes()) {
+                if (!keptIndexes.contains(index)) {
+                    droppedIndexes.add(index);
+                }
+            }
+        }
+
+        public CompiledTable original() {
+            return original;
+        }
+
+        public CompiledTable modified() {
+            return modified;
+        }
+
+        public boolean isRenamed() {
+            return !Objects.equals(original.name(), modified.name());
+        }
+
+        public List<Column> addedColumns() {
+            return Collections.unmodifiableList(addedColumns);
+        }
+
+        public List<Column> droppedColumns() {
+            return Collections.unmodifiableList(droppedColumns);
+        }
+
+        public List<ColumnChange> renamedColumns() {
+            return Collections.unmodifiableList(renamedColumns);
+        }
+
+        /**
+         * 타입, 길이, NULL 허용 여부, 기본값 또는 IDENTITY 속성이 바뀐 컬럼
+         */
+        public List<ColumnChange> alteredColumns() {
+            return Collections.unmodifiableList(alteredColumns);
+        }
+
+        public List<Index> addedIndexes() {
+            return Collections.unmodifiableList(addedIndexes);
+        }
+
+        public List<Index> droppedIndexes() {
+            return Collections.unmodifiableList(droppedIndexes);
+        }
+
+        public List<IndexChange> renamedIndexes() {
+            return Collections.unmodifiableList(renamedIndexes);
+        }
+
+        public boolean isPrimaryKeyChanged() {
+            return primaryKeyChanged;
+        }
+
+        public boolean isEmpty() {
+            return !isRenamed() && !hasStructureChanges();
+        }
+
+        /**
+         * 테이블 이름 외에 컬럼, 기본키, 인덱스 중 바뀐 것이 있는지 여부
+         */
+        public boolean hasStructureChanges() {
+            return primaryKeyChanged
+                || !addedColumns.isEmpty() || !droppedColumns.isEmpty()
+                || !renamedColumns.isEmpty() || !alteredColumns.isEmpty()
+                || !addedIndexes.isEmpty() || !droppedIndexes.isEmpty() || !renamedIndexes.isEmpty();
+        }
+
+        private static List<UUID> columnIds(List<Column> columns) {
+            List<UUID> ids = new ArrayList<>(columns.size());
+            for (Column column : columns) {
+                ids.add(column.getId());
+            }
+            return ids;
+        }
+
+        private static boolean sameDefinition(Index before, Index after) {
+            if (before.getType() != after.getType()
+                    || !Objects.equals(before.isUnique(), after.isUnique())
+                    || before.getColumns().size() != after.getColumns().size()) {
+                return false;
+            }
+            for (int i = 0; i < before.getColumns().size(); i++) {
+                Index.IndexColumn c1 = before.getColumns().get(i);
+                Index.IndexColumn c2 = after.getColumns().get(i);
+                if (!Objects.equals(c1.getColumnId(), c2.getColumnId()) || c1.getOrder() != c2.getOrder()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean references(Index index, Set<UUID> columnIds) {
+            if (columnIds.isEmpty()) {
+                return false;
+            }
+            return index.getColumns().stream().anyMatch(column -> columnIds.contains(column.getColumnId()));
+        }
+    }
+
+    /**
+     * 짝지어진 컬럼의 변경 전후
+     */
+    public record ColumnChange(Column original, Column modified) {
+
+        public boolean isRenamed() {
+            return !Objects.equals(original.getName(), modified.getName());
+        }
+
+        /**
+         * ALTER COLUMN이 필요한 변경 (타입, 길이, 정밀도, 소수 자릿수, NULL 허용 여부)
+         */
+        public boolean isTypeChanged() {
+            return original.getDataType() != modified.getDataType()
+                || !Objects.equals(original.getMaxLength(), modified.getMaxLength())
+                || !Objects.equals(original.getPrecision(), modified.getPrecision())
+                || !Objects.equals(original.getScale(), modified.getScale())
+                || !Objects.equals(original.isNullable(), modified.isNullable());
+        }
+
+        public boolean isDefaultChanged() {
+            return !Objects.equals(original.getDefaultValue(), modified.getDefaultValue());
+        }
+
+        /**
+         * IDENTITY 지정 여부나 시작값/증가값 변경 (ALTER COLUMN으로 바꿀 수 없어 테이블을 다시 만들어야 함)
+         */
+        public boolean isIdentityChanged() {
+            boolean before = Boolean.TRUE.equals(original.isIdentity());
+            boolean after = Boolean.TRUE.equals(modified.isIdentity());
+            return before != after || after
+                && (!Objects.equals(original.getIdentitySeed(), modified.getIdentitySeed())
+                    || !Objects.equals(original.getIdentityIncrement(), modified.getIdentityIncrement()));
+        }
+    }
+
+    /**
+     * 짝지어진 인덱스의 변경 전후
+     */
+    public record IndexChange(Index original, Index modified) {
+    }
+}
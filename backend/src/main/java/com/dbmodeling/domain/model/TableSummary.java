@@ -0,0 +1,21 @@
+package com.dbmodeling.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 테이블 요약 읽기 모델
+ * 컬럼/인덱스를 로딩하지 않고 집계 쿼리 결과로 구성
+ */
+public record TableSummary(
+    UUID id,
+    UUID projectId,
+    String name,
+    String description,
+    int columnCount,
+    int indexCount,
+    int positionX,
+    int positionY,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
@@ -22,7 +22,7 @@ public interface ColumnRepository {
     Optional<Column> findById(UUID id);
     
     /**
-     * 테이블 ID로 컬럼 목록 조회 (순서대로)
+     * 테이블 ID로 컬럼 목록 조회 (정렬 키 순, 순서 인덱스는 목록 위치)
      */
     List<Column> findByTableIdOrderByOrderIndex(UUID tableId);
     
@@ -57,10 +57,26 @@ public interface ColumnRepository {
     boolean existsByTableIdAndName(UUID tableId, String name);
     
     /**
-     * 테이블의 다음 순서 인덱스 조회
+     * 테이블의 마지막 순서 인덱스 조회 (컬럼이 없으면 null)
      */
     Integer findMaxOrderIndexByTableId(UUID tableId);
     
+    /**
+     * 테이블의 최대 정렬 키 조회 (컬럼이 없으면 null)
+     */
+    Long findMaxSortKeyByTableId(UUID tableId);
+    
+    /**
+     * 컬럼 순서 저장
+     * 순서 인덱스는 저장하지 않으며 정렬 키가 바뀐 컬럼만 갱신합니다.
+     * 키 간격이 부족할 때만 테이블 전체 키를 재분배합니다.
+     *
+     * @param tableId 테이블 ID
+     * @param orderedColumns 목표 순서로 정렬된 테이블의 전체 컬럼
+     * @return 정렬 키를 갱신한 컬럼 수
+     */
+    int saveColumnOrder(UUID tableId, List<Column> orderedColumns);
+    
     /**
      * 여러 컬럼 일괄 저장
      */
@@ -26,6 +26,11 @@ public interface IndexRepository {
      */
     List<Index> findByTableId(UUID tableId);
     
+    /**
+     * 특정 컬럼을 참조하는 인덱스 목록 조회
+     */
+    List<Index> findByColumnId(UUID columnId);
+    
     /**
      * 테이블 내에서 이름으로 인덱스 조회
      */
@@ -21,6 +21,12 @@ public interface ProjectRepository {
      */
     Optional<Project> findById(UUID id);
     
+    /**
+     * ID로 프로젝트 전체 그래프(테이블, 컬럼, 인덱스) 조회
+     * 테이블 수와 무관하게 고정된 개수의 쿼리로 로딩
+     */
+    Optional<Project> findByIdWithFullGraph(UUID id);
+    
     /**
      * 모든 프로젝트 조회
      */
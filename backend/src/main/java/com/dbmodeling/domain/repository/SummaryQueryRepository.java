@@ -0,0 +1,62 @@
+package com.dbmodeling.domain.repository;
+
+import com.dbmodeling.domain.model.ProjectSummary;
+import com.dbmodeling.domain.model.TableSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 요약 조회 리포지토리 인터페이스
+ * 목록 화면용 읽기 모델을 집계 쿼리로 조회하는 포트
+ */
+public interface SummaryQueryRepository {
+    
+    /**
+     * 모든 프로젝트 요약 조회
+     */
+    List<ProjectSummary> findProjectSummaries();
+    
+    /**
+     * 프로젝트의 테이블 요약 조회
+     */
+    List<TableSummary> findTableSummariesByProjectId(UUID projectId);
+    
+    /**
+     * 프로젝트 요약 키셋 조회 (생성일시 내림차순, ID 내림차순)
+     * afterCreatedAt/afterId가 null이면 첫 페이지
+     */
+    List<ProjectSummary> findProjectSummariesAfter(LocalDateTime afterCreatedAt, UUID afterId, int limit);
+    
+    /**
+     * 테이블 요약 키셋 조회 (이름 오름차순)
+     * afterName이 null이면 첫 페이지
+     */
+    List<TableSummary> findTableSummariesAfter(UUID projectId, String afterName, int limit);
+    
+    /**
+     * 프로젝트 집합 버전 조회 (테이블, 컬럼, 인덱스 중 하나라도 바뀌면 증가)
+     */
+    Optional<Long> findProjectVersion(UUID projectId);
+    
+    /**
+     * 테이블이 속한 프로젝트의 집합 버전 조회
+     */
+    Optional<Long> findProjectVersionByTableId(UUID tableId);
+    
+    /**
+     * 컬럼이 속한 프로젝트의 집합 버전 조회
+     */
+    Optional<Long> findProjectVersionByColumnId(UUID columnId);
+    
+    /**
+     * 테이블이 속한 프로젝트 ID 조회
+     */
+    Optional<UUID> findProjectIdByTableId(UUID tableId);
+    
+    /**
+     * 컬럼이 속한 프로젝트 ID 조회
+     */
+    Optional<UUID> findProjectIdByColumnId(UUID columnId);
+}
@@ -1,6 +1,7 @@
 package com.dbmodeling.domain.service;
 
 import com.dbmodeling.domain.model.*;
+import com.dbmodeling.domain.model.CompiledSchema.CompiledTable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -88,39 +89,63 @@ public class SchemaExportService {
      * 프로젝트 스키마 내보내기
      */
     public ExportResult exportSchema(Project project, ExportFormat format) {
+        // 검증과 생성이 같은 컴파일 결과를 공유
+        CompiledSchema schema = CompiledSchema.of(project);
+
         // 1. 스키마 검증
-        ValidationDomainService.SchemaValidationResult validationResult = validationService.validateForSchemaExport(project);
+        ValidationDomainService.SchemaValidationResult validationResult = validationService.validateForSchemaExport(schema);
 
         // 2. 형식에 따른 내보내기
-        String content = switch (format) {
-            case SQL_SCRIPT -> generateSqlScript(project, validationResult);
-            case DOCUMENTATION -> generateDocumentation(project, validationResult);
-            case SQL_WITH_VALIDATION -> generateSqlWithValidation(project, validationResult);
-            case HTML_DOCUMENTATION -> generateHtmlDocumentation(project, validationResult);
-            case JSON_SCHEMA -> generateJsonSchema(project, validationResult);
-            case CSV_TABLE_LIST -> generateCsvTableList(project, validationResult);
-        };
+        String content = ScriptWriter.toString(out -> writeSchema(schema, format, validationResult, out));
 
         boolean success = validationResult.canExportSchema();
         return new ExportResult(success, content, validationResult, format);
     }
 
+    /**
+     * 프로젝트 스키마를 출력 대상에 바로 기록 (전체 결과를 문자열로 모으지 않음)
+     *
+     * @return 스키마 검증 결과
+     */
+    public ValidationDomainService.SchemaValidationResult exportSchema(Project project, ExportFormat format, ScriptWriter out) {
+        CompiledSchema schema = CompiledSchema.of(project);
+        ValidationDomainService.SchemaValidationResult validationResult = validationService.validateForSchemaExport(schema);
+        writeSchema(schema, format, validationResult, out);
+        return validationResult;
+    }
+
+    /**
+     * 형식에 따른 내보내기
+     */
+    private void writeSchema(CompiledSchema schema, ExportFormat format,
+                             ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter out) {
+        switch (format) {
+            case SQL_SCRIPT -> generateSqlScript(schema, validationResult, out);
+            case DOCUMENTATION -> generateDocumentation(schema, validationResult, out);
+            case SQL_WITH_VALIDATION -> generateSqlWithValidation(schema, validationResult, out);
+            case HTML_DOCUMENTATION -> generateHtmlDocumentation(schema, validationResult, out);
+            case JSON_SCHEMA -> generateJsonSchema(schema, validationResult, out);
+            case CSV_TABLE_LIST -> generateCsvTableList(schema, validationResult, out);
+        }
+    }
+
     /**
      * 순수 SQL 스크립트 생성
      */
-    private String generateSqlScript(Project project, ValidationDomainService.SchemaValidationResult validationResult) {
+    private void generateSqlScript(CompiledSchema schema, ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter out) {
         if (!validationResult.canExportSchema()) {
-            return generateErrorReport(validationResult);
+            generateErrorReport(validationResult, out);
+            return;
         }
 
-        return sqlGeneratorService.generateProjectSql(project);
+        sqlGeneratorService.writeProjectSql(schema, SchemaGenerationOptions.defaultOptions(), out);
     }
 
     /**
      * 검증 정보가 포함된 SQL 스크립트 생성
      */
-    private String generateSqlWithValidation(Project project, ValidationDomainService.SchemaValidationResult validationResult) {
-        StringBuilder content = new StringBuilder();
+    private void generateSqlWithValidation(CompiledSchema schema, ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter content) {
+        Project project = schema.project();
 
         // 검증 결과 헤더
         content.append("/*\n");
@@ -195,20 +220,18 @@ public class SchemaExportService {
 
         // SQL 스크립트 추가
         if (validationResult.canExportSchema()) {
-            content.append(sqlGeneratorService.generateProjectSql(project));
+            sqlGeneratorService.writeProjectSql(schema, SchemaGenerationOptions.defaultOptions(), content);
         } else {
             content.append("-- 오류로 인해 SQL 스크립트를 생성할 수 없습니다.\n");
             content.append("-- 위의 오류를 수정한 후 다시 시도하세요.\n");
         }
-
-        return content.toString();
     }
 
     /**
      * 마크다운 문서 형식으로 생성
      */
-    private String generateDocumentation(Project project, ValidationDomainService.SchemaValidationResult validationResult) {
-        StringBuilder doc = new StringBuilder();
+    private void generateDocumentation(CompiledSchema schema, ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter doc) {
+        Project project = schema.project();
 
         // 문서 헤더
         doc.append("# ").append(project.getName()).append(" 데이터베이스 스키마\n\n");
@@ -240,7 +263,7 @@ public class SchemaExportService {
         doc.append("\n");
 
         // 각 테이블 상세 정보
-        for (Table table : project.getTables()) {
+        for (CompiledTable table : schema.tables()) {
             generateTableDocumentation(table, doc);
         }
 
@@ -263,17 +286,16 @@ public class SchemaExportService {
         if (validationResult.canExportSchema()) {
             doc.append("## SQL 스크립트\n\n");
             doc.append("```sql\n");
-            doc.append(sqlGeneratorService.generateProjectSql(project));
+            sqlGeneratorService.writeProjectSql(schema, SchemaGenerationOptions.defaultOptions(), doc);
             doc.append("```\n\n");
         }
-
-        return doc.toString();
     }
 
     /**
      * 테이블별 문서화
      */
-    private void generateTableDocumentation(Table table, StringBuilder doc) {
+    private void generateTableDocumentation(CompiledTable compiled, ScriptWriter doc) {
+        Table table = compiled.table();
         doc.append("### ").append(table.getName());
         if (table.getDescription() != null && !table.getDescription().trim().isEmpty()) {
             doc.append(" - ").append(table.getDescription());
@@ -285,9 +307,7 @@ public class SchemaExportService {
         doc.append("| 컬럼명 | 데이터 타입 | NULL 허용 | 기본키 | 자동증가 | 기본값 | 설명 |\n");
         doc.append("|--------|-------------|-----------|--------|----------|--------|------|\n");
 
-        List<Column> sortedColumns = table.getColumns().stream()
-                .sorted((c1, c2) -> Integer.compare(c1.getOrderIndex(), c2.getOrderIndex()))
-                .collect(Collectors.toList());
+        List<Column> sortedColumns = compiled.sortedColumns();
 
         for (Column column : sortedColumns) {
             doc.append("| ").append(column.getName()).append(" | ");
@@ -311,11 +331,10 @@ public class SchemaExportService {
                 doc.append(index.getType().getSqlName()).append(" | ");
                 doc.append(index.isUnique() ? "예" : "아니오").append(" | ");
                 
-                String columnList = index.getColumns().stream()
-                        .map(indexColumn -> {
-                            Column column = findColumnById(table, indexColumn.getColumnId());
-                            return column != null ? column.getName() + " " + indexColumn.getOrder().getSqlName() : "알 수 없음";
-                        })
+                String columnList = compiled.indexColumns(index).stream()
+                        .map(resolved -> resolved.isResolved()
+                            ? resolved.column().getName() + " " + resolved.indexColumn().getOrder().getSqlName()
+                            : "알 수 없음")
                         .collect(Collectors.joining(", "));
                 doc.append(columnList).append(" |\n");
             }
@@ -336,7 +355,7 @@ public class SchemaExportService {
     /**
      * 검증 오류 문서화
      */
-    private void generateValidationErrorsDocumentation(ValidationDomainService.SchemaValidationResult validationResult, StringBuilder doc) {
+    private void generateValidationErrorsDocumentation(ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter doc) {
         if (!validationResult.getStructuralErrors().isEmpty()) {
             doc.append("#### 구조적 오류\n\n");
             for (String error : validationResult.getStructuralErrors()) {
@@ -369,7 +388,7 @@ public class SchemaExportService {
     /**
      * 검증 경고 문서화
      */
-    private void generateValidationWarningsDocumentation(ValidationDomainService.SchemaValidationResult validationResult, StringBuilder doc) {
+    private void generateValidationWarningsDocumentation(ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter doc) {
         if (!validationResult.getStructuralWarnings().isEmpty()) {
             doc.append("#### 구조적 경고\n\n");
             for (String warning : validationResult.getStructuralWarnings()) {
@@ -398,8 +417,7 @@ public class SchemaExportService {
     /**
      * 오류 보고서 생성
      */
-    private String generateErrorReport(ValidationDomainService.SchemaValidationResult validationResult) {
-        StringBuilder report = new StringBuilder();
+    private void generateErrorReport(ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter report) {
         
         report.append("-- 스키마 출력 실패\n");
         report.append("-- 다음 오류들을 수정한 후 다시 시도하세요.\n\n");
@@ -419,15 +437,13 @@ public class SchemaExportService {
             }
             report.append("\n");
         }
-
-        return report.toString();
     }
 
     /**
      * HTML 문서 형식으로 생성
      */
-    private String generateHtmlDocumentation(Project project, ValidationDomainService.SchemaValidationResult validationResult) {
-        StringBuilder html = new StringBuilder();
+    private void generateHtmlDocumentation(CompiledSchema schema, ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter html) {
+        Project project = schema.project();
         
         // HTML 헤더
         html.append("<!DOCTYPE html>\n");
@@ -489,7 +505,7 @@ public class SchemaExportService {
         html.append("    </table>\n");
         
         // 각 테이블 상세 정보
-        for (Table table : project.getTables()) {
+        for (CompiledTable table : schema.tables()) {
             generateTableHtmlDocumentation(table, html);
         }
         
@@ -497,22 +513,22 @@ public class SchemaExportService {
         if (validationResult.canExportSchema()) {
             html.append("    <h2>SQL 스크립트</h2>\n");
             html.append("    <div class=\"code\">\n");
-            html.append("        <pre>").append(escapeHtml(sqlGeneratorService.generateProjectSql(project))).append("</pre>\n");
+            html.append("        <pre>");
+            sqlGeneratorService.writeProjectSql(schema, SchemaGenerationOptions.defaultOptions(), html.htmlEscaped());
+            html.append("</pre>\n");
             html.append("    </div>\n");
         }
         
         // HTML 푸터
         html.append("</body>\n");
         html.append("</html>\n");
-        
-        return html.toString();
     }
 
     /**
      * JSON 스키마 형식으로 생성
      */
-    private String generateJsonSchema(Project project, ValidationDomainService.SchemaValidationResult validationResult) {
-        StringBuilder json = new StringBuilder();
+    private void generateJsonSchema(CompiledSchema schema, ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter json) {
+        Project project = schema.project();
         
         json.append("{\n");
         json.append("  \"project\": {\n");
@@ -526,16 +542,15 @@ public class SchemaExportService {
         json.append("    },\n");
         json.append("    \"tables\": [\n");
         
-        for (int i = 0; i < project.getTables().size(); i++) {
-            Table table = project.getTables().get(i);
+        for (int i = 0; i < schema.tables().size(); i++) {
+            CompiledTable compiled = schema.tables().get(i);
+            Table table = compiled.table();
             json.append("      {\n");
             json.append("        \"name\": \"").append(escapeJson(table.getName())).append("\",\n");
             json.append("        \"description\": \"").append(escapeJson(table.getDescription() != null ? table.getDescription() : "")).append("\",\n");
             json.append("        \"columns\": [\n");
             
-            List<Column> sortedColumns = table.getColumns().stream()
-                    .sorted((c1, c2) -> Integer.compare(c1.getOrderIndex(), c2.getOrderIndex()))
-                    .collect(Collectors.toList());
+            List<Column> sortedColumns = compiled.sortedColumns();
             
             for (int j = 0; j < sortedColumns.size(); j++) {
                 Column column = sortedColumns.get(j);
@@ -564,11 +579,11 @@ public class SchemaExportService {
                 json.append("            \"unique\": ").append(index.isUnique()).append(",\n");
                 json.append("            \"columns\": [");
                 
-                for (int l = 0; l < index.getColumns().size(); l++) {
-                    Index.IndexColumn indexColumn = index.getColumns().get(l);
-                    Column column = findColumnById(table, indexColumn.getColumnId());
+                List<CompiledSchema.ResolvedIndexColumn> indexColumns = compiled.indexColumns(index);
+                for (int l = 0; l < indexColumns.size(); l++) {
+                    Column column = indexColumns.get(l).column();
                     json.append("\"").append(column != null ? column.getName() : "unknown").append("\"");
-                    if (l < index.getColumns().size() - 1) json.append(", ");
+                    if (l < indexColumns.size() - 1) json.append(", ");
                 }
                 
                 json.append("]\n");
@@ -582,28 +597,26 @@ public class SchemaExportService {
         json.append("    ]\n");
         json.append("  }\n");
         json.append("}\n");
-        
-        return json.toString();
     }
 
     /**
      * CSV 테이블 목록 생성
      */
-    private String generateCsvTableList(Project project, ValidationDomainService.SchemaValidationResult validationResult) {
-        StringBuilder csv = new StringBuilder();
+    private void generateCsvTableList(CompiledSchema schema, ValidationDomainService.SchemaValidationResult validationResult, ScriptWriter csv) {
         
         // CSV 헤더
         csv.append("테이블명,설명,컬럼수,인덱스수,기본키컬럼,검증상태\n");
         
         // 각 테이블 정보
-        for (Table table : project.getTables()) {
+        for (CompiledTable compiled : schema.tables()) {
+            Table table = compiled.table();
             csv.append("\"").append(escapeCsv(table.getName())).append("\",");
             csv.append("\"").append(escapeCsv(table.getDescription() != null ? table.getDescription() : "")).append("\",");
             csv.append(table.getColumns().size()).append(",");
             csv.append(table.getIndexes().size()).append(",");
             
             // 기본키 컬럼들
-            String primaryKeys = table.getPrimaryKeyColumns().stream()
+            String primaryKeys = compiled.primaryKeyColumns().stream()
                     .map(Column::getName)
                     .collect(Collectors.joining("; "));
             csv.append("\"").append(escapeCsv(primaryKeys)).append("\",");
@@ -611,14 +624,13 @@ public class SchemaExportService {
             // 검증 상태 (간단히)
             csv.append("\"").append(validationResult.canExportSchema() ? "정상" : "오류있음").append("\"\n");
         }
-        
-        return csv.toString();
     }
 
     /**
      * HTML 테이블 문서화
      */
-    private void generateTableHtmlDocumentation(Table table, StringBuilder html) {
+    private void generateTableHtmlDocumentation(CompiledTable compiled, ScriptWriter html) {
+        Table table = compiled.table();
         html.append("    <h3 id=\"table-").append(table.getName().toLowerCase()).append("\">").append(table.getName());
         if (table.getDescription() != null && !table.getDescription().trim().isEmpty()) {
             html.append(" - ").append(table.getDescription());
@@ -633,9 +645,7 @@ public class SchemaExportService {
         html.append("        </thead>\n");
         html.append("        <tbody>\n");
         
-        List<Column> sortedColumns = table.getColumns().stream()
-                .sorted((c1, c2) -> Integer.compare(c1.getOrderIndex(), c2.getOrderIndex()))
-                .collect(Collectors.toList());
+        List<Column> sortedColumns = compiled.sortedColumns();
         
         for (Column column : sortedColumns) {
             html.append("            <tr>\n");
@@ -667,11 +677,10 @@ public class SchemaExportService {
                 html.append("                <td>").append(index.getType().getSqlName()).append("</td>\n");
                 html.append("                <td>").append(index.isUnique() ? "예" : "아니오").append("</td>\n");
                 
-                String columnList = index.getColumns().stream()
-                        .map(indexColumn -> {
-                            Column column = findColumnById(table, indexColumn.getColumnId());
-                            return column != null ? column.getName() + " " + indexColumn.getOrder().getSqlName() : "알 수 없음";
-                        })
+                String columnList = compiled.indexColumns(index).stream()
+                        .map(resolved -> resolved.isResolved()
+                            ? resolved.column().getName() + " " + resolved.indexColumn().getOrder().getSqlName()
+                            : "알 수 없음")
                         .collect(Collectors.joining(", "));
                 html.append("                <td>").append(columnList).append("</td>\n");
                 html.append("            </tr>\n");
@@ -682,18 +691,6 @@ public class SchemaExportService {
         }
     }
 
-    /**
-     * HTML 이스케이프
-     */
-    private String escapeHtml(String text) {
-        if (text == null) return "";
-        return text.replace("&", "&amp;")
-                   .replace("<", "&lt;")
-                   .replace(">", "&gt;")
-                   .replace("\"", "&quot;")
-                   .replace("'", "&#x27;");
-    }
-
     /**
      * JSON 이스케이프
      */
@@ -713,14 +710,4 @@ public class SchemaExportService {
         if (text == null) return "";
         return text.replace("\"", "\"\"");
     }
-
-    /**
-     * 테이블에서 컬럼 ID로 컬럼 찾기
-     */
-    private Column findColumnById(Table table, java.util.UUID columnId) {
-        return table.getColumns().stream()
-                .filter(column -> column.getId().equals(columnId))
-                .findFirst()
-                .orElse(null);
-    }
-}
\ No newline at end of file
+}
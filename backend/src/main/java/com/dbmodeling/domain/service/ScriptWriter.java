@@ -0,0 +1,88 @@
+package com.dbmodeling.domain.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 스크립트/문서 출력 대상
+ * StringBuilder와 같은 append 체이닝으로 Writer 등에 바로 써서 전체 결과를 메모리에 모으지 않습니다.
+ * 출력 오류는 UncheckedIOException으로 전달됩니다.
+ */
+public final class ScriptWriter {
+
+    private final Appendable out;
+
+    public ScriptWriter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * 문자열로 결과가 필요한 경우 (기존 String 반환 API용)
+     */
+    public static String toString(Consumer<ScriptWriter> body) {
+        StringBuilder text = new StringBuilder();
+        body.accept(new ScriptWriter(text));
+        return text.toString();
+    }
+
+    public ScriptWriter append(CharSequence text) {
+        try {
+            out.append(text);
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ScriptWriter append(char c) {
+        try {
+            out.append(c);
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ScriptWriter append(Object value) {
+        return append(String.valueOf(value));
+    }
+
+    /**
+     * HTML 특수 문자를 이스케이프하며 같은 대상에 쓰는 출력
+     */
+    public ScriptWriter htmlEscaped() {
+        return new ScriptWriter(new HtmlEscapingAppendable(this));
+    }
+
+    private record HtmlEscapingAppendable(ScriptWriter target) implements Appendable {
+
+        @Override
+        public Appendable append(CharSequence text) {
+            CharSequence value = text != null ? text : "null";
+            return append(value, 0, value.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) {
+            CharSequence value = text != null ? text : "null";
+            for (int i = start; i < end; i++) {
+                append(value.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            switch (c) {
+                case '&' -> target.append("&amp;");
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                case '"' -> target.append("&quot;");
+                case '\'' -> target.append("&#x27;");
+                default -> target.append(c);
+            }
+            return this;
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.dbmodeling.domain.service;
 
 import com.dbmodeling.domain.model.*;
+import com.dbmodeling.domain.model.CompiledSchema.CompiledTable;
 import com.dbmodeling.infrastructure.external.mssql.MSSQLTypeMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 /**
@@ -15,9 +25,25 @@ import java.util.stream.Collectors;
 public class SqlGeneratorService {
     
     private final MSSQLTypeMapper typeMapper;
+    private final TableFragmentMemo fragmentMemo;
+    private final int parallelThreshold;
+    private final ForkJoinPool tablePool;
     
-    public SqlGeneratorService(MSSQLTypeMapper typeMapper) {
+    /**
+     * @param fragmentMemo 테이블 DDL 조각 메모 (메모하지 않으려면 TableFragmentMemo.NONE)
+     * @param parallelThreshold 테이블 블록을 병렬로 생성하기 시작하는 테이블 수 (0 이하면 항상 순차)
+     * @param parallelism 병렬 생성 스레드 수 (0 이하면 CPU 코어 수)
+     */
+    public SqlGeneratorService(MSSQLTypeMapper typeMapper,
+                               TableFragmentMemo fragmentMemo,
+                               @Value("${app.export.parallel.threshold:64}") int parallelThreshold,
+                               @Value("${app.export.parallel.parallelism:0}") int parallelism) {
         this.typeMapper = typeMapper;
+        this.fragmentMemo = fragmentMemo;
+        this.parallelThreshold = parallelThreshold;
+        this.tablePool = parallelThreshold > 0
+            ? new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors())
+            : null;
     }
 
     /**
@@ -31,8 +57,22 @@ public class SqlGeneratorService {
      * 프로젝트 전체의 SQL 스크립트 생성 (옵션 지정)
      */
     public String generateProjectSql(Project project, SchemaGenerationOptions options) {
-        StringBuilder sql = new StringBuilder();
-        
+        return ScriptWriter.toString(sql -> writeProjectSql(project, options, sql));
+    }
+
+    /**
+     * 프로젝트 전체의 SQL 스크립트를 출력 대상에 순서대로 기록 (테이블 단위로 써서 전체 스크립트를 모으지 않음)
+     */
+    public void writeProjectSql(Project project, SchemaGenerationOptions options, ScriptWriter sql) {
+        writeProjectSql(CompiledSchema.of(project), options, sql);
+    }
+
+    /**
+     * 컴파일된 스키마로 프로젝트 전체의 SQL 스크립트 기록 (검증, 문서 생성과 같은 컴파일 결과를 공유할 때)
+     */
+    public void writeProjectSql(CompiledSchema schema, SchemaGenerationOptions options, ScriptWriter sql) {
+        Project project = schema.project();
+
         // 배치 스크립트 헤더
         if (options.isGenerateBatchScript()) {
             sql.append("SET NOCOUNT ON;\n");
@@ -70,72 +110,136 @@ public class SqlGeneratorService {
             }
         }
 
-        // 테이블별로 그룹화하여 생성
-        for (int i = 0; i < project.getTables().size(); i++) {
-            Table table = project.getTables().get(i);
-            
-            // 테이블 구분선
-            if (options.isIncludeComments()) {
-                sql.append("-- ").append("=".repeat(80)).append("\n");
-                sql.append("-- 테이블: ").append(table.getName());
-                if (table.getDescription() != null && !table.getDescription().trim().isEmpty()) {
-                    sql.append(" - ").append(table.getDescription());
+        // 테이블별로 그룹화하여 생성 (테이블이 많으면 병렬로 만들고 원래 순서대로 기록)
+        List<CompiledTable> tables = schema.tables();
+        if (tablePool != null && tables.size() >= parallelThreshold) {
+            writeTablesInParallel(tables, options, sql);
+        } else {
+            for (int i = 0; i < tables.size(); i++) {
+                sql.append(tableBlockSql(tables.get(i), options));
+                // 테이블 간 구분을 위한 빈 줄
+                if (i < tables.size() - 1) {
+                    sql.append("\n");
                 }
-                sql.append("\n");
-                sql.append("-- ").append("=".repeat(80)).append("\n\n");
             }
-            
-            // 1. CREATE TABLE 문
-            sql.append(generateCreateTableSql(table));
-            sql.append("\n");
-            
-            // 2. 제약조건 (요청된 경우)
-            if (options.isIncludeConstraints()) {
-                String constraintSql = generateConstraintsSql(table);
-                if (!constraintSql.trim().isEmpty()) {
-                    if (options.isIncludeComments()) {
-                        sql.append("-- ").append(table.getName()).append(" 테이블 제약조건\n");
-                    }
-                    sql.append(constraintSql);
+        }
+
+        // 배치 스크립트 푸터
+        if (options.isGenerateBatchScript()) {
+            sql.append("COMMIT TRANSACTION;\n");
+            sql.append("PRINT 'Schema creation completed successfully.';\n");
+        }
+    }
+
+    /**
+     * 테이블 블록을 병렬로 생성하고 원래 순서대로 기록
+     * 앞서 생성하는 블록 수를 제한해 스트리밍 중에도 메모리에 쌓이는 결과가 일정 수를 넘지 않습니다.
+     */
+    private void writeTablesInParallel(List<CompiledTable> tables, SchemaGenerationOptions options, ScriptWriter sql) {
+        int window = tablePool.getParallelism() * 2;
+        Deque<ForkJoinTask<String>> pending = new ArrayDeque<>(window);
+        int next = 0;
+        try {
+            for (int i = 0; i < tables.size(); i++) {
+                while (next < tables.size() && pending.size() < window) {
+                    CompiledTable table = tables.get(next++);
+                    pending.addLast(tablePool.submit(() -> tableBlockSql(table, options)));
+                }
+                sql.append(pending.removeFirst().join());
+                // 테이블 간 구분을 위한 빈 줄
+                if (i < tables.size() - 1) {
                     sql.append("\n");
                 }
             }
-            
-            // 3. 인덱스 (요청된 경우)
-            if (options.isIncludeIndexes()) {
-                String indexSql = generateIndexesSql(table);
-                if (!indexSql.trim().isEmpty()) {
-                    if (options.isIncludeComments()) {
-                        sql.append("-- ").append(table.getName()).append(" 테이블 인덱스\n");
-                    }
-                    sql.append(indexSql);
-                    sql.append("\n");
+        } finally {
+            // 생성 또는 기록 실패 시 남은 작업 취소
+            pending.forEach(task -> task.cancel(false));
+        }
+    }
+
+    /**
+     * 테이블 블록 (내용과 관련 옵션이 같으면 메모된 조각 재사용)
+     */
+    private String tableBlockSql(CompiledTable table, SchemaGenerationOptions options) {
+        return fragmentMemo.get(table.table(), tableBlockVariantOf(options), () -> generateTableBlockSql(table, options));
+    }
+
+    /**
+     * 테이블 블록에 영향을 주는 생성 옵션 (스키마명, DROP, 배치 옵션은 블록 밖에서만 사용)
+     */
+    private static String tableBlockVariantOf(SchemaGenerationOptions options) {
+        return "comments=" + options.isIncludeComments()
+            + ";constraints=" + options.isIncludeConstraints()
+            + ";indexes=" + options.isIncludeIndexes();
+    }
+
+    /**
+     * 테이블 하나의 구분선, CREATE TABLE, 제약조건, 인덱스, 설명 블록 생성
+     */
+    private String generateTableBlockSql(CompiledTable compiled, SchemaGenerationOptions options) {
+        Table table = compiled.table();
+        StringBuilder block = new StringBuilder();
+        
+        // 테이블 구분선
+        if (options.isIncludeComments()) {
+            block.append("-- ").append("=".repeat(80)).append("\n");
+            block.append("-- 테이블: ").append(table.getName());
+            if (table.getDescription() != null && !table.getDescription().trim().isEmpty()) {
+                block.append(" - ").append(table.getDescription());
+            }
+            block.append("\n");
+            block.append("-- ").append("=".repeat(80)).append("\n\n");
+        }
+        
+        // 1. CREATE TABLE 문
+        block.append(createTableSql(compiled));
+        block.append("\n");
+        
+        // 2. 제약조건 (요청된 경우)
+        if (options.isIncludeConstraints()) {
+            String constraintSql = generateConstraintsSql(table);
+            if (!constraintSql.trim().isEmpty()) {
+                if (options.isIncludeComments()) {
+                    block.append("-- ").append(table.getName()).append(" 테이블 제약조건\n");
                 }
+                block.append(constraintSql);
+                block.append("\n");
             }
-            
-            // 4. MS_Description (요청된 경우)
-            if (options.isIncludeComments()) {
-                String descriptionSql = generateMsDescriptionSql(table);
-                if (!descriptionSql.trim().isEmpty()) {
-                    sql.append("-- ").append(table.getName()).append(" 테이블 및 컬럼 설명\n");
-                    sql.append(descriptionSql);
-                    sql.append("\n");
+        }
+        
+        // 3. 인덱스 (요청된 경우)
+        if (options.isIncludeIndexes()) {
+            String indexSql = indexesSql(compiled);
+            if (!indexSql.trim().isEmpty()) {
+                if (options.isIncludeComments()) {
+                    block.append("-- ").append(table.getName()).append(" 테이블 인덱스\n");
                 }
+                block.append(indexSql);
+                block.append("\n");
             }
-            
-            // 테이블 간 구분을 위한 빈 줄
-            if (i < project.getTables().size() - 1) {
-                sql.append("\n");
+        }
+        
+        // 4. MS_Description (요청된 경우)
+        if (options.isIncludeComments()) {
+            String descriptionSql = generateMsDescriptionSql(table);
+            if (!descriptionSql.trim().isEmpty()) {
+                block.append("-- ").append(table.getName()).append(" 테이블 및 컬럼 설명\n");
+                block.append(descriptionSql);
+                block.append("\n");
             }
         }
+        
+        return block.toString();
+    }
 
-        // 배치 스크립트 푸터
-        if (options.isGenerateBatchScript()) {
-            sql.append("COMMIT TRANSACTION;\n");
-            sql.append("PRINT 'Schema creation completed successfully.';\n");
+    /**
+     * 병렬 생성 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (tablePool != null) {
+            tablePool.shutdownNow();
         }
-
-        return sql.toString();
     }
 
     /**
@@ -177,23 +281,25 @@ public class SqlGeneratorService {
      * 단일 테이블의 CREATE TABLE 문 생성
      */
     public String generateCreateTableSql(Table table) {
+        return createTableSql(CompiledSchema.compile(table));
+    }
+
+    private String createTableSql(CompiledTable table) {
         StringBuilder sql = new StringBuilder();
         
-        sql.append("CREATE TABLE [dbo].[").append(table.getName()).append("] (\n");
+        sql.append("CREATE TABLE [dbo].[").append(table.name()).append("] (\n");
         
         // 컬럼 정의
-        List<String> columnDefinitions = table.getColumns().stream()
-                .sorted((c1, c2) -> Integer.compare(c1.getOrderIndex(), c2.getOrderIndex()))
+        List<String> columnDefinitions = table.sortedColumns().stream()
                 .map(this::generateColumnDefinition)
                 .collect(Collectors.toList());
         
         sql.append(String.join(",\n", columnDefinitions));
         
         // 기본키 제약조건 추가
-        List<Column> primaryKeyColumns = table.getPrimaryKeyColumns();
-        if (!primaryKeyColumns.isEmpty()) {
+        if (table.hasPrimaryKey()) {
             sql.append(",\n");
-            sql.append(generatePrimaryKeyConstraint(table.getName(), primaryKeyColumns));
+            sql.append(generatePrimaryKeyConstraint(table.name(), table.sortedPrimaryKeyColumns()));
         }
         
         sql.append("\n);\n");
@@ -243,7 +349,7 @@ public class SqlGeneratorService {
     }
 
     /**
-     * 기본키 제약조건 생성
+     * 기본키 제약조건 생성 (컬럼은 orderIndex 순으로 전달)
      */
     private String generatePrimaryKeyConstraint(String tableName, List<Column> primaryKeyColumns) {
         StringBuilder constraint = new StringBuilder();
@@ -256,7 +362,6 @@ public class SqlGeneratorService {
         constraint.append(" (");
         
         String columnList = primaryKeyColumns.stream()
-                .sorted((c1, c2) -> Integer.compare(c1.getOrderIndex(), c2.getOrderIndex()))
                 .map(column -> "[" + column.getName() + "] ASC")
                 .collect(Collectors.joining(", "));
         
@@ -270,10 +375,14 @@ public class SqlGeneratorService {
      * 테이블의 모든 인덱스 생성문 생성
      */
     public String generateIndexesSql(Table table) {
+        return indexesSql(CompiledSchema.compile(table));
+    }
+
+    private String indexesSql(CompiledTable table) {
         StringBuilder sql = new StringBuilder();
         
-        for (Index index : table.getIndexes()) {
-            sql.append(generateCreateIndexSql(table, index));
+        for (Index index : table.indexes()) {
+            sql.append(createIndexSql(table, index));
             sql.append("\n");
         }
         
@@ -284,6 +393,10 @@ public class SqlGeneratorService {
      * 단일 인덱스 생성문 생성
      */
     public String generateCreateIndexSql(Table table, Index index) {
+        return createIndexSql(CompiledSchema.compile(table), index);
+    }
+
+    private String createIndexSql(CompiledTable table, Index index) {
         StringBuilder sql = new StringBuilder();
         
         // 인덱스 주석
@@ -304,16 +417,14 @@ public class SqlGeneratorService {
         sql.append(index.getType().getSqlName()).append(" ");
         
         sql.append("INDEX [").append(index.getName()).append("] ");
-        sql.append("ON [dbo].[").append(table.getName()).append("] (");
-        
-        // 인덱스 컬럼 목록
-        String columnList = index.getColumns().stream()
-                .map(indexColumn -> {
-                    // 실제 구현에서는 columnId로 컬럼을 찾아야 함
-                    // 여기서는 간단히 처리
-                    Column column = findColumnById(table, indexColumn.getColumnId());
-                    if (column != null) {
-                        return "[" + column.getName() + "] " + indexColumn.getOrder().getSqlName();
+        sql.append("ON [dbo].[").append(table.name()).append("] (");
+        
+        // 인덱스 컬럼 목록 (컴파일 시 해석된 컬럼 사용)
+        String columnList = table.indexColumns(index).stream()
+                .map(resolved -> {
+                    Index.IndexColumn indexColumn = resolved.indexColumn();
+                    if (resolved.isResolved()) {
+                        return "[" + resolved.column().getName() + "] " + indexColumn.getOrder().getSqlName();
                     }
                     return "-- 컬럼을 찾을 수 없음: " + indexColumn.getColumnId();
                 })
@@ -325,16 +436,6 @@ public class SqlGeneratorService {
         return sql.toString();
     }
 
-    /**
-     * 테이블에서 컬럼 ID로 컬럼 찾기
-     */
-    private Column findColumnById(Table table, java.util.UUID columnId) {
-        return table.getColumns().stream()
-                .filter(column -> column.getId().equals(columnId))
-                .findFirst()
-                .orElse(null);
-    }
-
     /**
      * 제약조건 생성문 생성
      */
@@ -363,33 +464,31 @@ public class SqlGeneratorService {
      * CHECK 제약조건 생성
      */
     private String generateCheckConstraint(String tableName, Column column) {
-        StringBuilder constraint = new StringBuilder();
-        
-        // 데이터 타입별 기본 CHECK 제약조건
-        if (column.getDataType() != null) {
-            switch (column.getDataType()) {
-                case BIT -> {
-                    // BIT 타입은 0 또는 1만 허용
-                    constraint.append("ALTER TABLE [dbo].[").append(tableName).append("] ")
-                             .append("ADD CONSTRAINT [CK_").append(tableName).append("_").append(column.getName()).append("] ")
-                             .append("CHECK ([").append(column.getName()).append("] IN (0, 1));");
-                }
-                case TINYINT -> {
-                    // TINYINT는 0-255 범위
-                    constraint.append("ALTER TABLE [dbo].[").append(tableName).append("] ")
-                             .append("ADD CONSTRAINT [CK_").append(tableName).append("_").append(column.getName()).append("] ")
-                             .append("CHECK ([").append(column.getName()).append("] >= 0 AND [").append(column.getName()).append("] <= 255);");
-                }
-                case SMALLINT -> {
-                    // SMALLINT는 -32768 ~ 32767 범위
-                    constraint.append("ALTER TABLE [dbo].[").append(tableName).append("] ")
-                             .append("ADD CONSTRAINT [CK_").append(tableName).append("_").append(column.getName()).append("] ")
-                             .append("CHECK ([").append(column.getName()).append("] >= -32768 AND [").append(column.getName()).append("] <= 32767);");
-                }
-            }
+        String condition = checkCondition(column);
+        if (condition == null) {
+            return "";
         }
-        
-        return constraint.toString();
+        return "ALTER TABLE [dbo].[" + tableName + "] ADD CONSTRAINT [CK_" + tableName + "_" + column.getName() + "] "
+            + "CHECK (" + condition + ");";
+    }
+
+    /**
+     * 데이터 타입별 기본 CHECK 조건 (조건이 없는 타입이면 null)
+     */
+    private String checkCondition(Column column) {
+        if (column.getDataType() == null) {
+            return null;
+        }
+        String name = "[" + column.getName() + "]";
+        return switch (column.getDataType()) {
+            // BIT 타입은 0 또는 1만 허용
+            case BIT -> name + " IN (0, 1)";
+            // TINYINT는 0-255 범위
+            case TINYINT -> name + " >= 0 AND " + name + " <= 255";
+            // SMALLINT는 -32768 ~ 32767 범위
+            case SMALLINT -> name + " >= -32768 AND " + name + " <= 32767";
+            default -> null;
+        };
     }
 
     /**
@@ -456,106 +555,330 @@ public class SqlGeneratorService {
 
     /**
      * 테이블 변경 스크립트 생성 (ALTER TABLE)
+     * 단일 테이블의 변경을 {@link #generateMigrationSql}과 같은 순서와 규칙으로 기록하되 트랜잭션으로 감싸지 않습니다.
      */
     public String generateAlterTableSql(Table originalTable, Table modifiedTable) {
-        StringBuilder sql = new StringBuilder();
-        
-        // 테이블명 변경
-        if (!originalTable.getName().equals(modifiedTable.getName())) {
-            sql.append("EXEC sp_rename '[").append(originalTable.getName()).append("]', '[")
-               .append(modifiedTable.getName()).append("]';\n");
+        List<SchemaDiff.TableDiff> diffs = List.of(SchemaDiff.compare(
+            CompiledSchema.compile(originalTable), CompiledSchema.compile(modifiedTable)));
+        return ScriptWriter.toString(sql -> {
+            if (requiresConstraintLookup(diffs)) {
+                sql.append("DECLARE @constraintName sysname;\n");
+            }
+            writeDroppedIndexes(diffs, sql);
+            writeTableRenames(diffs, sql);
+            for (SchemaDiff.TableDiff diff : diffs) {
+                if (diff.hasStructureChanges()) {
+                    writeTableMigration(diff, sql);
+                }
+            }
+        });
+    }
+
+    /**
+     * 두 프로젝트 스냅샷 간 마이그레이션 스크립트 생성
+     */
+    public String generateMigrationSql(Project originalProject, Project modifiedProject) {
+        return ScriptWriter.toString(sql -> writeMigrationSql(SchemaDiff.between(originalProject, modifiedProject), sql));
+    }
+
+    /**
+     * 스키마 차이를 실행 가능한 순서로 기록
+     * 인덱스/기본키 삭제, 테이블 삭제, 테이블 이름 변경, 테이블 생성, 컬럼 변경, 기본키/인덱스 생성 순으로 써서
+     * 앞 단계의 이름이나 의존 관계가 뒤 단계를 막지 않도록 합니다.
+     */
+    public void writeMigrationSql(SchemaDiff diff, ScriptWriter sql) {
+        sql.append("-- ").append(diff.original().project().getName()).append(" → ")
+           .append(diff.modified().project().getName()).append(" 마이그레이션\n\n");
+
+        if (diff.isEmpty()) {
+            sql.append("-- 변경사항이 없습니다.\n");
+            return;
         }
-        
-        // 컬럼 변경사항 처리
-        sql.append(generateColumnAlterations(originalTable, modifiedTable));
-        
-        // 인덱스 변경사항 처리
-        sql.append(generateIndexAlterations(originalTable, modifiedTable));
-        
-        return sql.toString();
+
+        sql.append("SET NOCOUNT ON;\n");
+        sql.append("SET XACT_ABORT ON;\n");
+        sql.append("BEGIN TRANSACTION;\n\n");
+        if (requiresConstraintLookup(diff.changedTables())) {
+            sql.append("DECLARE @constraintName sysname;\n\n");
+        }
+
+        // 1. 바뀌거나 삭제되는 인덱스와 기본키 삭제 (컬럼 변경 전에 의존 관계 제거)
+        writeDroppedIndexes(diff.changedTables(), sql);
+
+        // 2. 삭제된 테이블
+        for (CompiledTable table : diff.droppedTables()) {
+            sql.append(generateDropTableSql(table.table()));
+        }
+
+        // 3. 테이블 이름 변경 (기본키가 유지되면 제약조건 이름도 함께 변경)
+        writeTableRenames(diff.changedTables(), sql);
+
+        // 4. 새 테이블
+        for (CompiledTable table : diff.createdTables()) {
+            sql.append("\n-- 테이블 생성: ").append(table.name()).append("\n");
+            sql.append(createTableSql(table));
+            sql.append(indexesSql(table));
+        }
+
+        // 5. 테이블별 컬럼, 기본키, 인덱스 변경 (이름은 변경 후 기준)
+        for (SchemaDiff.TableDiff table : diff.changedTables()) {
+            if (table.hasStructureChanges()) {
+                sql.append("\n");
+                writeTableMigration(table, sql);
+            }
+        }
+
+        sql.append("\nCOMMIT TRANSACTION;\n");
+        sql.append("PRINT 'Migration completed successfully.';\n");
     }
 
     /**
-     * 컬럼 변경사항 생성
+     * 바뀌거나 삭제되는 인덱스와 기본키 삭제 (이름은 변경 전 기준)
      */
-    private String generateColumnAlterations(Table originalTable, Table modifiedTable) {
-        StringBuilder sql = new StringBuilder();
-        
-        // 새로 추가된 컬럼
-        for (Column newColumn : modifiedTable.getColumns()) {
-            boolean exists = originalTable.getColumns().stream()
-                    .anyMatch(col -> col.getId().equals(newColumn.getId()));
-            if (!exists) {
-                sql.append("ALTER TABLE [").append(modifiedTable.getName()).append("] ")
-                   .append("ADD ").append(generateColumnDefinition(newColumn).trim()).append(";\n");
+    private void writeDroppedIndexes(List<SchemaDiff.TableDiff> tables, ScriptWriter sql) {
+        for (SchemaDiff.TableDiff table : tables) {
+            String tableName = table.original().name();
+            for (Index index : table.droppedIndexes()) {
+                sql.append("DROP INDEX [").append(index.getName()).append("] ON [dbo].[").append(tableName).append("];\n");
+            }
+            if (table.isPrimaryKeyChanged() && table.original().hasPrimaryKey()) {
+                sql.append("ALTER TABLE [dbo].[").append(tableName).append("] DROP CONSTRAINT [PK_")
+                   .append(tableName).append("];\n");
             }
         }
-        
-        // 삭제된 컬럼
-        for (Column originalColumn : originalTable.getColumns()) {
-            boolean exists = modifiedTable.getColumns().stream()
-                    .anyMatch(col -> col.getId().equals(originalColumn.getId()));
-            if (!exists) {
-                sql.append("ALTER TABLE [").append(modifiedTable.getName()).append("] ")
-                   .append("DROP COLUMN [").append(originalColumn.getName()).append("];\n");
+    }
+
+    /**
+     * 테이블 이름 변경 (기본키가 유지되면 제약조건 이름도 함께 변경)
+     */
+    private void writeTableRenames(List<SchemaDiff.TableDiff> tables, ScriptWriter sql) {
+        List<Rename> tableRenames = new ArrayList<>();
+        List<Rename> keyRenames = new ArrayList<>();
+        for (SchemaDiff.TableDiff table : tables) {
+            if (table.isRenamed()) {
+                tableRenames.add(new Rename(table.original().name(), table.modified().name()));
+                if (!table.isPrimaryKeyChanged() && table.original().hasPrimaryKey()) {
+                    keyRenames.add(new Rename("PK_" + table.original().name(), "PK_" + table.modified().name()));
+                }
             }
         }
-        
-        // 수정된 컬럼
-        for (Column modifiedColumn : modifiedTable.getColumns()) {
-            Column originalColumn = originalTable.getColumns().stream()
-                    .filter(col -> col.getId().equals(modifiedColumn.getId()))
-                    .findFirst()
-                    .orElse(null);
-            
-            if (originalColumn != null && !columnsEqual(originalColumn, modifiedColumn)) {
-                sql.append("ALTER TABLE [").append(modifiedTable.getName()).append("] ")
-                   .append("ALTER COLUMN ").append(generateColumnDefinition(modifiedColumn).trim()).append(";\n");
+        writeRenames(tableRenames, "[dbo].", null, sql);
+        writeRenames(keyRenames, "[dbo].", "OBJECT", sql);
+    }
+
+    private void writeTableMigration(SchemaDiff.TableDiff diff, ScriptWriter sql) {
+        String tableName = diff.modified().name();
+        String qualifiedName = "[dbo].[" + tableName + "]";
+        sql.append("-- 테이블 변경: ").append(tableName).append("\n");
+
+        // 삭제된 컬럼 (기본값/CHECK 제약조건 먼저 삭제)
+        for (Column column : diff.droppedColumns()) {
+            if (hasDefaultValue(column)) {
+                writeDropDefaultConstraint(qualifiedName, column.getName(), sql);
+            }
+            if (checkCondition(column) != null) {
+                writeDropCheckConstraint(qualifiedName, column.getName(),
+                    "CK_" + diff.original().name() + "_" + column.getName(), sql);
             }
+            sql.append("ALTER TABLE ").append(qualifiedName).append(" DROP COLUMN [").append(column.getName()).append("];\n");
+        }
+
+        // 컬럼 이름 변경
+        List<Rename> columnRenames = new ArrayList<>();
+        for (SchemaDiff.ColumnChange change : diff.renamedColumns()) {
+            columnRenames.add(new Rename(change.original().getName(), change.modified().getName()));
+        }
+        writeRenames(columnRenames, qualifiedName + ".", "COLUMN", sql);
+
+        // 타입/NULL 허용 여부/기본값 변경 (타입이 바뀌면 기본값과 CHECK 제약조건을 다시 만듦)
+        for (SchemaDiff.ColumnChange change : diff.alteredColumns()) {
+            Column column = change.modified();
+            if (change.isIdentityChanged()) {
+                writeIdentityChangeWarning(change, sql);
+            }
+            if (!change.isTypeChanged() && !change.isDefaultChanged()) {
+                continue;
+            }
+            if (hasDefaultValue(change.original())) {
+                writeDropDefaultConstraint(qualifiedName, column.getName(), sql);
+            }
+            boolean checkDropped = change.isTypeChanged() && checkCondition(change.original()) != null;
+            if (checkDropped) {
+                writeDropCheckConstraint(qualifiedName, column.getName(),
+                    "CK_" + diff.original().name() + "_" + change.original().getName(), sql);
+            }
+            if (change.isTypeChanged()) {
+                sql.append("ALTER TABLE ").append(qualifiedName).append(" ALTER COLUMN ")
+                   .append(inlineColumnDefinition(column, false)).append(";\n");
+            }
+            if (checkDropped && checkCondition(column) != null) {
+                // 삭제한 CHECK 제약조건이 있었을 때만 새 타입 기준으로 다시 생성
+                sql.append("IF @constraintName IS NOT NULL ").append(generateCheckConstraint(tableName, column))
+                   .append("\n");
+            }
+            if (hasDefaultValue(column)) {
+                sql.append("ALTER TABLE ").append(qualifiedName).append(" ADD DEFAULT ").append(column.getDefaultValue())
+                   .append(" FOR [").append(column.getName()).append("];\n");
+            }
+        }
+
+        // 추가된 컬럼
+        for (Column column : diff.addedColumns()) {
+            sql.append("ALTER TABLE ").append(qualifiedName).append(" ADD ")
+               .append(inlineColumnDefinition(column, true)).append(";\n");
+        }
+
+        // 기본키 다시 생성
+        if (diff.isPrimaryKeyChanged() && diff.modified().hasPrimaryKey()) {
+            sql.append("ALTER TABLE ").append(qualifiedName).append(" ADD ")
+               .append(generatePrimaryKeyConstraint(tableName, diff.modified().sortedPrimaryKeyColumns()).strip())
+               .append(";\n");
+        }
+
+        // 인덱스 이름 변경 및 생성
+        List<Rename> indexRenames = new ArrayList<>();
+        for (SchemaDiff.IndexChange change : diff.renamedIndexes()) {
+            indexRenames.add(new Rename(change.original().getName(), change.modified().getName()));
+        }
+        writeRenames(indexRenames, qualifiedName + ".", "INDEX", sql);
+        for (Index index : diff.addedIndexes()) {
+            sql.append(createIndexSql(diff.modified(), index));
         }
-        
-        return sql.toString();
     }
 
     /**
-     * 인덱스 변경사항 생성
+     * sp_rename 문 기록
+     * 다른 대상의 원래 이름으로 바뀌는 경우(맞바꾸기, 연쇄 변경)는 임시 이름을 거쳐 충돌하지 않게 합니다.
      */
-    private String generateIndexAlterations(Table originalTable, Table modifiedTable) {
-        StringBuilder sql = new StringBuilder();
-        
-        // 삭제된 인덱스
-        for (Index originalIndex : originalTable.getIndexes()) {
-            boolean exists = modifiedTable.getIndexes().stream()
-                    .anyMatch(idx -> idx.getId().equals(originalIndex.getId()));
-            if (!exists) {
-                sql.append("DROP INDEX [").append(originalIndex.getName()).append("] ON [")
-                   .append(modifiedTable.getName()).append("];\n");
+    private void writeRenames(List<Rename> renames, String prefix, String objectType, ScriptWriter sql) {
+        if (renames.isEmpty()) {
+            return;
+        }
+        Set<String> sourceNames = new HashSet<>();
+        for (Rename rename : renames) {
+            sourceNames.add(rename.from().toLowerCase());
+        }
+
+        List<Rename> direct = new ArrayList<>();
+        List<Rename> deferred = new ArrayList<>();
+        for (Rename rename : renames) {
+            String target = rename.to().toLowerCase();
+            if (sourceNames.contains(target) && !target.equals(rename.from().toLowerCase())) {
+                String temporary = "__rename_" + deferred.size() + "_" + rename.to();
+                writeRename(prefix, rename.from(), temporary, objectType, sql);
+                deferred.add(new Rename(temporary, rename.to()));
+            } else {
+                direct.add(rename);
             }
         }
-        
-        // 새로 추가된 인덱스
-        for (Index newIndex : modifiedTable.getIndexes()) {
-            boolean exists = originalTable.getIndexes().stream()
-                    .anyMatch(idx -> idx.getId().equals(newIndex.getId()));
-            if (!exists) {
-                sql.append(generateCreateIndexSql(modifiedTable, newIndex));
+        for (Rename rename : direct) {
+            writeRename(prefix, rename.from(), rename.to(), objectType, sql);
+        }
+        for (Rename rename : deferred) {
+            writeRename(prefix, rename.from(), rename.to(), objectType, sql);
+        }
+    }
+
+    private void writeRename(String prefix, String from, String to, String objectType, ScriptWriter sql) {
+        sql.append("EXEC sp_rename N'").append(literal(prefix + "[" + from + "]")).append("', N'").append(literal(to)).append("'");
+        if (objectType != null) {
+            sql.append(", N'").append(objectType).append("'");
+        }
+        sql.append(";\n");
+    }
+
+    /**
+     * 이름 없이 만들어진 기본값 제약조건을 카탈로그에서 찾아 삭제
+     */
+    private void writeDropDefaultConstraint(String qualifiedTableName, String columnName, ScriptWriter sql) {
+        String table = literal(qualifiedTableName);
+        sql.append("SET @constraintName = NULL;\n");
+        sql.append("SELECT @constraintName = [name] FROM sys.default_constraints WHERE parent_object_id = OBJECT_ID(N'")
+           .append(table).append("') AND parent_column_id = COLUMNPROPERTY(OBJECT_ID(N'").append(table)
+           .append("'), N'").append(literal(columnName)).append("', 'ColumnId');\n");
+        sql.append("IF @constraintName IS NOT NULL EXEC(N'ALTER TABLE ").append(table)
+           .append(" DROP CONSTRAINT [' + @constraintName + N']');\n");
+    }
+
+    /**
+     * 이름 없이 만들어졌거나 테이블/컬럼 이름 변경 전에 만들어진 CHECK 제약조건을 카탈로그에서 찾아 삭제
+     * 삭제한 제약조건 이름은 @constraintName에 남아 다시 생성할지 판단하는 데 쓰입니다.
+     */
+    private void writeDropCheckConstraint(String qualifiedTableName, String columnName, String constraintName,
+                                          ScriptWriter sql) {
+        String table = literal(qualifiedTableName);
+        sql.append("SET @constraintName = NULL;\n");
+        sql.append("SELECT @constraintName = [name] FROM sys.check_constraints WHERE parent_object_id = OBJECT_ID(N'")
+           .append(table).append("') AND (parent_column_id = COLUMNPROPERTY(OBJECT_ID(N'").append(table)
+           .append("'), N'").append(literal(columnName)).append("', 'ColumnId') OR [name] = N'")
+           .append(literal(constraintName)).append("');\n");
+        sql.append("IF @constraintName IS NOT NULL EXEC(N'ALTER TABLE ").append(table)
+           .append(" DROP CONSTRAINT [' + @constraintName + N']');\n");
+    }
+
+    /**
+     * IDENTITY 변경은 ALTER COLUMN으로 할 수 없어 수동 작업 안내 주석만 기록
+     */
+    private void writeIdentityChangeWarning(SchemaDiff.ColumnChange change, ScriptWriter sql) {
+        sql.append("-- 수동 변경 필요: [").append(change.modified().getName()).append("] ")
+           .append(identityDescription(change.original())).append(" → ").append(identityDescription(change.modified()))
+           .append(" (IDENTITY 속성은 ALTER COLUMN으로 바꿀 수 없어 테이블을 다시 만들어야 합니다)\n");
+    }
+
+    private String identityDescription(Column column) {
+        if (!Boolean.TRUE.equals(column.isIdentity())) {
+            return "IDENTITY 없음";
+        }
+        return "IDENTITY(" + (column.getIdentitySeed() != null ? column.getIdentitySeed() : 1) + ","
+            + (column.getIdentityIncrement() != null ? column.getIdentityIncrement() : 1) + ")";
+    }
+
+    private boolean requiresConstraintLookup(List<SchemaDiff.TableDiff> tables) {
+        for (SchemaDiff.TableDiff table : tables) {
+            if (table.droppedColumns().stream()
+                    .anyMatch(column -> hasDefaultValue(column) || checkCondition(column) != null)
+                    || table.alteredColumns().stream().anyMatch(this::dropsConstraints)) {
+                return true;
             }
         }
-        
-        return sql.toString();
+        return false;
+    }
+
+    private boolean dropsConstraints(SchemaDiff.ColumnChange change) {
+        if (!change.isTypeChanged() && !change.isDefaultChanged()) {
+            return false;
+        }
+        return hasDefaultValue(change.original())
+            || change.isTypeChanged() && checkCondition(change.original()) != null;
+    }
+
+    private boolean hasDefaultValue(Column column) {
+        return column.getDefaultValue() != null && !column.getDefaultValue().trim().isEmpty();
     }
 
     /**
-     * 컬럼 동등성 비교
+     * ALTER TABLE용 한 줄 컬럼 정의 (ALTER COLUMN에는 IDENTITY와 기본값을 쓸 수 없음)
      */
-    private boolean columnsEqual(Column col1, Column col2) {
-        return col1.getName().equals(col2.getName()) &&
-               col1.getDataType() == col2.getDataType() &&
-               java.util.Objects.equals(col1.getMaxLength(), col2.getMaxLength()) &&
-               java.util.Objects.equals(col1.getPrecision(), col2.getPrecision()) &&
-               java.util.Objects.equals(col1.getScale(), col2.getScale()) &&
-               col1.isNullable().equals(col2.isNullable()) &&
-               java.util.Objects.equals(col1.getDefaultValue(), col2.getDefaultValue());
+    private String inlineColumnDefinition(Column column, boolean forAdd) {
+        StringBuilder definition = new StringBuilder();
+        definition.append("[").append(column.getName()).append("] ").append(typeMapper.mapToSqlType(column));
+        if (forAdd && column.isIdentity()) {
+            definition.append(" IDENTITY(")
+                      .append(column.getIdentitySeed() != null ? column.getIdentitySeed() : 1).append(",")
+                      .append(column.getIdentityIncrement() != null ? column.getIdentityIncrement() : 1).append(")");
+        }
+        definition.append(column.isNullable() ? " NULL" : " NOT NULL");
+        if (forAdd && hasDefaultValue(column)) {
+            definition.append(" DEFAULT ").append(column.getDefaultValue());
+        }
+        return definition.toString();
+    }
+
+    private static String literal(String value) {
+        return value.replace("'", "''");
+    }
+
+    private record Rename(String from, String to) {
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.dbmodeling.domain.service;
+
+import com.dbmodeling.domain.model.Table;
+
+import java.util.function.Supplier;
+
+/**
+ * 테이블 단위 DDL 조각 메모
+ * 같은 내용의 테이블과 생성 옵션이면 이전에 만든 조각을 돌려주고, 없으면 새로 생성합니다.
+ * 구현은 인프라 계층에 있으며 도메인 서비스는 이 인터페이스에만 의존합니다.
+ */
+@FunctionalInterface
+public interface TableFragmentMemo {
+
+    /**
+     * 메모하지 않고 매번 생성
+     */
+    TableFragmentMemo NONE = (table, variant, renderer) -> renderer.get();
+
+    /**
+     * 메모된 테이블 DDL 조각 조회, 없으면 생성 후 저장
+     *
+     * @param variant 조각에 영향을 주는 생성 옵션 (같은 테이블이라도 옵션별로 따로 보관)
+     */
+    String get(Table table, String variant, Supplier<String> renderer);
+}
@@ -0,0 +1,31 @@
+package com.dbmodeling.domain.service;
+
+import com.dbmodeling.domain.model.NamingRules;
+import com.dbmodeling.domain.model.Table;
+
+import java.util.function.Supplier;
+
+/**
+ * 테이블 단위 검증 결과 메모
+ * 같은 내용의 테이블과 네이밍 규칙이면 이전 결과를 돌려주고, 없으면 검증을 실행합니다.
+ * 구현은 인프라 계층에 있으며 도메인 서비스는 이 인터페이스에만 의존합니다.
+ */
+public interface TableResultMemo {
+
+    /**
+     * 메모하지 않고 매번 검증
+     */
+    TableResultMemo NONE = new TableResultMemo() {
+        @Override
+        public <T> T get(String ruleSet, Table table, NamingRules rules, Supplier<T> validator) {
+            return validator.get();
+        }
+    };
+
+    /**
+     * 메모된 테이블 검증 결과 조회, 없으면 검증 후 저장 (반환값은 호출자가 변경하면 안 됨)
+     *
+     * @param ruleSet 검증 종류 (같은 테이블이라도 검증 종류별로 따로 보관)
+     */
+    <T> T get(String ruleSet, Table table, NamingRules rules, Supplier<T> validator);
+}
@@ -1,5 +1,7 @@
 package com.dbmodeling.domain.service;
 
+import com.dbmodeling.domain.model.CompiledSchema;
+import com.dbmodeling.domain.model.CompiledSchema.CompiledTable;
 import com.dbmodeling.domain.model.NamingRules;
 import com.dbmodeling.domain.model.Project;
 import com.dbmodeling.domain.model.Table;
@@ -11,9 +13,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.HashSet;
-import java.util.stream.Collectors;
 
 /**
  * 네이밍 규칙 검증을 위한 도메인 서비스
@@ -22,6 +21,14 @@ import java.util.stream.Collectors;
 @Service
 public class ValidationDomainService {
 
+    private static final String EXPORT_RULE_SET = "schema-export";
+
+    private final TableResultMemo tableResultMemo;
+
+    public ValidationDomainService(TableResultMemo tableResultMemo) {
+        this.tableResultMemo = tableResultMemo;
+    }
+
     /**
      * 프로젝트 전체의 네이밍 규칙 검증
      */
@@ -149,13 +156,23 @@ public class ValidationDomainService {
      * 스키마 출력 전 전체 검증 (네이밍 규칙 + 데이터 무결성)
      */
     public SchemaValidationResult validateForSchemaExport(Project project) {
+        return validateForSchemaExport(CompiledSchema.of(project));
+    }
+
+    /**
+     * 컴파일된 스키마로 출력 전 전체 검증 (생성기, 내보내기와 같은 컴파일 결과를 공유할 때)
+     */
+    public SchemaValidationResult validateForSchemaExport(CompiledSchema schema) {
+        Project project = schema.project();
         SchemaValidationResult result = new SchemaValidationResult();
         MSSQLTypeMapper typeMapper = new MSSQLTypeMapper();
+        NamingRules rules = project.getNamingRules();
 
-        // 1. 기본 네이밍 규칙 검증
-        ValidationResult namingResult = validateProject(project);
-        result.addNamingErrors(namingResult.getErrors());
-        result.addNamingWarnings(namingResult.getWarnings());
+        // 1. 네이밍 규칙 설정 여부 (테이블별 네이밍 검증은 4단계에서 함께 수행)
+        if (rules == null) {
+            result.addNamingErrors(List.of(
+                new ValidationError("프로젝트에 네이밍 규칙이 설정되지 않았습니다.", null, null, null)));
+        }
 
         // 2. 프로젝트 레벨 검증
         if (project.getTables().isEmpty()) {
@@ -163,52 +180,60 @@ public class ValidationDomainService {
         }
 
         // 3. 테이블명 중복 검증
-        Set<String> tableNames = new HashSet<>();
-        for (Table table : project.getTables()) {
-            if (!tableNames.add(table.getName().toLowerCase())) {
-                result.addStructuralError("중복된 테이블명이 있습니다: " + table.getName());
-            }
+        for (Table table : schema.duplicateNamedTables()) {
+            result.addStructuralError("중복된 테이블명이 있습니다: " + table.getName());
         }
 
-        // 4. 각 테이블별 상세 검증
-        for (Table table : project.getTables()) {
-            validateTableForExport(table, typeMapper, result);
+        // 4. 각 테이블별 네이밍 및 상세 검증 (내용이 같은 테이블은 이전 결과 재사용)
+        for (CompiledTable table : schema.tables()) {
+            result.merge(tableResultMemo.get(EXPORT_RULE_SET, table.table(), rules,
+                () -> collectTableExportResult(table, rules, typeMapper)));
         }
 
         return result;
     }
 
+    /**
+     * 테이블 하나의 네이밍 및 스키마 출력 검증 결과
+     */
+    private SchemaValidationResult collectTableExportResult(CompiledTable table, NamingRules rules, MSSQLTypeMapper typeMapper) {
+        SchemaValidationResult tableResult = new SchemaValidationResult();
+        if (rules != null) {
+            ValidationResult namingResult = validateTable(table.table(), rules);
+            tableResult.addNamingErrors(namingResult.getErrors());
+            tableResult.addNamingWarnings(namingResult.getWarnings());
+        }
+        validateTableForExport(table, typeMapper, tableResult);
+        return tableResult;
+    }
+
     /**
      * 테이블별 스키마 출력 검증
      */
-    private void validateTableForExport(Table table, MSSQLTypeMapper typeMapper, SchemaValidationResult result) {
+    private void validateTableForExport(CompiledTable table, MSSQLTypeMapper typeMapper, SchemaValidationResult result) {
         // 1. 테이블에 컬럼이 있는지 확인
-        if (table.getColumns().isEmpty()) {
-            result.addStructuralError("테이블 '" + table.getName() + "'에 컬럼이 정의되지 않았습니다.");
+        if (table.columns().isEmpty()) {
+            result.addStructuralError("테이블 '" + table.name() + "'에 컬럼이 정의되지 않았습니다.");
             return;
         }
 
         // 2. 컬럼명 중복 검증
-        Set<String> columnNames = new HashSet<>();
-        for (Column column : table.getColumns()) {
-            if (!columnNames.add(column.getName().toLowerCase())) {
-                result.addStructuralError("테이블 '" + table.getName() + "'에 중복된 컬럼명이 있습니다: " + column.getName());
-            }
+        for (Column column : table.duplicateNamedColumns()) {
+            result.addStructuralError("테이블 '" + table.name() + "'에 중복된 컬럼명이 있습니다: " + column.getName());
         }
 
         // 3. 기본키 검증
-        List<Column> primaryKeyColumns = table.getPrimaryKeyColumns();
-        if (primaryKeyColumns.isEmpty()) {
-            result.addStructuralWarning("테이블 '" + table.getName() + "'에 기본키가 정의되지 않았습니다.");
+        if (!table.hasPrimaryKey()) {
+            result.addStructuralWarning("테이블 '" + table.name() + "'에 기본키가 정의되지 않았습니다.");
         }
 
         // 4. 각 컬럼의 데이터 타입 검증
-        for (Column column : table.getColumns()) {
-            validateColumnForExport(column, typeMapper, result, table.getName());
+        for (Column column : table.columns()) {
+            validateColumnForExport(column, typeMapper, result, table.name());
         }
 
         // 5. 인덱스 검증
-        for (Index index : table.getIndexes()) {
+        for (Index index : table.indexes()) {
             validateIndexForExport(index, table, result);
         }
     }
@@ -260,29 +285,24 @@ public class ValidationDomainService {
     /**
      * 인덱스별 스키마 출력 검증
      */
-    private void validateIndexForExport(Index index, Table table, SchemaValidationResult result) {
+    private void validateIndexForExport(Index index, CompiledTable table, SchemaValidationResult result) {
         // 1. 인덱스에 컬럼이 있는지 확인
         if (index.getColumns().isEmpty()) {
-            result.addStructuralError("테이블 '" + table.getName() + "'의 인덱스 '" + index.getName() + "'에 컬럼이 정의되지 않았습니다.");
+            result.addStructuralError("테이블 '" + table.name() + "'의 인덱스 '" + index.getName() + "'에 컬럼이 정의되지 않았습니다.");
             return;
         }
 
-        // 2. 인덱스 컬럼이 실제 테이블 컬럼에 존재하는지 확인
-        Set<java.util.UUID> tableColumnIds = table.getColumns().stream()
-                .map(Column::getId)
-                .collect(Collectors.toSet());
-
-        for (Index.IndexColumn indexColumn : index.getColumns()) {
-            if (!tableColumnIds.contains(indexColumn.getColumnId())) {
-                result.addStructuralError("테이블 '" + table.getName() + "'의 인덱스 '" + index.getName() + "'에 존재하지 않는 컬럼이 참조되었습니다.");
+        // 2. 인덱스 컬럼이 실제 테이블 컬럼에 존재하는지 확인 (컴파일 시 해석된 결과 사용)
+        for (CompiledSchema.ResolvedIndexColumn indexColumn : table.indexColumns(index)) {
+            if (!indexColumn.isResolved()) {
+                result.addStructuralError("테이블 '" + table.name() + "'의 인덱스 '" + index.getName() + "'에 존재하지 않는 컬럼이 참조되었습니다.");
             }
         }
 
         // 3. 클러스터드 인덱스 중복 검증 (기본키 외에 추가 클러스터드 인덱스가 있는지)
         if (index.getType() == Index.IndexType.CLUSTERED) {
-            List<Column> primaryKeyColumns = table.getPrimaryKeyColumns();
-            if (!primaryKeyColumns.isEmpty()) {
-                result.addStructuralWarning("테이블 '" + table.getName() + "'에 기본키와 별도의 클러스터드 인덱스 '" + index.getName() + "'가 정의되었습니다. " +
+            if (table.hasPrimaryKey()) {
+                result.addStructuralWarning("테이블 '" + table.name() + "'에 기본키와 별도의 클러스터드 인덱스 '" + index.getName() + "'가 정의되었습니다. " +
                     "MSSQL에서는 테이블당 하나의 클러스터드 인덱스만 허용됩니다.");
             }
         }
@@ -422,6 +442,15 @@ public class ValidationDomainService {
             this.dataTypeWarnings.add(message);
         }
 
+        public void merge(SchemaValidationResult other) {
+            this.namingErrors.addAll(other.namingErrors);
+            this.namingWarnings.addAll(other.namingWarnings);
+            this.structuralErrors.addAll(other.structuralErrors);
+            this.structuralWarnings.addAll(other.structuralWarnings);
+            this.dataTypeErrors.addAll(other.dataTypeErrors);
+            this.dataTypeWarnings.addAll(other.dataTypeWarnings);
+        }
+
         public boolean hasErrors() {
             return !namingErrors.isEmpty() || !structuralErrors.isEmpty() || !dataTypeErrors.isEmpty();
         }
@@ -500,19 +529,20 @@ public class ValidationDomainService {
      */
     public AdvancedValidationResult validateAdvanced(Project project) {
         AdvancedValidationResult result = new AdvancedValidationResult();
+        CompiledSchema schema = CompiledSchema.of(project);
         
         // 기본 검증 수행
-        SchemaValidationResult basicResult = validateForSchemaExport(project);
+        SchemaValidationResult basicResult = validateForSchemaExport(schema);
         result.setBasicValidation(basicResult);
         
         // 성능 관련 검증
-        validatePerformance(project, result);
+        validatePerformance(schema, result);
         
         // 모범 사례 검증
-        validateBestPractices(project, result);
+        validateBestPractices(schema, result);
         
         // 보안 관련 검증
-        validateSecurity(project, result);
+        validateSecurity(schema, result);
         
         return result;
     }
@@ -520,8 +550,9 @@ public class ValidationDomainService {
     /**
      * 성능 관련 검증
      */
-    private void validatePerformance(Project project, AdvancedValidationResult result) {
-        for (Table table : project.getTables()) {
+    private void validatePerformance(CompiledSchema schema, AdvancedValidationResult result) {
+        for (CompiledTable compiled : schema.tables()) {
+            Table table = compiled.table();
             // 1. 인덱스 부족 검증
             if (table.getColumns().size() > 5 && table.getIndexes().isEmpty()) {
                 result.addPerformanceWarning("테이블 '" + table.getName() + "'에 인덱스가 없습니다. 성능 저하가 예상됩니다.");
@@ -543,9 +574,8 @@ public class ValidationDomainService {
             // 4. 클러스터드 인덱스 검증
             boolean hasClusteredIndex = table.getIndexes().stream()
                     .anyMatch(index -> index.getType() == Index.IndexType.CLUSTERED);
-            boolean hasPrimaryKey = !table.getPrimaryKeyColumns().isEmpty();
             
-            if (!hasClusteredIndex && !hasPrimaryKey) {
+            if (!hasClusteredIndex && !compiled.hasPrimaryKey()) {
                 result.addPerformanceWarning("테이블 '" + table.getName() + "'에 클러스터드 인덱스나 기본키가 없습니다.");
             }
         }
@@ -554,13 +584,14 @@ public class ValidationDomainService {
     /**
      * 모범 사례 검증
      */
-    private void validateBestPractices(Project project, AdvancedValidationResult result) {
-        for (Table table : project.getTables()) {
+    private void validateBestPractices(CompiledSchema schema, AdvancedValidationResult result) {
+        for (CompiledTable compiled : schema.tables()) {
+            Table table = compiled.table();
+            List<String> columnNames = compiled.lowerCaseColumnNames();
+
             // 1. 감사 컬럼 검증
-            boolean hasCreatedAt = table.getColumns().stream()
-                    .anyMatch(col -> col.getName().toLowerCase().contains("created"));
-            boolean hasUpdatedAt = table.getColumns().stream()
-                    .anyMatch(col -> col.getName().toLowerCase().contains("updated"));
+            boolean hasCreatedAt = columnNames.stream().anyMatch(name -> name.contains("created"));
+            boolean hasUpdatedAt = columnNames.stream().anyMatch(name -> name.contains("updated"));
             
             if (!hasCreatedAt) {
                 result.addBestPracticeWarning("테이블 '" + table.getName() + "'에 생성일시 컬럼이 없습니다.");
@@ -570,16 +601,18 @@ public class ValidationDomainService {
             }
             
             // 2. ID 컬럼 검증
-            boolean hasIdColumn = table.getColumns().stream()
-                    .anyMatch(col -> col.getName().toLowerCase().equals("id") && col.isPrimaryKey());
+            boolean hasIdColumn = compiled.primaryKeyColumns().stream()
+                    .anyMatch(col -> col.getName().toLowerCase().equals("id"));
             
             if (!hasIdColumn) {
                 result.addBestPracticeWarning("테이블 '" + table.getName() + "'에 표준 ID 기본키가 없습니다.");
             }
             
             // 3. 외래키 명명 규칙 검증
-            for (Column column : table.getColumns()) {
-                if (column.getName().toLowerCase().endsWith("_id") && !column.getName().toLowerCase().equals("id")) {
+            for (int i = 0; i < columnNames.size(); i++) {
+                Column column = compiled.columns().get(i);
+                String columnName = columnNames.get(i);
+                if (columnName.endsWith("_id") && !columnName.equals("id")) {
                     if (column.getDataType() != MSSQLDataType.BIGINT && column.getDataType() != MSSQLDataType.INT) {
                         result.addBestPracticeWarning("외래키로 보이는 컬럼 '" + column.getName() + "'의 데이터 타입이 정수형이 아닙니다.");
                     }
@@ -591,11 +624,13 @@ public class ValidationDomainService {
     /**
      * 보안 관련 검증
      */
-    private void validateSecurity(Project project, AdvancedValidationResult result) {
-        for (Table table : project.getTables()) {
-            for (Column column : table.getColumns()) {
+    private void validateSecurity(CompiledSchema schema, AdvancedValidationResult result) {
+        for (CompiledTable table : schema.tables()) {
+            List<String> columnNames = table.lowerCaseColumnNames();
+            for (int i = 0; i < columnNames.size(); i++) {
+                Column column = table.columns().get(i);
                 // 1. 민감한 정보 컬럼 검증
-                String columnName = column.getName().toLowerCase();
+                String columnName = columnNames.get(i);
                 if (columnName.contains("password") || columnName.contains("pwd")) {
                     if (column.getDataType() != MSSQLDataType.NVARCHAR && column.getDataType() != MSSQLDataType.VARCHAR) {
                         result.addSecurityWarning("비밀번호 컬럼 '" + column.getName() + "'의 데이터 타입이 문자열이 아닙니다.");
@@ -0,0 +1,43 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caffeine 캐시 항목의 남은 유효 시간 확인
+ */
+final class CacheExpiry {
+
+    private CacheExpiry() {
+    }
+
+    /**
+     * 항목이 없거나 주어진 시간 안에 만료되면 true (만료 정책이 없는 캐시는 항목 존재 여부만 확인)
+     */
+    @SuppressWarnings("unchecked")
+    static boolean expiresWithin(Cache cache, Object key, Duration window) {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return cache.get(key) == null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeineCache =
+            (com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache;
+        if (caffeineCache.policy().getIfPresentQuietly(key) == null) {
+            return true;
+        }
+
+        Optional<Policy.FixedExpiration<Object, Object>> expiration = caffeineCache.policy().expireAfterWrite();
+        if (expiration.isEmpty()) {
+            return false;
+        }
+        Optional<Duration> age = expiration.get().ageOf(key);
+        if (age.isEmpty()) {
+            return true;
+        }
+        Duration remaining = expiration.get().getExpiresAfter().minus(age.get());
+        return remaining.compareTo(window) <= 0;
+    }
+}
@@ -0,0 +1,189 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.SchemaGenerationOptions;
+import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
+import com.dbmodeling.domain.service.SqlGeneratorService;
+import com.dbmodeling.infrastructure.persistence.access.ProjectAccessStatsStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자주 쓰이는 프로젝트 캐시 예열과 미리 갱신
+ * 시작 직후와 이후 주기마다 접근 점수 상위 프로젝트를 고르고, 프로젝트 캐시와 기본 옵션 SQL이 없거나 곧 만료되면 제한된 동시성으로 다시 채웁니다.
+ * 접근 통계 합산도 같은 주기에 수행합니다.
+ */
+@Component
+public class CacheWarmer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private static final String DEFAULT_SQL_VARIANT = SchemaOutputCache.variantOf(SchemaGenerationOptions.defaultOptions());
+
+    private final ModelCache modelCache;
+    private final SchemaOutputCache schemaOutputCache;
+    private final ProjectRepository projectRepository;
+    private final SummaryQueryRepository summaryQueryRepository;
+    private final SqlGeneratorService sqlGeneratorService;
+    private final ProjectAccessStatsStore accessStatsStore;
+    private final boolean enabled;
+    private final int top;
+    private final int concurrency;
+    private final Duration interval;
+    private final Duration refreshAhead;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService workers;
+
+    public CacheWarmer(
+            ModelCache modelCache,
+            SchemaOutputCache schemaOutputCache,
+            ProjectRepository projectRepository,
+            SummaryQueryRepository summaryQueryRepository,
+            SqlGeneratorService sqlGeneratorService,
+            ProjectAccessStatsStore accessStatsStore,
+            @Value("${app.cache.warmup.enabled:false}") boolean enabled,
+            @Value("${app.cache.warmup.top:50}") int top,
+            @Value("${app.cache.warmup.concurrency:4}") int concurrency,
+            @Value("${app.cache.warmup.interval:1m}") Duration interval,
+            @Value("${app.cache.warmup.refresh-ahead:5m}") Duration refreshAhead) {
+        this.modelCache = modelCache;
+        this.schemaOutputCache = schemaOutputCache;
+        this.projectRepository = projectRepository;
+        this.summaryQueryRepository = summaryQueryRepository;
+        this.sqlGeneratorService = sqlGeneratorService;
+        this.accessStatsStore = accessStatsStore;
+        this.enabled = enabled;
+        this.top = top;
+        this.concurrency = Math.max(1, concurrency);
+        this.interval = interval;
+        this.refreshAhead = refreshAhead;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("cache-warmer"));
+        workers = Executors.newFixedThreadPool(concurrency, daemonThreads("cache-warmer-worker"));
+        // 첫 실행이 시작 직후의 예열 (캐시가 비어 있으므로 상위 프로젝트 전체가 대상)
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            workers.shutdownNow();
+            scheduler = null;
+            workers = null;
+            accessStatsStore.flush();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runSafely() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            int refreshed = refreshHottest(workers);
+            if (refreshed > 0) {
+                logger.info("캐시 예열/미리 갱신 완료: {}건 - {}ms", refreshed, System.currentTimeMillis() - startedAt);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // 예외가 나가면 이후 실행이 취소되므로 기록만 하고 다음 주기에 다시 시도
+            logger.warn("캐시 예열 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 접근 통계를 합산한 뒤 점수 상위 프로젝트를 작업 스레드에서 갱신
+     *
+     * @return 새로 채운 캐시 항목 수
+     */
+    int refreshHottest(ExecutorService executor) throws InterruptedException {
+        accessStatsStore.flush();
+        List<UUID> projectIds = accessStatsStore.findHottest(top);
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger refreshed = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>(projectIds.size());
+        for (UUID projectId : projectIds) {
+            tasks.add(() -> {
+                refreshed.addAndGet(refresh(projectId));
+                return null;
+            });
+        }
+
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                logger.debug("프로젝트 캐시 갱신 실패: {}", e.getCause().getMessage());
+            }
+        }
+        return refreshed.get();
+    }
+
+    /**
+     * 프로젝트 하나의 캐시와 기본 옵션 SQL 갱신 (만료가 멀면 아무것도 하지 않음)
+     */
+    int refresh(UUID projectId) {
+        int refreshed = modelCache.refreshProject(projectId, refreshAhead,
+            summaryQueryRepository::findProjectVersion, projectRepository::findById) ? 1 : 0;
+
+        Optional<Project> cached = modelCache.peekProject(projectId);
+        Long contentVersion = cached.map(Project::getContentVersion).orElse(null);
+        if (contentVersion == null
+                || !schemaOutputCache.expiresWithin(projectId, contentVersion, DEFAULT_SQL_VARIANT, refreshAhead)) {
+            return refreshed;
+        }
+
+        Optional<Project> project = projectRepository.findByIdWithFullGraph(projectId);
+        if (project.isPresent()) {
+            schemaOutputCache.put(project.get(), DEFAULT_SQL_VARIANT,
+                sqlGeneratorService.generateProjectSql(project.get()));
+            refreshed++;
+        }
+        return refreshed;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
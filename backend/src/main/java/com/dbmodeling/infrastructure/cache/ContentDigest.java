@@ -0,0 +1,80 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.Table;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * null 표시와 길이를 앞에 붙여 필드 경계가 모호하지 않게 만드는 SHA-256 누적기
+ * 내용 해시를 키로 쓰는 메모(검증 결과, DDL 조각)에서 함께 사용합니다.
+ */
+final class ContentDigest {
+
+    private final MessageDigest sha256;
+
+    ContentDigest() {
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 테이블(컬럼, 인덱스 포함) 내용의 해시 (생성/수정 시각과 위치는 제외)
+     *
+     * @param includeColumnOrder 컬럼 순서(orderIndex)도 포함할지 여부 (DDL 출력은 순서에 따라 달라짐)
+     */
+    static String ofTable(Table table, boolean includeColumnOrder) {
+        ContentDigest digest = new ContentDigest();
+        digest.add(table.getName()).add(table.getDescription());
+
+        List<Column> columns = table.getColumns();
+        digest.add(columns.size());
+        for (Column column : columns) {
+            digest.add(column.getId()).add(column.getName()).add(column.getDescription())
+                .add(column.getDataType()).add(column.getMaxLength()).add(column.getPrecision())
+                .add(column.getScale()).add(column.getIsNullable()).add(column.getIsPrimaryKey())
+                .add(column.getIsIdentity()).add(column.getIdentitySeed()).add(column.getIdentityIncrement())
+                .add(column.getDefaultValue());
+            if (includeColumnOrder) {
+                digest.add(column.getOrderIndex());
+            }
+        }
+
+        List<Index> indexes = table.getIndexes();
+        digest.add(indexes.size());
+        for (Index index : indexes) {
+            digest.add(index.getName()).add(index.getType()).add(index.isUnique());
+            List<Index.IndexColumn> indexColumns = index.getColumns();
+            digest.add(indexColumns.size());
+            for (Index.IndexColumn indexColumn : indexColumns) {
+                digest.add(indexColumn.getColumnId()).add(indexColumn.getColumnName()).add(indexColumn.getOrder());
+            }
+        }
+        return digest.hex();
+    }
+
+    ContentDigest add(Object value) {
+        if (value == null) {
+            sha256.update((byte) 0);
+            return this;
+        }
+        byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        sha256.update((byte) 1);
+        sha256.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        sha256.update(bytes);
+        return this;
+    }
+
+    String hex() {
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+}
@@ -0,0 +1,59 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.service.TableFragmentMemo;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 테이블 단위 DDL 조각 메모
+ * 테이블(컬럼 순서, 인덱스 포함) 내용 해시와 조각에 영향을 주는 생성 옵션을 키로 사용하므로
+ * 한 테이블을 수정한 뒤 프로젝트 DDL을 다시 만들면 바뀐 테이블만 다시 생성하고 나머지는 이어 붙입니다.
+ */
+@Component
+public class DdlFragmentMemo implements TableFragmentMemo {
+
+    private final CacheManager cacheManager;
+
+    public DdlFragmentMemo(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String get(Table table, String variant, Supplier<String> renderer) {
+        Cache cache = cacheManager.getCache(CacheConfig.DDL_FRAGMENT_CACHE);
+        if (cache == null) {
+            return renderer.get();
+        }
+
+        Key key = new Key(hashOf(table), variant);
+        String cached = cache.get(key, String.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        String fragment = renderer.get();
+        cache.put(key, fragment);
+        return fragment;
+    }
+
+    /**
+     * DDL 출력에 영향을 주는 테이블 내용의 해시 (컬럼 순서 포함)
+     */
+    static String hashOf(Table table) {
+        return ContentDigest.ofTable(table, true);
+    }
+
+    /**
+     * 메모 키
+     *
+     * @param tableHash 테이블 내용 해시
+     * @param variant 생성 옵션
+     */
+    record Key(String tableHash, String variant) {
+    }
+}
@@ -0,0 +1,340 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import com.dbmodeling.infrastructure.persistence.datasource.PrimaryReadScope;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 모델 캐시 키 단위 무효화
+ * 프로젝트 목록은 ID 목록만 캐시하고 각 프로젝트는 ID 키로 캐시하므로 한 프로젝트의 변경이 목록 전체를 버리지 않습니다.
+ * 변경된 프로젝트는 복제 지연 시간 동안 주 데이터소스에서 다시 로드하고, 그 시간이 지나면 한 번 더 제거해
+ * 지연된 복제본에서 읽은 변경 전 상태가 캐시에 남지 않도록 합니다.
+ */
+@Component
+public class ModelCache {
+
+    /**
+     * 프로젝트 ID 목록 캐시 키
+     */
+    public static final String ALL_PROJECT_IDS = "all";
+
+    private final CacheManager cacheManager;
+    private final SecondLevelCache secondLevelCache;
+    private final SingleFlight<GraphKey, Optional<Project>> graphLoads = new SingleFlight<>();
+    private final com.github.benmanes.caffeine.cache.Cache<UUID, Boolean> recentlyChanged;
+    private final Executor delayedEviction;
+
+    public ModelCache(CacheManager cacheManager) {
+        this(cacheManager, null);
+    }
+
+    public ModelCache(CacheManager cacheManager, SecondLevelCache secondLevelCache) {
+        this(cacheManager, secondLevelCache, Duration.ZERO);
+    }
+
+    @Autowired
+    public ModelCache(CacheManager cacheManager, SecondLevelCache secondLevelCache,
+                      @Value("${app.datasource.replica.read-after-write-window:5s}") Duration replicaLag) {
+        this.cacheManager = cacheManager;
+        this.secondLevelCache = secondLevelCache;
+        this.recentlyChanged = replicaLag.isZero() ? null : Caffeine.newBuilder()
+            .expireAfterWrite(replicaLag)
+            .maximumSize(10_000)
+            .build();
+        this.delayedEviction = replicaLag.isZero() ? null
+            : CompletableFuture.delayedExecutor(replicaLag.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 전체 프로젝트 조회 (ID 목록과 프로젝트별 캐시를 조합하고 없는 항목만 로드)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Project> getAllProjects(Supplier<List<Project>> loadAll,
+                                        Function<UUID, Optional<Project>> loadOne) {
+        Cache cache = projectCache();
+        List<UUID> projectIds = cache.get(ALL_PROJECT_IDS, List.class);
+        if (projectIds == null) {
+            List<Project> projects = hasRecentChanges() ? PrimaryReadScope.call(loadAll) : loadAll.get();
+            List<UUID> ids = new ArrayList<>(projects.size());
+            for (Project project : projects) {
+                cache.put(project.getId(), project);
+                ids.add(project.getId());
+            }
+            cache.put(ALL_PROJECT_IDS, List.copyOf(ids));
+            return projects;
+        }
+
+        List<Project> projects = new ArrayList<>(projectIds.size());
+        for (UUID projectId : projectIds) {
+            Project project = cache.get(projectId, Project.class);
+            if (project == null) {
+                project = readAfterWrite(projectId, () -> loadOne.apply(projectId)).orElse(null);
+                if (project == null) {
+                    continue;
+                }
+                cache.put(projectId, project);
+            }
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    /**
+     * 프로젝트 전체 그래프 로드
+     * 가벼운 집합 버전을 먼저 읽고 같은 프로젝트와 버전을 동시에 로드하면 한 번만 실행해 결과를 나누므로,
+     * 커밋 뒤에 들어온 요청이 커밋 전에 시작된 로드 결과를 받지 않습니다.
+     * 없는 프로젝트는 잠시 기억해 데이터베이스를 다시 조회하지 않습니다.
+     *
+     * @param loadVersion 프로젝트 집합 버전 조회
+     * @param loadGraph 프로젝트 전체 그래프 조회
+     */
+    public Optional<Project> loadProjectGraph(UUID projectId,
+                                              Function<UUID, Optional<Long>> loadVersion,
+                                              Function<UUID, Optional<Project>> loadGraph) {
+        if (isKnownMissing(projectId)) {
+            return Optional.empty();
+        }
+
+        Optional<Project> project = readAfterWrite(projectId, () -> loadVersion.apply(projectId)
+            .flatMap(version -> graphLoads.execute(new GraphKey(projectId, version), () -> loadGraph.apply(projectId))));
+        if (project.isEmpty()) {
+            markMissing(projectId);
+        }
+        return project;
+    }
+
+    /**
+     * 최근 변경된 프로젝트면 주 데이터소스에서 로드
+     * 무효화 직후의 조회가 지연된 복제본에서 변경 전 상태를 읽어 다시 캐시하지 않도록 합니다.
+     */
+    public <T> T readAfterWrite(UUID projectId, Supplier<T> load) {
+        if (recentlyChanged != null && recentlyChanged.getIfPresent(projectId) != null) {
+            return PrimaryReadScope.call(load);
+        }
+        return load.get();
+    }
+
+    private boolean hasRecentChanges() {
+        return recentlyChanged != null && !recentlyChanged.asMap().isEmpty();
+    }
+
+    /**
+     * 최근에 없다고 확인된 프로젝트인지 확인
+     */
+    public boolean isKnownMissing(UUID projectId) {
+        Cache cache = cacheManager.getCache(CacheConfig.MISSING_PROJECT_CACHE);
+        return cache != null && cache.get(projectId) != null;
+    }
+
+    /**
+     * 없는 프로젝트로 기억 (짧은 TTL 동안 조회를 데이터베이스까지 보내지 않음)
+     */
+    public void markMissing(UUID projectId) {
+        Cache cache = cacheManager.getCache(CacheConfig.MISSING_PROJECT_CACHE);
+        if (cache != null) {
+            cache.put(projectId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 캐시된 프로젝트 조회 (적중/실패 통계에 남기지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Project> peekProject(UUID projectId) {
+        Cache cache = projectCache();
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            Object project = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeineCache)
+                .policy().getIfPresentQuietly(projectId);
+            return project instanceof Project found ? Optional.of(found) : Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(projectId, Project.class));
+    }
+
+    /**
+     * 프로젝트 캐시 미리 갱신
+     * 항목이 없거나 주어진 시간 안에 만료될 때만 다시 로드하며, 로드 중 다른 스레드가 항목을 바꾸거나 제거했으면 덮어쓰지 않습니다.
+     * 로드한 집합 버전이 현재 버전과 다르면 저장하지 않고, 저장한 뒤 버전이 바뀌었으면 저장한 항목을 되돌려
+     * 커밋 후 제거가 저장보다 먼저 실행되어도 커밋 전 상태가 캐시에 남지 않도록 합니다.
+     *
+     * @param loadVersion 프로젝트 집합 버전 조회 (주 데이터소스에서 실행)
+     * @return 새로 로드해 저장했으면 true
+     */
+    @SuppressWarnings("unchecked")
+    public boolean refreshProject(UUID projectId, Duration ahead,
+                                  Function<UUID, Optional<Long>> loadVersion,
+                                  Function<UUID, Optional<Project>> loadOne) {
+        Cache cache = projectCache();
+        if (!CacheExpiry.expiresWithin(cache, projectId, ahead)) {
+            return false;
+        }
+
+        Object nativeCache = cache.getNativeCache();
+        if (!(nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache)) {
+            Optional<Project> loaded = readAfterWrite(projectId, () -> loadOne.apply(projectId));
+            if (loaded.isEmpty() || !isCurrent(loaded.get(), loadVersion)) {
+                return false;
+            }
+            cache.put(projectId, loaded.get());
+            if (!isCurrent(loaded.get(), loadVersion)) {
+                cache.evict(projectId);
+                return false;
+            }
+            return true;
+        }
+
+        Map<Object, Object> entries = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeineCache).asMap();
+        Object current = entries.get(projectId);
+        Optional<Project> loaded = readAfterWrite(projectId, () -> loadOne.apply(projectId));
+        if (loaded.isEmpty() || !isCurrent(loaded.get(), loadVersion)) {
+            return false;
+        }
+        boolean stored = current == null
+            ? entries.putIfAbsent(projectId, loaded.get()) == null
+            : entries.replace(projectId, current, loaded.get());
+        if (stored && !isCurrent(loaded.get(), loadVersion)) {
+            // 버전 확인과 저장 사이에 커밋되고 제거까지 끝난 경우
+            entries.remove(projectId, loaded.get());
+            return false;
+        }
+        return stored;
+    }
+
+    /**
+     * 로드한 프로젝트의 집합 버전이 주 데이터소스의 현재 버전과 같은지 확인
+     */
+    private static boolean isCurrent(Project project, Function<UUID, Optional<Long>> loadVersion) {
+        Long loadedVersion = project.getContentVersion();
+        return loadedVersion != null
+            && PrimaryReadScope.call(() -> loadVersion.apply(project.getId())).filter(loadedVersion::equals).isPresent();
+    }
+
+    /**
+     * 커밋된 변경 반영
+     * 테이블 키와 소속 프로젝트 키를 제거하고, 프로젝트 ID 목록은 생성/삭제만 제자리에서 갱신합니다.
+     * Hibernate 2차 캐시도 함께 비웁니다.
+     * 복제 지연 시간 동안 변경된 프로젝트는 주 데이터소스에서 읽고, 지연 시간이 지나면 같은 키를 한 번 더 제거합니다.
+     */
+    public void evict(ModelChanges changes) {
+        // 제거 직후의 조회가 복제본으로 가지 않도록 먼저 기록
+        if (recentlyChanged != null) {
+            changes.projectIds().forEach(id -> recentlyChanged.put(id, Boolean.TRUE));
+            changes.createdProjectIds().forEach(id -> recentlyChanged.put(id, Boolean.TRUE));
+            changes.deletedProjectIds().forEach(id -> recentlyChanged.put(id, Boolean.TRUE));
+        }
+
+        evictKeys(changes);
+        if (!changes.createdProjectIds().isEmpty() || !changes.deletedProjectIds().isEmpty()) {
+            updateProjectIds(projectCache(), changes.createdProjectIds(), changes.deletedProjectIds());
+        }
+
+        if (delayedEviction != null) {
+            // 주 데이터소스를 거치지 않는 경로(2차 캐시 등)가 지연된 복제본에서 다시 채운 항목 제거
+            delayedEviction.execute(() -> evictKeys(changes));
+        }
+    }
+
+    /**
+     * 변경된 테이블, 프로젝트, 없는 프로젝트 키와 2차 캐시 제거 (프로젝트 ID 목록은 유지)
+     */
+    private void evictKeys(ModelChanges changes) {
+        if (secondLevelCache != null) {
+            secondLevelCache.evict(changes);
+        }
+
+        Cache tableCache = cacheManager.getCache(CacheConfig.TABLE_CACHE);
+        if (tableCache != null) {
+            changes.tableIds().forEach(tableCache::evict);
+        }
+
+        Cache missingCache = cacheManager.getCache(CacheConfig.MISSING_PROJECT_CACHE);
+        if (missingCache != null) {
+            changes.projectIds().forEach(missingCache::evict);
+            changes.createdProjectIds().forEach(missingCache::evict);
+        }
+
+        Cache cache = projectCache();
+        changes.projectIds().forEach(cache::evict);
+    }
+
+    /**
+     * 프로젝트, 테이블, 없는 프로젝트 캐시 전체 제거 (놓친 변경이 있을 수 있을 때 사용)
+     */
+    public void evictAll() {
+        if (secondLevelCache != null) {
+            secondLevelCache.evictAll();
+        }
+        projectCache().clear();
+        Cache tableCache = cacheManager.getCache(CacheConfig.TABLE_CACHE);
+        if (tableCache != null) {
+            tableCache.clear();
+        }
+        Cache missingCache = cacheManager.getCache(CacheConfig.MISSING_PROJECT_CACHE);
+        if (missingCache != null) {
+            missingCache.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateProjectIds(Cache cache, Set<UUID> created, Set<UUID> deleted) {
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            // 동시에 다른 스레드가 목록을 채우는 경우를 대비해 원자적으로 갱신
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeineCache).asMap()
+                .computeIfPresent(ALL_PROJECT_IDS, (key, ids) -> patch((List<UUID>) ids, created, deleted));
+            return;
+        }
+
+        List<UUID> ids = cache.get(ALL_PROJECT_IDS, List.class);
+        if (ids != null) {
+            cache.put(ALL_PROJECT_IDS, patch(ids, created, deleted));
+        }
+    }
+
+    private static List<UUID> patch(List<UUID> ids, Set<UUID> created, Set<UUID> deleted) {
+        List<UUID> patched = new ArrayList<>(ids.size() + created.size());
+        for (UUID id : ids) {
+            if (!deleted.contains(id)) {
+                patched.add(id);
+            }
+        }
+        for (UUID id : created) {
+            if (!deleted.contains(id) && !patched.contains(id)) {
+                patched.add(id);
+            }
+        }
+        return List.copyOf(patched);
+    }
+
+    private Cache projectCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.PROJECT_CACHE);
+        if (cache == null) {
+            throw new IllegalStateException("프로젝트 캐시가 설정되지 않았습니다");
+        }
+        return cache;
+    }
+
+    /**
+     * 그래프 동시 로드 합치기 키
+     */
+    private record GraphKey(UUID projectId, long version) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.dbmodeling.infrastructure.cache;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 한 트랜잭션에서 커밋된 모델 변경 범위
+ *
+ * @param projectIds 내용이 바뀐 프로젝트 (하위 테이블/컬럼/인덱스 변경 포함)
+ * @param tableIds 내용이 바뀐 테이블 (컬럼/인덱스 변경 포함)
+ * @param createdProjectIds 새로 생성된 프로젝트
+ * @param deletedProjectIds 삭제된 프로젝트
+ * @param columnIds 생성/수정/삭제된 컬럼 (2차 캐시에서 ID로 제거)
+ * @param indexIds 생성/수정/삭제된 인덱스 (2차 캐시에서 ID로 제거)
+ */
+public record ModelChanges(
+    Set<UUID> projectIds,
+    Set<UUID> tableIds,
+    Set<UUID> createdProjectIds,
+    Set<UUID> deletedProjectIds,
+    Set<UUID> columnIds,
+    Set<UUID> indexIds
+) {
+
+    public ModelChanges {
+        // 컬럼/인덱스 ID가 없는 이전 버전 인스턴스의 알림도 해석할 수 있도록 빈 집합으로 대체
+        columnIds = columnIds != null ? columnIds : Set.of();
+        indexIds = indexIds != null ? indexIds : Set.of();
+    }
+
+    public ModelChanges(Set<UUID> projectIds, Set<UUID> tableIds,
+                        Set<UUID> createdProjectIds, Set<UUID> deletedProjectIds) {
+        this(projectIds, tableIds, createdProjectIds, deletedProjectIds, Set.of(), Set.of());
+    }
+}
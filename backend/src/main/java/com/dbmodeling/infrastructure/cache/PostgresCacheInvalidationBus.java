@@ -0,0 +1,251 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 캐시 무효화 버스
+ * 커밋되는 트랜잭션 안에서 변경 키를 NOTIFY하고, 각 인스턴스의 전용 연결이 이를 받아 로컬 캐시에서 제거합니다.
+ * 연결이 끊겼다가 다시 연결되면 그 사이의 알림을 놓쳤을 수 있으므로 캐시 전체를 비웁니다.
+ */
+@Component
+public class PostgresCacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    static final String CHANNEL = "model_cache_invalidation";
+
+    /**
+     * NOTIFY 페이로드 한도 8000바이트보다 여유 있게 잡은 최대 크기 (넘으면 전체 비우기로 대체)
+     */
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private final ModelCache modelCache;
+    private final ObjectMapper objectMapper;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final boolean enabled;
+    private final Duration coalesceWindow;
+    private final Duration reconnectDelay;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresCacheInvalidationBus(
+            ModelCache modelCache,
+            ObjectMapper objectMapper,
+            @Value("${spring.datasource.url:}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${app.cache.invalidation.enabled:false}") boolean enabled,
+            @Value("${app.cache.invalidation.coalesce-window:50ms}") Duration coalesceWindow,
+            @Value("${app.cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.modelCache = modelCache;
+        this.objectMapper = objectMapper;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled;
+        this.coalesceWindow = coalesceWindow;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * 현재 트랜잭션에서 변경 키 발행 (NOTIFY는 커밋 시에만 전달되고 롤백되면 버려짐)
+     */
+    public void publish(JdbcTemplate jdbcTemplate, ModelChanges changes) {
+        if (!enabled || isEmpty(changes)) {
+            return;
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, encode(changes));
+    }
+
+    /**
+     * 알림 페이로드 생성 (한도를 넘으면 전체 비우기 메시지)
+     */
+    String encode(ModelChanges changes) {
+        try {
+            String payload = objectMapper.writeValueAsString(new Message(nodeId, false, changes));
+            if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+                return payload;
+            }
+            return objectMapper.writeValueAsString(new Message(nodeId, true, null));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시 무효화 메시지를 만들 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 알림 페이로드 해석 (자신이 보낸 알림은 커밋 시 이미 반영했으므로 무시)
+     */
+    Optional<Message> decode(String payload) {
+        try {
+            Message message = objectMapper.readValue(payload, Message.class);
+            return nodeId.equals(message.node()) ? Optional.empty() : Optional.of(message);
+        } catch (JsonProcessingException e) {
+            logger.warn("캐시 무효화 메시지 해석 실패, 전체 캐시를 비웁니다: {}", e.getMessage());
+            return Optional.of(new Message(null, true, null));
+        }
+    }
+
+    /**
+     * 짧은 시간 안에 들어온 알림을 하나로 합쳐 반영
+     */
+    void apply(Iterable<String> payloads) {
+        Set<UUID> projectIds = new LinkedHashSet<>();
+        Set<UUID> tableIds = new LinkedHashSet<>();
+        Set<UUID> createdProjectIds = new LinkedHashSet<>();
+        Set<UUID> deletedProjectIds = new LinkedHashSet<>();
+        Set<UUID> columnIds = new LinkedHashSet<>();
+        Set<UUID> indexIds = new LinkedHashSet<>();
+
+        for (String payload : payloads) {
+            Optional<Message> message = decode(payload);
+            if (message.isEmpty()) {
+                continue;
+            }
+            if (message.get().flush()) {
+                modelCache.evictAll();
+                return;
+            }
+            ModelChanges changes = message.get().changes();
+            projectIds.addAll(changes.projectIds());
+            tableIds.addAll(changes.tableIds());
+            createdProjectIds.addAll(changes.createdProjectIds());
+            deletedProjectIds.addAll(changes.deletedProjectIds());
+            columnIds.addAll(changes.columnIds());
+            indexIds.addAll(changes.indexIds());
+        }
+
+        ModelChanges merged =
+            new ModelChanges(projectIds, tableIds, createdProjectIds, deletedProjectIds, columnIds, indexIds);
+        if (!isEmpty(merged)) {
+            modelCache.evict(merged);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || url.isBlank()) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (connectedBefore) {
+                    // 재연결 전까지의 알림은 유실되었을 수 있음
+                    logger.info("캐시 무효화 채널 재연결, 전체 캐시를 비웁니다");
+                    modelCache.evictAll();
+                }
+                connectedBefore = true;
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("캐시 무효화 채널 연결 실패, {}초 후 재시도: {}", reconnectDelay.toSeconds(), e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(POLL_TIMEOUT_MILLIS);
+            if (notifications == null || notifications.length == 0) {
+                continue;
+            }
+
+            // 연속된 알림은 짧게 기다렸다가 함께 반영
+            List<String> payloads = new ArrayList<>();
+            collect(payloads, notifications);
+            long deadline = System.nanoTime() + coalesceWindow.toNanos();
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                int waitMillis = (int) Math.max(1, remaining / 1_000_000);
+                collect(payloads, connection.getNotifications(waitMillis));
+            }
+            apply(payloads);
+        }
+    }
+
+    private static void collect(List<String> payloads, PGNotification[] notifications) {
+        if (notifications == null) {
+            return;
+        }
+        for (PGNotification notification : notifications) {
+            if (CHANNEL.equals(notification.getName())) {
+                payloads.add(notification.getParameter());
+            }
+        }
+    }
+
+    private static boolean isEmpty(ModelChanges changes) {
+        return changes.projectIds().isEmpty() && changes.tableIds().isEmpty()
+            && changes.columnIds().isEmpty() && changes.indexIds().isEmpty();
+    }
+
+    /**
+     * 무효화 메시지
+     *
+     * @param node 발행한 인스턴스 ID
+     * @param flush 전체 캐시 비우기 여부
+     * @param changes 변경 키 (전체 비우기일 때는 null)
+     */
+    record Message(String node, boolean flush, ModelChanges changes) {
+    }
+}
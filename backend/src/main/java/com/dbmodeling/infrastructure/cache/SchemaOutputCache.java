@@ -0,0 +1,117 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.SchemaGenerationOptions;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 생성된 DDL/문서 캐시
+ * 프로젝트 집합 버전(content_version)과 생성 옵션을 키로 사용하므로 내용이 바뀌면 새 키가 되어 별도 제거가 필요 없습니다.
+ * 이전 버전의 결과는 크기 상한과 TTL에 따라 밀려납니다.
+ */
+@Component
+public class SchemaOutputCache {
+
+    private final CacheManager cacheManager;
+    private final SingleFlight<Key, Object> generations = new SingleFlight<>();
+
+    public SchemaOutputCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 캐시된 생성 결과 조회, 없으면 생성 후 저장 (버전을 모르는 프로젝트는 캐시하지 않음)
+     * 같은 버전과 형식의 생성 요청이 동시에 들어오면 한 번만 생성해 결과를 나눕니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Project project, String variant, Supplier<T> generator) {
+        Cache cache = cacheManager.getCache(CacheConfig.SCHEMA_CACHE);
+        if (cache == null || project.getId() == null || project.getContentVersion() == null) {
+            return generator.get();
+        }
+
+        Key key = new Key(project.getId(), project.getContentVersion(), variant);
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        return (T) generations.execute(key, () -> {
+            // 앞선 생성이 방금 끝나 저장했을 수 있음
+            Cache.ValueWrapper stored = cache.get(key);
+            if (stored != null) {
+                return stored.get();
+            }
+            T output = generator.get();
+            if (output != null) {
+                cache.put(key, output);
+            }
+            return output;
+        });
+    }
+
+    /**
+     * 캐시된 생성 결과만 조회 (없으면 생성하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> find(Project project, String variant) {
+        Cache cache = cacheManager.getCache(CacheConfig.SCHEMA_CACHE);
+        if (cache == null || project.getId() == null || project.getContentVersion() == null) {
+            return Optional.empty();
+        }
+        Cache.ValueWrapper cached = cache.get(new Key(project.getId(), project.getContentVersion(), variant));
+        return cached != null ? Optional.ofNullable((T) cached.get()) : Optional.empty();
+    }
+
+    /**
+     * 해당 버전의 생성 결과가 없거나 주어진 시간 안에 만료되는지 확인
+     */
+    public boolean expiresWithin(UUID projectId, long contentVersion, String variant, Duration window) {
+        Cache cache = cacheManager.getCache(CacheConfig.SCHEMA_CACHE);
+        return cache != null && CacheExpiry.expiresWithin(cache, new Key(projectId, contentVersion, variant), window);
+    }
+
+    /**
+     * 미리 생성한 결과 저장 (기존 항목을 새로 저장해 만료 시각을 늦춤)
+     */
+    public void put(Project project, String variant, Object output) {
+        Cache cache = cacheManager.getCache(CacheConfig.SCHEMA_CACHE);
+        if (cache == null || project.getId() == null || project.getContentVersion() == null || output == null) {
+            return;
+        }
+        cache.put(new Key(project.getId(), project.getContentVersion(), variant), output);
+    }
+
+    /**
+     * 생성 옵션의 안정적인 키 문자열 (같은 옵션이면 인스턴스가 달라도 같은 값)
+     */
+    public static String variantOf(SchemaGenerationOptions options) {
+        return "sql"
+            + ";drop=" + options.isIncludeDropStatements()
+            + ";exists=" + options.isIncludeExistenceChecks()
+            + ";comments=" + options.isIncludeComments()
+            + ";constraints=" + options.isIncludeConstraints()
+            + ";indexes=" + options.isIncludeIndexes()
+            + ";batch=" + options.isGenerateBatchScript()
+            + ";schema=" + options.getSchemaName()
+            + ";format=" + options.getOutputFormat();
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param projectId 프로젝트 ID
+     * @param contentVersion 프로젝트 집합 버전
+     * @param variant 생성 형식과 옵션
+     */
+    record Key(UUID projectId, long contentVersion, String variant) {
+    }
+}
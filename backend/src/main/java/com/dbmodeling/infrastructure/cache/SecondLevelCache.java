@@ -0,0 +1,115 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.infrastructure.persistence.entity.CacheRegions;
+import com.dbmodeling.infrastructure.persistence.entity.ColumnEntity;
+import com.dbmodeling.infrastructure.persistence.entity.IndexEntity;
+import com.dbmodeling.infrastructure.persistence.entity.ProjectEntity;
+import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 무효화와 영역별 통계
+ * content_version 증가와 JDBC 일괄 쓰기, 다른 인스턴스의 쓰기는 이 인스턴스의 Hibernate를 거치지 않으므로
+ * 모델 캐시와 같은 시점에 변경된 항목만 ID로 2차 캐시에서 제거합니다.
+ * 같은 인스턴스의 Hibernate 쓰기는 READ_WRITE 전략이 항목을 직접 갱신합니다.
+ */
+@Component
+public class SecondLevelCache {
+
+    private static final String PROJECT_TABLES_ROLE = ProjectEntity.class.getName() + ".tables";
+    private static final String TABLE_COLUMNS_ROLE = TableEntity.class.getName() + ".columns";
+    private static final String TABLE_INDEXES_ROLE = TableEntity.class.getName() + ".indexes";
+    private static final String INDEX_COLUMNS_ROLE = IndexEntity.class.getName() + ".columns";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 커밋된 변경 반영
+     * 프로젝트, 테이블, 컬럼, 인덱스와 그 하위 컬렉션은 ID로 제거합니다.
+     * 쿼리 결과는 ID로 찾을 수 없으므로 Hibernate 변경 시각 무효화와 같은 단위로, 바뀐 엔티티 종류의 영역만 비웁니다.
+     */
+    public void evict(ModelChanges changes) {
+        Cache cache = cache();
+        for (UUID projectId : changes.projectIds()) {
+            cache.evictEntityData(ProjectEntity.class, projectId);
+            cache.evictCollectionData(PROJECT_TABLES_ROLE, projectId);
+        }
+        for (UUID tableId : changes.tableIds()) {
+            cache.evictEntityData(TableEntity.class, tableId);
+            cache.evictCollectionData(TABLE_COLUMNS_ROLE, tableId);
+            cache.evictCollectionData(TABLE_INDEXES_ROLE, tableId);
+        }
+        for (UUID columnId : changes.columnIds()) {
+            cache.evictEntityData(ColumnEntity.class, columnId);
+        }
+        for (UUID indexId : changes.indexIds()) {
+            cache.evictEntityData(IndexEntity.class, indexId);
+            cache.evictCollectionData(INDEX_COLUMNS_ROLE, indexId);
+        }
+
+        if (!changes.createdProjectIds().isEmpty() || !changes.deletedProjectIds().isEmpty()) {
+            cache.evictQueryRegion(CacheRegions.PROJECT_QUERIES);
+        }
+        if (!changes.tableIds().isEmpty()) {
+            cache.evictQueryRegion(CacheRegions.TABLE_QUERIES);
+        }
+        if (!changes.columnIds().isEmpty()) {
+            cache.evictQueryRegion(CacheRegions.COLUMN_QUERIES);
+        }
+        if (!changes.indexIds().isEmpty()) {
+            cache.evictQueryRegion(CacheRegions.INDEX_QUERIES);
+        }
+    }
+
+    /**
+     * 모든 영역 제거 (놓친 변경이 있을 수 있을 때 사용)
+     */
+    public void evictAll() {
+        cache().evictAllRegions();
+    }
+
+    /**
+     * 영역별 적중/실패/저장 횟수와 메모리 내 항목 수 (통계가 꺼져 있으면 빈 맵)
+     */
+    public Map<String, Map<String, Long>> regionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Map<String, Long>> regions = new LinkedHashMap<>();
+        if (!statistics.isStatisticsEnabled()) {
+            return regions;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, toMap(regionStatistics));
+            }
+        }
+        return regions;
+    }
+
+    private static Map<String, Long> toMap(CacheRegionStatistics statistics) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("hits", statistics.getHitCount());
+        values.put("misses", statistics.getMissCount());
+        values.put("puts", statistics.getPutCount());
+        values.put("elementsInMemory", statistics.getElementCountInMemory());
+        return values;
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.NamingRules;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.service.TableResultMemo;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 테이블 단위 검증 결과 메모
+ * 테이블(컬럼, 인덱스 포함) 내용 해시와 네이밍 규칙 해시를 키로 사용하므로
+ * 한 테이블을 수정한 뒤 프로젝트를 다시 검증하면 바뀐 테이블만 규칙을 다시 실행합니다.
+ */
+@Component
+public class ValidationMemo implements TableResultMemo {
+
+    private final CacheManager cacheManager;
+
+    public ValidationMemo(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String ruleSet, Table table, NamingRules rules, Supplier<T> validator) {
+        Cache cache = cacheManager.getCache(CacheConfig.VALIDATION_CACHE);
+        if (cache == null) {
+            return validator.get();
+        }
+
+        Key key = new Key(ruleSet, hashOf(table), hashOf(rules));
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T result = validator.get();
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * 검증에 영향을 주는 테이블 내용의 해시 (생성/수정 시각과 위치는 제외)
+     */
+    static String hashOf(Table table) {
+        return ContentDigest.ofTable(table, false);
+    }
+
+    /**
+     * 네이밍 규칙의 해시 (규칙이 없으면 고정값)
+     */
+    static String hashOf(NamingRules rules) {
+        if (rules == null) {
+            return "none";
+        }
+        return new ContentDigest()
+            .add(rules.getTablePrefix()).add(rules.getTableSuffix()).add(rules.getTablePattern())
+            .add(rules.getColumnPattern()).add(rules.getIndexPattern()).add(rules.getEnforceCase())
+            .add(rules.isEnforceUpperCase()).add(rules.isRecommendAuditColumns()).add(rules.isRequireDescription())
+            .add(rules.isEnforceTableColumnNaming()).add(rules.isEnforceConstraintNaming())
+            .add(rules.getAbbreviationRules())
+            .hex();
+    }
+
+    /**
+     * 메모 키
+     *
+     * @param ruleSet 검증 종류
+     * @param tableHash 테이블 내용 해시
+     * @param rulesHash 네이밍 규칙 해시
+     */
+    record Key(String ruleSet, String tableHash, String rulesHash) {
+    }
+}
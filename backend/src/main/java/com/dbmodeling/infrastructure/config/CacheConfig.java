@@ -1,18 +1,28 @@
 package com.dbmodeling.infrastructure.config;
 
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.service.SchemaExportService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
-import java.time.Duration;
+import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * 캐싱 설정
+ * 캐시 영역별로 크기(또는 가중치) 상한과 TTL을 둔 Caffeine 캐시를 사용합니다.
  */
 @Configuration
 @EnableCaching
@@ -22,23 +32,57 @@ public class CacheConfig {
     public static final String TABLE_CACHE = "tables";
     public static final String VALIDATION_CACHE = "validation";
     public static final String SCHEMA_CACHE = "schema";
+    public static final String MISSING_PROJECT_CACHE = "missingProjects";
+    public static final String DDL_FRAGMENT_CACHE = "ddlFragments";
+
+    private static final String DEFAULT_MISSING_PROJECT_SPEC = "maximumSize=10000,expireAfterWrite=30s";
+    private static final String DEFAULT_DDL_FRAGMENT_SPEC = "maximumWeight=16777216,expireAfterAccess=30m";
+
+    private final String projectCacheSpec;
+    private final String tableCacheSpec;
+    private final String validationCacheSpec;
+    private final String schemaCacheSpec;
+    private final String missingProjectCacheSpec;
+    private final String ddlFragmentCacheSpec;
+
+    public CacheConfig(String projectCacheSpec, String tableCacheSpec,
+                       String validationCacheSpec, String schemaCacheSpec) {
+        this(projectCacheSpec, tableCacheSpec, validationCacheSpec, schemaCacheSpec,
+            DEFAULT_MISSING_PROJECT_SPEC, DEFAULT_DDL_FRAGMENT_SPEC);
+    }
+
+    @Autowired
+    public CacheConfig(
+            @Value("${app.cache.specs.projects:maximumWeight=50000,expireAfterWrite=30m}") String projectCacheSpec,
+            @Value("${app.cache.specs.tables:maximumSize=2000,expireAfterWrite=30m}") String tableCacheSpec,
+            @Value("${app.cache.specs.validation:maximumSize=10000,expireAfterWrite=10m}") String validationCacheSpec,
+            @Value("${app.cache.specs.schema:maximumWeight=33554432,expireAfterWrite=10m}") String schemaCacheSpec,
+            @Value("${app.cache.specs.missing-projects:" + DEFAULT_MISSING_PROJECT_SPEC + "}") String missingProjectCacheSpec,
+            @Value("${app.cache.specs.ddl-fragments:" + DEFAULT_DDL_FRAGMENT_SPEC + "}") String ddlFragmentCacheSpec) {
+        this.projectCacheSpec = projectCacheSpec;
+        this.tableCacheSpec = tableCacheSpec;
+        this.validationCacheSpec = validationCacheSpec;
+        this.schemaCacheSpec = schemaCacheSpec;
+        this.missingProjectCacheSpec = missingProjectCacheSpec;
+        this.ddlFragmentCacheSpec = ddlFragmentCacheSpec;
+    }
 
     /**
      * 기본 캐시 매니저 설정
      */
     @Bean
     @Primary
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
-            PROJECT_CACHE,
-            TABLE_CACHE,
-            VALIDATION_CACHE,
-            SCHEMA_CACHE
-        );
-        
-        // 캐시 설정 커스터마이징
+    public CacheManager cacheManager(CacheStatsManager cacheStatsManager) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setAllowNullValues(false);
-        
+
+        registerCache(cacheManager, cacheStatsManager, PROJECT_CACHE, projectCacheSpec);
+        registerCache(cacheManager, cacheStatsManager, TABLE_CACHE, tableCacheSpec);
+        registerCache(cacheManager, cacheStatsManager, VALIDATION_CACHE, validationCacheSpec);
+        registerCache(cacheManager, cacheStatsManager, SCHEMA_CACHE, schemaCacheSpec);
+        registerCache(cacheManager, cacheStatsManager, MISSING_PROJECT_CACHE, missingProjectCacheSpec);
+        registerCache(cacheManager, cacheStatsManager, DDL_FRAGMENT_CACHE, ddlFragmentCacheSpec);
+
         return cacheManager;
     }
 
@@ -50,6 +94,93 @@ public class CacheConfig {
         return new CacheStatsManager();
     }
 
+    /**
+     * 명세 문자열로 캐시 영역 등록 (maximumWeight 사용 시 그래프 크기 또는 생성 결과 길이 기준 가중치 적용)
+     */
+    static void registerCache(CaffeineCacheManager cacheManager, CacheStatsManager cacheStatsManager,
+                              String cacheName, String spec) {
+        CaffeineSpec caffeineSpec = CaffeineSpec.parse(spec);
+        Caffeine<Object, Object> builder = Caffeine.from(caffeineSpec)
+            .recordStats(() -> new CacheStatsCounter(cacheName, cacheStatsManager));
+        if (spec.contains("maximumWeight")) {
+            builder.weigher((key, value) -> weightOf(value));
+        }
+        cacheManager.registerCustomCache(cacheName, builder.build());
+    }
+
+    /**
+     * 캐시 값의 대략적인 크기 (프로젝트는 테이블, 컬럼, 인덱스 수, 생성 결과는 문자 수 기준)
+     */
+    static int weightOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Project project) {
+            return 1 + weightOf(project.getTables());
+        }
+        if (value instanceof Table table) {
+            return 1 + weightOf(table.getColumns()) + weightOf(table.getIndexes());
+        }
+        if (value instanceof CharSequence text) {
+            return Math.max(1, text.length());
+        }
+        if (value instanceof SchemaExportService.ExportResult result) {
+            return 1 + weightOf(result.getContent());
+        }
+        if (value instanceof Collection<?> collection) {
+            int weight = 1;
+            for (Object element : collection) {
+                weight += element instanceof Project || element instanceof Table ? weightOf(element) : 1;
+            }
+            return weight;
+        }
+        return 1;
+    }
+
+    /**
+     * Caffeine 통계를 CacheStatsManager로 전달하는 카운터
+     */
+    static class CacheStatsCounter implements StatsCounter {
+        private final String cacheName;
+        private final CacheStatsManager cacheStatsManager;
+
+        CacheStatsCounter(String cacheName, CacheStatsManager cacheStatsManager) {
+            this.cacheName = cacheName;
+            this.cacheStatsManager = cacheStatsManager;
+        }
+
+        @Override
+        public void recordHits(int count) {
+            cacheStatsManager.recordHits(cacheName, count);
+        }
+
+        @Override
+        public void recordMisses(int count) {
+            cacheStatsManager.recordMisses(cacheName, count);
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+            // @Cacheable은 캐시 밖에서 값을 계산하므로 로드 통계는 사용하지 않음
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            cacheStatsManager.recordEviction(cacheName, weight);
+        }
+
+        @Override
+        public com.github.benmanes.caffeine.cache.stats.CacheStats snapshot() {
+            CacheStats stats = cacheStatsManager.getStats(cacheName);
+            return com.github.benmanes.caffeine.cache.stats.CacheStats.of(
+                stats.getHits(), stats.getMisses(), 0, 0, 0, stats.getEvictions(), stats.getEvictionWeight());
+        }
+    }
+
     /**
      * 캐시 통계 관리 클래스
      */
@@ -57,11 +188,23 @@ public class CacheConfig {
         private final ConcurrentMap<String, CacheStats> stats = new ConcurrentHashMap<>();
 
         public void recordHit(String cacheName) {
-            stats.computeIfAbsent(cacheName, k -> new CacheStats()).incrementHit();
+            recordHits(cacheName, 1);
         }
 
         public void recordMiss(String cacheName) {
-            stats.computeIfAbsent(cacheName, k -> new CacheStats()).incrementMiss();
+            recordMisses(cacheName, 1);
+        }
+
+        public void recordHits(String cacheName, int count) {
+            stats.computeIfAbsent(cacheName, k -> new CacheStats()).incrementHit(count);
+        }
+
+        public void recordMisses(String cacheName, int count) {
+            stats.computeIfAbsent(cacheName, k -> new CacheStats()).incrementMiss(count);
+        }
+
+        public void recordEviction(String cacheName, int weight) {
+            stats.computeIfAbsent(cacheName, k -> new CacheStats()).incrementEviction(weight);
         }
 
         public CacheStats getStats(String cacheName) {
@@ -83,25 +226,42 @@ public class CacheConfig {
     public static class CacheStats {
         private long hits = 0;
         private long misses = 0;
+        private long evictions = 0;
+        private long evictionWeight = 0;
         private long lastAccessTime = System.currentTimeMillis();
 
-        public synchronized void incrementHit() {
-            hits++;
+        public void incrementHit() {
+            incrementHit(1);
+        }
+
+        public void incrementMiss() {
+            incrementMiss(1);
+        }
+
+        public synchronized void incrementHit(int count) {
+            hits += count;
             lastAccessTime = System.currentTimeMillis();
         }
 
-        public synchronized void incrementMiss() {
-            misses++;
+        public synchronized void incrementMiss(int count) {
+            misses += count;
             lastAccessTime = System.currentTimeMillis();
         }
 
-        public long getHits() { return hits; }
-        public long getMisses() { return misses; }
-        public long getTotal() { return hits + misses; }
-        public double getHitRate() { 
+        public synchronized void incrementEviction(int weight) {
+            evictions++;
+            evictionWeight += weight;
+        }
+
+        public synchronized long getHits() { return hits; }
+        public synchronized long getMisses() { return misses; }
+        public synchronized long getEvictions() { return evictions; }
+        public synchronized long getEvictionWeight() { return evictionWeight; }
+        public synchronized long getTotal() { return hits + misses; }
+        public synchronized double getHitRate() {
             long total = getTotal();
-            return total == 0 ? 0.0 : (double) hits / total; 
+            return total == 0 ? 0.0 : (double) hits / total;
         }
-        public long getLastAccessTime() { return lastAccessTime; }
+        public synchronized long getLastAccessTime() { return lastAccessTime; }
     }
-}
\ No newline at end of file
+}
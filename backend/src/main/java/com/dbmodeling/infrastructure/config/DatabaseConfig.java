@@ -1,5 +1,6 @@
 package com.dbmodeling.infrastructure.config;
 
+import com.dbmodeling.infrastructure.persistence.datasource.ReadWriteRoutingDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +14,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
  * 데이터베이스 설정
@@ -24,6 +26,25 @@ import javax.sql.DataSource;
 @EnableTransactionManagement
 public class DatabaseConfig {
     
+    private final String replicaUrl;
+    private final String replicaUsername;
+    private final String replicaPassword;
+    private final int replicaMaxPoolSize;
+    private final Duration replicaRetryAfter;
+    
+    public DatabaseConfig(
+            @Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.username:}") String replicaUsername,
+            @Value("${app.datasource.replica.password:}") String replicaPassword,
+            @Value("${app.datasource.replica.maximum-pool-size:0}") int replicaMaxPoolSize,
+            @Value("${app.datasource.replica.retry-after:30s}") Duration replicaRetryAfter) {
+        this.replicaUrl = replicaUrl;
+        this.replicaUsername = replicaUsername;
+        this.replicaPassword = replicaPassword;
+        this.replicaMaxPoolSize = replicaMaxPoolSize;
+        this.replicaRetryAfter = replicaRetryAfter;
+    }
+    
     /**
      * 개발 환경용 데이터소스 설정
      */
@@ -58,19 +79,13 @@ public class DatabaseConfig {
         // 풀 이름 설정
         config.setPoolName("DBModeling-Dev-Pool");
         
-        // 추가 설정
-        config.addDataSourceProperty("cachePrepStmts", "true");
-        config.addDataSourceProperty("prepStmtCacheSize", "250");
-        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-        config.addDataSourceProperty("useServerPrepStmts", "true");
-        config.addDataSourceProperty("useLocalSessionState", "true");
-        config.addDataSourceProperty("rewriteBatchedStatements", "true");
-        config.addDataSourceProperty("cacheResultSetMetadata", "true");
-        config.addDataSourceProperty("cacheServerConfiguration", "true");
-        config.addDataSourceProperty("elideSetAutoCommits", "true");
-        config.addDataSourceProperty("maintainTimeStats", "false");
-        
-        return new HikariDataSource(config);
+        // PostgreSQL 드라이버 설정
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        config.addDataSourceProperty("prepareThreshold", "5");
+        config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB", "5");
+        
+        return createDataSource(config);
     }
     
     /**
@@ -104,11 +119,10 @@ public class DatabaseConfig {
         // 풀 이름 설정
         config.setPoolName("DBModeling-Test-Pool");
         
-        // 테스트용 간소화 설정
-        config.addDataSourceProperty("cachePrepStmts", "false");
-        config.addDataSourceProperty("useServerPrepStmts", "false");
+        // 테스트용 간소화 설정 (서버 측 prepared statement 비활성화)
+        config.addDataSourceProperty("prepareThreshold", "0");
         
-        return new HikariDataSource(config);
+        return createDataSource(config);
     }
     
     /**
@@ -145,22 +159,44 @@ public class DatabaseConfig {
         // 풀 이름 설정
         config.setPoolName("DBModeling-Prod-Pool");
         
-        // 프로덕션 최적화 설정
-        config.addDataSourceProperty("cachePrepStmts", "true");
-        config.addDataSourceProperty("prepStmtCacheSize", "500");
-        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-        config.addDataSourceProperty("useServerPrepStmts", "true");
-        config.addDataSourceProperty("useLocalSessionState", "true");
-        config.addDataSourceProperty("rewriteBatchedStatements", "true");
-        config.addDataSourceProperty("cacheResultSetMetadata", "true");
-        config.addDataSourceProperty("cacheServerConfiguration", "true");
-        config.addDataSourceProperty("elideSetAutoCommits", "true");
-        config.addDataSourceProperty("maintainTimeStats", "false");
+        // PostgreSQL 드라이버 최적화 설정
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        config.addDataSourceProperty("prepareThreshold", "5");
+        config.addDataSourceProperty("preparedStatementCacheQueries", "512");
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB", "10");
         
         // SSL 설정 (프로덕션 환경)
         config.addDataSourceProperty("sslmode", "require");
         config.addDataSourceProperty("ssl", "true");
         
-        return new HikariDataSource(config);
+        return createDataSource(config);
+    }
+    
+    /**
+     * 주 풀 생성 (읽기 복제본이 설정되면 readOnly 트랜잭션을 복제본으로 라우팅)
+     */
+    private DataSource createDataSource(HikariConfig config) {
+        if (replicaUrl == null || replicaUrl.isBlank()) {
+            return new HikariDataSource(config);
+        }
+        
+        // 복제본 풀은 주 풀 설정(드라이버 속성 포함)을 복사한 뒤 접속 정보만 교체
+        HikariConfig replicaConfig = new HikariConfig();
+        config.copyStateTo(replicaConfig);
+        replicaConfig.setJdbcUrl(replicaUrl);
+        if (!replicaUsername.isBlank()) {
+            replicaConfig.setUsername(replicaUsername);
+            replicaConfig.setPassword(replicaPassword);
+        }
+        if (replicaMaxPoolSize > 0) {
+            replicaConfig.setMaximumPoolSize(replicaMaxPoolSize);
+        }
+        replicaConfig.setPoolName(config.getPoolName() + "-Replica");
+        replicaConfig.setReadOnly(true);
+        // 복제본이 내려가 있어도 애플리케이션은 기동
+        replicaConfig.setInitializationFailTimeout(-1);
+        
+        return new ReadWriteRoutingDataSource(
+            new HikariDataSource(config), new HikariDataSource(replicaConfig), replicaRetryAfter);
     }
-}
\ No newline at end of file
+}
@@ -33,17 +33,12 @@ public class DatabaseOptimizationConfig {
         properties.setProperty("hibernate.query.plan_cache_max_size", "2048");
         properties.setProperty("hibernate.query.plan_parameter_metadata_max_size", "128");
         
-        // 2차 캐시 설정 (필요시)
-        properties.setProperty("hibernate.cache.use_second_level_cache", "true");
-        properties.setProperty("hibernate.cache.use_query_cache", "true");
-        properties.setProperty("hibernate.cache.region.factory_class", 
-            "org.hibernate.cache.jcache.JCacheRegionFactory");
+        // 2차 캐시와 통계는 application.yml의 spring.jpa.properties에서 환경별로 설정
         
         // 연결 풀 최적화
         properties.setProperty("hibernate.connection.provider_disables_autocommit", "true");
         
-        // 통계 및 모니터링 (개발 환경에서만)
-        properties.setProperty("hibernate.generate_statistics", "true");
+        // 느린 쿼리 로그
         properties.setProperty("hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS", "100");
         
         return properties;
@@ -0,0 +1,101 @@
+package com.dbmodeling.infrastructure.config;
+
+import com.dbmodeling.infrastructure.persistence.entity.CacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정
+ * JCache(Caffeine) 캐시 매니저에 엔티티 종류별로 크기를 지정한 영역을 미리 만들어 Hibernate에 넘깁니다.
+ * 컬렉션 영역은 소유 엔티티와 같은 크기를, 쿼리 결과 영역은 쿼리 크기를 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class HibernateCacheConfig {
+
+    private final Duration timeToLive;
+    private final long projectSize;
+    private final long tableSize;
+    private final long columnSize;
+    private final long indexSize;
+    private final long querySize;
+
+    public HibernateCacheConfig(
+            @Value("${app.cache.second-level.ttl:30m}") Duration timeToLive,
+            @Value("${app.cache.second-level.sizes.project:1000}") long projectSize,
+            @Value("${app.cache.second-level.sizes.table:10000}") long tableSize,
+            @Value("${app.cache.second-level.sizes.column:100000}") long columnSize,
+            @Value("${app.cache.second-level.sizes.index:20000}") long indexSize,
+            @Value("${app.cache.second-level.sizes.query:5000}") long querySize) {
+        this.timeToLive = timeToLive;
+        this.projectSize = projectSize;
+        this.tableSize = tableSize;
+        this.columnSize = columnSize;
+        this.indexSize = indexSize;
+        this.querySize = querySize;
+    }
+
+    /**
+     * 2차 캐시 영역을 담는 JCache 캐시 매니저
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        createRegion(cacheManager, CacheRegions.PROJECT, projectSize, timeToLive);
+        createRegion(cacheManager, CacheRegions.PROJECT_TABLES, projectSize, timeToLive);
+        createRegion(cacheManager, CacheRegions.TABLE, tableSize, timeToLive);
+        createRegion(cacheManager, CacheRegions.TABLE_COLUMNS, tableSize, timeToLive);
+        createRegion(cacheManager, CacheRegions.TABLE_INDEXES, tableSize, timeToLive);
+        createRegion(cacheManager, CacheRegions.COLUMN, columnSize, timeToLive);
+        createRegion(cacheManager, CacheRegions.INDEX, indexSize, timeToLive);
+        createRegion(cacheManager, CacheRegions.INDEX_COLUMNS, indexSize, timeToLive);
+
+        createRegion(cacheManager, CacheRegions.PROJECT_QUERIES, querySize, timeToLive);
+        createRegion(cacheManager, CacheRegions.TABLE_QUERIES, querySize, timeToLive);
+        createRegion(cacheManager, CacheRegions.COLUMN_QUERIES, querySize, timeToLive);
+        createRegion(cacheManager, CacheRegions.INDEX_QUERIES, querySize, timeToLive);
+        createRegion(cacheManager, CacheRegions.DEFAULT_QUERIES, querySize, timeToLive);
+
+        // 테이블별 마지막 변경 시각이므로 만료되면 오래된 쿼리 결과가 유효해 보일 수 있음
+        createRegion(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, querySize, null);
+
+        return cacheManager;
+    }
+
+    /**
+     * 미리 만든 캐시 매니저를 Hibernate JCache 영역 팩토리에 전달
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maximumSize, Duration timeToLive) {
+        // 같은 클래스 로더에서 컨텍스트를 다시 띄운 경우 이전 영역 제거
+        if (cacheManager.getCache(region) != null) {
+            cacheManager.destroyCache(region);
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (timeToLive != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dbmodeling.infrastructure.config;
+
+import com.dbmodeling.infrastructure.persistence.access.ProjectAccessStatsStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 프로젝트 단위 요청의 접근 기록
+ * 경로 변수 projectId(또는 /api/projects/{id})가 있는 성공한 요청만 세며, 캐시 예열 대상 선정에 사용됩니다.
+ */
+@Component
+public class ProjectAccessInterceptor implements HandlerInterceptor {
+
+    private static final String PROJECTS_PATH_PREFIX = "/api/projects/";
+
+    private final ProjectAccessStatsStore accessStatsStore;
+
+    public ProjectAccessInterceptor(ProjectAccessStatsStore accessStatsStore) {
+        this.accessStatsStore = accessStatsStore;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (ex != null || response.getStatus() >= 400) {
+            return;
+        }
+
+        UUID projectId = projectIdOf(request);
+        if (projectId != null) {
+            accessStatsStore.record(projectId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UUID projectIdOf(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(attribute instanceof Map<?, ?>)) {
+            return null;
+        }
+
+        Map<String, String> variables = (Map<String, String>) attribute;
+        String value = variables.get("projectId");
+        if (value == null && request.getRequestURI().startsWith(PROJECTS_PATH_PREFIX)) {
+            value = variables.get("id");
+        }
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
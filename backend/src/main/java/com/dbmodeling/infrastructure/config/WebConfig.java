@@ -3,9 +3,11 @@ package com.dbmodeling.infrastructure.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.Arrays;
@@ -33,6 +35,21 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.cors.max-age:3600}")
     private long maxAge;
     
+    private final ProjectAccessInterceptor projectAccessInterceptor;
+    
+    public WebConfig(ProjectAccessInterceptor projectAccessInterceptor) {
+        this.projectAccessInterceptor = projectAccessInterceptor;
+    }
+    
+    /**
+     * 프로젝트 접근 기록 (캐시 예열 대상 선정용)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(projectAccessInterceptor)
+            .addPathPatterns("/api/projects/**");
+    }
+    
     /**
      * CORS 필터 설정
      */
@@ -55,7 +72,10 @@ public class WebConfig implements WebMvcConfigurer {
             List<String> headers = Arrays.asList(allowedHeaders.split(","));
             headers.forEach(header -> config.addAllowedHeader(header.trim()));
         }
-        
+
+        // 조건부 요청(If-None-Match, If-Match)에 쓰도록 ETag 노출
+        config.addExposedHeader(HttpHeaders.ETAG);
+
         // 자격 증명 허용 설정
         config.setAllowCredentials(allowCredentials);
         
@@ -0,0 +1,112 @@
+package com.dbmodeling.infrastructure.persistence.access;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로젝트 접근 통계 저장소
+ * 요청마다 메모리에서 횟수만 세고 주기적으로 project_access_stats에 합산하므로 조회 경로에 쓰기가 생기지 않습니다.
+ * 점수는 반감기마다 절반으로 줄어드는 접근 횟수라 최근성과 빈도를 함께 반영합니다.
+ */
+@Component
+public class ProjectAccessStatsStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectAccessStatsStore.class);
+
+    // 삭제된 프로젝트는 건너뛰도록 projects에서 선택 (외래 키 위반으로 배치 전체가 실패하지 않음)
+    private static final String UPSERT_ACCESS =
+        "INSERT INTO project_access_stats (project_id, access_count, score, last_accessed_at, half_life_seconds) " +
+        "SELECT p.id, ?, ?, ?, ? FROM projects p WHERE p.id = ? " +
+        "ON CONFLICT (project_id) DO UPDATE SET " +
+        "access_count = project_access_stats.access_count + EXCLUDED.access_count, " +
+        "score = project_access_stats.score * power(0.5, GREATEST(0, EXTRACT(EPOCH FROM " +
+        "(EXCLUDED.last_accessed_at - project_access_stats.last_accessed_at))) / EXCLUDED.half_life_seconds) " +
+        "+ EXCLUDED.score, " +
+        "last_accessed_at = GREATEST(project_access_stats.last_accessed_at, EXCLUDED.last_accessed_at), " +
+        "half_life_seconds = EXCLUDED.half_life_seconds";
+    // hot_until(점수가 1로 줄어드는 시각) 순서는 현재 점수 순서와 같으므로 인덱스 순서대로 상위 N개만 읽음
+    private static final String SELECT_HOTTEST =
+        "SELECT project_id FROM project_access_stats ORDER BY hot_until DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration halfLife;
+    private final ConcurrentMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ProjectAccessStatsStore(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.cache.warmup.half-life:1d}") Duration halfLife) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.halfLife = halfLife;
+    }
+
+    /**
+     * 프로젝트 접근 기록 (메모리에만 누적)
+     */
+    public void record(UUID projectId) {
+        pending.computeIfAbsent(projectId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 접근 횟수를 한 번의 배치로 합산 (실패하면 횟수를 되돌려 다음 주기에 재시도)
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        Timestamp now = Timestamp.from(Instant.now());
+        for (Map.Entry<UUID, LongAdder> entry : pending.entrySet()) {
+            // 합산 도중 들어온 접근은 다음 주기로 넘어감
+            long count = entry.getValue().sumThenReset();
+            if (count == 0) {
+                pending.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            batch.add(new Object[] {count, (double) count, now, halfLifeSeconds(), entry.getKey()});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_ACCESS, batch);
+        } catch (DataAccessException e) {
+            // 꺼낸 횟수를 되돌려 다음 주기에 다시 합산
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((UUID) row[4], id -> new LongAdder()).add((long) row[0]);
+            }
+            logger.warn("프로젝트 접근 통계 저장 실패, 다음 주기에 재시도: {}건 - {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 시점 점수가 높은 순으로 프로젝트 ID 조회
+     */
+    public List<UUID> findHottest(int limit) {
+        try {
+            return jdbcTemplate.queryForList(SELECT_HOTTEST, UUID.class, limit);
+        } catch (DataAccessException e) {
+            logger.warn("프로젝트 접근 통계 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private double halfLifeSeconds() {
+        return Math.max(1, halfLife.toSeconds());
+    }
+}
@@ -0,0 +1,292 @@
+package com.dbmodeling.infrastructure.persistence.bulk;
+
+import com.dbmodeling.application.port.out.BulkWritePort;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.ColumnOrder;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.infrastructure.persistence.mapper.IndexMapper;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC 기반 대량 쓰기 어댑터
+ * 다중 행 INSERT와 JDBC 배치 UPDATE로 JPA 병합/조회 왕복을 생략
+ */
+@Component
+@Transactional
+public class JdbcBulkWriteAdapter implements BulkWritePort {
+    
+    private static final Logger logger = LoggerFactory.getLogger(JdbcBulkWriteAdapter.class);
+    
+    /**
+     * 한 INSERT 문에 담는 최대 행 수 (PostgreSQL 바인드 파라미터 한도 32767 이내)
+     */
+    static final int ROWS_PER_STATEMENT = 500;
+    
+    private static final String COLUMN_INSERT_PREFIX =
+        "INSERT INTO columns (id, table_id, name, description, data_type, max_length, precision_value, " +
+        "scale_value, is_nullable, is_primary_key, is_identity, identity_seed, identity_increment, " +
+        "default_value, sort_key, created_at, updated_at, version) VALUES ";
+    private static final String COLUMN_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    
+    /**
+     * 읽은 시점의 버전과 같을 때만 수정하고 버전을 올림 (JPA @Version과 같은 낙관적 잠금)
+     */
+    private static final String COLUMN_UPDATE =
+        "UPDATE columns SET name = ?, description = ?, data_type = ?, max_length = ?, precision_value = ?, " +
+        "scale_value = ?, is_nullable = ?, is_primary_key = ?, is_identity = ?, identity_seed = ?, " +
+        "identity_increment = ?, default_value = ?, sort_key = ?, updated_at = ?, " +
+        "version = version + 1 WHERE id = ? AND version = ?";
+    
+    private static final String INDEX_INSERT_PREFIX =
+        "INSERT INTO indexes (id, table_id, name, type, is_unique, created_at, updated_at) VALUES ";
+    private static final String INDEX_VALUES = "(?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String INDEX_COLUMN_INSERT_PREFIX =
+        "INSERT INTO index_columns (index_id, position, column_id, sort_order) VALUES ";
+    private static final String INDEX_COLUMN_VALUES = "(?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final IndexMapper indexMapper;
+    private final ProjectChangeTracker changeTracker;
+    
+    public JdbcBulkWriteAdapter(JdbcTemplate jdbcTemplate, IndexMapper indexMapper,
+                                ProjectChangeTracker changeTracker) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.indexMapper = indexMapper;
+        this.changeTracker = changeTracker;
+    }
+    
+    @Override
+    public BulkWriteResult insertColumns(UUID tableId, List<Column> columns) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        
+        for (Column column : columns) {
+            column.setId(UUID.randomUUID());
+            column.setTableId(tableId);
+            column.setCreatedAt(now);
+            column.setUpdatedAt(now);
+            column.setVersion(0L);
+        }
+        
+        for (List<Column> chunk : chunks(columns)) {
+            List<Object> params = new ArrayList<>(chunk.size() * 17);
+            for (Column column : chunk) {
+                params.add(column.getId());
+                params.add(tableId);
+                params.add(column.getName());
+                params.add(column.getDescription());
+                params.add(dataTypeName(column.getDataType()));
+                params.add(column.getMaxLength());
+                params.add(column.getPrecision());
+                params.add(column.getScale());
+                params.add(column.isNullable());
+                params.add(column.isPrimaryKey());
+                params.add(column.isIdentity());
+                params.add(column.getIdentitySeed());
+                params.add(column.getIdentityIncrement());
+                params.add(column.getDefaultValue());
+                params.add(ColumnOrder.keyOf(column));
+                params.add(Timestamp.valueOf(now));
+                params.add(Timestamp.valueOf(now));
+            }
+            jdbcTemplate.update(multiRowInsert(COLUMN_INSERT_PREFIX, COLUMN_VALUES, chunk.size()), params.toArray());
+        }
+        
+        touchTables(List.of(tableId), now);
+        markColumns(columns);
+        return report("insertColumns", columns.size(), start);
+    }
+    
+    @Override
+    public BulkWriteResult updateColumns(List<Column> columns) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<Object[]> batchArgs = new ArrayList<>(columns.size());
+        Set<UUID> tableIds = new LinkedHashSet<>();
+        for (Column column : columns) {
+            if (column.getVersion() == null) {
+                throw new IllegalArgumentException("버전이 없는 컬럼은 일괄 수정할 수 없습니다: " + column.getId());
+            }
+            if (column.getTableId() != null) {
+                tableIds.add(column.getTableId());
+            }
+            batchArgs.add(new Object[] {
+                column.getName(),
+                column.getDescription(),
+                dataTypeName(column.getDataType()),
+                column.getMaxLength(),
+                column.getPrecision(),
+                column.getScale(),
+                column.isNullable(),
+                column.isPrimaryKey(),
+                column.isIdentity(),
+                column.getIdentitySeed(),
+                column.getIdentityIncrement(),
+                column.getDefaultValue(),
+                ColumnOrder.keyOf(column),
+                Timestamp.valueOf(now),
+                column.getId(),
+                column.getVersion()
+            });
+        }
+        
+        int[][] results = jdbcTemplate.batchUpdate(COLUMN_UPDATE, batchArgs, ROWS_PER_STATEMENT,
+            (ps, args) -> {
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+            });
+        
+        // 수정된 행이 없으면 그 사이 다른 세션이 수정했거나 삭제한 것이므로 JPA 병합과 동일하게 낙관적 잠금 실패로 처리
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count == 0) {
+                    throw new OptimisticLockingFailureException(
+                        "다른 사용자에 의해 수정되었거나 삭제된 컬럼입니다: " + columns.get(index).getId());
+                }
+                if (count != Statement.SUCCESS_NO_INFO && count < 0) {
+                    throw new IllegalStateException("컬럼 일괄 수정에 실패했습니다: " + columns.get(index).getId());
+                }
+                index++;
+            }
+        }
+        
+        for (Column column : columns) {
+            column.setVersion(column.getVersion() + 1);
+            column.setUpdatedAt(now);
+        }
+        
+        touchTables(tableIds, now);
+        markColumns(columns);
+        return report("updateColumns", columns.size(), start);
+    }
+    
+    @Override
+    public BulkWriteResult insertIndexes(UUID tableId, List<Index> indexes) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        
+        for (Index index : indexes) {
+            index.setId(UUID.randomUUID());
+            index.setTableId(tableId);
+            index.setCreatedAt(now);
+            index.setUpdatedAt(now);
+        }
+        
+        for (List<Index> chunk : chunks(indexes)) {
+            List<Object> params = new ArrayList<>(chunk.size() * 7);
+            for (Index index : chunk) {
+                params.add(index.getId());
+                params.add(tableId);
+                params.add(index.getName());
+                params.add(index.getType() != null ? index.getType().name() : Index.IndexType.NONCLUSTERED.name());
+                params.add(index.isUnique());
+                params.add(Timestamp.valueOf(now));
+                params.add(Timestamp.valueOf(now));
+            }
+            jdbcTemplate.update(multiRowInsert(INDEX_INSERT_PREFIX, INDEX_VALUES, chunk.size()), params.toArray());
+        }
+        
+        List<Object[]> indexColumnRows = new ArrayList<>();
+        for (Index index : indexes) {
+            List<Index.IndexColumn> columns = index.getColumns() != null ? index.getColumns() : List.of();
+            for (int position = 0; position < columns.size(); position++) {
+                Index.IndexColumn column = columns.get(position);
+                indexColumnRows.add(new Object[] {
+                    index.getId(), position, column.getColumnId(), indexMapper.serializeSortOrder(column.getOrder())
+                });
+            }
+        }
+        for (List<Object[]> chunk : chunks(indexColumnRows)) {
+            List<Object> params = new ArrayList<>(chunk.size() * 4);
+            for (Object[] row : chunk) {
+                Collections.addAll(params, row);
+            }
+            jdbcTemplate.update(
+                multiRowInsert(INDEX_COLUMN_INSERT_PREFIX, INDEX_COLUMN_VALUES, chunk.size()), params.toArray());
+        }
+        
+        touchTables(List.of(tableId), now);
+        for (Index index : indexes) {
+            changeTracker.markIndex(tableId, index.getId());
+        }
+        return report("insertIndexes", indexes.size(), start);
+    }
+    
+    /**
+     * Hibernate를 거치지 않고 쓴 컬럼을 커밋 후 2차 캐시에서 ID로 제거하도록 기록
+     */
+    private void markColumns(List<Column> columns) {
+        for (Column column : columns) {
+            changeTracker.markColumn(column.getTableId(), column.getId());
+        }
+    }
+    
+    /**
+     * 소유 테이블의 버전을 올려 동시에 편집 중인 JPA 세션이 낙관적 잠금으로 충돌을 감지하도록 함
+     */
+    private void touchTables(Collection<UUID> tableIds, LocalDateTime now) {
+        if (tableIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(tableIds.size());
+        for (UUID tableId : tableIds) {
+            batchArgs.add(new Object[] { Timestamp.valueOf(now), tableId });
+            changeTracker.markTable(tableId);
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE tables SET version = COALESCE(version, 0) + 1, updated_at = ? WHERE id = ?", batchArgs);
+    }
+    
+    private BulkWriteResult report(String operation, int rowCount, long startNanos) {
+        BulkWriteResult result = new BulkWriteResult(rowCount, System.nanoTime() - startNanos);
+        logger.info("대량 쓰기 완료: {} - {}건, {}ms, {}건/초",
+            operation, rowCount, result.elapsedNanos() / 1_000_000, Math.round(result.rowsPerSecond()));
+        return result;
+    }
+    
+    private static String multiRowInsert(String prefix, String values, int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (values.length() + 2));
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(values);
+        }
+        return sql.toString();
+    }
+    
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += ROWS_PER_STATEMENT) {
+            chunks.add(items.subList(from, Math.min(from + ROWS_PER_STATEMENT, items.size())));
+        }
+        return chunks;
+    }
+    
+    private static String dataTypeName(MSSQLDataType dataType) {
+        return dataType != null ? dataType.name() : MSSQLDataType.NVARCHAR.name();
+    }
+}
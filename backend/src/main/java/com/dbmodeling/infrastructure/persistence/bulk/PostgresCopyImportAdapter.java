@@ -0,0 +1,226 @@
+package com.dbmodeling.infrastructure.persistence.bulk;
+
+import com.dbmodeling.application.port.out.ProjectImportPort;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.ColumnOrder;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * PostgreSQL COPY 기반 프로젝트 가져오기 어댑터
+ * 트랜잭션 범위 임시 스테이징 테이블에 COPY로 적재한 뒤 INSERT ... SELECT로 병합
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class PostgresCopyImportAdapter implements ProjectImportPort {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCopyImportAdapter.class);
+    
+    /**
+     * 스테이징 버퍼를 COPY로 내보내는 기준 크기 (문자 수)
+     */
+    static final int FLUSH_THRESHOLD_CHARS = 1 << 20;
+    
+    static final String CREATE_STAGING_TABLES =
+        "CREATE TEMP TABLE import_tables (id UUID, name VARCHAR(255), description TEXT, " +
+        "position_x INTEGER, position_y INTEGER) ON COMMIT DROP; " +
+        "CREATE TEMP TABLE import_columns (id UUID, table_id UUID, name VARCHAR(255), description TEXT, " +
+        "data_type VARCHAR(100), max_length INTEGER, precision_value INTEGER, scale_value INTEGER, " +
+        "is_nullable BOOLEAN, is_primary_key BOOLEAN, is_identity BOOLEAN, identity_seed INTEGER, " +
+        "identity_increment INTEGER, default_value TEXT, sort_key BIGINT) ON COMMIT DROP; " +
+        "CREATE TEMP TABLE import_indexes (id UUID, table_id UUID, name VARCHAR(255), type VARCHAR(50), " +
+        "is_unique BOOLEAN) ON COMMIT DROP; " +
+        "CREATE TEMP TABLE import_index_columns (index_id UUID, position INTEGER, column_id UUID, " +
+        "sort_order VARCHAR(4)) ON COMMIT DROP";
+    
+    private static final String COPY_TABLES = "COPY import_tables FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_COLUMNS = "COPY import_columns FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_INDEXES = "COPY import_indexes FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_INDEX_COLUMNS = "COPY import_index_columns FROM STDIN WITH (FORMAT csv)";
+    
+    private static final String MERGE_TABLES =
+        "INSERT INTO tables (id, project_id, name, description, position_x, position_y, created_at, updated_at, version) " +
+        "SELECT id, ?, name, description, position_x, position_y, ?, ?, 0 FROM import_tables";
+    private static final String MERGE_COLUMNS =
+        "INSERT INTO columns (id, table_id, name, description, data_type, max_length, precision_value, scale_value, " +
+        "is_nullable, is_primary_key, is_identity, identity_seed, identity_increment, default_value, sort_key, " +
+        "created_at, updated_at, version) " +
+        "SELECT id, table_id, name, description, data_type, max_length, precision_value, scale_value, " +
+        "is_nullable, is_primary_key, is_identity, identity_seed, identity_increment, default_value, sort_key, " +
+        "?, ?, 0 " +
+        "FROM import_columns";
+    private static final String MERGE_INDEXES =
+        "INSERT INTO indexes (id, table_id, name, type, is_unique, created_at, updated_at) " +
+        "SELECT id, table_id, name, type, is_unique, ?, ? FROM import_indexes";
+    private static final String MERGE_INDEX_COLUMNS =
+        "INSERT INTO index_columns (index_id, position, column_id, sort_order) " +
+        "SELECT index_id, position, column_id, sort_order FROM import_index_columns";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectChangeTracker changeTracker;
+    
+    public PostgresCopyImportAdapter(JdbcTemplate jdbcTemplate, ProjectChangeTracker changeTracker) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeTracker = changeTracker;
+    }
+    
+    @Override
+    public Set<String> findTableNames(UUID projectId) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT name FROM tables WHERE project_id = ?", String.class, projectId));
+    }
+    
+    @Override
+    public ImportBatch openBatch(UUID projectId) {
+        jdbcTemplate.execute(CREATE_STAGING_TABLES);
+        return new CopyImportBatch(projectId);
+    }
+    
+    /**
+     * 스테이징 테이블별 CSV 버퍼를 모아 기준 크기마다 COPY로 내보내는 배치
+     */
+    private class CopyImportBatch implements ImportBatch {
+        
+        private final UUID projectId;
+        private final CsvBuffer tables = new CsvBuffer(COPY_TABLES);
+        private final CsvBuffer columns = new CsvBuffer(COPY_COLUMNS);
+        private final CsvBuffer indexes = new CsvBuffer(COPY_INDEXES);
+        private final CsvBuffer indexColumns = new CsvBuffer(COPY_INDEX_COLUMNS);
+        private final Set<UUID> tableIds = new LinkedHashSet<>();
+        private final long start = System.nanoTime();
+        
+        CopyImportBatch(UUID projectId) {
+            this.projectId = projectId;
+        }
+        
+        @Override
+        public void add(Table table) {
+            tableIds.add(table.getId());
+            tables.row(table.getId(), table.getName(), table.getDescription(),
+                table.getPositionX() != null ? table.getPositionX() : 0,
+                table.getPositionY() != null ? table.getPositionY() : 0);
+            
+            for (Column column : table.getColumns()) {
+                columns.row(column.getId(), table.getId(), column.getName(), column.getDescription(),
+                    dataTypeName(column.getDataType()), column.getMaxLength(), column.getPrecision(),
+                    column.getScale(), column.isNullable(), column.isPrimaryKey(), column.isIdentity(),
+                    column.getIdentitySeed(), column.getIdentityIncrement(), column.getDefaultValue(),
+                    ColumnOrder.keyOf(column));
+            }
+            
+            for (Index index : table.getIndexes()) {
+                indexes.row(index.getId(), table.getId(), index.getName(),
+                    index.getType() != null ? index.getType().name() : Index.IndexType.NONCLUSTERED.name(),
+                    index.isUnique());
+                List<Index.IndexColumn> members = index.getColumns();
+                for (int position = 0; position < members.size(); position++) {
+                    Index.IndexColumn member = members.get(position);
+                    indexColumns.row(index.getId(), position, member.getColumnId(),
+                        member.getOrder() != null ? member.getOrder().name() : Index.SortOrder.ASC.name());
+                }
+            }
+            
+            tables.flushIfFull();
+            columns.flushIfFull();
+            indexes.flushIfFull();
+            indexColumns.flushIfFull();
+        }
+        
+        @Override
+        public void complete() {
+            tables.flush();
+            columns.flush();
+            indexes.flush();
+            indexColumns.flush();
+            
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int tableCount = jdbcTemplate.update(MERGE_TABLES, projectId, now, now);
+            int columnCount = jdbcTemplate.update(MERGE_COLUMNS, now, now);
+            int indexCount = jdbcTemplate.update(MERGE_INDEXES, now, now);
+            jdbcTemplate.update(MERGE_INDEX_COLUMNS);
+            jdbcTemplate.update(
+                "UPDATE projects SET version = COALESCE(version, 0) + 1, updated_at = ? WHERE id = ?", now, projectId);
+            changeTracker.markProject(projectId);
+            // 프로젝트의 테이블 목록 쿼리 결과가 2차 캐시에서 비워지도록 새 테이블도 기록
+            tableIds.forEach(tableId -> changeTracker.markTable(tableId, projectId));
+            
+            logger.info("프로젝트 가져오기 병합 완료: {} - 테이블 {}개, 컬럼 {}개, 인덱스 {}개, {}ms",
+                projectId, tableCount, columnCount, indexCount, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+    
+    /**
+     * COPY FORMAT csv 행 버퍼 (NULL은 빈 값, 문자열은 항상 따옴표로 감쌈)
+     */
+    private class CsvBuffer {
+        
+        private final String copySql;
+        private final StringBuilder buffer = new StringBuilder();
+        
+        CsvBuffer(String copySql) {
+            this.copySql = copySql;
+        }
+        
+        void row(Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Object value = values[i];
+                if (value instanceof String text) {
+                    buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    buffer.append(value);
+                }
+            }
+            buffer.append('\n');
+        }
+        
+        void flushIfFull() {
+            if (buffer.length() >= FLUSH_THRESHOLD_CHARS) {
+                flush();
+            }
+        }
+        
+        void flush() {
+            if (buffer.length() == 0) {
+                return;
+            }
+            String data = buffer.toString();
+            buffer.setLength(0);
+            jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try {
+                    return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(copySql, new StringReader(data));
+                } catch (IOException e) {
+                    throw new DataAccessResourceFailureException("COPY 스트림 쓰기에 실패했습니다", e);
+                }
+            });
+        }
+    }
+    
+    private static String dataTypeName(MSSQLDataType dataType) {
+        return dataType != null ? dataType.name() : MSSQLDataType.NVARCHAR.name();
+    }
+}
@@ -0,0 +1,272 @@
+package com.dbmodeling.infrastructure.persistence.change;
+
+import com.dbmodeling.infrastructure.cache.ModelCache;
+import com.dbmodeling.infrastructure.cache.ModelChanges;
+import com.dbmodeling.infrastructure.cache.PostgresCacheInvalidationBus;
+import com.dbmodeling.infrastructure.persistence.repository.TableJpaRepository;
+import com.dbmodeling.infrastructure.persistence.snapshot.ProjectSnapshotStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 트랜잭션에서 변경된 프로젝트와 테이블 추적
+ * 커밋 직전 projects.content_version을 올려 기존 스냅샷과 생성 결과 캐시를 무효화하고 다른 인스턴스에 변경 키를 알리며,
+ * 커밋 후 변경된 키만 캐시에서 제거한 뒤 스냅샷 재생성을 예약합니다.
+ */
+@Component
+public class ProjectChangeTracker {
+
+    private static final String BUMP_CONTENT_VERSION =
+        "UPDATE projects SET content_version = content_version + 1 WHERE id IN (:projectIds)";
+    private static final String CLAIM_CONTENT_VERSION =
+        "UPDATE projects SET content_version = content_version + 1 WHERE id = :projectId";
+    private static final String CLAIM_EXPECTED_CONTENT_VERSION =
+        CLAIM_CONTENT_VERSION + " AND content_version IN (:expectedVersions)";
+    private static final String SELECT_CONTENT_VERSION =
+        "SELECT content_version FROM projects WHERE id = :projectId";
+
+    private final ProjectSnapshotStore snapshotStore;
+    private final ModelCache modelCache;
+    private final PostgresCacheInvalidationBus invalidationBus;
+    private final TableJpaRepository tableJpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProjectChangeTracker(ProjectSnapshotStore snapshotStore,
+                                ModelCache modelCache,
+                                PostgresCacheInvalidationBus invalidationBus,
+                                TableJpaRepository tableJpaRepository,
+                                JdbcTemplate jdbcTemplate) {
+        this.snapshotStore = snapshotStore;
+        this.modelCache = modelCache;
+        this.invalidationBus = invalidationBus;
+        this.tableJpaRepository = tableJpaRepository;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 프로젝트 변경 기록
+     */
+    public void markProject(UUID projectId) {
+        if (projectId == null) {
+            return;
+        }
+        ChangeSet changes = currentChanges();
+        changes.projectIds.add(projectId);
+        flushIfDetached(changes);
+    }
+
+    /**
+     * 프로젝트 생성 기록
+     */
+    public void markProjectCreated(UUID projectId) {
+        if (projectId == null) {
+            return;
+        }
+        ChangeSet changes = currentChanges();
+        changes.projectIds.add(projectId);
+        changes.createdProjectIds.add(projectId);
+        flushIfDetached(changes);
+    }
+
+    /**
+     * 프로젝트 삭제 기록
+     */
+    public void markProjectDeleted(UUID projectId) {
+        if (projectId == null) {
+            return;
+        }
+        ChangeSet changes = currentChanges();
+        changes.projectIds.add(projectId);
+        changes.deletedProjectIds.add(projectId);
+        flushIfDetached(changes);
+    }
+
+    /**
+     * 테이블과 소속 프로젝트 변경 기록 (테이블 삭제 전에 호출)
+     */
+    public void markTable(UUID tableId) {
+        if (tableId == null) {
+            return;
+        }
+        ChangeSet changes = currentChanges();
+        addTable(changes, tableId);
+        flushIfDetached(changes);
+    }
+
+    /**
+     * 컬럼과 소속 테이블/프로젝트 변경 기록 (테이블 삭제 전에 호출)
+     */
+    public void markColumn(UUID tableId, UUID columnId) {
+        if (tableId == null && columnId == null) {
+            return;
+        }
+        ChangeSet changes = currentChanges();
+        if (tableId != null) {
+            addTable(changes, tableId);
+        }
+        if (columnId != null) {
+            changes.columnIds.add(columnId);
+        }
+        flushIfDetached(changes);
+    }
+
+    /**
+     * 인덱스와 소속 테이블/프로젝트 변경 기록 (테이블 삭제 전에 호출)
+     */
+    public void markIndex(UUID tableId, UUID indexId) {
+        if (tableId == null && indexId == null) {
+            return;
+        }
+        ChangeSet changes = currentChanges();
+        if (tableId != null) {
+            addTable(changes, tableId);
+        }
+        if (indexId != null) {
+            changes.indexIds.add(indexId);
+        }
+        flushIfDetached(changes);
+    }
+
+    /**
+     * 소속 프로젝트를 이미 알고 있는 테이블 변경 기록
+     */
+    public void markTable(UUID tableId, UUID projectId) {
+        if (tableId == null) {
+            return;
+        }
+        ChangeSet changes = currentChanges();
+        changes.tableIds.add(tableId);
+        if (projectId != null) {
+            changes.projectIds.add(projectId);
+        }
+        flushIfDetached(changes);
+    }
+
+    /**
+     * 현재 트랜잭션에서 변경된 프로젝트인지 확인 (변경 중에는 스냅샷을 사용하지 않음)
+     */
+    public boolean isMarked(UUID projectId) {
+        ChangeSet changes = (ChangeSet) TransactionSynchronizationManager.getResource(this);
+        return changes != null && changes.projectIds.contains(projectId);
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션에서 프로젝트 집합 버전을 먼저 올려 행을 잠금 (조건부 수정용)
+     * 기대 버전이 주어지면 그 중 하나와 같을 때만 올리므로, 같은 버전으로 동시에 들어온 다른 수정은
+     * 이 트랜잭션이 커밋된 뒤 0행이 되어 실패합니다. 여기서 올린 프로젝트는 커밋 직전에 다시 올리지 않습니다.
+     *
+     * @param expectedVersions 허용할 현재 버전 (비어 있으면 확인하지 않음)
+     * @return 커밋될 집합 버전, 프로젝트가 없거나 버전이 다르면 빈 값
+     */
+    public OptionalLong claimVersion(UUID projectId, Set<Long> expectedVersions) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("집합 버전 선점은 쓰기 트랜잭션 안에서만 가능합니다");
+        }
+        ChangeSet changes = currentChanges();
+        int updated = expectedVersions.isEmpty()
+            ? jdbcTemplate.update(CLAIM_CONTENT_VERSION, Map.of("projectId", projectId))
+            : jdbcTemplate.update(CLAIM_EXPECTED_CONTENT_VERSION,
+                Map.of("projectId", projectId, "expectedVersions", expectedVersions));
+        if (updated == 0) {
+            return OptionalLong.empty();
+        }
+
+        changes.projectIds.add(projectId);
+        changes.claimedProjectIds.add(projectId);
+        // 행 잠금을 쥐고 있으므로 커밋 전까지 다른 트랜잭션이 바꿀 수 없음
+        Long version = jdbcTemplate.queryForObject(SELECT_CONTENT_VERSION, Map.of("projectId", projectId), Long.class);
+        return OptionalLong.of(version);
+    }
+
+    private void addTable(ChangeSet changes, UUID tableId) {
+        // 같은 트랜잭션에서 이미 기록한 테이블은 소속 프로젝트를 다시 조회하지 않음
+        if (changes.tableIds.add(tableId)) {
+            tableJpaRepository.findById(tableId)
+                .ifPresent(table -> changes.projectIds.add(table.getProject().getId()));
+        }
+    }
+
+    private ChangeSet currentChanges() {
+        ChangeSet changes = (ChangeSet) TransactionSynchronizationManager.getResource(this);
+        if (changes != null) {
+            return changes;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new ChangeSet(false);
+        }
+
+        ChangeSet created = new ChangeSet(true);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 스냅샷과 생성 결과 캐시가 모두 이 버전을 기준으로 하므로 항상 올림
+                Set<UUID> bumped = new LinkedHashSet<>(created.projectIds);
+                bumped.removeAll(created.claimedProjectIds);
+                if (!bumped.isEmpty()) {
+                    jdbcTemplate.update(BUMP_CONTENT_VERSION, Map.of("projectIds", bumped));
+                }
+                invalidationBus.publish(jdbcTemplate.getJdbcTemplate(), created.toModelChanges());
+            }
+
+            @Override
+            public void afterCommit() {
+                publish(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ProjectChangeTracker.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 트랜잭션 밖에서 기록된 변경은 즉시 반영
+     */
+    private void flushIfDetached(ChangeSet changes) {
+        if (!changes.bound) {
+            publish(changes);
+        }
+    }
+
+    private void publish(ChangeSet changes) {
+        modelCache.evict(changes.toModelChanges());
+
+        Set<UUID> refreshed = new LinkedHashSet<>(changes.projectIds);
+        refreshed.removeAll(changes.deletedProjectIds);
+        snapshotStore.refreshAsync(refreshed);
+    }
+
+    /**
+     * 트랜잭션 단위 변경 집합
+     */
+    private static class ChangeSet {
+        private final boolean bound;
+        private final Set<UUID> projectIds = new LinkedHashSet<>();
+        private final Set<UUID> tableIds = new LinkedHashSet<>();
+        private final Set<UUID> columnIds = new LinkedHashSet<>();
+        private final Set<UUID> indexIds = new LinkedHashSet<>();
+        private final Set<UUID> createdProjectIds = new LinkedHashSet<>();
+        private final Set<UUID> deletedProjectIds = new LinkedHashSet<>();
+        private final Set<UUID> claimedProjectIds = new LinkedHashSet<>();
+
+        ChangeSet(boolean bound) {
+            this.bound = bound;
+        }
+
+        ModelChanges toModelChanges() {
+            return new ModelChanges(projectIds, tableIds, createdProjectIds, deletedProjectIds, columnIds, indexIds);
+        }
+    }
+}
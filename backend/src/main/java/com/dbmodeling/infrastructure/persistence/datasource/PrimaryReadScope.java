@@ -0,0 +1,40 @@
+package com.dbmodeling.infrastructure.persistence.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 주 데이터소스 읽기 범위
+ * 이 범위 안에서 처음 연결을 얻는 readOnly 트랜잭션도 복제본 대신 주 풀을 사용합니다.
+ * 방금 커밋된 변경을 복제 지연 때문에 놓치면 안 되는 조회(캐시 적재 등)에 사용합니다.
+ */
+public final class PrimaryReadScope {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private PrimaryReadScope() {
+    }
+
+    /**
+     * 현재 스레드가 주 데이터소스 읽기 범위 안인지 여부
+     */
+    public static boolean isActive() {
+        return DEPTH.get() != null;
+    }
+
+    /**
+     * 주 데이터소스 읽기 범위에서 실행 (중첩 가능)
+     */
+    public static <T> T call(Supplier<T> action) {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth != null ? depth + 1 : 1);
+        try {
+            return action.get();
+        } finally {
+            if (depth == null) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.dbmodeling.infrastructure.persistence.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스
+ * readOnly 트랜잭션은 복제본 풀로, 그 외는 주 풀로 보내며 복제본 장애 시 주 풀로 대체
+ * PrimaryReadScope 안의 readOnly 트랜잭션은 복제 지연을 피하기 위해 주 풀로 보냄
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로
+ * LazyConnectionDataSourceProxy로 첫 쿼리 실행 시점까지 실제 연결 획득을 미룸
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryAfterNanos;
+    
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+    private final AtomicLong replicaFallbacks = new AtomicLong();
+    private volatile long replicaDownUntilNanos;
+    
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration retryAfter) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfterNanos = retryAfter.toNanos();
+        
+        // 기본 연결 속성을 지정해 초기화 시 연결을 미리 얻지 않도록 함
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        setTargetDataSource(new RoutingTarget());
+    }
+    
+    /**
+     * 라우팅 경로별 연결 획득 통계
+     */
+    public Map<String, Object> getRouteStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("primaryConnections", primaryConnections.get());
+        stats.put("replicaConnections", replicaConnections.get());
+        stats.put("replicaFallbacks", replicaFallbacks.get());
+        stats.put("replicaAvailable", isReplicaAvailable());
+        return stats;
+    }
+    
+    public long getPrimaryConnections() {
+        return primaryConnections.get();
+    }
+    
+    public long getReplicaConnections() {
+        return replicaConnections.get();
+    }
+    
+    public long getReplicaFallbacks() {
+        return replicaFallbacks.get();
+    }
+    
+    public boolean isReplicaAvailable() {
+        return System.nanoTime() - replicaDownUntilNanos >= 0;
+    }
+    
+    @Override
+    public void close() {
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+    
+    private Connection route(String username, String password) throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !PrimaryReadScope.isActive() && isReplicaAvailable()) {
+            try {
+                Connection connection = username != null
+                    ? replica.getConnection(username, password)
+                    : replica.getConnection();
+                replicaConnections.incrementAndGet();
+                return connection;
+            } catch (SQLException e) {
+                // 재시도 대기 시간 동안 복제본을 건너뛰고 주 풀 사용
+                replicaDownUntilNanos = System.nanoTime() + retryAfterNanos;
+                replicaFallbacks.incrementAndGet();
+                logger.warn("읽기 복제본 연결 실패, 주 데이터소스로 대체합니다: {}", e.getMessage());
+            }
+        }
+        
+        Connection connection = username != null
+            ? primary.getConnection(username, password)
+            : primary.getConnection();
+        primaryConnections.incrementAndGet();
+        return connection;
+    }
+    
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("데이터소스 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 실제 연결 획득 시점에 readOnly 여부로 풀을 선택하는 대상 데이터소스
+     */
+    private class RoutingTarget extends AbstractDataSource {
+        
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route(null, null);
+        }
+        
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route(username, password);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dbmodeling.infrastructure.persistence.entity;
+
+/**
+ * Hibernate 2차 캐시 영역 이름
+ * 엔티티와 컬렉션, 리포지토리 조회 쿼리 결과를 엔티티 종류별 영역에 나눠 크기를 따로 지정합니다.
+ */
+public final class CacheRegions {
+
+    public static final String PROJECT = "model.project";
+    public static final String PROJECT_TABLES = "model.project.tables";
+    public static final String TABLE = "model.table";
+    public static final String TABLE_COLUMNS = "model.table.columns";
+    public static final String TABLE_INDEXES = "model.table.indexes";
+    public static final String COLUMN = "model.column";
+    public static final String INDEX = "model.index";
+    public static final String INDEX_COLUMNS = "model.index.columns";
+
+    public static final String PROJECT_QUERIES = "query.projects";
+    public static final String TABLE_QUERIES = "query.tables";
+    public static final String COLUMN_QUERIES = "query.columns";
+    public static final String INDEX_QUERIES = "query.indexes";
+
+    // Hibernate 기본 영역 (지정하지 않은 쿼리 결과와 테이블별 마지막 변경 시각)
+    public static final String DEFAULT_QUERIES = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
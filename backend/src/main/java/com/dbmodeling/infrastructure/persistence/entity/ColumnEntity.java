@@ -1,6 +1,9 @@
 package com.dbmodeling.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,7 +15,9 @@ import java.util.UUID;
  * 컬럼 JPA 엔티티
  */
 @Entity
+@DynamicUpdate
 @Table(name = "columns")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COLUMN)
 @EntityListeners(AuditingEntityListener.class)
 public class ColumnEntity {
     
@@ -60,8 +65,12 @@ public class ColumnEntity {
     @Column(name = "default_value", length = 1000)
     private String defaultValue;
     
-    @Column(name = "order_index", nullable = false)
-    private Integer orderIndex;
+    @Column(name = "sort_key", nullable = false)
+    private Long sortKey;
+    
+    @Version
+    @Column(name = "version")
+    private Long version;
     
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -75,10 +84,10 @@ public class ColumnEntity {
     public ColumnEntity() {}
 
     // 생성자
-    public ColumnEntity(String name, String dataType, Integer orderIndex, TableEntity table) {
+    public ColumnEntity(String name, String dataType, Long sortKey, TableEntity table) {
         this.name = name;
         this.dataType = dataType;
-        this.orderIndex = orderIndex;
+        this.sortKey = sortKey;
         this.table = table;
     }
 
@@ -195,12 +204,20 @@ public class ColumnEntity {
         this.defaultValue = defaultValue;
     }
 
-    public Integer getOrderIndex() {
-        return orderIndex;
+    public Long getSortKey() {
+        return sortKey;
     }
 
-    public void setOrderIndex(Integer orderIndex) {
-        this.orderIndex = orderIndex;
+    public void setSortKey(Long sortKey) {
+        this.sortKey = sortKey;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
     }
 
     public LocalDateTime getCreatedAt() {
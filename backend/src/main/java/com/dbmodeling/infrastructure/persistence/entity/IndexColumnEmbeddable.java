@@ -0,0 +1,72 @@
+package com.dbmodeling.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 인덱스 구성 컬럼 (index_columns 테이블 행)
+ */
+@Embeddable
+public class IndexColumnEmbeddable {
+    
+    @Column(name = "position", nullable = false)
+    private int position;
+    
+    @Column(name = "column_id", nullable = false)
+    private UUID columnId;
+    
+    @Column(name = "sort_order", nullable = false, length = 4)
+    private String sortOrder;
+
+    // 기본 생성자
+    public IndexColumnEmbeddable() {}
+
+    // 생성자
+    public IndexColumnEmbeddable(int position, UUID columnId, String sortOrder) {
+        this.position = position;
+        this.columnId = columnId;
+        this.sortOrder = sortOrder;
+    }
+
+    // Getters and Setters
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public UUID getColumnId() {
+        return columnId;
+    }
+
+    public void setColumnId(UUID columnId) {
+        this.columnId = columnId;
+    }
+
+    public String getSortOrder() {
+        return sortOrder;
+    }
+
+    public void setSortOrder(String sortOrder) {
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndexColumnEmbeddable that)) return false;
+        return position == that.position
+            && Objects.equals(columnId, that.columnId)
+            && Objects.equals(sortOrder, that.sortOrder);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, columnId, sortOrder);
+    }
+}
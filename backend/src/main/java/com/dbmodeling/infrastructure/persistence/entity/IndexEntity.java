@@ -1,11 +1,15 @@
 package com.dbmodeling.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -13,6 +17,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "indexes")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INDEX)
 @EntityListeners(AuditingEntityListener.class)
 public class IndexEntity {
     
@@ -33,8 +38,11 @@ public class IndexEntity {
     @Column(name = "is_unique")
     private Boolean isUnique = false;
     
-    @Column(name = "columns", length = 5000, nullable = false)
-    private String columns;
+    @ElementCollection
+    @CollectionTable(name = "index_columns", joinColumns = @JoinColumn(name = "index_id"))
+    @OrderBy("position ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INDEX_COLUMNS)
+    private List<IndexColumnEmbeddable> columns = new ArrayList<>();
     
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -48,11 +56,10 @@ public class IndexEntity {
     public IndexEntity() {}
 
     // 생성자
-    public IndexEntity(String name, String type, Boolean isUnique, String columns, TableEntity table) {
+    public IndexEntity(String name, String type, Boolean isUnique, TableEntity table) {
         this.name = name;
         this.type = type;
         this.isUnique = isUnique;
-        this.columns = columns;
         this.table = table;
     }
 
@@ -97,11 +104,11 @@ public class IndexEntity {
         this.isUnique = isUnique;
     }
 
-    public String getColumns() {
+    public List<IndexColumnEmbeddable> getColumns() {
         return columns;
     }
 
-    public void setColumns(String columns) {
+    public void setColumns(List<IndexColumnEmbeddable> columns) {
         this.columns = columns;
     }
 
@@ -1,6 +1,10 @@
 package com.dbmodeling.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,7 +18,9 @@ import java.util.UUID;
  * 프로젝트 JPA 엔티티
  */
 @Entity
+@DynamicUpdate
 @Table(name = "projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECT)
 @EntityListeners(AuditingEntityListener.class)
 public class ProjectEntity {
     
@@ -32,6 +38,7 @@ public class ProjectEntity {
     private String namingRules;
     
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECT_TABLES)
     private List<TableEntity> tables = new ArrayList<>();
     
     @CreatedDate
@@ -45,6 +52,11 @@ public class ProjectEntity {
     @Version
     @Column(name = "version")
     private Long version;
+    
+    // 하위 내용 변경 시 ProjectChangeTracker가 직접 올리는 버전 (JPA는 읽기만 함)
+    @ColumnDefault("0")
+    @Column(name = "content_version", nullable = false, insertable = false, updatable = false)
+    private Long contentVersion;
 
     // 기본 생성자
     public ProjectEntity() {}
@@ -119,4 +131,12 @@ public class ProjectEntity {
     public void setVersion(Long version) {
         this.version = version;
     }
+
+    public Long getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion(Long contentVersion) {
+        this.contentVersion = contentVersion;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.dbmodeling.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,7 +17,9 @@ import java.util.UUID;
  * 테이블 JPA 엔티티
  */
 @Entity
+@DynamicUpdate
 @Table(name = "tables")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TABLE)
 @EntityListeners(AuditingEntityListener.class)
 public class TableEntity {
     
@@ -39,9 +44,11 @@ public class TableEntity {
     private Integer positionY = 0;
     
     @OneToMany(mappedBy = "table", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TABLE_COLUMNS)
     private List<ColumnEntity> columns = new ArrayList<>();
     
     @OneToMany(mappedBy = "table", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TABLE_INDEXES)
     private List<IndexEntity> indexes = new ArrayList<>();
     
     @CreatedDate
@@ -1,16 +1,28 @@
 package com.dbmodeling.infrastructure.persistence.mapper;
 
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.ColumnOrder;
 import com.dbmodeling.domain.model.MSSQLDataType;
 import com.dbmodeling.infrastructure.persistence.entity.ColumnEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * 컬럼 Entity-Domain 매퍼
  */
 @Component("persistenceColumnMapper")
 public class ColumnMapper {
     
+    private static final Comparator<ColumnEntity> BY_SORT_KEY =
+            Comparator.comparing(ColumnEntity::getSortKey).thenComparing(ColumnEntity::getId);
+    
     /**
      * Entity를 Domain으로 변환
      */
@@ -34,13 +46,29 @@ public class ColumnMapper {
         column.setIdentitySeed(entity.getIdentitySeed());
         column.setIdentityIncrement(entity.getIdentityIncrement());
         column.setDefaultValue(entity.getDefaultValue());
-        column.setOrderIndex(entity.getOrderIndex());
+        column.setSortKey(entity.getSortKey());
+        column.setVersion(entity.getVersion());
         column.setCreatedAt(entity.getCreatedAt());
         column.setUpdatedAt(entity.getUpdatedAt());
         
         return column;
     }
     
+    /**
+     * 한 테이블의 컬럼 Entity 목록을 정렬 키 순서의 Domain 목록으로 변환
+     * 순서 인덱스는 저장하지 않으므로 정렬 키 순위로 채움
+     */
+    public List<Column> toDomainInOrder(Collection<ColumnEntity> entities) {
+        List<Column> columns = entities.stream()
+                .sorted(BY_SORT_KEY)
+                .map(this::toDomain)
+                .collect(Collectors.toCollection(ArrayList::new));
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).setOrderIndex(i);
+        }
+        return columns;
+    }
+    
     /**
      * Domain을 Entity로 변환
      */
@@ -63,7 +91,9 @@ public class ColumnMapper {
         entity.setIdentitySeed(domain.getIdentitySeed());
         entity.setIdentityIncrement(domain.getIdentityIncrement());
         entity.setDefaultValue(domain.getDefaultValue());
-        entity.setOrderIndex(domain.getOrderIndex());
+        entity.setSortKey(ColumnOrder.keyOf(domain));
+        // 저장된 적 없는 컬럼은 테이블과 같이 0부터 시작 (낙관적 잠금)
+        entity.setVersion(domain.getVersion() != null ? domain.getVersion() : 0L);
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
         
@@ -90,10 +120,32 @@ public class ColumnMapper {
         entity.setIdentitySeed(domain.getIdentitySeed());
         entity.setIdentityIncrement(domain.getIdentityIncrement());
         entity.setDefaultValue(domain.getDefaultValue());
-        entity.setOrderIndex(domain.getOrderIndex());
+        entity.setSortKey(ColumnOrder.keyOf(domain));
         entity.setUpdatedAt(domain.getUpdatedAt());
     }
     
+    /**
+     * 변경 감지용 영속 상태 스냅샷 (감사 필드 제외)
+     */
+    public Map<String, Object> toSnapshot(Column domain) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("tableId", domain.getTableId());
+        state.put("name", domain.getName());
+        state.put("description", domain.getDescription());
+        state.put("dataType", serializeDataType(domain.getDataType()));
+        state.put("maxLength", domain.getMaxLength());
+        state.put("precision", domain.getPrecision());
+        state.put("scale", domain.getScale());
+        state.put("nullable", domain.isNullable());
+        state.put("primaryKey", domain.isPrimaryKey());
+        state.put("identity", domain.isIdentity());
+        state.put("identitySeed", domain.getIdentitySeed());
+        state.put("identityIncrement", domain.getIdentityIncrement());
+        state.put("defaultValue", domain.getDefaultValue());
+        state.put("sortKey", ColumnOrder.keyOf(domain));
+        return state;
+    }
+    
     /**
      * 문자열을 MSSQLDataType으로 파싱
      */
@@ -1,16 +1,16 @@
 package com.dbmodeling.infrastructure.persistence.mapper;
 
 import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.infrastructure.persistence.entity.IndexColumnEmbeddable;
 import com.dbmodeling.infrastructure.persistence.entity.IndexEntity;
 import com.dbmodeling.infrastructure.persistence.repository.ColumnJpaRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * 인덱스 Entity-Domain 매퍼
@@ -18,11 +18,9 @@ import java.util.UUID;
 @Component("persistenceIndexMapper")
 public class IndexMapper {
     
-    private final ObjectMapper objectMapper;
     private final ColumnJpaRepository columnJpaRepository;
     
-    public IndexMapper(ObjectMapper objectMapper, ColumnJpaRepository columnJpaRepository) {
-        this.objectMapper = objectMapper;
+    public IndexMapper(ColumnJpaRepository columnJpaRepository) {
         this.columnJpaRepository = columnJpaRepository;
     }
     
@@ -30,6 +28,19 @@ public class IndexMapper {
      * Entity를 Domain으로 변환
      */
     public Index toDomain(IndexEntity entity) {
+        return toDomain(entity, columnId -> columnJpaRepository.findById(columnId)
+                .map(columnEntity -> columnEntity.getName())
+                .orElse(null));
+    }
+    
+    /**
+     * Entity를 Domain으로 변환 (미리 조회한 컬럼 이름 사용)
+     */
+    public Index toDomain(IndexEntity entity, Map<UUID, String> columnNames) {
+        return toDomain(entity, columnNames::get);
+    }
+    
+    private Index toDomain(IndexEntity entity, Function<UUID, String> columnNameResolver) {
         if (entity == null) {
             return null;
         }
@@ -40,7 +51,7 @@ public class IndexMapper {
         index.setName(entity.getName());
         index.setType(parseIndexType(entity.getType()));
         index.setUnique(entity.getIsUnique());
-        index.setColumns(parseIndexColumns(entity.getColumns()));
+        index.setColumns(toIndexColumns(entity.getColumns(), columnNameResolver));
         index.setCreatedAt(entity.getCreatedAt());
         index.setUpdatedAt(entity.getUpdatedAt());
         
@@ -60,7 +71,7 @@ public class IndexMapper {
         entity.setName(domain.getName());
         entity.setType(serializeIndexType(domain.getType()));
         entity.setIsUnique(domain.isUnique());
-        entity.setColumns(serializeIndexColumns(domain.getColumns()));
+        entity.setColumns(toEmbeddables(domain.getColumns()));
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
         
@@ -78,7 +89,9 @@ public class IndexMapper {
         entity.setName(domain.getName());
         entity.setType(serializeIndexType(domain.getType()));
         entity.setIsUnique(domain.isUnique());
-        entity.setColumns(serializeIndexColumns(domain.getColumns()));
+        // 컬렉션 인스턴스를 유지해야 Hibernate가 변경분만 반영
+        entity.getColumns().clear();
+        entity.getColumns().addAll(toEmbeddables(domain.getColumns()));
         entity.setUpdatedAt(domain.getUpdatedAt());
     }
     
@@ -105,65 +118,52 @@ public class IndexMapper {
     }
     
     /**
-     * JSON 문자열을 IndexColumn 리스트로 파싱
+     * index_columns 행을 IndexColumn 리스트로 변환
      */
-    private List<Index.IndexColumn> parseIndexColumns(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return new ArrayList<>();
+    private List<Index.IndexColumn> toIndexColumns(List<IndexColumnEmbeddable> embeddables,
+                                                   Function<UUID, String> columnNameResolver) {
+        List<Index.IndexColumn> columns = new ArrayList<>();
+        if (embeddables == null) {
+            return columns;
         }
         
-        try {
-            List<IndexColumnDto> dtos = objectMapper.readValue(json, new TypeReference<List<IndexColumnDto>>() {});
-            List<Index.IndexColumn> columns = new ArrayList<>();
-            for (IndexColumnDto dto : dtos) {
-                UUID columnId = UUID.fromString(dto.columnId);
-                Index.SortOrder order = Index.SortOrder.valueOf(dto.order.toUpperCase());
-                
-                // Column 이름 조회
-                String columnName = columnJpaRepository.findById(columnId)
-                        .map(columnEntity -> columnEntity.getName())
-                        .orElse(null);
-                
-                columns.add(new Index.IndexColumn(columnId, columnName, order));
-            }
-            return columns;
-        } catch (Exception e) {
-            // 파싱 실패 시 빈 리스트 반환
-            return new ArrayList<>();
+        for (IndexColumnEmbeddable embeddable : embeddables) {
+            columns.add(new Index.IndexColumn(
+                embeddable.getColumnId(),
+                columnNameResolver.apply(embeddable.getColumnId()),
+                parseSortOrder(embeddable.getSortOrder())
+            ));
         }
+        return columns;
     }
     
     /**
-     * IndexColumn 리스트를 JSON 문자열로 직렬화
+     * IndexColumn 리스트를 index_columns 행으로 변환 (position은 목록 순서)
      */
-    private String serializeIndexColumns(List<Index.IndexColumn> columns) {
-        if (columns == null || columns.isEmpty()) {
-            return "[]";
+    private List<IndexColumnEmbeddable> toEmbeddables(List<Index.IndexColumn> columns) {
+        List<IndexColumnEmbeddable> embeddables = new ArrayList<>();
+        if (columns == null) {
+            return embeddables;
         }
         
-        try {
-            List<IndexColumnDto> dtos = columns.stream()
-                    .map(col -> new IndexColumnDto(col.getColumnId().toString(), col.getOrder().name()))
-                    .toList();
-            return objectMapper.writeValueAsString(dtos);
-        } catch (JsonProcessingException e) {
-            // 직렬화 실패 시 빈 배열 반환
-            return "[]";
+        for (int i = 0; i < columns.size(); i++) {
+            Index.IndexColumn column = columns.get(i);
+            embeddables.add(new IndexColumnEmbeddable(i, column.getColumnId(), serializeSortOrder(column.getOrder())));
         }
+        return embeddables;
     }
     
     /**
-     * JSON 직렬화/역직렬화를 위한 DTO 클래스
+     * 문자열을 SortOrder로 파싱
      */
-    private static class IndexColumnDto {
-        public String columnId;
-        public String order;
-        
-        public IndexColumnDto() {}
-        
-        public IndexColumnDto(String columnId, String order) {
-            this.columnId = columnId;
-            this.order = order;
-        }
+    private Index.SortOrder parseSortOrder(String orderString) {
+        return "DESC".equalsIgnoreCase(orderString) ? Index.SortOrder.DESC : Index.SortOrder.ASC;
+    }
+    
+    /**
+     * SortOrder를 문자열로 직렬화
+     */
+    public String serializeSortOrder(Index.SortOrder order) {
+        return order != null ? order.name() : Index.SortOrder.ASC.name();
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,23 @@
 package com.dbmodeling.infrastructure.persistence.mapper;
 
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
 import com.dbmodeling.domain.model.NamingRules;
 import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.infrastructure.persistence.entity.ColumnEntity;
+import com.dbmodeling.infrastructure.persistence.entity.IndexEntity;
 import com.dbmodeling.infrastructure.persistence.entity.ProjectEntity;
+import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -17,10 +28,15 @@ public class ProjectMapper {
     
     private final ObjectMapper objectMapper;
     private final TableMapper tableMapper;
+    private final ColumnMapper columnMapper;
+    private final IndexMapper indexMapper;
     
-    public ProjectMapper(ObjectMapper objectMapper, TableMapper tableMapper) {
+    public ProjectMapper(ObjectMapper objectMapper, TableMapper tableMapper,
+                         ColumnMapper columnMapper, IndexMapper indexMapper) {
         this.objectMapper = objectMapper;
         this.tableMapper = tableMapper;
+        this.columnMapper = columnMapper;
+        this.indexMapper = indexMapper;
     }
     
     /**
@@ -31,13 +47,7 @@ public class ProjectMapper {
             return null;
         }
         
-        Project project = new Project();
-        project.setId(entity.getId());
-        project.setName(entity.getName());
-        project.setDescription(entity.getDescription());
-        project.setNamingRules(parseNamingRules(entity.getNamingRules()));
-        project.setCreatedAt(entity.getCreatedAt());
-        project.setUpdatedAt(entity.getUpdatedAt());
+        Project project = toDomainWithoutTables(entity);
         
         // 테이블 목록 변환 (지연 로딩 고려)
         if (entity.getTables() != null) {
@@ -51,6 +61,68 @@ public class ProjectMapper {
         return project;
     }
     
+    /**
+     * 일괄 조회한 테이블/컬럼/인덱스로 전체 프로젝트 그래프 조립
+     * 지연 로딩 컬렉션에 접근하지 않으므로 추가 쿼리가 발생하지 않음
+     */
+    public Project toDomain(ProjectEntity entity,
+                            List<TableEntity> tableEntities,
+                            List<ColumnEntity> columnEntities,
+                            List<IndexEntity> indexEntities) {
+        if (entity == null) {
+            return null;
+        }
+        
+        Map<UUID, List<ColumnEntity>> columnEntitiesByTableId = new HashMap<>();
+        for (ColumnEntity columnEntity : columnEntities) {
+            columnEntitiesByTableId.computeIfAbsent(columnEntity.getTable().getId(), id -> new ArrayList<>())
+                    .add(columnEntity);
+        }
+        
+        Map<UUID, List<Column>> columnsByTableId = new HashMap<>();
+        Map<UUID, String> columnNames = new HashMap<>(columnEntities.size() * 2);
+        columnEntitiesByTableId.forEach((tableId, entities) -> {
+            List<Column> columns = columnMapper.toDomainInOrder(entities);
+            columnsByTableId.put(tableId, columns);
+            columns.forEach(column -> columnNames.put(column.getId(), column.getName()));
+        });
+        
+        Map<UUID, List<Index>> indexesByTableId = new HashMap<>();
+        for (IndexEntity indexEntity : indexEntities) {
+            Index index = indexMapper.toDomain(indexEntity, columnNames);
+            indexesByTableId.computeIfAbsent(index.getTableId(), id -> new ArrayList<>()).add(index);
+        }
+        
+        List<Table> tables = new ArrayList<>(tableEntities.size());
+        for (TableEntity tableEntity : tableEntities) {
+            tables.add(tableMapper.toDomain(
+                tableEntity,
+                columnsByTableId.getOrDefault(tableEntity.getId(), new ArrayList<>()),
+                indexesByTableId.getOrDefault(tableEntity.getId(), new ArrayList<>())
+            ));
+        }
+        
+        Project project = toDomainWithoutTables(entity);
+        project.setTables(tables);
+        
+        return project;
+    }
+    
+    /**
+     * 테이블 목록을 제외한 프로젝트 속성 변환
+     */
+    private Project toDomainWithoutTables(ProjectEntity entity) {
+        Project project = new Project();
+        project.setId(entity.getId());
+        project.setName(entity.getName());
+        project.setDescription(entity.getDescription());
+        project.setNamingRules(parseNamingRules(entity.getNamingRules()));
+        project.setCreatedAt(entity.getCreatedAt());
+        project.setUpdatedAt(entity.getUpdatedAt());
+        project.setContentVersion(entity.getContentVersion());
+        return project;
+    }
+    
     /**
      * Domain을 Entity로 변환
      */
@@ -90,6 +162,17 @@ public class ProjectMapper {
         // version은 JPA가 자동으로 관리하므로 설정하지 않음
     }
     
+    /**
+     * 변경 감지용 영속 상태 스냅샷 (감사 필드 제외)
+     */
+    public Map<String, Object> toSnapshot(Project domain) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("name", domain.getName());
+        state.put("description", domain.getDescription());
+        state.put("namingRules", serializeNamingRules(domain.getNamingRules()));
+        return state;
+    }
+    
     /**
      * NamingRules JSON 파싱
      */
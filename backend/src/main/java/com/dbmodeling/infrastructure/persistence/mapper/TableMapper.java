@@ -2,8 +2,13 @@ package com.dbmodeling.infrastructure.persistence.mapper;
 
 import com.dbmodeling.domain.model.Table;
 import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -28,23 +33,11 @@ public class TableMapper {
             return null;
         }
         
-        Table table = new Table();
-        table.setId(entity.getId());
-        table.setProjectId(entity.getProject() != null ? entity.getProject().getId() : null);
-        table.setName(entity.getName());
-        table.setDescription(entity.getDescription());
-        table.setPositionX(entity.getPositionX());
-        table.setPositionY(entity.getPositionY());
-        table.setCreatedAt(entity.getCreatedAt());
-        table.setUpdatedAt(entity.getUpdatedAt());
+        Table table = toDomainWithoutChildren(entity);
         
-        // 컬럼 목록 변환 (지연 로딩 고려)
+        // 컬럼 목록 변환 (지연 로딩 고려, 정렬 키 순)
         if (entity.getColumns() != null) {
-            table.setColumns(
-                entity.getColumns().stream()
-                    .map(columnMapper::toDomain)
-                    .collect(Collectors.toList())
-            );
+            table.setColumns(columnMapper.toDomainInOrder(entity.getColumns()));
         }
         
         // 인덱스 목록 변환 (지연 로딩 고려)
@@ -59,6 +52,37 @@ public class TableMapper {
         return table;
     }
     
+    /**
+     * Entity를 Domain으로 변환 (미리 조회한 컬럼/인덱스 사용, 지연 로딩 없음)
+     */
+    public Table toDomain(TableEntity entity, List<Column> columns, List<Index> indexes) {
+        if (entity == null) {
+            return null;
+        }
+        
+        Table table = toDomainWithoutChildren(entity);
+        table.setColumns(columns);
+        table.setIndexes(indexes);
+        
+        return table;
+    }
+    
+    /**
+     * 컬렉션을 제외한 테이블 속성 변환
+     */
+    private Table toDomainWithoutChildren(TableEntity entity) {
+        Table table = new Table();
+        table.setId(entity.getId());
+        table.setProjectId(entity.getProject() != null ? entity.getProject().getId() : null);
+        table.setName(entity.getName());
+        table.setDescription(entity.getDescription());
+        table.setPositionX(entity.getPositionX());
+        table.setPositionY(entity.getPositionY());
+        table.setCreatedAt(entity.getCreatedAt());
+        table.setUpdatedAt(entity.getUpdatedAt());
+        return table;
+    }
+    
     /**
      * Domain을 Entity로 변환
      */
@@ -99,4 +123,17 @@ public class TableMapper {
         entity.setUpdatedAt(domain.getUpdatedAt());
         // version은 JPA가 자동으로 관리하므로 설정하지 않음
     }
+    
+    /**
+     * 변경 감지용 영속 상태 스냅샷 (감사 필드 제외)
+     */
+    public Map<String, Object> toSnapshot(Table domain) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("projectId", domain.getProjectId());
+        state.put("name", domain.getName());
+        state.put("description", domain.getDescription());
+        state.put("positionX", domain.getPositionX());
+        state.put("positionY", domain.getPositionY());
+        return state;
+    }
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.dbmodeling.infrastructure.persistence.repository;
 
+import com.dbmodeling.infrastructure.persistence.entity.CacheRegions;
 import com.dbmodeling.infrastructure.persistence.entity.ColumnEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,20 +22,23 @@ import java.util.UUID;
 public interface ColumnJpaRepository extends JpaRepository<ColumnEntity, UUID> {
     
     /**
-     * 테이블 ID로 컬럼 목록 조회 (순서대로)
+     * 테이블 ID로 컬럼 목록 조회 (정렬 키 순)
      */
-    List<ColumnEntity> findByTableIdOrderByOrderIndex(UUID tableId);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.COLUMN_QUERIES)
+    })
+    List<ColumnEntity> findByTableIdOrderBySortKeyAscIdAsc(UUID tableId);
     
     /**
      * 테이블 내에서 이름으로 컬럼 조회
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.COLUMN_QUERIES)
+    })
     Optional<ColumnEntity> findByTableIdAndName(UUID tableId, String name);
     
-    /**
-     * 테이블의 기본키 컬럼들 조회
-     */
-    List<ColumnEntity> findByTableIdAndIsPrimaryKeyTrue(UUID tableId);
-    
     /**
      * 테이블의 모든 컬럼 삭제
      */
@@ -42,24 +50,57 @@ public interface ColumnJpaRepository extends JpaRepository<ColumnEntity, UUID> {
     boolean existsByTableIdAndName(UUID tableId, String name);
     
     /**
-     * 테이블의 최대 순서 인덱스 조회
+     * 테이블의 컬럼 수 조회
+     */
+    long countByTableId(UUID tableId);
+    
+    /**
+     * 정렬 키가 앞선 컬럼 수 조회 (순서 인덱스 계산용)
      */
-    @Query("SELECT COALESCE(MAX(c.orderIndex), 0) FROM ColumnEntity c WHERE c.table.id = :tableId")
-    Integer findMaxOrderIndexByTableId(@Param("tableId") UUID tableId);
+    @Query("SELECT COUNT(c) FROM ColumnEntity c WHERE c.table.id = :tableId " +
+           "AND (c.sortKey < :sortKey OR (c.sortKey = :sortKey AND c.id < :columnId))")
+    long countPrecedingColumns(@Param("tableId") UUID tableId,
+                               @Param("sortKey") Long sortKey,
+                               @Param("columnId") UUID columnId);
+    
+    /**
+     * 테이블의 최대 정렬 키 조회
+     */
+    @Query("SELECT MAX(c.sortKey) FROM ColumnEntity c WHERE c.table.id = :tableId")
+    Long findMaxSortKeyByTableId(@Param("tableId") UUID tableId);
+    
+    /**
+     * 현재 순서를 유지하며 정렬 키 간격 재분배 (단일 UPDATE)
+     * 2차 캐시는 columns 테이블에 매핑된 영역만 비움
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "columns"))
+    @Query(value = "UPDATE columns c SET sort_key = r.position * :gap, version = c.version + 1 " +
+                   "FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY sort_key, id) AS position " +
+                   "      FROM columns WHERE table_id = :tableId) r " +
+                   "WHERE c.id = r.id",
+           nativeQuery = true)
+    int rebalanceSortKeys(@Param("tableId") UUID tableId, @Param("gap") long gap);
     
     /**
      * 테이블 ID 목록으로 모든 컬럼 조회 (배치 처리용)
      * N+1 문제 방지를 위한 fetch join 사용
      */
-    @Query("SELECT c FROM ColumnEntity c JOIN FETCH c.table WHERE c.table.id IN :tableIds ORDER BY c.table.id, c.orderIndex")
+    @Query("SELECT c FROM ColumnEntity c JOIN FETCH c.table WHERE c.table.id IN :tableIds ORDER BY c.table.id, c.sortKey, c.id")
     List<ColumnEntity> findByTableIdsWithTable(@Param("tableIds") List<UUID> tableIds);
     
     /**
      * 프로젝트의 모든 컬럼 조회 (통계용)
      */
-    @Query("SELECT c FROM ColumnEntity c JOIN FETCH c.table t WHERE t.project.id = :projectId ORDER BY t.name, c.orderIndex")
+    @Query("SELECT c FROM ColumnEntity c JOIN FETCH c.table t WHERE t.project.id = :projectId ORDER BY t.name, c.sortKey, c.id")
     List<ColumnEntity> findByProjectIdWithTable(@Param("projectId") UUID projectId);
     
+    /**
+     * 프로젝트의 모든 컬럼 조회 (전체 그래프 일괄 로딩용)
+     */
+    @Query("SELECT c FROM ColumnEntity c WHERE c.table.project.id = :projectId ORDER BY c.sortKey, c.id")
+    List<ColumnEntity> findAllByProjectId(@Param("projectId") UUID projectId);
+    
     /**
      * 특정 데이터 타입의 컬럼 개수 조회
      */
@@ -71,4 +112,16 @@ public interface ColumnJpaRepository extends JpaRepository<ColumnEntity, UUID> {
      */
     @Query("SELECT c.table.id, COUNT(c) FROM ColumnEntity c WHERE c.table.id IN :tableIds GROUP BY c.table.id")
     List<Object[]> countColumnsByTableIds(@Param("tableIds") List<UUID> tableIds);
-}
\ No newline at end of file
+    
+    /**
+     * 컬럼이 속한 프로젝트의 집합 버전 조회
+     */
+    @Query("SELECT c.table.project.contentVersion FROM ColumnEntity c WHERE c.id = :columnId")
+    Optional<Long> findProjectContentVersionByColumnId(@Param("columnId") UUID columnId);
+    
+    /**
+     * 컬럼이 속한 프로젝트 ID 조회
+     */
+    @Query("SELECT c.table.project.id FROM ColumnEntity c WHERE c.id = :columnId")
+    Optional<UUID> findProjectIdByColumnId(@Param("columnId") UUID columnId);
+}
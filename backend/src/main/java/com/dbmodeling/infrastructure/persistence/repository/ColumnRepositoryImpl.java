@@ -1,15 +1,23 @@
 package com.dbmodeling.infrastructure.persistence.repository;
 
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.ColumnOrder;
 import com.dbmodeling.domain.repository.ColumnRepository;
 import com.dbmodeling.infrastructure.persistence.entity.ColumnEntity;
 import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
 import com.dbmodeling.infrastructure.persistence.mapper.ColumnMapper;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
+import com.dbmodeling.infrastructure.persistence.unitofwork.AggregateUnitOfWork;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,21 +31,48 @@ public class ColumnRepositoryImpl implements ColumnRepository {
     private final ColumnJpaRepository jpaRepository;
     private final TableJpaRepository tableJpaRepository;
     private final ColumnMapper mapper;
+    private final ProjectChangeTracker changeTracker;
+    private final AggregateUnitOfWork unitOfWork;
     
     public ColumnRepositoryImpl(ColumnJpaRepository jpaRepository,
                                TableJpaRepository tableJpaRepository,
-                               ColumnMapper mapper) {
+                               ColumnMapper mapper,
+                               ProjectChangeTracker changeTracker,
+                               AggregateUnitOfWork unitOfWork) {
         this.jpaRepository = jpaRepository;
         this.tableJpaRepository = tableJpaRepository;
         this.mapper = mapper;
+        this.changeTracker = changeTracker;
+        this.unitOfWork = unitOfWork;
     }
     
     @Override
     public Column save(Column column) {
+        ColumnEntity entity = write(column);
+        if (entity == null) {
+            return column;
+        }
+        
+        // 반환하는 버전과 수정 일시가 커밋될 값과 같도록 바로 플러시 (제약 조건 위반도 이 호출에서 발생)
+        jpaRepository.flush();
+        return track(toDomainWithPosition(entity));
+    }
+    
+    /**
+     * 변경 내용을 영속성 컨텍스트에 반영 (플러시하지 않음, 바뀐 것이 없으면 null)
+     */
+    private ColumnEntity write(Column column) {
         ColumnEntity entity;
         
         if (column.getId() != null) {
-            // ID가 있으면 기존 엔티티 조회 시도
+            // 현재 트랜잭션에서 조회한 상태와 같으면 쓰기 생략
+            Optional<Set<String>> dirtyFields =
+                    unitOfWork.dirtyFields(Column.class, column.getId(), mapper.toSnapshot(column));
+            if (dirtyFields.isPresent() && dirtyFields.get().isEmpty()) {
+                return null;
+            }
+            
+            // ID가 있으면 기존 엔티티 조회 시도 (이 트랜잭션에서 조회한 엔티티는 영속성 컨텍스트에서 반환)
             Optional<ColumnEntity> existingEntity = jpaRepository.findById(column.getId());
             if (existingEntity.isPresent()) {
                 // 기존 엔티티 업데이트 - 기존 엔티티를 가져와서 업데이트
@@ -51,7 +86,7 @@ public class ColumnRepositoryImpl implements ColumnRepository {
                     entity.setTable(table);
                 }
                 
-                entity = jpaRepository.saveAndFlush(entity);
+                entity = jpaRepository.save(entity);
             } else {
                 // ID는 있지만 DB에 없으면 새 엔티티 생성
                 entity = mapper.toEntity(column);
@@ -80,46 +115,53 @@ public class ColumnRepositoryImpl implements ColumnRepository {
             entity = jpaRepository.save(entity);
         }
         
-        return mapper.toDomain(entity);
+        markChanged(entity);
+        return entity;
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<Column> findById(UUID id) {
         return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+                .map(this::toDomainWithPosition)
+                .map(this::track);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<Column> findByTableIdOrderByOrderIndex(UUID tableId) {
-        return jpaRepository.findByTableIdOrderByOrderIndex(tableId).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        List<Column> columns = mapper.toDomainInOrder(jpaRepository.findByTableIdOrderBySortKeyAscIdAsc(tableId));
+        columns.forEach(this::track);
+        return columns;
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<Column> findByTableIdAndName(UUID tableId, String name) {
         return jpaRepository.findByTableIdAndName(tableId, name)
-                .map(mapper::toDomain);
+                .map(this::toDomainWithPosition)
+                .map(this::track);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<Column> findByTableIdAndIsPrimaryKeyTrue(UUID tableId) {
-        return jpaRepository.findByTableIdAndIsPrimaryKeyTrue(tableId).stream()
-                .map(mapper::toDomain)
+        // 순서 인덱스가 테이블 전체 기준이 되도록 전체 컬럼 순서에서 기본키만 선택
+        return mapper.toDomainInOrder(jpaRepository.findByTableIdOrderBySortKeyAscIdAsc(tableId)).stream()
+                .filter(Column::isPrimaryKey)
                 .collect(Collectors.toList());
     }
     
     @Override
     public void deleteById(UUID id) {
+        jpaRepository.findById(id).ifPresent(this::markChanged);
         jpaRepository.deleteById(id);
+        unitOfWork.evict(Column.class, id);
     }
     
     @Override
     public void deleteByTableId(UUID tableId) {
+        changeTracker.markTable(tableId);
         jpaRepository.deleteByTableId(tableId);
     }
     
@@ -138,25 +180,114 @@ public class ColumnRepositoryImpl implements ColumnRepository {
     @Override
     @Transactional(readOnly = true)
     public Integer findMaxOrderIndexByTableId(UUID tableId) {
-        Integer maxIndex = jpaRepository.findMaxOrderIndexByTableId(tableId);
-        return maxIndex != null ? maxIndex : 0;
+        long count = jpaRepository.countByTableId(tableId);
+        return count > 0 ? (int) count - 1 : null;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Long findMaxSortKeyByTableId(UUID tableId) {
+        return jpaRepository.findMaxSortKeyByTableId(tableId);
+    }
+    
+    @Override
+    public int saveColumnOrder(UUID tableId, List<Column> orderedColumns) {
+        List<Column> moved = ColumnOrder.reassignKeys(orderedColumns).orElse(null);
+        if (moved == null) {
+            // 키 간격이 부족할 때만 단일 UPDATE로 간격을 다시 벌린 뒤 재할당
+            jpaRepository.rebalanceSortKeys(tableId, ColumnOrder.GAP);
+            Map<UUID, ColumnEntity> rebalanced = jpaRepository.findByTableIdOrderBySortKeyAscIdAsc(tableId).stream()
+                    .collect(Collectors.toMap(ColumnEntity::getId, entity -> entity));
+            // 정렬 키를 직접 바꾼 행은 다른 인스턴스의 2차 캐시에서도 제거되도록 기록
+            rebalanced.values().forEach(this::markChanged);
+            for (Column column : orderedColumns) {
+                ColumnEntity entity = rebalanced.get(column.getId());
+                column.setSortKey(entity.getSortKey());
+                column.setVersion(entity.getVersion());
+            }
+            moved = ColumnOrder.reassignKeys(orderedColumns)
+                    .orElseThrow(() -> new IllegalStateException("컬럼 정렬 키를 할당할 수 없습니다: " + tableId));
+        }
+        
+        // 정렬 키가 바뀐 행만 UPDATE (순서 인덱스는 저장하지 않으므로 한 컬럼 이동은 한 행 UPDATE)
+        Map<Column, ColumnEntity> written = new IdentityHashMap<>();
+        for (Column column : moved) {
+            ColumnEntity entity = write(column);
+            if (entity != null) {
+                written.put(column, entity);
+            }
+        }
+        if (written.isEmpty()) {
+            return moved.size();
+        }
+        
+        jpaRepository.flush();
+        // 응답에 쓰이는 도메인 객체에 올라간 버전과 수정 일시 반영
+        written.forEach((column, entity) -> {
+            column.setVersion(entity.getVersion());
+            column.setUpdatedAt(entity.getUpdatedAt());
+            track(column);
+            markChanged(entity);
+        });
+        return moved.size();
     }
     
     @Override
     public List<Column> saveAll(List<Column> columns) {
-        List<ColumnEntity> entities = columns.stream()
-                .map(mapper::toEntity)
-                .collect(Collectors.toList());
+        // 테이블은 조회 없이 참조만 연결 (존재하지 않으면 외래키 제약으로 실패)
+        Map<UUID, TableEntity> tables = new HashMap<>();
+        List<ColumnEntity> entities = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            ColumnEntity entity = mapper.toEntity(column);
+            if (column.getTableId() != null) {
+                entity.setTable(tables.computeIfAbsent(column.getTableId(), tableJpaRepository::getReferenceById));
+            }
+            entities.add(entity);
+        }
         
-        List<ColumnEntity> savedEntities = jpaRepository.saveAll(entities);
+        List<ColumnEntity> savedEntities = jpaRepository.saveAllAndFlush(entities);
+        savedEntities.forEach(this::markChanged);
         
-        return savedEntities.stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        // 순서 인덱스는 저장하지 않으므로 호출자가 정한 값을 그대로 돌려줌
+        List<Column> saved = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            Column column = mapper.toDomain(savedEntities.get(i));
+            column.setOrderIndex(columns.get(i).getOrderIndex());
+            saved.add(column);
+        }
+        return saved;
     }
     
     @Override
     public void deleteAllById(List<UUID> ids) {
+        jpaRepository.findAllById(ids).forEach(this::markChanged);
         jpaRepository.deleteAllById(ids);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 컬럼과 소속 테이블의 변경 기록 (스냅샷 무효화, 2차 캐시 항목 제거)
+     */
+    private void markChanged(ColumnEntity entity) {
+        if (entity.getTable() != null) {
+            changeTracker.markColumn(entity.getTable().getId(), entity.getId());
+        }
+    }
+    
+    /**
+     * 단건 변환 시 정렬 키 순위로 순서 인덱스 계산
+     */
+    private Column toDomainWithPosition(ColumnEntity entity) {
+        Column column = mapper.toDomain(entity);
+        column.setOrderIndex((int) jpaRepository.countPrecedingColumns(
+                entity.getTable().getId(), entity.getSortKey(), entity.getId()));
+        return column;
+    }
+    
+    /**
+     * 조회한 컬럼 상태를 작업 단위에 등록
+     */
+    private Column track(Column column) {
+        unitOfWork.register(Column.class, column.getId(), mapper.toSnapshot(column));
+        return column;
+    }
+}
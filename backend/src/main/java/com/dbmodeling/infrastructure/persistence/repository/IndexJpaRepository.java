@@ -1,7 +1,13 @@
 package com.dbmodeling.infrastructure.persistence.repository;
 
+import com.dbmodeling.infrastructure.persistence.entity.CacheRegions;
 import com.dbmodeling.infrastructure.persistence.entity.IndexEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,18 +21,45 @@ import java.util.UUID;
 public interface IndexJpaRepository extends JpaRepository<IndexEntity, UUID> {
     
     /**
-     * 테이블 ID로 인덱스 목록 조회
+     * 테이블 ID로 인덱스 목록 조회 (구성 컬럼 함께 로딩)
      */
-    List<IndexEntity> findByTableId(UUID tableId);
+    @Query("SELECT DISTINCT i FROM IndexEntity i LEFT JOIN FETCH i.columns WHERE i.table.id = :tableId")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.INDEX_QUERIES)
+    })
+    List<IndexEntity> findByTableId(@Param("tableId") UUID tableId);
+    
+    /**
+     * 프로젝트의 모든 인덱스 조회 (전체 그래프 일괄 로딩용, 구성 컬럼 함께 로딩)
+     */
+    @Query("SELECT DISTINCT i FROM IndexEntity i LEFT JOIN FETCH i.columns " +
+           "WHERE i.table.project.id = :projectId ORDER BY i.name")
+    List<IndexEntity> findAllByProjectId(@Param("projectId") UUID projectId);
+    
+    /**
+     * 특정 컬럼을 참조하는 인덱스 조회 (idx_index_columns_column_id 사용)
+     */
+    @Query("SELECT DISTINCT i FROM IndexEntity i LEFT JOIN FETCH i.columns " +
+           "WHERE i.id IN (SELECT ix.id FROM IndexEntity ix JOIN ix.columns c WHERE c.columnId = :columnId)")
+    List<IndexEntity> findByColumnId(@Param("columnId") UUID columnId);
     
     /**
      * 테이블 내에서 이름으로 인덱스 조회
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.INDEX_QUERIES)
+    })
     Optional<IndexEntity> findByTableIdAndName(UUID tableId, String name);
     
     /**
      * 테이블의 특정 타입 인덱스 조회
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.INDEX_QUERIES)
+    })
     Optional<IndexEntity> findByTableIdAndType(UUID tableId, String type);
     
     /**
@@ -43,4 +76,10 @@ public interface IndexJpaRepository extends JpaRepository<IndexEntity, UUID> {
      * 테이블에 특정 타입 인덱스 존재 여부 확인
      */
     boolean existsByTableIdAndType(UUID tableId, String type);
-}
\ No newline at end of file
+    
+    /**
+     * 테이블별 인덱스 개수 조회 (배치)
+     */
+    @Query("SELECT i.table.id, COUNT(i) FROM IndexEntity i WHERE i.table.id IN :tableIds GROUP BY i.table.id")
+    List<Object[]> countIndexesByTableIds(@Param("tableIds") List<UUID> tableIds);
+}
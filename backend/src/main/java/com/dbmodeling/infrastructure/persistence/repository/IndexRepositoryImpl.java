@@ -5,10 +5,14 @@ import com.dbmodeling.domain.repository.IndexRepository;
 import com.dbmodeling.infrastructure.persistence.entity.IndexEntity;
 import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
 import com.dbmodeling.infrastructure.persistence.mapper.IndexMapper;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -23,13 +27,16 @@ public class IndexRepositoryImpl implements IndexRepository {
     private final IndexJpaRepository jpaRepository;
     private final TableJpaRepository tableJpaRepository;
     private final IndexMapper mapper;
+    private final ProjectChangeTracker changeTracker;
     
     public IndexRepositoryImpl(IndexJpaRepository jpaRepository,
                               TableJpaRepository tableJpaRepository,
-                              IndexMapper mapper) {
+                              IndexMapper mapper,
+                              ProjectChangeTracker changeTracker) {
         this.jpaRepository = jpaRepository;
         this.tableJpaRepository = tableJpaRepository;
         this.mapper = mapper;
+        this.changeTracker = changeTracker;
     }
     
     @Override
@@ -67,6 +74,7 @@ public class IndexRepositoryImpl implements IndexRepository {
         }
         
         IndexEntity savedEntity = jpaRepository.save(entity);
+        markChanged(savedEntity);
         return mapper.toDomain(savedEntity);
     }
     
@@ -85,6 +93,14 @@ public class IndexRepositoryImpl implements IndexRepository {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Index> findByColumnId(UUID columnId) {
+        return jpaRepository.findByColumnId(columnId).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<Index> findByTableIdAndName(UUID tableId, String name) {
@@ -101,11 +117,13 @@ public class IndexRepositoryImpl implements IndexRepository {
     
     @Override
     public void deleteById(UUID id) {
+        jpaRepository.findById(id).ifPresent(this::markChanged);
         jpaRepository.deleteById(id);
     }
     
     @Override
     public void deleteByTableId(UUID tableId) {
+        changeTracker.markTable(tableId);
         jpaRepository.deleteByTableId(tableId);
     }
     
@@ -129,11 +147,19 @@ public class IndexRepositoryImpl implements IndexRepository {
     
     @Override
     public List<Index> saveAll(List<Index> indexes) {
-        List<IndexEntity> entities = indexes.stream()
-                .map(mapper::toEntity)
-                .collect(Collectors.toList());
+        // 테이블은 조회 없이 참조만 연결 (존재하지 않으면 외래키 제약으로 실패)
+        Map<UUID, TableEntity> tables = new HashMap<>();
+        List<IndexEntity> entities = new ArrayList<>(indexes.size());
+        for (Index index : indexes) {
+            IndexEntity entity = mapper.toEntity(index);
+            if (index.getTableId() != null) {
+                entity.setTable(tables.computeIfAbsent(index.getTableId(), tableJpaRepository::getReferenceById));
+            }
+            entities.add(entity);
+        }
         
-        List<IndexEntity> savedEntities = jpaRepository.saveAll(entities);
+        List<IndexEntity> savedEntities = jpaRepository.saveAllAndFlush(entities);
+        savedEntities.forEach(this::markChanged);
         
         return savedEntities.stream()
                 .map(mapper::toDomain)
@@ -142,6 +168,16 @@ public class IndexRepositoryImpl implements IndexRepository {
     
     @Override
     public void deleteAllById(List<UUID> ids) {
+        jpaRepository.findAllById(ids).forEach(this::markChanged);
         jpaRepository.deleteAllById(ids);
     }
+    
+    /**
+     * 인덱스와 소속 테이블의 변경 기록 (스냅샷 무효화, 2차 캐시 항목 제거)
+     */
+    private void markChanged(IndexEntity entity) {
+        if (entity.getTable() != null) {
+            changeTracker.markIndex(entity.getTable().getId(), entity.getId());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.dbmodeling.infrastructure.persistence.repository;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.infrastructure.persistence.mapper.ProjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 관계형 테이블에서 프로젝트 전체 그래프 조회
+ * 스냅샷 읽기 모델의 원본 데이터이기도 합니다.
+ */
+@Component
+@Transactional(readOnly = true)
+public class ProjectGraphLoader {
+    
+    private final ProjectJpaRepository projectJpaRepository;
+    private final TableJpaRepository tableJpaRepository;
+    private final ColumnJpaRepository columnJpaRepository;
+    private final IndexJpaRepository indexJpaRepository;
+    private final ProjectMapper mapper;
+    
+    public ProjectGraphLoader(ProjectJpaRepository projectJpaRepository,
+                              TableJpaRepository tableJpaRepository,
+                              ColumnJpaRepository columnJpaRepository,
+                              IndexJpaRepository indexJpaRepository,
+                              ProjectMapper mapper) {
+        this.projectJpaRepository = projectJpaRepository;
+        this.tableJpaRepository = tableJpaRepository;
+        this.columnJpaRepository = columnJpaRepository;
+        this.indexJpaRepository = indexJpaRepository;
+        this.mapper = mapper;
+    }
+    
+    /**
+     * 프로젝트, 테이블, 컬럼, 인덱스 각각 1회씩 총 4개의 쿼리로 조회
+     */
+    public Optional<Project> load(UUID id) {
+        return projectJpaRepository.findById(id)
+                .map(entity -> mapper.toDomain(
+                        entity,
+                        tableJpaRepository.findByProjectId(id),
+                        columnJpaRepository.findAllByProjectId(id),
+                        indexJpaRepository.findAllByProjectId(id)
+                ));
+    }
+}
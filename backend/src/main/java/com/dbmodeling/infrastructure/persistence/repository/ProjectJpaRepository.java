@@ -1,9 +1,18 @@
 package com.dbmodeling.infrastructure.persistence.repository;
 
+import com.dbmodeling.infrastructure.persistence.entity.CacheRegions;
 import com.dbmodeling.infrastructure.persistence.entity.ProjectEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,10 +25,49 @@ public interface ProjectJpaRepository extends JpaRepository<ProjectEntity, UUID>
     /**
      * 이름으로 프로젝트 조회
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PROJECT_QUERIES)
+    })
     Optional<ProjectEntity> findByName(String name);
     
     /**
      * 이름 중복 확인
      */
     boolean existsByName(String name);
-}
\ No newline at end of file
+    
+    /**
+     * 프로젝트 요약 조회 (테이블 개수 집계, 엔티티 로딩 없음)
+     * [id, name, description, tableCount, createdAt, updatedAt]
+     */
+    @Query("SELECT p.id, p.name, p.description, COUNT(t), p.createdAt, p.updatedAt " +
+           "FROM ProjectEntity p LEFT JOIN p.tables t " +
+           "GROUP BY p.id, p.name, p.description, p.createdAt, p.updatedAt " +
+           "ORDER BY p.createdAt DESC")
+    List<Object[]> findSummaryRows();
+    
+    /**
+     * 프로젝트 요약 첫 페이지 조회 (idx_projects_created_at 사용)
+     * [id, name, description, createdAt, updatedAt]
+     */
+    @Query("SELECT p.id, p.name, p.description, p.createdAt, p.updatedAt FROM ProjectEntity p " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Object[]> findPageRows(Pageable pageable);
+    
+    /**
+     * 프로젝트 요약 다음 페이지 조회 (키셋: createdAt, id)
+     * [id, name, description, createdAt, updatedAt]
+     */
+    @Query("SELECT p.id, p.name, p.description, p.createdAt, p.updatedAt FROM ProjectEntity p " +
+           "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Object[]> findPageRowsAfter(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") UUID id,
+                                     Pageable pageable);
+    
+    /**
+     * 프로젝트 집합 버전 조회 (하위 내용 변경 시 증가)
+     */
+    @Query("SELECT p.contentVersion FROM ProjectEntity p WHERE p.id = :id")
+    Optional<Long> findContentVersionById(@Param("id") UUID id);
+}
@@ -4,11 +4,15 @@ import com.dbmodeling.domain.model.Project;
 import com.dbmodeling.domain.repository.ProjectRepository;
 import com.dbmodeling.infrastructure.persistence.entity.ProjectEntity;
 import com.dbmodeling.infrastructure.persistence.mapper.ProjectMapper;
+import com.dbmodeling.infrastructure.persistence.snapshot.ProjectSnapshotStore;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
+import com.dbmodeling.infrastructure.persistence.unitofwork.AggregateUnitOfWork;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,45 +24,92 @@ import java.util.stream.Collectors;
 public class ProjectRepositoryImpl implements ProjectRepository {
     
     private final ProjectJpaRepository jpaRepository;
+    private final ProjectGraphLoader graphLoader;
+    private final ProjectSnapshotStore snapshotStore;
+    private final ProjectChangeTracker changeTracker;
     private final ProjectMapper mapper;
+    private final AggregateUnitOfWork unitOfWork;
     
-    public ProjectRepositoryImpl(ProjectJpaRepository jpaRepository, ProjectMapper mapper) {
+    public ProjectRepositoryImpl(ProjectJpaRepository jpaRepository,
+                                 ProjectGraphLoader graphLoader,
+                                 ProjectSnapshotStore snapshotStore,
+                                 ProjectChangeTracker changeTracker,
+                                 ProjectMapper mapper,
+                                 AggregateUnitOfWork unitOfWork) {
         this.jpaRepository = jpaRepository;
+        this.graphLoader = graphLoader;
+        this.snapshotStore = snapshotStore;
+        this.changeTracker = changeTracker;
         this.mapper = mapper;
+        this.unitOfWork = unitOfWork;
     }
     
     @Override
     public Project save(Project project) {
         ProjectEntity entity;
+        boolean created = true;
         
         if (project.getId() != null) {
-            // ID가 있으면 기존 엔티티 조회 시도
+            // 현재 트랜잭션에서 조회한 상태와 같으면 쓰기 생략
+            Optional<Set<String>> dirtyFields =
+                    unitOfWork.dirtyFields(Project.class, project.getId(), mapper.toSnapshot(project));
+            if (dirtyFields.isPresent() && dirtyFields.get().isEmpty()) {
+                return project;
+            }
+            
+            // ID가 있으면 기존 엔티티 조회 시도 (이 트랜잭션에서 조회한 엔티티는 영속성 컨텍스트에서 반환)
             Optional<ProjectEntity> existingEntity = jpaRepository.findById(project.getId());
             if (existingEntity.isPresent()) {
                 // 기존 엔티티 업데이트 - 기존 엔티티를 가져와서 업데이트
                 entity = existingEntity.get();
+                created = false;
                 mapper.updateEntity(entity, project);
+                // 반환하는 버전과 수정 일시가 커밋될 값과 같도록 바로 플러시 (제약 조건 위반도 이 호출에서 발생)
                 entity = jpaRepository.saveAndFlush(entity);
             } else {
                 // ID는 있지만 DB에 없으면 새 엔티티 생성
                 entity = mapper.toEntity(project);
                 entity.setId(null); // 새 엔티티임을 명시
-                entity = jpaRepository.save(entity);
+                entity = jpaRepository.saveAndFlush(entity);
             }
         } else {
             // 새 엔티티 생성
             entity = mapper.toEntity(project);
-            entity = jpaRepository.save(entity);
+            entity = jpaRepository.saveAndFlush(entity);
         }
         
-        return mapper.toDomain(entity);
+        if (created) {
+            changeTracker.markProjectCreated(entity.getId());
+        } else {
+            changeTracker.markProject(entity.getId());
+        }
+        return track(mapper.toDomain(entity));
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<Project> findById(UUID id) {
         return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .map(this::track);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Project> findByIdWithFullGraph(UUID id) {
+        // 현재 트랜잭션에서 변경하지 않았으면 최신 버전 스냅샷 한 행으로 조회
+        if (!changeTracker.isMarked(id)) {
+            Optional<Project> snapshot = snapshotStore.find(id);
+            if (snapshot.isPresent()) {
+                return snapshot.map(this::track);
+            }
+        }
+        
+        Optional<Project> project = graphLoader.load(id);
+        if (project.isPresent() && !changeTracker.isMarked(id)) {
+            snapshotStore.refreshAsync(Set.of(id));
+        }
+        return project.map(this::track);
     }
     
     @Override
@@ -73,12 +124,15 @@ public class ProjectRepositoryImpl implements ProjectRepository {
     @Transactional(readOnly = true)
     public Optional<Project> findByName(String name) {
         return jpaRepository.findByName(name)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .map(this::track);
     }
     
     @Override
     public void deleteById(UUID id) {
+        changeTracker.markProjectDeleted(id);
         jpaRepository.deleteById(id);
+        unitOfWork.evict(Project.class, id);
     }
     
     @Override
@@ -92,4 +146,12 @@ public class ProjectRepositoryImpl implements ProjectRepository {
     public boolean existsByName(String name) {
         return jpaRepository.existsByName(name);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 조회한 프로젝트 상태를 작업 단위에 등록
+     */
+    private Project track(Project project) {
+        unitOfWork.register(Project.class, project.getId(), mapper.toSnapshot(project));
+        return project;
+    }
+}
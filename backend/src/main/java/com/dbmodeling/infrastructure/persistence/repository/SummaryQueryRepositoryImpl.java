@@ -0,0 +1,180 @@
+package com.dbmodeling.infrastructure.persistence.repository;
+
+import com.dbmodeling.domain.model.ProjectSummary;
+import com.dbmodeling.domain.model.TableSummary;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 요약 조회 리포지토리 구현체
+ * 엔티티를 하이드레이션하지 않고 집계 프로젝션만 조회
+ */
+@Repository
+@Transactional(readOnly = true)
+public class SummaryQueryRepositoryImpl implements SummaryQueryRepository {
+    
+    private final ProjectJpaRepository projectJpaRepository;
+    private final TableJpaRepository tableJpaRepository;
+    private final ColumnJpaRepository columnJpaRepository;
+    private final IndexJpaRepository indexJpaRepository;
+    
+    public SummaryQueryRepositoryImpl(ProjectJpaRepository projectJpaRepository,
+                                      TableJpaRepository tableJpaRepository,
+                                      ColumnJpaRepository columnJpaRepository,
+                                      IndexJpaRepository indexJpaRepository) {
+        this.projectJpaRepository = projectJpaRepository;
+        this.tableJpaRepository = tableJpaRepository;
+        this.columnJpaRepository = columnJpaRepository;
+        this.indexJpaRepository = indexJpaRepository;
+    }
+    
+    @Override
+    public List<ProjectSummary> findProjectSummaries() {
+        List<Object[]> rows = projectJpaRepository.findSummaryRows();
+        List<ProjectSummary> summaries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            summaries.add(new ProjectSummary(
+                (UUID) row[0],
+                (String) row[1],
+                (String) row[2],
+                toInt(row[3]),
+                (LocalDateTime) row[4],
+                (LocalDateTime) row[5]
+            ));
+        }
+        return summaries;
+    }
+    
+    @Override
+    public List<TableSummary> findTableSummariesByProjectId(UUID projectId) {
+        return toTableSummaries(projectId, tableJpaRepository.findSummaryRowsByProjectId(projectId));
+    }
+    
+    @Override
+    public List<ProjectSummary> findProjectSummariesAfter(LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<Object[]> rows = afterCreatedAt == null || afterId == null
+            ? projectJpaRepository.findPageRows(pageRequest)
+            : projectJpaRepository.findPageRowsAfter(afterCreatedAt, afterId, pageRequest);
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<UUID> projectIds = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            projectIds.add((UUID) row[0]);
+        }
+        
+        // 페이지에 포함된 프로젝트의 테이블 개수만 집계
+        Map<UUID, Integer> tableCounts = toCountMap(tableJpaRepository.countTablesByProjectIds(projectIds));
+        
+        List<ProjectSummary> summaries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            UUID projectId = (UUID) row[0];
+            summaries.add(new ProjectSummary(
+                projectId,
+                (String) row[1],
+                (String) row[2],
+                tableCounts.getOrDefault(projectId, 0),
+                (LocalDateTime) row[3],
+                (LocalDateTime) row[4]
+            ));
+        }
+        return summaries;
+    }
+    
+    @Override
+    public List<TableSummary> findTableSummariesAfter(UUID projectId, String afterName, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<Object[]> rows = afterName == null
+            ? tableJpaRepository.findSummaryPageRows(projectId, pageRequest)
+            : tableJpaRepository.findSummaryPageRowsAfter(projectId, afterName, pageRequest);
+        return toTableSummaries(projectId, rows);
+    }
+    
+    @Override
+    public Optional<Long> findProjectVersion(UUID projectId) {
+        return projectJpaRepository.findContentVersionById(projectId);
+    }
+    
+    @Override
+    public Optional<Long> findProjectVersionByTableId(UUID tableId) {
+        return tableJpaRepository.findProjectContentVersionByTableId(tableId);
+    }
+    
+    @Override
+    public Optional<Long> findProjectVersionByColumnId(UUID columnId) {
+        return columnJpaRepository.findProjectContentVersionByColumnId(columnId);
+    }
+    
+    @Override
+    public Optional<UUID> findProjectIdByTableId(UUID tableId) {
+        return tableJpaRepository.findProjectIdByTableId(tableId);
+    }
+    
+    @Override
+    public Optional<UUID> findProjectIdByColumnId(UUID columnId) {
+        return columnJpaRepository.findProjectIdByColumnId(columnId);
+    }
+    
+    /**
+     * 테이블 행에 컬럼/인덱스 개수를 붙여 요약 생성
+     */
+    private List<TableSummary> toTableSummaries(UUID projectId, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<UUID> tableIds = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            tableIds.add((UUID) row[0]);
+        }
+        
+        // 테이블별 컬럼/인덱스 개수를 각각 한 번의 GROUP BY 쿼리로 집계
+        Map<UUID, Integer> columnCounts = toCountMap(columnJpaRepository.countColumnsByTableIds(tableIds));
+        Map<UUID, Integer> indexCounts = toCountMap(indexJpaRepository.countIndexesByTableIds(tableIds));
+        
+        List<TableSummary> summaries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            UUID tableId = (UUID) row[0];
+            summaries.add(new TableSummary(
+                tableId,
+                projectId,
+                (String) row[1],
+                (String) row[2],
+                columnCounts.getOrDefault(tableId, 0),
+                indexCounts.getOrDefault(tableId, 0),
+                toInt(row[3]),
+                toInt(row[4]),
+                (LocalDateTime) row[5],
+                (LocalDateTime) row[6]
+            ));
+        }
+        return summaries;
+    }
+    
+    /**
+     * [id, count] 집계 결과를 Map으로 변환
+     */
+    private Map<UUID, Integer> toCountMap(List<Object[]> rows) {
+        Map<UUID, Integer> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put((UUID) row[0], toInt(row[1]));
+        }
+        return counts;
+    }
+    
+    private int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+}
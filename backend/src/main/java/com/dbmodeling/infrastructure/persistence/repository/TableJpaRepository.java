@@ -1,8 +1,13 @@
 package com.dbmodeling.infrastructure.persistence.repository;
 
+import com.dbmodeling.infrastructure.persistence.entity.CacheRegions;
 import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,11 +24,19 @@ public interface TableJpaRepository extends JpaRepository<TableEntity, UUID> {
     /**
      * 프로젝트 ID로 테이블 목록 조회
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TABLE_QUERIES)
+    })
     List<TableEntity> findByProjectId(UUID projectId);
     
     /**
      * 프로젝트 내에서 이름으로 테이블 조회
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TABLE_QUERIES)
+    })
     Optional<TableEntity> findByProjectIdAndName(UUID projectId, String name);
     
     /**
@@ -67,4 +80,48 @@ public interface TableJpaRepository extends JpaRepository<TableEntity, UUID> {
            "LEFT JOIN FETCH t.indexes " +
            "WHERE t.project.id = :projectId")
     List<TableEntity> findByProjectIdWithIndexes(@Param("projectId") UUID projectId);
-}
\ No newline at end of file
+    
+    /**
+     * 프로젝트의 테이블 요약 컬럼 조회 (엔티티 로딩 없음)
+     * [id, name, description, positionX, positionY, createdAt, updatedAt]
+     */
+    @Query("SELECT t.id, t.name, t.description, t.positionX, t.positionY, t.createdAt, t.updatedAt " +
+           "FROM TableEntity t WHERE t.project.id = :projectId ORDER BY t.name")
+    List<Object[]> findSummaryRowsByProjectId(@Param("projectId") UUID projectId);
+    
+    /**
+     * 프로젝트의 테이블 요약 첫 페이지 조회 (idx_tables_project_name 사용)
+     * [id, name, description, positionX, positionY, createdAt, updatedAt]
+     */
+    @Query("SELECT t.id, t.name, t.description, t.positionX, t.positionY, t.createdAt, t.updatedAt " +
+           "FROM TableEntity t WHERE t.project.id = :projectId ORDER BY t.name")
+    List<Object[]> findSummaryPageRows(@Param("projectId") UUID projectId, Pageable pageable);
+    
+    /**
+     * 프로젝트의 테이블 요약 다음 페이지 조회 (키셋: name, 프로젝트 내 유일)
+     * [id, name, description, positionX, positionY, createdAt, updatedAt]
+     */
+    @Query("SELECT t.id, t.name, t.description, t.positionX, t.positionY, t.createdAt, t.updatedAt " +
+           "FROM TableEntity t WHERE t.project.id = :projectId AND t.name > :afterName ORDER BY t.name")
+    List<Object[]> findSummaryPageRowsAfter(@Param("projectId") UUID projectId,
+                                            @Param("afterName") String afterName,
+                                            Pageable pageable);
+    
+    /**
+     * 프로젝트별 테이블 개수 조회 (배치)
+     */
+    @Query("SELECT t.project.id, COUNT(t) FROM TableEntity t WHERE t.project.id IN :projectIds GROUP BY t.project.id")
+    List<Object[]> countTablesByProjectIds(@Param("projectIds") List<UUID> projectIds);
+    
+    /**
+     * 테이블이 속한 프로젝트의 집합 버전 조회
+     */
+    @Query("SELECT t.project.contentVersion FROM TableEntity t WHERE t.id = :tableId")
+    Optional<Long> findProjectContentVersionByTableId(@Param("tableId") UUID tableId);
+    
+    /**
+     * 테이블이 속한 프로젝트 ID 조회
+     */
+    @Query("SELECT t.project.id FROM TableEntity t WHERE t.id = :tableId")
+    Optional<UUID> findProjectIdByTableId(@Param("tableId") UUID tableId);
+}
@@ -5,11 +5,14 @@ import com.dbmodeling.domain.repository.TableRepository;
 import com.dbmodeling.infrastructure.persistence.entity.ProjectEntity;
 import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
 import com.dbmodeling.infrastructure.persistence.mapper.TableMapper;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
+import com.dbmodeling.infrastructure.persistence.unitofwork.AggregateUnitOfWork;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,13 +26,19 @@ public class TableRepositoryImpl implements TableRepository {
     private final TableJpaRepository jpaRepository;
     private final ProjectJpaRepository projectJpaRepository;
     private final TableMapper mapper;
+    private final ProjectChangeTracker changeTracker;
+    private final AggregateUnitOfWork unitOfWork;
     
     public TableRepositoryImpl(TableJpaRepository jpaRepository, 
                               ProjectJpaRepository projectJpaRepository,
-                              TableMapper mapper) {
+                              TableMapper mapper,
+                              ProjectChangeTracker changeTracker,
+                              AggregateUnitOfWork unitOfWork) {
         this.jpaRepository = jpaRepository;
         this.projectJpaRepository = projectJpaRepository;
         this.mapper = mapper;
+        this.changeTracker = changeTracker;
+        this.unitOfWork = unitOfWork;
     }
     
     @Override
@@ -37,7 +46,14 @@ public class TableRepositoryImpl implements TableRepository {
         TableEntity entity;
         
         if (table.getId() != null) {
-            // ID가 있으면 기존 엔티티 조회 시도
+            // 현재 트랜잭션에서 조회한 상태와 같으면 쓰기 생략
+            Optional<Set<String>> dirtyFields =
+                    unitOfWork.dirtyFields(Table.class, table.getId(), mapper.toSnapshot(table));
+            if (dirtyFields.isPresent() && dirtyFields.get().isEmpty()) {
+                return table;
+            }
+            
+            // ID가 있으면 기존 엔티티 조회 시도 (이 트랜잭션에서 조회한 엔티티는 영속성 컨텍스트에서 반환)
             Optional<TableEntity> existingEntity = jpaRepository.findById(table.getId());
             if (existingEntity.isPresent()) {
                 // 기존 엔티티 업데이트 - 기존 엔티티를 가져와서 업데이트
@@ -51,6 +67,7 @@ public class TableRepositoryImpl implements TableRepository {
                     entity.setProject(project);
                 }
                 
+                // 반환하는 버전과 수정 일시가 커밋될 값과 같도록 바로 플러시 (제약 조건 위반도 이 호출에서 발생)
                 entity = jpaRepository.saveAndFlush(entity);
             } else {
                 // ID는 있지만 DB에 없으면 새 엔티티 생성
@@ -64,7 +81,7 @@ public class TableRepositoryImpl implements TableRepository {
                     entity.setProject(project);
                 }
                 
-                entity = jpaRepository.save(entity);
+                entity = jpaRepository.saveAndFlush(entity);
             }
         } else {
             // 새 엔티티 생성
@@ -77,10 +94,11 @@ public class TableRepositoryImpl implements TableRepository {
                 entity.setProject(project);
             }
             
-            entity = jpaRepository.save(entity);
+            entity = jpaRepository.saveAndFlush(entity);
         }
         
-        return mapper.toDomain(entity);
+        changeTracker.markTable(entity.getId(), entity.getProject() != null ? entity.getProject().getId() : null);
+        return track(mapper.toDomain(entity));
     }
     
     @Override
@@ -88,7 +106,8 @@ public class TableRepositoryImpl implements TableRepository {
     public Optional<Table> findById(UUID id) {
         // 기본 테이블 정보만 조회 (지연 로딩으로 컬럼과 인덱스는 필요시 로딩)
         return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .map(this::track);
     }
     
     @Override
@@ -97,6 +116,7 @@ public class TableRepositoryImpl implements TableRepository {
         // 기본 테이블 정보만 조회 (지연 로딩으로 컬럼과 인덱스는 필요시 로딩)
         return jpaRepository.findByProjectId(projectId).stream()
                 .map(mapper::toDomain)
+                .map(this::track)
                 .collect(Collectors.toList());
     }
     
@@ -104,16 +124,20 @@ public class TableRepositoryImpl implements TableRepository {
     @Transactional(readOnly = true)
     public Optional<Table> findByProjectIdAndName(UUID projectId, String name) {
         return jpaRepository.findByProjectIdAndName(projectId, name)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .map(this::track);
     }
     
     @Override
     public void deleteById(UUID id) {
+        changeTracker.markTable(id);
         jpaRepository.deleteById(id);
+        unitOfWork.evict(Table.class, id);
     }
     
     @Override
     public void deleteByProjectId(UUID projectId) {
+        changeTracker.markProject(projectId);
         jpaRepository.deleteByProjectId(projectId);
     }
     
@@ -128,4 +152,12 @@ public class TableRepositoryImpl implements TableRepository {
     public boolean existsByProjectIdAndName(UUID projectId, String name) {
         return jpaRepository.existsByProjectIdAndName(projectId, name);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 조회한 테이블 상태를 작업 단위에 등록
+     */
+    private Table track(Table table) {
+        unitOfWork.register(Table.class, table.getId(), mapper.toSnapshot(table));
+        return table;
+    }
+}
@@ -0,0 +1,161 @@
+package com.dbmodeling.infrastructure.persistence.snapshot;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.infrastructure.persistence.repository.ProjectGraphLoader;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 프로젝트 스냅샷 읽기 모델 저장소
+ * 프로젝트 전체 그래프를 jsonb 한 행으로 보관하며 projects.content_version과 버전이 같을 때만 사용합니다.
+ * 관계형 테이블이 원본이며 스냅샷은 커밋 후 비동기로 다시 만들어집니다.
+ */
+@Component
+public class ProjectSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectSnapshotStore.class);
+
+    private static final String SELECT_SNAPSHOT =
+        "SELECT s.payload FROM project_snapshots s " +
+        "JOIN projects p ON p.id = s.project_id AND p.content_version = s.version " +
+        "WHERE s.project_id = ?";
+    private static final String SELECT_CONTENT_VERSION =
+        "SELECT content_version FROM projects WHERE id = ?";
+    private static final String UPSERT_SNAPSHOT =
+        "INSERT INTO project_snapshots (project_id, version, payload, created_at) " +
+        "VALUES (?, ?, CAST(? AS jsonb), ?) " +
+        "ON CONFLICT (project_id) DO UPDATE SET version = EXCLUDED.version, payload = EXCLUDED.payload, " +
+        "created_at = EXCLUDED.created_at WHERE project_snapshots.version < EXCLUDED.version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectGraphLoader graphLoader;
+    private final ObjectMapper snapshotMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final boolean enabled;
+
+    /**
+     * 재생성이 예약되었지만 아직 시작하지 않은 프로젝트 (같은 프로젝트의 중복 예약 합치기)
+     */
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+    public ProjectSnapshotStore(JdbcTemplate jdbcTemplate,
+                                ProjectGraphLoader graphLoader,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("applicationTaskExecutor") Executor executor,
+                                @Value("${app.read-model.project-snapshot.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.graphLoader = graphLoader;
+        // 도메인 모델은 getter 규칙이 일정하지 않으므로 필드 기준으로 직렬화
+        this.snapshotMapper = objectMapper.copy()
+            .setVisibility(PropertyAccessor.ALL, Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 최신 버전의 스냅샷 조회 (없거나 오래되었으면 빈 Optional)
+     */
+    public Optional<Project> find(UUID projectId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            String payload = jdbcTemplate.query(SELECT_SNAPSHOT,
+                rs -> rs.next() ? rs.getString(1) : null, projectId);
+            if (payload == null) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshotMapper.readValue(payload, Project.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("프로젝트 스냅샷 조회 실패, 관계형 조회로 대체: {} - {}", projectId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷 재생성 예약 (호출 스레드와 별도 트랜잭션에서 실행)
+     * 같은 프로젝트의 재생성이 이미 대기 중이면 새로 예약하지 않습니다.
+     * 대기 중인 작업은 시작할 때 최신 버전을 읽으므로 그 사이의 변경도 반영됩니다.
+     */
+    public void refreshAsync(Collection<UUID> projectIds) {
+        if (!enabled) {
+            return;
+        }
+
+        for (UUID projectId : projectIds) {
+            if (!queued.add(projectId)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    // 시작 후 들어온 변경은 이번 작업이 읽은 버전보다 새로울 수 있으므로 다시 예약할 수 있게 먼저 해제
+                    queued.remove(projectId);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> rebuild(projectId));
+                    } catch (RuntimeException e) {
+                        logger.warn("프로젝트 스냅샷 재생성 실패: {} - {}", projectId, e.getMessage());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queued.remove(projectId);
+                logger.warn("프로젝트 스냅샷 재생성 예약 실패: {} - {}", projectId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 관계형 테이블에서 그래프를 읽어 스냅샷 저장
+     * 버전을 먼저 읽어 더 새로운 데이터에 오래된 버전이 붙을 수는 있어도 그 반대는 생기지 않도록 합니다.
+     */
+    void rebuild(UUID projectId) {
+        Long version = jdbcTemplate.query(SELECT_CONTENT_VERSION,
+            rs -> rs.next() ? rs.getLong(1) : null, projectId);
+        if (version == null) {
+            return;
+        }
+
+        Optional<Project> project = graphLoader.load(projectId);
+        if (project.isEmpty()) {
+            return;
+        }
+
+        try {
+            String payload = snapshotMapper.writeValueAsString(project.get());
+            jdbcTemplate.update(UPSERT_SNAPSHOT, projectId, version, payload, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (JsonProcessingException e) {
+            logger.warn("프로젝트 스냅샷 직렬화 실패: {} - {}", projectId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.dbmodeling.infrastructure.persistence.unitofwork;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 범위 작업 단위(Unit of Work)
+ * 조회한 애그리거트의 필드 스냅샷을 보관하고 저장 시 변경된 필드를 계산합니다.
+ * 스냅샷은 트랜잭션 종료 시 함께 폐기됩니다.
+ */
+@Component
+public class AggregateUnitOfWork {
+
+    /**
+     * 조회 시점의 애그리거트 상태 등록
+     */
+    public void register(Class<?> type, UUID id, Map<String, Object> state) {
+        if (id == null) {
+            return;
+        }
+        Map<SnapshotKey, Map<String, Object>> snapshots = currentSnapshots();
+        if (snapshots != null) {
+            snapshots.put(new SnapshotKey(type, id), new HashMap<>(state));
+        }
+    }
+
+    /**
+     * 스냅샷 대비 변경된 필드 계산
+     * 현재 트랜잭션에서 조회한 적이 없으면 비어 있는 Optional을 반환합니다.
+     */
+    public Optional<Set<String>> dirtyFields(Class<?> type, UUID id, Map<String, Object> state) {
+        if (id == null || !TransactionSynchronizationManager.hasResource(this)) {
+            return Optional.empty();
+        }
+        Map<String, Object> snapshot = currentSnapshots().get(new SnapshotKey(type, id));
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        Set<String> dirty = new LinkedHashSet<>();
+        state.forEach((field, value) -> {
+            if (!snapshot.containsKey(field) || !Objects.equals(snapshot.get(field), value)) {
+                dirty.add(field);
+            }
+        });
+        return Optional.of(dirty);
+    }
+
+    /**
+     * 삭제된 애그리거트 스냅샷 제거
+     */
+    public void evict(Class<?> type, UUID id) {
+        if (id != null && TransactionSynchronizationManager.hasResource(this)) {
+            currentSnapshots().remove(new SnapshotKey(type, id));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<SnapshotKey, Map<String, Object>> currentSnapshots() {
+        Map<SnapshotKey, Map<String, Object>> snapshots =
+            (Map<SnapshotKey, Map<String, Object>>) TransactionSynchronizationManager.getResource(this);
+        if (snapshots != null) {
+            return snapshots;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<SnapshotKey, Map<String, Object>> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AggregateUnitOfWork.this);
+            }
+        });
+        return created;
+    }
+
+    private record SnapshotKey(Class<?> type, UUID id) {
+    }
+}
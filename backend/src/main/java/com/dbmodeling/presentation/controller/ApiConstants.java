@@ -20,6 +20,7 @@ public final class ApiConstants {
     public static final String INDEXES_PATH = "/indexes";
     public static final String VALIDATION_PATH = "/validation";
     public static final String EXPORT_PATH = "/export";
+    public static final String IMPORT_PATH = "/import";
     
     // 페이지네이션 기본값
     public static final int DEFAULT_PAGE_SIZE = 20;
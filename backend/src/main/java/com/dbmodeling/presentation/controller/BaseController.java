@@ -1,13 +1,25 @@
 package com.dbmodeling.presentation.controller;
 
+import com.dbmodeling.domain.model.CursorPage;
 import com.dbmodeling.presentation.dto.response.ApiResponse;
+import com.dbmodeling.presentation.dto.response.CursorPageResponse;
 import com.dbmodeling.presentation.dto.response.PageResponse;
+import com.dbmodeling.presentation.exception.BusinessException;
+import com.dbmodeling.presentation.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * 기본 컨트롤러 클래스
  * 모든 컨트롤러에서 공통으로 사용하는 응답 생성 메서드를 제공합니다.
@@ -30,6 +42,20 @@ public abstract class BaseController {
         return ResponseEntity.ok(ApiResponse.success(data, message));
     }
 
+    /**
+     * 성공 응답 생성 (ETag 헤더 포함)
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> success(T data, String message, String eTag) {
+        return ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(data, message));
+    }
+
+    /**
+     * 변경 없음 응답 (304 Not Modified)
+     */
+    protected <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
     /**
      * 생성 성공 응답 (201 Created)
      */
@@ -66,4 +92,108 @@ public abstract class BaseController {
     protected <T> ResponseEntity<ApiResponse<PageResponse<T>>> page(Page<T> page, String message) {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page), message));
     }
-}
\ No newline at end of file
+
+    /**
+     * 커서 페이지네이션 응답 생성 (메시지 포함)
+     */
+    protected <T> ResponseEntity<ApiResponse<CursorPageResponse<T>>> cursorPage(
+            CursorPage<T> page, int size, String message) {
+        return ResponseEntity.ok(ApiResponse.success(CursorPageResponse.of(page, size), message));
+    }
+
+    /**
+     * 페이지 크기를 허용 범위(1 ~ MAX_PAGE_SIZE)로 보정
+     */
+    protected int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, ApiConstants.MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 집합 버전 기반 강한 ETag 생성
+     */
+    protected String versionETag(String resource, UUID id, long version) {
+        return "\"" + resource + "-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * 내용 해시 기반 강한 ETag 생성
+     */
+    protected String contentETag(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * If-None-Match가 현재 ETag와 일치하는지 확인 (약한 비교)
+     */
+    protected boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(stripWeak(eTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match에서 이 리소스 ETag의 버전 추출 (강한 비교)
+     * 실제 확인은 수정과 같은 쓰기 트랜잭션에서 이 버전으로 하며, 헤더가 없거나 "*"이면 빈 집합을 반환합니다.
+     * 이 리소스의 ETag가 하나도 없으면 현재 버전과 일치할 수 없으므로 바로 412로 응답합니다.
+     */
+    protected Set<Long> ifMatchVersions(String ifMatch, String resource, UUID id) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return Set.of();
+        }
+        String prefix = "\"" + resource + "-" + id + "-v";
+        Set<Long> versions = new HashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return Set.of();
+            }
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    versions.add(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // 형식이 다른 태그는 어떤 버전과도 일치하지 않음
+                }
+            }
+        }
+        if (versions.isEmpty()) {
+            throw preconditionFailed();
+        }
+        return versions;
+    }
+
+    /**
+     * 경로의 ID 파싱 (형식이 잘못되면 404)
+     * 나머지 처리와 분리해 서비스의 검증 오류가 ID 오류로 바뀌지 않도록 합니다.
+     */
+    protected UUID parseId(String id, String resourceName) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("유효하지 않은 " + resourceName + " ID입니다: " + id);
+        }
+    }
+
+    /**
+     * 다른 사용자가 먼저 수정해 조건부 요청이 실패했을 때의 예외 (412)
+     */
+    protected BusinessException preconditionFailed() {
+        return new BusinessException("PRECONDITION_FAILED",
+            "다른 사용자가 먼저 수정했습니다. 최신 내용을 다시 조회한 뒤 수정하세요.", HttpStatus.PRECONDITION_FAILED);
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
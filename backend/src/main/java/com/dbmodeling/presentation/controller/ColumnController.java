@@ -1,6 +1,7 @@
 package com.dbmodeling.presentation.controller;
 
 import com.dbmodeling.application.service.ColumnService;
+import com.dbmodeling.application.service.ModelVersionService;
 import com.dbmodeling.domain.model.Column;
 import com.dbmodeling.presentation.dto.request.CreateColumnRequest;
 import com.dbmodeling.presentation.dto.request.UpdateColumnRequest;
@@ -14,6 +15,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,34 +34,46 @@ import java.util.stream.Collectors;
 public class ColumnController extends BaseController {
 
     private final ColumnService columnService;
+    private final ModelVersionService modelVersionService;
     private final ColumnMapper columnMapper;
 
-    public ColumnController(ColumnService columnService, @Qualifier("presentationColumnMapper") ColumnMapper columnMapper) {
+    public ColumnController(ColumnService columnService,
+                            ModelVersionService modelVersionService,
+                            @Qualifier("presentationColumnMapper") ColumnMapper columnMapper) {
         this.columnService = columnService;
+        this.modelVersionService = modelVersionService;
         this.columnMapper = columnMapper;
     }
 
     @Operation(
         summary = "테이블의 컬럼 목록 조회",
-        description = "특정 테이블에 속한 모든 컬럼을 조회합니다."
+        description = "특정 테이블에 속한 모든 컬럼을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "테이블을 찾을 수 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping(ApiConstants.TABLES_PATH + "/{tableId}" + ApiConstants.COLUMNS_PATH)
     public ResponseEntity<ApiResponse<List<ColumnResponse>>> getColumnsByTable(
         @Parameter(description = "테이블 ID", required = true)
-        @PathVariable String tableId
+        @PathVariable String tableId,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID tableUuid = UUID.fromString(tableId);
+            String eTag = versionETag("columns", tableUuid, modelVersionService.getTableVersion(tableUuid));
+            if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
             List<Column> columns = columnService.getColumnsByTableId(tableUuid);
             List<ColumnResponse> responses = columns.stream()
                 .map(columnMapper::toResponse)
                 .collect(Collectors.toList());
-            return success(responses, "컬럼 목록을 성공적으로 조회했습니다.");
+            return success(responses, "컬럼 목록을 성공적으로 조회했습니다.", eTag);
         } catch (IllegalArgumentException e) {
             throw new ResourceNotFoundException("유효하지 않은 테이블 ID입니다: " + tableId);
         }
@@ -66,23 +81,31 @@ public class ColumnController extends BaseController {
 
     @Operation(
         summary = "컬럼 상세 조회",
-        description = "특정 컬럼의 상세 정보를 조회합니다."
+        description = "특정 컬럼의 상세 정보를 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "컬럼을 찾을 수 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping(ApiConstants.COLUMNS_PATH + "/{id}")
     public ResponseEntity<ApiResponse<ColumnResponse>> getColumn(
         @Parameter(description = "컬럼 ID", required = true)
-        @PathVariable String id
+        @PathVariable String id,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID columnId = UUID.fromString(id);
+            String eTag = versionETag("column", columnId, modelVersionService.getColumnVersion(columnId));
+            if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
             Column column = columnService.getColumnById(columnId);
             ColumnResponse response = columnMapper.toResponse(column);
-            return success(response, "컬럼을 성공적으로 조회했습니다.");
+            return success(response, "컬럼을 성공적으로 조회했습니다.", eTag);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("컬럼을 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("컬럼", id);
@@ -127,12 +150,13 @@ public class ColumnController extends BaseController {
 
     @Operation(
         summary = "컬럼 수정",
-        description = "기존 컬럼의 정보를 수정합니다."
+        description = "기존 컬럼의 정보를 수정합니다. If-Match가 있으면 현재 ETag와 같을 때만 수정합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "컬럼을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "다른 사용자가 먼저 수정함"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PutMapping(ApiConstants.COLUMNS_PATH + "/{id}")
@@ -140,15 +164,21 @@ public class ColumnController extends BaseController {
         @Parameter(description = "컬럼 ID", required = true)
         @PathVariable String id,
         @Parameter(description = "컬럼 수정 요청", required = true)
-        @Valid @RequestBody UpdateColumnRequest request
+        @Valid @RequestBody UpdateColumnRequest request,
+        @Parameter(description = "조회 시 받은 ETag")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         try {
             UUID columnId = UUID.fromString(id);
             var command = columnMapper.toUpdateCommand(columnId, request);
-            Column updatedColumn = columnService.updateColumn(command);
+            ModelVersionService.Versioned<Column> updated = modelVersionService.updateColumnIfMatch(
+                columnId, ifMatchVersions(ifMatch, "column", columnId), () -> columnService.updateColumn(command));
             
-            ColumnResponse response = columnMapper.toResponse(updatedColumn);
-            return success(response, "컬럼이 성공적으로 수정되었습니다.");
+            ColumnResponse response = columnMapper.toResponse(updated.value());
+            String eTag = versionETag("column", columnId, updated.version());
+            return success(response, "컬럼이 성공적으로 수정되었습니다.", eTag);
+        } catch (OptimisticLockingFailureException e) {
+            throw preconditionFailed();
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("컬럼을 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("컬럼", id);
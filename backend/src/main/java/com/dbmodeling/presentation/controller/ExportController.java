@@ -2,7 +2,9 @@ package com.dbmodeling.presentation.controller;
 
 import com.dbmodeling.application.service.ExportService;
 import com.dbmodeling.domain.model.Project;
-import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.model.SchemaGenerationOptions;
+import com.dbmodeling.domain.service.ScriptWriter;
+import com.dbmodeling.infrastructure.cache.SchemaOutputCache;
 import com.dbmodeling.presentation.dto.request.ExportRequest;
 import com.dbmodeling.presentation.dto.response.ApiResponse;
 import com.dbmodeling.presentation.dto.response.ExportResponse;
@@ -16,8 +18,14 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * 스키마 내보내기 REST API 컨트롤러
@@ -29,16 +37,14 @@ import java.util.UUID;
 public class ExportController extends BaseController {
 
     private final ExportService exportService;
-    private final ProjectRepository projectRepository;
 
-    public ExportController(ExportService exportService, ProjectRepository projectRepository) {
+    public ExportController(ExportService exportService) {
         this.exportService = exportService;
-        this.projectRepository = projectRepository;
     }
 
     @Operation(
         summary = "스키마 미리보기",
-        description = "프로젝트의 MSSQL 스키마를 미리보기 형태로 생성합니다."
+        description = "프로젝트의 MSSQL 스키마를 미리보기 형태로 생성합니다. 생성 결과가 If-None-Match와 같으면 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "생성 성공"),
@@ -51,19 +57,24 @@ public class ExportController extends BaseController {
         @Parameter(description = "프로젝트 ID", required = true)
         @PathVariable String projectId,
         @Parameter(description = "내보내기 옵션")
-        @Valid @RequestBody(required = false) ExportRequest request
+        @Valid @RequestBody(required = false) ExportRequest request,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID projectUuid = UUID.fromString(projectId);
-            Project project = projectRepository.findById(projectUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("프로젝트", projectId));
+            Project project = exportService.getProject(projectUuid);
             
             if (request == null) {
                 request = new ExportRequest();
             }
             
             ExportResponse response = generateExportResponse(project, request);
-            return success(response, "스키마 미리보기가 성공적으로 생성되었습니다.");
+            String eTag = contentETag(response.getContent());
+            if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            return success(response, "스키마 미리보기가 성공적으로 생성되었습니다.", eTag);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("프로젝트를 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("프로젝트", projectId);
@@ -74,7 +85,7 @@ public class ExportController extends BaseController {
 
     @Operation(
         summary = "SQL 스크립트 생성",
-        description = "프로젝트의 MSSQL DDL 스크립트를 생성합니다."
+        description = "프로젝트의 MSSQL DDL 스크립트를 생성합니다. 생성 결과가 If-None-Match와 같으면 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "생성 성공"),
@@ -87,12 +98,13 @@ public class ExportController extends BaseController {
         @Parameter(description = "프로젝트 ID", required = true)
         @PathVariable String projectId,
         @Parameter(description = "내보내기 옵션")
-        @Valid @RequestBody(required = false) ExportRequest request
+        @Valid @RequestBody(required = false) ExportRequest request,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID projectUuid = UUID.fromString(projectId);
-            Project project = projectRepository.findById(projectUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("프로젝트", projectId));
+            Project project = exportService.getProject(projectUuid);
             
             if (request == null) {
                 request = new ExportRequest();
@@ -100,7 +112,11 @@ public class ExportController extends BaseController {
             }
             
             ExportResponse response = generateExportResponse(project, request);
-            return success(response, "SQL 스크립트가 성공적으로 생성되었습니다.");
+            String eTag = contentETag(response.getContent());
+            if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            return success(response, "SQL 스크립트가 성공적으로 생성되었습니다.", eTag);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("프로젝트를 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("프로젝트", projectId);
@@ -111,7 +127,7 @@ public class ExportController extends BaseController {
 
     @Operation(
         summary = "스키마 다운로드",
-        description = "프로젝트의 MSSQL 스키마를 파일로 다운로드합니다."
+        description = "프로젝트의 MSSQL 스키마를 파일로 다운로드합니다. 생성하면서 바로 전송하며, 프로젝트 버전과 형식이 If-None-Match와 같으면 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "다운로드 성공"),
@@ -120,31 +136,46 @@ public class ExportController extends BaseController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PostMapping(ApiConstants.PROJECTS_PATH + "/{projectId}" + ApiConstants.EXPORT_PATH + "/download")
-    public ResponseEntity<byte[]> downloadSchema(
+    public ResponseEntity<StreamingResponseBody> downloadSchema(
         @Parameter(description = "프로젝트 ID", required = true)
         @PathVariable String projectId,
         @Parameter(description = "내보내기 옵션")
-        @Valid @RequestBody(required = false) ExportRequest request
+        @Valid @RequestBody(required = false) ExportRequest request,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID projectUuid = UUID.fromString(projectId);
-            Project project = projectRepository.findById(projectUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("프로젝트", projectId));
+            Project project = exportService.getProject(projectUuid);
             
             if (request == null) {
                 request = new ExportRequest();
             }
             
-            ExportResponse exportResponse = generateExportResponse(project, request);
+            Download download = prepareDownload(project, request);
+            // 본문은 생성하면서 보내므로 ETag는 내용 대신 프로젝트 버전과 형식으로 만듦
+            String eTag = project.getContentVersion() != null
+                ? contentETag(project.getId() + ";v" + project.getContentVersion() + ";" + download.variant())
+                : null;
+            if (eTag != null && matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
             
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(exportResponse.getContentType()));
-            headers.setContentDispositionFormData("attachment", exportResponse.getFileName());
-            headers.setContentLength(exportResponse.getFileSize());
+            headers.setContentType(MediaType.parseMediaType(download.contentType()));
+            headers.setContentDispositionFormData("attachment", download.fileName());
+            if (eTag != null) {
+                headers.setETag(eTag);
+            }
             
+            StreamingResponseBody body = outputStream -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                download.body().accept(new ScriptWriter(writer));
+                writer.flush();
+            };
             return ResponseEntity.ok()
                 .headers(headers)
-                .body(exportResponse.getContent().getBytes());
+                .body(body);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("프로젝트를 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("프로젝트", projectId);
@@ -200,45 +231,36 @@ public class ExportController extends BaseController {
         String content;
         String fileName;
         String contentType;
-        UUID projectId = project.getId();
         
         switch (request.getFormat().toUpperCase()) {
             case "SQL":
-                // ExportRequest를 SchemaGenerationOptions로 변환
-                com.dbmodeling.domain.model.SchemaGenerationOptions options = 
-                    new com.dbmodeling.domain.model.SchemaGenerationOptions();
-                options.setIncludeDropStatements(request.isIncludeDropStatements());
-                options.setIncludeComments(request.isIncludeComments());
-                options.setIncludeIndexes(request.isIncludeIndexes());
-                options.setIncludeConstraints(request.isIncludeConstraints());
-                options.setIncludeExistenceChecks(false);
-                options.setGenerateBatchScript(false);
+                SchemaGenerationOptions options = toGenerationOptions(request);
                 
                 if (request.isIncludeValidation()) {
-                    content = exportService.generateSqlScriptWithValidation(projectId);
+                    content = exportService.generateContent(project, ExportService.ExportFormat.SQL_WITH_VALIDATION);
                 } else {
-                    content = exportService.generateSqlScript(projectId, options);
+                    content = exportService.generateSqlScript(project, options);
                 }
                 fileName = project.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_schema.sql";
                 contentType = ApiConstants.CONTENT_TYPE_SQL;
                 break;
             case "MARKDOWN":
-                content = exportService.generateDocumentation(projectId);
+                content = exportService.generateContent(project, ExportService.ExportFormat.MARKDOWN);
                 fileName = project.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_schema.md";
                 contentType = "text/markdown";
                 break;
             case "HTML":
-                content = exportService.generateHtmlDocumentation(projectId);
+                content = exportService.generateContent(project, ExportService.ExportFormat.HTML);
                 fileName = project.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_schema.html";
                 contentType = "text/html";
                 break;
             case "JSON":
-                content = exportService.generateJsonSchema(projectId);
+                content = exportService.generateContent(project, ExportService.ExportFormat.JSON);
                 fileName = project.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_schema.json";
                 contentType = ApiConstants.CONTENT_TYPE_JSON;
                 break;
             case "CSV":
-                content = exportService.generateCsvTableList(projectId);
+                content = exportService.generateContent(project, ExportService.ExportFormat.CSV);
                 fileName = project.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_schema.csv";
                 contentType = ApiConstants.CONTENT_TYPE_CSV;
                 break;
@@ -255,4 +277,56 @@ public class ExportController extends BaseController {
         
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * 다운로드 본문 생성 계획 (형식 검증은 응답을 시작하기 전에 요청 스레드에서 수행)
+     */
+    private Download prepareDownload(Project project, ExportRequest request) {
+        String baseName = project.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_schema";
+        
+        switch (request.getFormat().toUpperCase()) {
+            case "SQL":
+                if (request.isIncludeValidation()) {
+                    return new Download(baseName + ".sql", ApiConstants.CONTENT_TYPE_SQL, "SQL_WITH_VALIDATION",
+                        out -> exportService.writeExport(project, ExportService.ExportFormat.SQL_WITH_VALIDATION, out));
+                }
+                SchemaGenerationOptions options = toGenerationOptions(request);
+                return new Download(baseName + ".sql", ApiConstants.CONTENT_TYPE_SQL, SchemaOutputCache.variantOf(options),
+                    out -> exportService.writeSqlScript(project, options, out));
+            case "MARKDOWN":
+                return new Download(baseName + ".md", "text/markdown", "MARKDOWN",
+                    out -> exportService.writeExport(project, ExportService.ExportFormat.MARKDOWN, out));
+            case "HTML":
+                return new Download(baseName + ".html", "text/html", "HTML",
+                    out -> exportService.writeExport(project, ExportService.ExportFormat.HTML, out));
+            case "JSON":
+                return new Download(baseName + ".json", ApiConstants.CONTENT_TYPE_JSON, "JSON",
+                    out -> exportService.writeExport(project, ExportService.ExportFormat.JSON, out));
+            case "CSV":
+                return new Download(baseName + ".csv", ApiConstants.CONTENT_TYPE_CSV, "CSV",
+                    out -> exportService.writeExport(project, ExportService.ExportFormat.CSV, out));
+            default:
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + request.getFormat());
+        }
+    }
+
+    /**
+     * ExportRequest를 SchemaGenerationOptions로 변환
+     */
+    private SchemaGenerationOptions toGenerationOptions(ExportRequest request) {
+        SchemaGenerationOptions options = new SchemaGenerationOptions();
+        options.setIncludeDropStatements(request.isIncludeDropStatements());
+        options.setIncludeComments(request.isIncludeComments());
+        options.setIncludeIndexes(request.isIncludeIndexes());
+        options.setIncludeConstraints(request.isIncludeConstraints());
+        options.setIncludeExistenceChecks(false);
+        options.setGenerateBatchScript(false);
+        return options;
+    }
+
+    /**
+     * 다운로드 파일 정보와 본문 작성 함수
+     */
+    private record Download(String fileName, String contentType, String variant, Consumer<ScriptWriter> body) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.dbmodeling.presentation.controller;
+
+import com.dbmodeling.application.exception.ModelNotFoundException;
+import com.dbmodeling.application.port.in.ImportProjectUseCase;
+import com.dbmodeling.application.port.in.ImportProjectUseCase.ImportResult;
+import com.dbmodeling.presentation.dto.response.ApiResponse;
+import com.dbmodeling.presentation.exception.BusinessException;
+import com.dbmodeling.presentation.mapper.ProjectImportReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * 스키마 가져오기 REST API 컨트롤러
+ * 대량 테이블/컬럼/인덱스 문서를 스트리밍으로 읽어 프로젝트에 일괄 추가합니다.
+ */
+@RestController
+@RequestMapping(ApiConstants.API_BASE_PATH)
+@Tag(name = "스키마 가져오기", description = "대량 스키마 일괄 가져오기 API")
+public class ImportController extends BaseController {
+
+    private final ImportProjectUseCase importProjectUseCase;
+    private final ProjectImportReader projectImportReader;
+
+    public ImportController(ImportProjectUseCase importProjectUseCase, ProjectImportReader projectImportReader) {
+        this.importProjectUseCase = importProjectUseCase;
+        this.projectImportReader = projectImportReader;
+    }
+
+    @Operation(
+        summary = "스키마 일괄 가져오기",
+        description = "{\"tables\": [...]} 형식의 문서를 스트리밍으로 읽어 테이블, 컬럼, 인덱스를 한 트랜잭션으로 추가합니다. " +
+                      "인덱스 컬럼은 같은 테이블의 컬럼 이름으로 참조합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "가져오기 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "문서 형식 또는 이름 검증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "프로젝트를 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping(
+        value = ApiConstants.PROJECTS_PATH + "/{projectId}" + ApiConstants.IMPORT_PATH,
+        consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ApiResponse<ImportResult>> importSchema(
+        @Parameter(description = "프로젝트 ID", required = true)
+        @PathVariable String projectId,
+        InputStream document
+    ) {
+        UUID projectUuid = parseId(projectId, "프로젝트");
+        
+        try {
+            ImportResult result = importProjectUseCase.importTables(projectUuid, projectImportReader.read(document));
+            return success(result, "스키마를 성공적으로 가져왔습니다.");
+        } catch (ModelNotFoundException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("IMPORT_VALIDATION_FAILED", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dbmodeling.presentation.controller;
 
 import com.dbmodeling.application.port.in.ManageIndexUseCase;
+import com.dbmodeling.application.service.BatchProcessingService;
 import com.dbmodeling.application.service.IndexService;
 import com.dbmodeling.domain.model.Index;
 import com.dbmodeling.domain.model.Index.IndexColumn;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,9 +34,11 @@ import java.util.stream.Collectors;
 public class IndexController extends BaseController {
 
     private final IndexService indexService;
+    private final BatchProcessingService batchProcessingService;
 
-    public IndexController(IndexService indexService) {
+    public IndexController(IndexService indexService, BatchProcessingService batchProcessingService) {
         this.indexService = indexService;
+        this.batchProcessingService = batchProcessingService;
     }
 
     @Operation(
@@ -138,6 +142,36 @@ public class IndexController extends BaseController {
         }
     }
 
+    @Operation(
+        summary = "인덱스 일괄 생성",
+        description = "테이블에 여러 인덱스를 한 번에 생성합니다. 건수가 많으면 다중 행 INSERT로 저장됩니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "생성 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "테이블을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping(ApiConstants.TABLES_PATH + "/{tableId}" + ApiConstants.INDEXES_PATH + "/batch")
+    public ResponseEntity<ApiResponse<List<IndexResponse>>> createIndexes(
+        @Parameter(description = "테이블 ID", required = true)
+        @PathVariable String tableId,
+        @Parameter(description = "인덱스 일괄 생성 요청", required = true)
+        @Valid @RequestBody IndexBatchCreateRequest request
+    ) {
+        UUID tableUuid = parseId(tableId, "테이블");
+        
+        List<Index> indexes = request.getIndexes().stream()
+            .map(this::toIndexEntity)
+            .collect(Collectors.toList());
+        List<Index> createdIndexes = batchProcessingService.createIndexesBatch(tableUuid, indexes);
+        
+        List<IndexResponse> responses = createdIndexes.stream()
+            .map(this::toIndexResponse)
+            .collect(Collectors.toList());
+        return created(responses, "인덱스가 성공적으로 일괄 생성되었습니다.");
+    }
+
     @Operation(
         summary = "인덱스 수정",
         description = "기존 인덱스의 정보를 수정합니다."
@@ -312,4 +346,16 @@ public class IndexController extends BaseController {
             index.setColumns(indexColumns);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 인덱스 일괄 생성 요청 DTO
+     */
+    public static class IndexBatchCreateRequest {
+        @NotEmpty(message = "생성할 인덱스는 최소 1개 이상이어야 합니다.")
+        @Valid
+        private List<CreateIndexRequest> indexes;
+
+        public List<CreateIndexRequest> getIndexes() { return indexes; }
+        public void setIndexes(List<CreateIndexRequest> indexes) { this.indexes = indexes; }
+    }
+}
@@ -1,7 +1,9 @@
 package com.dbmodeling.presentation.controller;
 
+import com.dbmodeling.infrastructure.cache.SecondLevelCache;
 import com.dbmodeling.infrastructure.config.CacheConfig;
 import com.dbmodeling.infrastructure.config.PerformanceMonitoringConfig;
+import com.dbmodeling.infrastructure.persistence.datasource.ReadWriteRoutingDataSource;
 import com.dbmodeling.presentation.dto.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +13,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
@@ -27,14 +30,20 @@ public class PerformanceController implements HealthIndicator {
     private final PerformanceMonitoringConfig performanceMonitor;
     private final CacheConfig.CacheStatsManager cacheStatsManager;
     private final CacheManager cacheManager;
+    private final SecondLevelCache secondLevelCache;
+    private final DataSource dataSource;
 
     public PerformanceController(
             PerformanceMonitoringConfig performanceMonitor,
             CacheConfig.CacheStatsManager cacheStatsManager,
-            CacheManager cacheManager) {
+            CacheManager cacheManager,
+            SecondLevelCache secondLevelCache,
+            DataSource dataSource) {
         this.performanceMonitor = performanceMonitor;
         this.cacheStatsManager = cacheStatsManager;
         this.cacheManager = cacheManager;
+        this.secondLevelCache = secondLevelCache;
+        this.dataSource = dataSource;
     }
 
     /**
@@ -76,12 +85,18 @@ public class PerformanceController implements HealthIndicator {
             cacheInfo.put("misses", stats.getMisses());
             cacheInfo.put("total", stats.getTotal());
             cacheInfo.put("hitRate", stats.getHitRate());
+            cacheInfo.put("evictions", stats.getEvictions());
             cacheInfo.put("lastAccessTime", stats.getLastAccessTime());
             cacheMetrics.put(cacheName, cacheInfo);
         });
         
         metrics.put("cache", cacheMetrics);
         
+        // 데이터소스 라우팅 메트릭 (읽기 복제본 설정 시)
+        if (dataSource instanceof ReadWriteRoutingDataSource routingDataSource) {
+            metrics.put("datasource", routingDataSource.getRouteStats());
+        }
+        
         return ResponseEntity.ok(ApiResponse.success(metrics));
     }
 
@@ -122,6 +137,28 @@ public class PerformanceController implements HealthIndicator {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
+    /**
+     * Hibernate 2차 캐시 영역별 통계 조회
+     */
+    @GetMapping("/cache/second-level/stats")
+    @Operation(summary = "2차 캐시 통계 조회", description = "Hibernate 2차 캐시 영역별 적중/실패/저장 횟수와 항목 수를 조회합니다. (hibernate.generate_statistics 필요)")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Long>>>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(secondLevelCache.regionStatistics()));
+    }
+
+    /**
+     * 데이터소스 라우팅 통계 조회
+     */
+    @GetMapping("/datasource/routes")
+    @Operation(summary = "데이터소스 라우팅 통계 조회", description = "주/읽기 복제본 경로별 연결 획득 통계를 조회합니다.")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDataSourceRouteStats() {
+        if (!(dataSource instanceof ReadWriteRoutingDataSource routingDataSource)) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        return ResponseEntity.ok(ApiResponse.success(routingDataSource.getRouteStats()));
+    }
+
     /**
      * 캐시 초기화
      */
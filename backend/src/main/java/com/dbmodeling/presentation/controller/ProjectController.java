@@ -1,12 +1,15 @@
 package com.dbmodeling.presentation.controller;
 
+import com.dbmodeling.application.service.ModelVersionService;
 import com.dbmodeling.application.service.ProjectService;
 import com.dbmodeling.domain.model.Project;
 import com.dbmodeling.presentation.dto.request.CreateProjectRequest;
 import com.dbmodeling.presentation.dto.request.UpdateProjectRequest;
 import com.dbmodeling.presentation.dto.response.ApiResponse;
+import com.dbmodeling.presentation.dto.response.CursorPageResponse;
 import com.dbmodeling.presentation.dto.response.ProjectResponse;
 import com.dbmodeling.presentation.dto.response.ProjectSummaryResponse;
+import com.dbmodeling.presentation.exception.BusinessException;
 import com.dbmodeling.presentation.exception.ResourceNotFoundException;
 import com.dbmodeling.presentation.mapper.ProjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +17,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,11 +34,17 @@ import java.util.UUID;
 @Tag(name = "프로젝트 관리", description = "데이터베이스 모델링 프로젝트 관리 API")
 public class ProjectController extends BaseController {
 
+    private static final String ETAG_RESOURCE = "project";
+
     private final ProjectService projectService;
+    private final ModelVersionService modelVersionService;
     private final ProjectMapper projectMapper;
 
-    public ProjectController(ProjectService projectService, ProjectMapper projectMapper) {
+    public ProjectController(ProjectService projectService,
+                             ModelVersionService modelVersionService,
+                             ProjectMapper projectMapper) {
         this.projectService = projectService;
+        this.modelVersionService = modelVersionService;
         this.projectMapper = projectMapper;
     }
 
@@ -47,30 +58,70 @@ public class ProjectController extends BaseController {
     })
     @GetMapping
     public ResponseEntity<ApiResponse<List<ProjectSummaryResponse>>> getAllProjects() {
-        List<Project> projects = projectService.getAllProjects();
-        List<ProjectSummaryResponse> responses = projectMapper.toSummaryResponses(projects);
+        List<ProjectSummaryResponse> responses =
+            projectMapper.toSummaryResponsesFromSummaries(projectService.getProjectSummaries());
         return success(responses, "프로젝트 목록을 성공적으로 조회했습니다.");
     }
 
+    @Operation(
+        summary = "프로젝트 목록 커서 페이지 조회",
+        description = "프로젝트 요약 정보를 최신순 키셋 페이지로 조회합니다. size 파라미터가 있을 때 적용됩니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(params = "size")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ProjectSummaryResponse>>> getProjectPage(
+        @Parameter(description = "페이지 크기 (최대 " + ApiConstants.MAX_PAGE_SIZE + ")")
+        @RequestParam int size,
+        @Parameter(description = "이전 페이지의 다음 커서")
+        @RequestParam(required = false) String cursor
+    ) {
+        int pageSize = clampPageSize(size);
+        try {
+            return cursorPage(
+                projectService.getProjectSummaryPage(cursor, pageSize).map(projectMapper::toSummaryResponse),
+                pageSize,
+                "프로젝트 목록을 성공적으로 조회했습니다."
+            );
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("INVALID_CURSOR", e.getMessage());
+        }
+    }
+
     @Operation(
         summary = "프로젝트 상세 조회",
-        description = "특정 프로젝트의 상세 정보를 조회합니다."
+        description = "특정 프로젝트의 상세 정보를 조회합니다. If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "프로젝트를 찾을 수 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProjectResponse>> getProject(
         @Parameter(description = "프로젝트 ID", required = true)
-        @PathVariable String id
+        @PathVariable String id,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID projectId = UUID.fromString(id);
+            String currentETag = versionETag(ETAG_RESOURCE, projectId, modelVersionService.getProjectVersion(projectId));
+            if (matchesIfNoneMatch(ifNoneMatch, currentETag)) {
+                return notModified(currentETag);
+            }
+            
             Project project = projectService.getProjectById(projectId);
             ProjectResponse response = projectMapper.toResponse(project);
-            return success(response, "프로젝트를 성공적으로 조회했습니다.");
+            // 캐시된 본문이 방금 조회한 버전보다 오래되었을 수 있으므로 본문의 버전으로 태그 지정
+            String eTag = project.getContentVersion() != null
+                ? versionETag(ETAG_RESOURCE, projectId, project.getContentVersion())
+                : currentETag;
+            return success(response, "프로젝트를 성공적으로 조회했습니다.", eTag);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("프로젝트를 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("프로젝트", id);
@@ -106,12 +157,13 @@ public class ProjectController extends BaseController {
 
     @Operation(
         summary = "프로젝트 수정",
-        description = "기존 프로젝트의 정보를 수정합니다."
+        description = "기존 프로젝트의 정보를 수정합니다. If-Match가 있으면 현재 ETag와 같을 때만 수정합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "프로젝트를 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "다른 사용자가 먼저 수정함"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PutMapping("/{id}")
@@ -119,11 +171,16 @@ public class ProjectController extends BaseController {
         @Parameter(description = "프로젝트 ID", required = true)
         @PathVariable String id,
         @Parameter(description = "프로젝트 수정 요청", required = true)
-        @Valid @RequestBody UpdateProjectRequest request
+        @Valid @RequestBody UpdateProjectRequest request,
+        @Parameter(description = "조회 시 받은 ETag")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         try {
             UUID projectId = UUID.fromString(id);
-            Project project = projectService.updateProject(projectMapper.toCommand(projectId, request));
+            ModelVersionService.Versioned<Project> updated = modelVersionService.updateProjectIfMatch(
+                projectId, ifMatchVersions(ifMatch, ETAG_RESOURCE, projectId),
+                () -> projectService.updateProject(projectMapper.toCommand(projectId, request)));
+            Project project = updated.value();
             
             // 네이밍 규칙이 있다면 업데이트
             if (request.getNamingRules() != null) {
@@ -131,7 +188,10 @@ public class ProjectController extends BaseController {
             }
             
             ProjectResponse response = projectMapper.toResponse(project);
-            return success(response, "프로젝트가 성공적으로 수정되었습니다.");
+            String eTag = versionETag(ETAG_RESOURCE, projectId, updated.version());
+            return success(response, "프로젝트가 성공적으로 수정되었습니다.", eTag);
+        } catch (OptimisticLockingFailureException e) {
+            throw preconditionFailed();
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("프로젝트를 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("프로젝트", id);
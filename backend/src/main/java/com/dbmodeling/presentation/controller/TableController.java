@@ -1,16 +1,22 @@
 package com.dbmodeling.presentation.controller;
 
 import com.dbmodeling.application.port.in.CreateTableUseCase;
+import com.dbmodeling.application.port.in.UpdateTableUseCase;
 import com.dbmodeling.application.service.BatchProcessingService;
+import com.dbmodeling.application.service.ModelVersionService;
 import com.dbmodeling.application.service.TableService;
 import com.dbmodeling.domain.model.Column;
 import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.presentation.dto.request.CreateColumnRequest;
 import com.dbmodeling.presentation.dto.request.CreateTableRequest;
+import com.dbmodeling.presentation.dto.request.UpdateColumnRequest;
 import com.dbmodeling.presentation.dto.request.UpdateTableRequest;
 import com.dbmodeling.presentation.dto.response.ApiResponse;
 import com.dbmodeling.presentation.dto.response.ColumnResponse;
+import com.dbmodeling.presentation.dto.response.CursorPageResponse;
 import com.dbmodeling.presentation.dto.response.TableResponse;
 import com.dbmodeling.presentation.dto.response.TableSummaryResponse;
+import com.dbmodeling.presentation.exception.BusinessException;
 import com.dbmodeling.presentation.exception.ResourceNotFoundException;
 import com.dbmodeling.presentation.mapper.ColumnMapper;
 import com.dbmodeling.presentation.mapper.TableMapper;
@@ -19,6 +25,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -37,75 +47,120 @@ public class TableController extends BaseController {
 
     private final TableService tableService;
     private final BatchProcessingService batchProcessingService;
+    private final ModelVersionService modelVersionService;
     private final TableMapper tableMapper;
     private final ColumnMapper columnMapper;
 
     public TableController(
             TableService tableService, 
             BatchProcessingService batchProcessingService,
+            ModelVersionService modelVersionService,
             TableMapper tableMapper,
             ColumnMapper columnMapper) {
         this.tableService = tableService;
         this.batchProcessingService = batchProcessingService;
+        this.modelVersionService = modelVersionService;
         this.tableMapper = tableMapper;
         this.columnMapper = columnMapper;
     }
 
     @Operation(
         summary = "프로젝트의 테이블 목록 조회",
-        description = "특정 프로젝트에 속한 모든 테이블의 요약 정보를 조회합니다."
+        description = "특정 프로젝트에 속한 모든 테이블의 요약 정보를 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "프로젝트를 찾을 수 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping(ApiConstants.PROJECTS_PATH + "/{projectId}" + ApiConstants.TABLES_PATH)
     public ResponseEntity<ApiResponse<List<TableSummaryResponse>>> getTablesByProject(
         @Parameter(description = "프로젝트 ID", required = true)
-        @PathVariable String projectId
+        @PathVariable String projectId,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID projectUuid = UUID.fromString(projectId);
-            List<Table> tables = tableService.getTablesByProjectId(projectUuid);
-            List<TableSummaryResponse> responses = tables.stream()
-                .map(table -> new TableSummaryResponse(
-                    table.getId().toString(),
-                    table.getName(),
-                    table.getDescription(),
-                    table.getColumns() != null ? table.getColumns().size() : 0,
-                    table.getIndexes() != null ? table.getIndexes().size() : 0,
-                    table.getPositionX(),
-                    table.getPositionY(),
-                    table.getCreatedAt(),
-                    table.getUpdatedAt()
-                ))
-                .collect(Collectors.toList());
-            return success(responses, "테이블 목록을 성공적으로 조회했습니다.");
+            String eTag = versionETag("tables", projectUuid, modelVersionService.getProjectVersion(projectUuid));
+            if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
+            List<TableSummaryResponse> responses =
+                tableMapper.toSummaryResponses(tableService.getTableSummariesByProjectId(projectUuid));
+            return success(responses, "테이블 목록을 성공적으로 조회했습니다.", eTag);
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("유효하지 않은 프로젝트 ID입니다: " + projectId);
+        }
+    }
+
+    @Operation(
+        summary = "프로젝트의 테이블 목록 커서 페이지 조회",
+        description = "테이블 요약 정보를 이름순 키셋 페이지로 조회합니다. size 파라미터가 있을 때 적용됩니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "프로젝트를 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = ApiConstants.PROJECTS_PATH + "/{projectId}" + ApiConstants.TABLES_PATH, params = "size")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TableSummaryResponse>>> getTablePageByProject(
+        @Parameter(description = "프로젝트 ID", required = true)
+        @PathVariable String projectId,
+        @Parameter(description = "페이지 크기 (최대 " + ApiConstants.MAX_PAGE_SIZE + ")")
+        @RequestParam int size,
+        @Parameter(description = "이전 페이지의 다음 커서")
+        @RequestParam(required = false) String cursor
+    ) {
+        UUID projectUuid;
+        try {
+            projectUuid = UUID.fromString(projectId);
         } catch (IllegalArgumentException e) {
             throw new ResourceNotFoundException("유효하지 않은 프로젝트 ID입니다: " + projectId);
         }
+        
+        int pageSize = clampPageSize(size);
+        try {
+            return cursorPage(
+                tableService.getTableSummaryPage(projectUuid, cursor, pageSize).map(tableMapper::toSummaryResponse),
+                pageSize,
+                "테이블 목록을 성공적으로 조회했습니다."
+            );
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("INVALID_CURSOR", e.getMessage());
+        }
     }
 
     @Operation(
         summary = "테이블 상세 조회",
-        description = "특정 테이블의 상세 정보를 조회합니다."
+        description = "특정 테이블의 상세 정보를 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "테이블을 찾을 수 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping(ApiConstants.TABLES_PATH + "/{id}")
     public ResponseEntity<ApiResponse<TableResponse>> getTable(
         @Parameter(description = "테이블 ID", required = true)
-        @PathVariable String id
+        @PathVariable String id,
+        @Parameter(description = "이전 응답의 ETag")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             UUID tableId = UUID.fromString(id);
+            String eTag = versionETag("table", tableId, modelVersionService.getTableVersion(tableId));
+            if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
             Table table = tableService.getTableById(tableId);
             TableResponse response = tableMapper.toResponse(table);
-            return success(response, "테이블을 성공적으로 조회했습니다.");
+            return success(response, "테이블을 성공적으로 조회했습니다.", eTag);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("테이블을 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("테이블", id);
@@ -157,12 +212,13 @@ public class TableController extends BaseController {
 
     @Operation(
         summary = "테이블 수정",
-        description = "기존 테이블의 정보를 수정합니다."
+        description = "기존 테이블의 정보를 수정합니다. If-Match가 있으면 현재 ETag와 같을 때만 수정합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "테이블을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "다른 사용자가 먼저 수정함"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PutMapping(ApiConstants.TABLES_PATH + "/{id}")
@@ -170,19 +226,31 @@ public class TableController extends BaseController {
         @Parameter(description = "테이블 ID", required = true)
         @PathVariable String id,
         @Parameter(description = "테이블 수정 요청", required = true)
-        @Valid @RequestBody UpdateTableRequest request
+        @Valid @RequestBody UpdateTableRequest request,
+        @Parameter(description = "조회 시 받은 ETag")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         try {
             UUID tableId = UUID.fromString(id);
-            Table existingTable = tableService.getTableById(tableId);
+            ModelVersionService.Versioned<Table> updated = modelVersionService.updateTableIfMatch(
+                tableId, ifMatchVersions(ifMatch, "table", tableId), () -> {
+                    Table existingTable = tableService.getTableById(tableId);
+                    tableMapper.updateEntity(existingTable, request);
+                    tableService.updateTable(new UpdateTableUseCase.UpdateTableCommand(
+                        tableId, existingTable.getName(), existingTable.getDescription()));
+                    return tableService.updateTablePosition(new UpdateTableUseCase.UpdateTablePositionCommand(
+                        tableId, existingTable.getPositionX(), existingTable.getPositionY()));
+                });
             
-            tableMapper.updateEntity(existingTable, request);
-            // TODO: Command 패턴 임시 우회 - 마이그레이션 후 리팩토링 필요
-            Table updatedTable = existingTable; // 임시 우회
-            
-            TableResponse response = tableMapper.toResponse(updatedTable);
-            return success(response, "테이블이 성공적으로 수정되었습니다.");
+            TableResponse response = tableMapper.toResponse(updated.value());
+            String eTag = versionETag("table", tableId, updated.version());
+            return success(response, "테이블이 성공적으로 수정되었습니다.", eTag);
+        } catch (OptimisticLockingFailureException e) {
+            throw preconditionFailed();
         } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("이미 존재하는 테이블 이름")) {
+                throw new BusinessException("DUPLICATE_TABLE_NAME", e.getMessage());
+            }
             if (e.getMessage().contains("테이블을 찾을 수 없습니다")) {
                 throw new ResourceNotFoundException("테이블", id);
             }
@@ -253,6 +321,118 @@ public class TableController extends BaseController {
         }
     }
 
+    /**
+     * 컬럼 일괄 생성 (배치 처리)
+     */
+    @Operation(
+        summary = "컬럼 일괄 생성",
+        description = "테이블에 여러 컬럼을 한 번에 생성합니다. 건수가 많으면 다중 행 INSERT로 저장됩니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "생성 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "테이블을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping(ApiConstants.TABLES_PATH + "/{tableId}" + ApiConstants.COLUMNS_PATH + "/batch")
+    public ResponseEntity<ApiResponse<List<ColumnResponse>>> createColumns(
+        @Parameter(description = "테이블 ID", required = true)
+        @PathVariable String tableId,
+        @Parameter(description = "컬럼 일괄 생성 요청", required = true)
+        @Valid @RequestBody ColumnBatchCreateRequest request
+    ) {
+        UUID tableUuid = parseId(tableId, "테이블");
+        
+        List<Column> columns = request.getColumns().stream()
+            .map(columnMapper::toEntity)
+            .collect(Collectors.toList());
+        List<Column> createdColumns = batchProcessingService.createColumnsBatch(tableUuid, columns);
+        
+        List<ColumnResponse> responses = createdColumns.stream()
+            .map(columnMapper::toResponse)
+            .collect(Collectors.toList());
+        return created(responses, "컬럼이 성공적으로 일괄 생성되었습니다.");
+    }
+
+    /**
+     * 컬럼 일괄 수정 (배치 처리)
+     */
+    @Operation(
+        summary = "컬럼 일괄 수정",
+        description = "테이블의 여러 컬럼을 한 번에 수정합니다. 항목마다 조회 시 받은 버전이 필요하며, 하나라도 다르면 전체가 취소됩니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "컬럼을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "다른 사용자가 먼저 수정함"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PutMapping(ApiConstants.TABLES_PATH + "/{tableId}" + ApiConstants.COLUMNS_PATH + "/batch")
+    public ResponseEntity<ApiResponse<List<ColumnResponse>>> updateColumns(
+        @Parameter(description = "테이블 ID", required = true)
+        @PathVariable String tableId,
+        @Parameter(description = "컬럼 일괄 수정 요청", required = true)
+        @Valid @RequestBody ColumnBatchUpdateRequest request
+    ) {
+        UUID tableUuid = parseId(tableId, "테이블");
+        
+        List<BatchProcessingService.ColumnUpdate> updates = request.getColumns().stream()
+            .map(item -> new BatchProcessingService.ColumnUpdate(
+                parseId(item.getColumnId(), "컬럼"),
+                item.getVersion(),
+                column -> columnMapper.updateEntity(column, item.getChanges())
+            ))
+            .collect(Collectors.toList());
+        List<Column> updatedColumns = batchProcessingService.updateColumnsBatch(tableUuid, updates);
+        
+        List<ColumnResponse> responses = updatedColumns.stream()
+            .map(columnMapper::toResponse)
+            .collect(Collectors.toList());
+        return success(responses, "컬럼이 성공적으로 일괄 수정되었습니다.");
+    }
+
+    /**
+     * 컬럼 일괄 생성 요청 DTO
+     */
+    public static class ColumnBatchCreateRequest {
+        @NotEmpty(message = "생성할 컬럼은 최소 1개 이상이어야 합니다.")
+        @Valid
+        private List<CreateColumnRequest> columns;
+
+        public List<CreateColumnRequest> getColumns() { return columns; }
+        public void setColumns(List<CreateColumnRequest> columns) { this.columns = columns; }
+    }
+
+    /**
+     * 컬럼 일괄 수정 요청 DTO
+     */
+    public static class ColumnBatchUpdateRequest {
+        @NotEmpty(message = "수정할 컬럼은 최소 1개 이상이어야 합니다.")
+        @Valid
+        private List<ColumnBatchUpdate> columns;
+
+        public List<ColumnBatchUpdate> getColumns() { return columns; }
+        public void setColumns(List<ColumnBatchUpdate> columns) { this.columns = columns; }
+
+        public static class ColumnBatchUpdate {
+            @NotNull(message = "컬럼 ID는 필수입니다.")
+            private String columnId;
+            @NotNull(message = "컬럼 버전은 필수입니다.")
+            private Long version;
+            @NotNull(message = "변경 내용은 필수입니다.")
+            @Valid
+            private UpdateColumnRequest changes;
+
+            public String getColumnId() { return columnId; }
+            public void setColumnId(String columnId) { this.columnId = columnId; }
+            public Long getVersion() { return version; }
+            public void setVersion(Long version) { this.version = version; }
+            public UpdateColumnRequest getChanges() { return changes; }
+            public void setChanges(UpdateColumnRequest changes) { this.changes = changes; }
+        }
+    }
+
     /**
      * 컬럼 순서 업데이트 요청 DTO
      */
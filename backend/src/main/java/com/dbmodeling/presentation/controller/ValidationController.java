@@ -1,6 +1,7 @@
 package com.dbmodeling.presentation.controller;
 
 import com.dbmodeling.application.service.ValidationService;
+import com.dbmodeling.domain.model.CompiledNamingRules;
 import com.dbmodeling.domain.model.NamingRules;
 import com.dbmodeling.domain.model.Project;
 import com.dbmodeling.domain.repository.ProjectRepository;
@@ -30,6 +31,10 @@ import java.util.regex.Pattern;
 @Tag(name = "검증", description = "네이밍 규칙 검증 API")
 public class ValidationController extends BaseController {
 
+    private static final Pattern PASCAL_CASE = Pattern.compile("^[A-Z][a-zA-Z0-9]*$");
+    private static final Pattern SNAKE_CASE = Pattern.compile("^[a-z][a-z0-9_]*$");
+    private static final Pattern CAMEL_BOUNDARY = Pattern.compile("([a-z])([A-Z])");
+
     private final ValidationService validationService;
     private final ProjectRepository projectRepository;
 
@@ -113,17 +118,18 @@ public class ValidationController extends BaseController {
             return new ValidationResponse(true, name, type, errors, suggestion);
         }
         
+        CompiledNamingRules compiled = namingRules.compiled();
         switch (type.toUpperCase()) {
             case "TABLE":
-                validateTableName(name, namingRules, errors);
+                validateTableName(name, namingRules, compiled, errors);
                 suggestion = generateTableSuggestion(name, namingRules);
                 break;
             case "COLUMN":
-                validateColumnName(name, namingRules, errors);
+                validateColumnName(name, namingRules, compiled, errors);
                 suggestion = generateColumnSuggestion(name, namingRules);
                 break;
             case "INDEX":
-                validateIndexName(name, namingRules, errors);
+                validateIndexName(name, namingRules, compiled, errors);
                 suggestion = generateIndexSuggestion(name, namingRules);
                 break;
             default:
@@ -138,7 +144,8 @@ public class ValidationController extends BaseController {
         return new ValidationResponse(isValid, name, type, errors, suggestion);
     }
 
-    private void validateTableName(String name, NamingRules rules, List<ValidationResponse.ValidationError> errors) {
+    private void validateTableName(String name, NamingRules rules, CompiledNamingRules compiled,
+                                   List<ValidationResponse.ValidationError> errors) {
         // 접두사 검증
         if (rules.getTablePrefix() != null && !name.startsWith(rules.getTablePrefix())) {
             errors.add(new ValidationResponse.ValidationError(
@@ -158,7 +165,7 @@ public class ValidationController extends BaseController {
         }
         
         // 패턴 검증
-        if (rules.getTablePattern() != null && !Pattern.matches(rules.getTablePattern(), name)) {
+        if (!compiled.matchesTablePattern(name)) {
             errors.add(new ValidationResponse.ValidationError(
                 "TABLE_PATTERN_VIOLATION",
                 "테이블명이 네이밍 패턴을 위반했습니다.",
@@ -170,9 +177,10 @@ public class ValidationController extends BaseController {
         validateCaseRule(name, rules.getEnforceCase(), "TABLE", errors);
     }
 
-    private void validateColumnName(String name, NamingRules rules, List<ValidationResponse.ValidationError> errors) {
+    private void validateColumnName(String name, NamingRules rules, CompiledNamingRules compiled,
+                                   List<ValidationResponse.ValidationError> errors) {
         // 패턴 검증
-        if (rules.getColumnPattern() != null && !Pattern.matches(rules.getColumnPattern(), name)) {
+        if (!compiled.matchesColumnPattern(name)) {
             errors.add(new ValidationResponse.ValidationError(
                 "COLUMN_PATTERN_VIOLATION",
                 "컬럼명이 네이밍 패턴을 위반했습니다.",
@@ -184,9 +192,10 @@ public class ValidationController extends BaseController {
         validateCaseRule(name, rules.getEnforceCase(), "COLUMN", errors);
     }
 
-    private void validateIndexName(String name, NamingRules rules, List<ValidationResponse.ValidationError> errors) {
+    private void validateIndexName(String name, NamingRules rules, CompiledNamingRules compiled,
+                                   List<ValidationResponse.ValidationError> errors) {
         // 패턴 검증
-        if (rules.getIndexPattern() != null && !Pattern.matches(rules.getIndexPattern(), name)) {
+        if (!compiled.matchesIndexPattern(name)) {
             errors.add(new ValidationResponse.ValidationError(
                 "INDEX_PATTERN_VIOLATION",
                 "인덱스명이 네이밍 패턴을 위반했습니다.",
@@ -204,7 +213,7 @@ public class ValidationController extends BaseController {
         
         switch (caseType) {
             case UPPER:
-                if (!name.equals(name.toUpperCase())) {
+                if (!CompiledNamingRules.isUpperCase(name)) {
                     errors.add(new ValidationResponse.ValidationError(
                         type + "_CASE_VIOLATION",
                         type.toLowerCase() + "명이 대문자 규칙을 위반했습니다.",
@@ -213,7 +222,7 @@ public class ValidationController extends BaseController {
                 }
                 break;
             case LOWER:
-                if (!name.equals(name.toLowerCase())) {
+                if (!CompiledNamingRules.isLowerCase(name)) {
                     errors.add(new ValidationResponse.ValidationError(
                         type + "_CASE_VIOLATION",
                         type.toLowerCase() + "명이 소문자 규칙을 위반했습니다.",
@@ -222,7 +231,7 @@ public class ValidationController extends BaseController {
                 }
                 break;
             case PASCAL:
-                if (!Pattern.matches("^[A-Z][a-zA-Z0-9]*$", name)) {
+                if (!PASCAL_CASE.matcher(name).matches()) {
                     errors.add(new ValidationResponse.ValidationError(
                         type + "_CASE_VIOLATION",
                         type.toLowerCase() + "명이 PascalCase 규칙을 위반했습니다.",
@@ -231,7 +240,7 @@ public class ValidationController extends BaseController {
                 }
                 break;
             case SNAKE:
-                if (!Pattern.matches("^[a-z][a-z0-9_]*$", name)) {
+                if (!SNAKE_CASE.matcher(name).matches()) {
                     errors.add(new ValidationResponse.ValidationError(
                         type + "_CASE_VIOLATION",
                         type.toLowerCase() + "명이 snake_case 규칙을 위반했습니다.",
@@ -293,7 +302,7 @@ public class ValidationController extends BaseController {
 
     private String toSnakeCase(String name) {
         if (name == null || name.isEmpty()) return name;
-        return name.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+        return CAMEL_BOUNDARY.matcher(name).replaceAll("$1_$2").toLowerCase();
     }
     
     /**
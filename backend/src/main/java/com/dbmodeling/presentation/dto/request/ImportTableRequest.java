@@ -0,0 +1,169 @@
+package com.dbmodeling.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로젝트 가져오기 문서의 테이블 항목 DTO
+ * 문서 형식: {"tables": [ImportTableRequest, ...]}
+ */
+@Schema(description = "가져오기 테이블 항목")
+public class ImportTableRequest {
+    
+    @Schema(description = "테이블 이름", example = "User", required = true)
+    private String name;
+    
+    @Schema(description = "테이블 설명", example = "사용자 정보 테이블")
+    private String description;
+    
+    @Schema(description = "X 좌표", example = "100")
+    private Integer positionX;
+    
+    @Schema(description = "Y 좌표", example = "200")
+    private Integer positionY;
+    
+    @Schema(description = "컬럼 목록 (순서대로 orderIndex 부여)")
+    private List<CreateColumnRequest> columns = new ArrayList<>();
+    
+    @Schema(description = "인덱스 목록 (컬럼은 이름으로 참조)")
+    private List<ImportIndexRequest> indexes = new ArrayList<>();
+    
+    public ImportTableRequest() {}
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public Integer getPositionX() {
+        return positionX;
+    }
+    
+    public void setPositionX(Integer positionX) {
+        this.positionX = positionX;
+    }
+    
+    public Integer getPositionY() {
+        return positionY;
+    }
+    
+    public void setPositionY(Integer positionY) {
+        this.positionY = positionY;
+    }
+    
+    public List<CreateColumnRequest> getColumns() {
+        return columns;
+    }
+    
+    public void setColumns(List<CreateColumnRequest> columns) {
+        this.columns = columns;
+    }
+    
+    public List<ImportIndexRequest> getIndexes() {
+        return indexes;
+    }
+    
+    public void setIndexes(List<ImportIndexRequest> indexes) {
+        this.indexes = indexes;
+    }
+    
+    /**
+     * 가져오기 인덱스 항목 DTO
+     */
+    @Schema(description = "가져오기 인덱스 항목")
+    public static class ImportIndexRequest {
+        
+        @Schema(description = "인덱스 이름", example = "IX_User_Email", required = true)
+        private String name;
+        
+        @Schema(description = "인덱스 타입", example = "NONCLUSTERED", allowableValues = {"CLUSTERED", "NONCLUSTERED"})
+        private String type = "NONCLUSTERED";
+        
+        @Schema(description = "유니크 인덱스 여부", example = "true")
+        private Boolean isUnique = false;
+        
+        @Schema(description = "인덱스 컬럼 목록", required = true)
+        private List<ImportIndexColumnRequest> columns = new ArrayList<>();
+        
+        public ImportIndexRequest() {}
+        
+        // Getters and Setters
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getType() {
+            return type;
+        }
+        
+        public void setType(String type) {
+            this.type = type;
+        }
+        
+        public Boolean getIsUnique() {
+            return isUnique;
+        }
+        
+        public void setIsUnique(Boolean isUnique) {
+            this.isUnique = isUnique;
+        }
+        
+        public List<ImportIndexColumnRequest> getColumns() {
+            return columns;
+        }
+        
+        public void setColumns(List<ImportIndexColumnRequest> columns) {
+            this.columns = columns;
+        }
+    }
+    
+    /**
+     * 가져오기 인덱스 컬럼 DTO (컬럼 이름 참조)
+     */
+    @Schema(description = "가져오기 인덱스 컬럼")
+    public static class ImportIndexColumnRequest {
+        
+        @Schema(description = "컬럼 이름", example = "email", required = true)
+        private String columnName;
+        
+        @Schema(description = "정렬 순서", example = "ASC", allowableValues = {"ASC", "DESC"})
+        private String order = "ASC";
+        
+        public ImportIndexColumnRequest() {}
+        
+        // Getters and Setters
+        public String getColumnName() {
+            return columnName;
+        }
+        
+        public void setColumnName(String columnName) {
+            this.columnName = columnName;
+        }
+        
+        public String getOrder() {
+            return order;
+        }
+        
+        public void setOrder(String order) {
+            this.order = order;
+        }
+    }
+}
@@ -55,6 +55,9 @@ public class ColumnResponse {
     @Schema(description = "컬럼 순서", example = "1")
     private int orderIndex;
     
+    @Schema(description = "버전 (일괄 수정 시 동시 수정 확인용)", example = "0")
+    private Long version;
+    
     @Schema(description = "생성 일시", example = "2024-01-01T10:00:00")
     private LocalDateTime createdAt;
     
@@ -184,6 +187,14 @@ public class ColumnResponse {
         this.orderIndex = orderIndex;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
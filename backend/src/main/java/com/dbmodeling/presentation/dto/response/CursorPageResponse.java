@@ -0,0 +1,74 @@
+package com.dbmodeling.presentation.dto.response;
+
+import com.dbmodeling.domain.model.CursorPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지네이션 응답 DTO
+ */
+@Schema(description = "커서 페이지네이션 응답")
+public class CursorPageResponse<T> {
+    
+    @Schema(description = "데이터 목록")
+    private List<T> content;
+    
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+    
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+    
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+    
+    public CursorPageResponse() {}
+    
+    public CursorPageResponse(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+    
+    /**
+     * 도메인 CursorPage로부터 CursorPageResponse 생성
+     */
+    public static <T> CursorPageResponse<T> of(CursorPage<T> page, int size) {
+        return new CursorPageResponse<>(page.content(), size, page.nextCursor());
+    }
+    
+    // Getters and Setters
+    public List<T> getContent() {
+        return content;
+    }
+    
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
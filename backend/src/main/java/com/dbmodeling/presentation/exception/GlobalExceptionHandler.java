@@ -1,10 +1,13 @@
 package com.dbmodeling.presentation.exception;
 
+import com.dbmodeling.application.exception.ModelNotFoundException;
 import com.dbmodeling.presentation.dto.response.ApiResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -136,6 +139,66 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
     
+    /**
+     * 서비스에서 요소를 찾지 못한 예외 처리
+     */
+    @ExceptionHandler(ModelNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handleModelNotFoundException(ModelNotFoundException ex) {
+        logger.warn("Model not found: {}", ex.getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.error(
+            "RESOURCE_NOT_FOUND",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+    
+    /**
+     * 잘못된 요청 값 처리 (이름 중복, 검증 실패, 알 수 없는 열거형 값 등)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        logger.warn("Invalid argument: {}", ex.getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.error(
+            "INVALID_ARGUMENT",
+            ex.getMessage() != null ? ex.getMessage() : "잘못된 요청입니다."
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+    
+    /**
+     * 낙관적 잠금 충돌 처리 (다른 사용자가 먼저 수정하거나 삭제함)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        logger.warn("Optimistic locking failure: {}", ex.getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.error(
+            "CONFLICT",
+            "다른 사용자가 먼저 수정했습니다. 최신 내용을 다시 조회한 뒤 수정하세요."
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+    
+    /**
+     * 데이터 무결성 제약 조건 위반 처리 (이름 중복, 참조 대상 없음 등)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Object>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        logger.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.error(
+            "DATA_INTEGRITY_VIOLATION",
+            "데이터 제약 조건을 위반했습니다. 이름 중복이나 참조 대상을 확인하세요."
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+    
     /**
      * 일반적인 예외 처리
      */
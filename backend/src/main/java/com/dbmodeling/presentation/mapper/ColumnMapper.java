@@ -37,6 +37,7 @@ public class ColumnMapper {
         response.setIdentityIncrement(column.getIdentityIncrement());
         response.setDefaultValue(column.getDefaultValue());
         response.setOrderIndex(column.getOrderIndex());
+        response.setVersion(column.getVersion());
         response.setCreatedAt(column.getCreatedAt());
         response.setUpdatedAt(column.getUpdatedAt());
         return response;
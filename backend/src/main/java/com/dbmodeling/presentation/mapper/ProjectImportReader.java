@@ -0,0 +1,170 @@
+package com.dbmodeling.presentation.mapper;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.presentation.dto.request.CreateColumnRequest;
+import com.dbmodeling.presentation.dto.request.ImportTableRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 프로젝트 가져오기 문서 스트리밍 리더
+ * {"tables": [...]} 문서를 테이블 단위로 읽어 전체 문서를 메모리에 올리지 않음
+ */
+@Component
+public class ProjectImportReader {
+    
+    private static final String TABLES_FIELD = "tables";
+    
+    private final ObjectMapper objectMapper;
+    private final ColumnMapper columnMapper;
+    
+    public ProjectImportReader(ObjectMapper objectMapper,
+                              @Qualifier("presentationColumnMapper") ColumnMapper columnMapper) {
+        this.objectMapper = objectMapper;
+        this.columnMapper = columnMapper;
+    }
+    
+    /**
+     * 문서의 tables 배열을 순회하는 반복자 생성
+     */
+    public Iterator<Table> read(InputStream document) {
+        try {
+            JsonParser parser = objectMapper.getFactory().createParser(document);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw invalidDocument("최상위 값은 객체여야 합니다.");
+            }
+            
+            // tables 필드까지 이동 (다른 필드는 건너뜀)
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (TABLES_FIELD.equals(field)) {
+                    if (value != JsonToken.START_ARRAY) {
+                        throw invalidDocument("tables는 배열이어야 합니다.");
+                    }
+                    return new TableIterator(parser);
+                }
+                parser.skipChildren();
+            }
+            throw invalidDocument("tables 필드가 없습니다.");
+        } catch (IOException e) {
+            throw invalidDocument(e.getMessage());
+        }
+    }
+    
+    /**
+     * 가져오기 테이블 항목을 도메인 모델로 변환 (인덱스 컬럼은 이름만 설정)
+     */
+    public Table toDomain(ImportTableRequest request) {
+        Table table = new Table(request.getName(), request.getDescription());
+        table.setPositionX(request.getPositionX() != null ? request.getPositionX() : 0);
+        table.setPositionY(request.getPositionY() != null ? request.getPositionY() : 0);
+        
+        if (request.getColumns() != null) {
+            for (CreateColumnRequest columnRequest : request.getColumns()) {
+                if (columnRequest.getDataType() == null) {
+                    throw new IllegalArgumentException(
+                        "데이터 타입은 필수입니다: " + request.getName() + "." + columnRequest.getName());
+                }
+                Column column = columnMapper.toEntity(columnRequest);
+                table.getColumns().add(column);
+            }
+        }
+        
+        if (request.getIndexes() != null) {
+            for (ImportTableRequest.ImportIndexRequest indexRequest : request.getIndexes()) {
+                Index index = new Index(indexRequest.getName(), parseIndexType(indexRequest.getType()),
+                    indexRequest.getIsUnique() != null ? indexRequest.getIsUnique() : false);
+                if (indexRequest.getColumns() != null) {
+                    for (ImportTableRequest.ImportIndexColumnRequest columnRequest : indexRequest.getColumns()) {
+                        index.getColumns().add(new Index.IndexColumn(
+                            null, columnRequest.getColumnName(), parseSortOrder(columnRequest.getOrder())));
+                    }
+                }
+                table.getIndexes().add(index);
+            }
+        }
+        
+        return table;
+    }
+    
+    private Index.IndexType parseIndexType(String type) {
+        if (type == null) {
+            return Index.IndexType.NONCLUSTERED;
+        }
+        try {
+            return Index.IndexType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("인덱스 타입은 CLUSTERED 또는 NONCLUSTERED여야 합니다: " + type);
+        }
+    }
+    
+    private Index.SortOrder parseSortOrder(String order) {
+        if (order == null) {
+            return Index.SortOrder.ASC;
+        }
+        try {
+            return Index.SortOrder.valueOf(order.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("정렬 순서는 ASC 또는 DESC여야 합니다: " + order);
+        }
+    }
+    
+    private static IllegalArgumentException invalidDocument(String reason) {
+        return new IllegalArgumentException("가져오기 문서 형식이 올바르지 않습니다: " + reason);
+    }
+    
+    /**
+     * tables 배열 원소를 하나씩 읽는 반복자
+     */
+    private class TableIterator implements Iterator<Table> {
+        
+        private final JsonParser parser;
+        private Table next;
+        private boolean finished;
+        
+        TableIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.START_OBJECT) {
+                        next = toDomain(objectMapper.readValue(parser, ImportTableRequest.class));
+                    } else if (token == JsonToken.END_ARRAY) {
+                        finished = true;
+                        parser.close();
+                    } else {
+                        throw invalidDocument("tables 원소는 객체여야 합니다.");
+                    }
+                } catch (IOException e) {
+                    throw invalidDocument(e.getMessage());
+                }
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Table next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Table table = next;
+            next = null;
+            return table;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.dbmodeling.application.port.in.CreateProjectUseCase;
 import com.dbmodeling.application.port.in.UpdateProjectUseCase;
 import com.dbmodeling.domain.model.NamingRules;
 import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.ProjectSummary;
 import com.dbmodeling.domain.model.Table;
 import com.dbmodeling.presentation.dto.request.CreateProjectRequest;
 import com.dbmodeling.presentation.dto.request.NamingRulesRequest;
@@ -81,6 +82,29 @@ public class ProjectMapper {
             .collect(Collectors.toList());
     }
 
+    /**
+     * ProjectSummary 읽기 모델을 ProjectSummaryResponse로 변환
+     */
+    public ProjectSummaryResponse toSummaryResponse(ProjectSummary summary) {
+        return new ProjectSummaryResponse(
+            summary.id().toString(),
+            summary.name(),
+            summary.description(),
+            summary.tableCount(),
+            summary.createdAt(),
+            summary.updatedAt()
+        );
+    }
+
+    /**
+     * ProjectSummary 리스트를 ProjectSummaryResponse 리스트로 변환
+     */
+    public List<ProjectSummaryResponse> toSummaryResponsesFromSummaries(List<ProjectSummary> summaries) {
+        return summaries.stream()
+            .map(this::toSummaryResponse)
+            .collect(Collectors.toList());
+    }
+
     /**
      * NamingRules 도메인 모델을 NamingRulesResponse로 변환
      */
@@ -3,11 +3,13 @@ package com.dbmodeling.presentation.mapper;
 import com.dbmodeling.domain.model.Column;
 import com.dbmodeling.domain.model.Index;
 import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.model.TableSummary;
 import com.dbmodeling.presentation.dto.request.CreateTableRequest;
 import com.dbmodeling.presentation.dto.request.UpdateTableRequest;
 import com.dbmodeling.presentation.dto.response.ColumnResponse;
 import com.dbmodeling.presentation.dto.response.IndexSummaryResponse;
 import com.dbmodeling.presentation.dto.response.TableResponse;
+import com.dbmodeling.presentation.dto.response.TableSummaryResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -38,6 +40,32 @@ public class TableMapper {
         );
     }
 
+    /**
+     * TableSummary 읽기 모델을 TableSummaryResponse로 변환
+     */
+    public TableSummaryResponse toSummaryResponse(TableSummary summary) {
+        return new TableSummaryResponse(
+            summary.id().toString(),
+            summary.name(),
+            summary.description(),
+            summary.columnCount(),
+            summary.indexCount(),
+            summary.positionX(),
+            summary.positionY(),
+            summary.createdAt(),
+            summary.updatedAt()
+        );
+    }
+
+    /**
+     * TableSummary 리스트를 TableSummaryResponse 리스트로 변환
+     */
+    public List<TableSummaryResponse> toSummaryResponses(List<TableSummary> summaries) {
+        return summaries.stream()
+            .map(this::toSummaryResponse)
+            .collect(Collectors.toList());
+    }
+
     /**
      * CreateTableRequest를 Table 도메인 모델로 변환
      */
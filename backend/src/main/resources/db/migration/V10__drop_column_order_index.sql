@@ -0,0 +1,16 @@
+-- Database Modeling Tool 컬럼 순서 인덱스 제거
+-- 버전: 10.0.0
+-- 컬럼 순서는 sort_key만 저장하고 순서 인덱스는 조회 시 sort_key 순위로 계산
+-- UNIQUE(table_id, order_index)는 즉시 검사되어 컬럼 이동 중 중간 상태에서 실패하므로 함께 제거
+
+ALTER TABLE columns DROP CONSTRAINT IF EXISTS columns_table_id_order_index_key;
+ALTER TABLE columns DROP CONSTRAINT IF EXISTS columns_order_index_positive;
+
+DROP INDEX IF EXISTS idx_columns_order_index;
+DROP INDEX IF EXISTS idx_columns_table_order;
+DROP INDEX IF EXISTS idx_columns_table_primary;
+
+ALTER TABLE columns DROP COLUMN order_index;
+
+-- 테이블별 기본키 컬럼을 순서대로 조회
+CREATE INDEX idx_columns_table_primary ON columns(table_id, sort_key) WHERE is_primary_key = TRUE;
@@ -0,0 +1,14 @@
+-- Database Modeling Tool 프로젝트 접근 통계 정렬 키
+-- 버전: 11.0.0
+-- 현재 점수(score * 0.5^(경과 시간 / 반감기)) 순위는 조회 시각과 무관하게
+-- "점수가 1로 줄어드는 시각" 순위와 같으므로 이를 저장 컬럼으로 두고 인덱스로 상위 N개를 조회
+
+-- 행을 마지막으로 합산할 때 사용한 반감기 (기존 행은 기본 설정값 1일)
+ALTER TABLE project_access_stats ADD COLUMN half_life_seconds DOUBLE PRECISION NOT NULL DEFAULT 86400;
+
+-- 점수가 1로 줄어드는 시각 (epoch 초), score는 항상 양수이지만 ln(0) 방지
+ALTER TABLE project_access_stats ADD COLUMN hot_until DOUBLE PRECISION GENERATED ALWAYS AS (
+    EXTRACT(EPOCH FROM last_accessed_at) + half_life_seconds * ln(GREATEST(score, 1e-300)) / ln(2)
+) STORED;
+
+CREATE INDEX idx_project_access_stats_hot_until ON project_access_stats(hot_until DESC);
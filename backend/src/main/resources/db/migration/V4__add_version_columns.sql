@@ -0,0 +1,6 @@
+-- Database Modeling Tool 낙관적 잠금 버전 컬럼 추가
+-- 버전: 4.0.0
+-- ProjectEntity, TableEntity의 @Version 매핑과 스키마를 일치시킴
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tables ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
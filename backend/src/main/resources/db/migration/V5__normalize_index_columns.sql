@@ -0,0 +1,33 @@
+-- Database Modeling Tool 인덱스 컬럼 정규화
+-- 버전: 5.0.0
+-- indexes.columns(JSON 문자열)를 index_columns 관계 테이블로 이전
+
+CREATE TABLE index_columns (
+    index_id UUID NOT NULL REFERENCES indexes(id) ON DELETE CASCADE,
+    position INTEGER NOT NULL,
+    column_id UUID NOT NULL REFERENCES columns(id) ON DELETE CASCADE,
+    sort_order VARCHAR(4) NOT NULL DEFAULT 'ASC',
+    
+    PRIMARY KEY (index_id, position),
+    CONSTRAINT index_columns_position_positive CHECK (position >= 0),
+    CONSTRAINT index_columns_sort_order_valid CHECK (sort_order IN ('ASC', 'DESC')),
+    UNIQUE(index_id, column_id)
+);
+
+-- 컬럼 삭제/이름 변경 시 참조 인덱스 역조회용
+CREATE INDEX idx_index_columns_column_id ON index_columns(column_id);
+
+-- 기존 JSON 데이터 변환 (이미 삭제된 컬럼 참조는 제외)
+INSERT INTO index_columns (index_id, position, column_id, sort_order)
+SELECT i.id,
+       (e.ordinality - 1)::INTEGER,
+       (e.value->>'columnId')::UUID,
+       CASE WHEN UPPER(e.value->>'order') = 'DESC' THEN 'DESC' ELSE 'ASC' END
+FROM indexes i
+CROSS JOIN LATERAL jsonb_array_elements(i.columns::jsonb) WITH ORDINALITY AS e(value, ordinality)
+WHERE EXISTS (SELECT 1 FROM columns c WHERE c.id = (e.value->>'columnId')::UUID)
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE indexes DROP COLUMN columns;
+
+ANALYZE index_columns;
@@ -0,0 +1,19 @@
+-- Database Modeling Tool 컬럼 정렬 키 추가
+-- 버전: 6.0.0
+-- 간격을 둔 정렬 키로 컬럼 순서 변경 시 이동한 컬럼 행만 갱신
+
+ALTER TABLE columns ADD COLUMN sort_key BIGINT;
+
+-- 기존 순서대로 1024 간격의 정렬 키 부여
+UPDATE columns c
+SET sort_key = r.position * 1024
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY table_id ORDER BY order_index, id) AS position
+    FROM columns
+) r
+WHERE c.id = r.id;
+
+ALTER TABLE columns ALTER COLUMN sort_key SET NOT NULL;
+
+-- 테이블별 정렬 키 순 조회 및 순서 재계산용
+CREATE INDEX idx_columns_table_sort_key ON columns(table_id, sort_key);
@@ -0,0 +1,14 @@
+-- Database Modeling Tool 프로젝트 스냅샷 읽기 모델
+-- 버전: 7.0.0
+-- 프로젝트 전체 그래프를 jsonb 한 행으로 보관해 전체 조회를 단일 행 읽기로 처리
+
+-- 프로젝트 하위 내용(테이블, 컬럼, 인덱스)이 바뀔 때마다 증가하는 버전
+ALTER TABLE projects ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
+
+-- 관계형 테이블이 원본이며 스냅샷은 버전이 일치할 때만 사용
+CREATE TABLE project_snapshots (
+    project_id UUID PRIMARY KEY REFERENCES projects(id) ON DELETE CASCADE,
+    version BIGINT NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,13 @@
+-- Database Modeling Tool 프로젝트 접근 통계
+-- 버전: 8.0.0
+-- 캐시 예열과 미리 갱신 대상을 고르기 위한 프로젝트별 접근 횟수와 감쇠 점수
+
+-- score는 반감기마다 절반으로 줄어드는 접근 횟수 (최근에 자주 쓰인 프로젝트일수록 높음)
+CREATE TABLE project_access_stats (
+    project_id UUID PRIMARY KEY REFERENCES projects(id) ON DELETE CASCADE,
+    access_count BIGINT NOT NULL DEFAULT 0,
+    score DOUBLE PRECISION NOT NULL DEFAULT 0,
+    last_accessed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_project_access_stats_last_accessed ON project_access_stats(last_accessed_at DESC);
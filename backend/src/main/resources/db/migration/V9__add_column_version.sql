@@ -0,0 +1,5 @@
+-- Database Modeling Tool 컬럼 낙관적 잠금 버전 추가
+-- 버전: 9.0.0
+-- ColumnEntity의 @Version 매핑과 JDBC 대량 수정의 버전 조건을 위한 컬럼
+
+ALTER TABLE columns ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
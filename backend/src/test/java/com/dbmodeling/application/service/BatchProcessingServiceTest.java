@@ -1,11 +1,17 @@
 package com.dbmodeling.application.service;
 
+import com.dbmodeling.application.exception.ModelNotFoundException;
+import com.dbmodeling.application.port.out.BulkWritePort;
+import com.dbmodeling.application.port.out.BulkWritePort.BulkWriteResult;
 import com.dbmodeling.application.service.BatchProcessingService.ColumnOrderUpdate;
+import com.dbmodeling.application.service.BatchProcessingService.ColumnUpdate;
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.ColumnOrder;
 import com.dbmodeling.domain.model.Index;
 import com.dbmodeling.domain.model.MSSQLDataType;
 import com.dbmodeling.domain.repository.ColumnRepository;
 import com.dbmodeling.domain.repository.IndexRepository;
+import com.dbmodeling.domain.repository.TableRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +19,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -27,12 +35,18 @@ import static org.mockito.Mockito.*;
 @DisplayName("배치 처리 서비스 테스트")
 class BatchProcessingServiceTest {
 
+    @Mock
+    private TableRepository tableRepository;
+
     @Mock
     private ColumnRepository columnRepository;
 
     @Mock
     private IndexRepository indexRepository;
 
+    @Mock
+    private BulkWritePort bulkWritePort;
+
     @InjectMocks
     private BatchProcessingService batchProcessingService;
 
@@ -65,6 +79,8 @@ class BatchProcessingServiceTest {
         testColumn3.setName("column3");
         testColumn3.setDataType(MSSQLDataType.DATETIME);
         testColumn3.setOrderIndex(2);
+
+        lenient().when(tableRepository.existsById(testTableId)).thenReturn(true);
     }
 
     @Test
@@ -80,18 +96,18 @@ class BatchProcessingServiceTest {
 
         when(columnRepository.findByTableIdOrderByOrderIndex(testTableId))
             .thenReturn(existingColumns);
-        when(columnRepository.saveAll(anyList())).thenReturn(existingColumns);
 
         // When
         List<Column> result = batchProcessingService.updateColumnOrderBatch(testTableId, updates);
 
         // Then
-        assertThat(result).hasSize(3);
+        assertThat(result).containsExactly(testColumn2, testColumn3, testColumn1);
         assertThat(testColumn1.getOrderIndex()).isEqualTo(2);
         assertThat(testColumn2.getOrderIndex()).isEqualTo(0);
         assertThat(testColumn3.getOrderIndex()).isEqualTo(1);
         verify(columnRepository).findByTableIdOrderByOrderIndex(testTableId);
-        verify(columnRepository).saveAll(existingColumns);
+        verify(columnRepository).saveColumnOrder(testTableId, List.of(testColumn2, testColumn3, testColumn1));
+        verify(columnRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -107,7 +123,6 @@ class BatchProcessingServiceTest {
 
         when(columnRepository.findByTableIdOrderByOrderIndex(testTableId))
             .thenReturn(existingColumns);
-        when(columnRepository.saveAll(anyList())).thenReturn(existingColumns);
 
         // When
         List<Column> result = batchProcessingService.updateColumnOrderBatch(testTableId, updates);
@@ -154,6 +169,8 @@ class BatchProcessingServiceTest {
         newColumn2.setDataType(MSSQLDataType.INT);
 
         List<Column> columns = Arrays.asList(newColumn1, newColumn2);
+        when(columnRepository.findMaxOrderIndexByTableId(testTableId)).thenReturn(null);
+        when(columnRepository.findMaxSortKeyByTableId(testTableId)).thenReturn(null);
         when(columnRepository.saveAll(anyList())).thenReturn(columns);
 
         // When
@@ -163,11 +180,34 @@ class BatchProcessingServiceTest {
         assertThat(result).hasSize(2);
         assertThat(newColumn1.getTableId()).isEqualTo(testTableId);
         assertThat(newColumn1.getOrderIndex()).isEqualTo(0);
+        assertThat(newColumn1.getSortKey()).isEqualTo(ColumnOrder.GAP);
         assertThat(newColumn2.getTableId()).isEqualTo(testTableId);
         assertThat(newColumn2.getOrderIndex()).isEqualTo(1);
+        assertThat(newColumn2.getSortKey()).isEqualTo(2 * ColumnOrder.GAP);
         verify(columnRepository).saveAll(columns);
     }
 
+    @Test
+    @DisplayName("컬럼 일괄 생성 - 기존 컬럼 뒤에 정렬 키를 이어서 할당")
+    void createColumnsBatch_AppendsAfterExistingColumns() {
+        // Given
+        Column newColumn = new Column();
+        newColumn.setName("new_column");
+        newColumn.setDataType(MSSQLDataType.INT);
+
+        List<Column> columns = List.of(newColumn);
+        when(columnRepository.findMaxOrderIndexByTableId(testTableId)).thenReturn(2);
+        when(columnRepository.findMaxSortKeyByTableId(testTableId)).thenReturn(3 * ColumnOrder.GAP);
+        when(columnRepository.saveAll(anyList())).thenReturn(columns);
+
+        // When
+        batchProcessingService.createColumnsBatch(testTableId, columns);
+
+        // Then
+        assertThat(newColumn.getOrderIndex()).isEqualTo(3);
+        assertThat(newColumn.getSortKey()).isEqualTo(4 * ColumnOrder.GAP);
+    }
+
     @Test
     @DisplayName("컬럼 일괄 생성 - 순서 인덱스가 이미 설정된 경우")
     void createColumnsBatch_WithPresetOrderIndex() {
@@ -209,6 +249,142 @@ class BatchProcessingServiceTest {
         verify(columnRepository).saveAll(columns);
     }
 
+    @Test
+    @DisplayName("테이블 컬럼 일괄 업데이트 - 버전이 같으면 변경 적용 후 저장")
+    void updateColumnsBatch_WithVersion_Success() {
+        // Given
+        testColumn1.setVersion(3L);
+        testColumn2.setVersion(1L);
+        when(columnRepository.findByTableIdOrderByOrderIndex(testTableId))
+            .thenReturn(Arrays.asList(testColumn1, testColumn2, testColumn3));
+        when(columnRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<ColumnUpdate> updates = List.of(
+            new ColumnUpdate(testColumn1.getId(), 3L, column -> column.setName("renamed1")),
+            new ColumnUpdate(testColumn2.getId(), 1L, column -> column.setNullable(false)));
+
+        // When
+        List<Column> result = batchProcessingService.updateColumnsBatch(testTableId, updates);
+
+        // Then
+        assertThat(result).containsExactly(testColumn1, testColumn2);
+        assertThat(testColumn1.getName()).isEqualTo("renamed1");
+        assertThat(testColumn2.isNullable()).isFalse();
+        verify(columnRepository).saveAll(Arrays.asList(testColumn1, testColumn2));
+    }
+
+    @Test
+    @DisplayName("테이블 컬럼 일괄 업데이트 - 버전이 다르면 저장하지 않고 충돌")
+    void updateColumnsBatch_StaleVersion_Conflict() {
+        // Given
+        testColumn1.setVersion(3L);
+        testColumn2.setVersion(2L);
+        when(columnRepository.findByTableIdOrderByOrderIndex(testTableId))
+            .thenReturn(Arrays.asList(testColumn1, testColumn2));
+        List<ColumnUpdate> updates = List.of(
+            new ColumnUpdate(testColumn1.getId(), 3L, column -> column.setName("renamed1")),
+            new ColumnUpdate(testColumn2.getId(), 1L, column -> column.setName("renamed2")));
+
+        // When & Then
+        assertThatThrownBy(() -> batchProcessingService.updateColumnsBatch(testTableId, updates))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(columnRepository, never()).saveAll(anyList());
+        verify(bulkWritePort, never()).updateColumns(anyList());
+    }
+
+    @Test
+    @DisplayName("테이블 컬럼 일괄 업데이트 - 다른 테이블의 컬럼이면 실패")
+    void updateColumnsBatch_UnknownColumn_Fails() {
+        // Given
+        when(columnRepository.findByTableIdOrderByOrderIndex(testTableId)).thenReturn(List.of(testColumn1));
+        List<ColumnUpdate> updates = List.of(new ColumnUpdate(UUID.randomUUID(), 0L, column -> { }));
+
+        // When & Then
+        assertThatThrownBy(() -> batchProcessingService.updateColumnsBatch(testTableId, updates))
+            .isInstanceOf(ModelNotFoundException.class)
+            .hasMessageContaining("컬럼을 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("컬럼 일괄 생성 - 없는 테이블이면 저장하지 않고 실패")
+    void createColumnsBatch_UnknownTable_Fails() {
+        // Given
+        UUID unknownTableId = UUID.randomUUID();
+        when(tableRepository.existsById(unknownTableId)).thenReturn(false);
+        List<Column> columns = List.of(new Column("name", MSSQLDataType.NVARCHAR, 0));
+
+        // When & Then
+        assertThatThrownBy(() -> batchProcessingService.createColumnsBatch(unknownTableId, columns))
+            .isInstanceOf(ModelNotFoundException.class)
+            .hasMessageContaining("테이블을 찾을 수 없습니다");
+        verifyNoInteractions(columnRepository, bulkWritePort);
+    }
+
+    @Test
+    @DisplayName("컬럼 대량 생성 - 임계값 이상이면 대량 쓰기 포트 사용")
+    void createColumnsBatch_LargeBatch_UsesBulkWriter() {
+        // Given
+        List<Column> columns = createColumns(BatchProcessingService.BULK_WRITE_THRESHOLD);
+        when(bulkWritePort.insertColumns(testTableId, columns))
+            .thenReturn(new BulkWriteResult(columns.size(), 1_000_000L));
+
+        // When
+        List<Column> result = batchProcessingService.createColumnsBatch(testTableId, columns);
+
+        // Then
+        assertThat(result).hasSize(BatchProcessingService.BULK_WRITE_THRESHOLD);
+        assertThat(result.get(5).getOrderIndex()).isEqualTo(5);
+        verify(bulkWritePort).insertColumns(testTableId, columns);
+        verify(columnRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("컬럼 대량 업데이트 - 임계값 이상이면 대량 쓰기 포트 사용")
+    void updateColumnsBatch_LargeBatch_UsesBulkWriter() {
+        // Given
+        List<Column> columns = createColumns(BatchProcessingService.BULK_WRITE_THRESHOLD);
+        when(bulkWritePort.updateColumns(columns))
+            .thenReturn(new BulkWriteResult(columns.size(), 1_000_000L));
+
+        // When
+        List<Column> result = batchProcessingService.updateColumnsBatch(columns);
+
+        // Then
+        assertThat(result).isSameAs(columns);
+        verify(bulkWritePort).updateColumns(columns);
+        verify(columnRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("인덱스 대량 생성 - 임계값 이상이면 대량 쓰기 포트 사용")
+    void createIndexesBatch_LargeBatch_UsesBulkWriter() {
+        // Given
+        List<Index> indexes = new ArrayList<>();
+        for (int i = 0; i < BatchProcessingService.BULK_WRITE_THRESHOLD; i++) {
+            indexes.add(new Index("IX_Test_" + i, Index.IndexType.NONCLUSTERED, false));
+        }
+        when(bulkWritePort.insertIndexes(testTableId, indexes))
+            .thenReturn(new BulkWriteResult(indexes.size(), 1_000_000L));
+
+        // When
+        List<Index> result = batchProcessingService.createIndexesBatch(testTableId, indexes);
+
+        // Then
+        assertThat(result).hasSize(BatchProcessingService.BULK_WRITE_THRESHOLD);
+        assertThat(result.get(0).getTableId()).isEqualTo(testTableId);
+        verify(bulkWritePort).insertIndexes(testTableId, indexes);
+        verify(indexRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("대량 쓰기 결과 - 초당 처리 행 수 계산")
+    void bulkWriteResult_RowsPerSecond() {
+        // Given
+        BulkWriteResult result = new BulkWriteResult(5000, 500_000_000L);
+
+        // When & Then
+        assertThat(result.rowsPerSecond()).isEqualTo(10000.0);
+    }
+
     @Test
     @DisplayName("컬럼 일괄 삭제 - 성공")
     void deleteColumnsBatch_Success() {
@@ -264,4 +440,15 @@ class BatchProcessingServiceTest {
         assertThat(update2.getColumnId()).isEqualTo(columnId);
         assertThat(update2.getOrderIndex()).isEqualTo(orderIndex);
     }
+
+    private List<Column> createColumns(int count) {
+        List<Column> columns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Column column = new Column();
+            column.setName("bulk_column" + i);
+            column.setDataType(MSSQLDataType.INT);
+            columns.add(column);
+        }
+        return columns;
+    }
 }
@@ -3,8 +3,10 @@ package com.dbmodeling.application.service;
 import com.dbmodeling.application.port.in.ManageColumnUseCase.AddColumnCommand;
 import com.dbmodeling.application.port.in.ManageColumnUseCase.UpdateColumnCommand;
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
 import com.dbmodeling.domain.model.MSSQLDataType;
 import com.dbmodeling.domain.repository.ColumnRepository;
+import com.dbmodeling.domain.repository.IndexRepository;
 import com.dbmodeling.domain.repository.TableRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +39,9 @@ class ColumnServiceTest {
     @Mock
     private TableRepository tableRepository;
     
+    @Mock
+    private IndexRepository indexRepository;
+    
     @InjectMocks
     private ColumnService columnService;
     
@@ -173,6 +178,32 @@ class ColumnServiceTest {
         verify(columnRepository).deleteById(columnId);
     }
     
+    @Test
+    @DisplayName("컬럼 삭제 - 해당 컬럼만 참조하는 인덱스 함께 삭제")
+    void deleteColumn_RemovesSingleColumnIndexes() {
+        // Given
+        UUID otherColumnId = UUID.randomUUID();
+        Index singleColumnIndex = new Index("IX_single", Index.IndexType.NONCLUSTERED, false);
+        singleColumnIndex.setId(UUID.randomUUID());
+        singleColumnIndex.setColumns(List.of(new Index.IndexColumn(columnId, "col", Index.SortOrder.ASC)));
+        Index compositeIndex = new Index("IX_composite", Index.IndexType.NONCLUSTERED, false);
+        compositeIndex.setId(UUID.randomUUID());
+        compositeIndex.setColumns(List.of(
+            new Index.IndexColumn(columnId, "col", Index.SortOrder.ASC),
+            new Index.IndexColumn(otherColumnId, "other", Index.SortOrder.DESC)
+        ));
+        when(columnRepository.existsById(columnId)).thenReturn(true);
+        when(indexRepository.findByColumnId(columnId)).thenReturn(List.of(singleColumnIndex, compositeIndex));
+        
+        // When
+        columnService.deleteColumn(columnId);
+        
+        // Then
+        verify(indexRepository).deleteById(singleColumnIndex.getId());
+        verify(indexRepository, never()).deleteById(compositeIndex.getId());
+        verify(columnRepository).deleteById(columnId);
+    }
+    
     @Test
     @DisplayName("컬럼 삭제 - 컬럼이 존재하지 않음")
     void deleteColumn_ColumnNotFound() {
@@ -220,7 +251,6 @@ class ColumnServiceTest {
         
         when(columnRepository.findById(column1.getId())).thenReturn(Optional.of(column1));
         when(columnRepository.findByTableIdOrderByOrderIndex(tableId)).thenReturn(columns);
-        when(columnRepository.save(any(Column.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         // When - column1을 인덱스 2로 이동
         Column result = columnService.updateColumnOrder(column1.getId(), 2);
@@ -230,7 +260,23 @@ class ColumnServiceTest {
         assertThat(column2.getOrderIndex()).isEqualTo(0); // 앞으로 이동
         assertThat(column3.getOrderIndex()).isEqualTo(1); // 앞으로 이동
         
-        verify(columnRepository, times(3)).save(any(Column.class));
+        // 개별 저장 대신 목표 순서 전체를 한 번에 전달
+        verify(columnRepository).saveColumnOrder(tableId, List.of(column2, column3, column1));
+        verify(columnRepository, never()).save(any(Column.class));
+    }
+    
+    @Test
+    @DisplayName("컬럼 순서 변경 - 범위를 벗어난 순서는 실패")
+    void updateColumnOrder_InvalidIndex() {
+        // Given
+        when(columnRepository.findById(columnId)).thenReturn(Optional.of(testColumn));
+        when(columnRepository.findByTableIdOrderByOrderIndex(tableId)).thenReturn(List.of(testColumn));
+        
+        // When & Then
+        assertThatThrownBy(() -> columnService.updateColumnOrder(columnId, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("잘못된 순서 인덱스입니다");
+        verify(columnRepository, never()).saveColumnOrder(any(), any());
     }
     
     @Test
@@ -5,9 +5,13 @@ import com.dbmodeling.application.service.ExportService.ExportResult;
 import com.dbmodeling.application.service.ExportService.ValidationSummary;
 import com.dbmodeling.domain.model.*;
 import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
 import com.dbmodeling.domain.service.SchemaExportService;
+import com.dbmodeling.domain.service.ScriptWriter;
 import com.dbmodeling.domain.service.SqlGeneratorService;
 import com.dbmodeling.domain.service.ValidationDomainService;
+import com.dbmodeling.infrastructure.cache.ModelCache;
+import com.dbmodeling.infrastructure.cache.SchemaOutputCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +42,9 @@ class ExportServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     
+    @Mock
+    private SummaryQueryRepository summaryQueryRepository;
+    
     @Mock
     private SchemaExportService schemaExportService;
     
@@ -45,6 +54,12 @@ class ExportServiceTest {
     @Mock
     private ValidationDomainService validationDomainService;
     
+    @Mock
+    private SchemaOutputCache schemaOutputCache;
+    
+    @Mock
+    private ModelCache modelCache;
+    
     @InjectMocks
     private ExportService exportService;
     
@@ -69,6 +84,15 @@ class ExportServiceTest {
         
         testProject.addTable(testTable);
         
+        // 캐시는 항상 생성 결과를 그대로 반환
+        when(schemaOutputCache.get(any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        
+        // 그래프 로드는 항상 리포지토리로 위임
+        when(modelCache.loadProjectGraph(any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Function<UUID, Optional<Project>>>getArgument(2)
+                .apply(invocation.getArgument(0)));
+        
         // 검증 결과 모킹
         validationResult = mock(ValidationDomainService.SchemaValidationResult.class);
         when(validationResult.canExportSchema()).thenReturn(true);
@@ -87,7 +111,7 @@ class ExportServiceTest {
             true, expectedSql, validationResult, SchemaExportService.ExportFormat.SQL_SCRIPT
         );
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(schemaExportService.exportSchema(eq(testProject), eq(SchemaExportService.ExportFormat.SQL_SCRIPT)))
             .thenReturn(domainResult);
         
@@ -107,7 +131,7 @@ class ExportServiceTest {
     @DisplayName("프로젝트 내보내기 - 프로젝트 없음")
     void exportProject_ProjectNotFound() {
         // Given
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.empty());
         
         // When & Then
         assertThatThrownBy(() -> exportService.exportProject(projectId, ExportFormat.SQL))
@@ -121,7 +145,7 @@ class ExportServiceTest {
         // Given
         String expectedSql = "CREATE TABLE [TestTable] (\n    [id] BIGINT NOT NULL\n);";
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(sqlGeneratorService.generateProjectSql(testProject)).thenReturn(expectedSql);
         
         // When
@@ -141,7 +165,7 @@ class ExportServiceTest {
             true, expectedContent, validationResult, SchemaExportService.ExportFormat.SQL_WITH_VALIDATION
         );
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(schemaExportService.exportSchema(eq(testProject), eq(SchemaExportService.ExportFormat.SQL_WITH_VALIDATION)))
             .thenReturn(domainResult);
         
@@ -162,7 +186,7 @@ class ExportServiceTest {
             true, expectedMarkdown, validationResult, SchemaExportService.ExportFormat.DOCUMENTATION
         );
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(schemaExportService.exportSchema(eq(testProject), eq(SchemaExportService.ExportFormat.DOCUMENTATION)))
             .thenReturn(domainResult);
         
@@ -183,7 +207,7 @@ class ExportServiceTest {
             true, expectedHtml, validationResult, SchemaExportService.ExportFormat.HTML_DOCUMENTATION
         );
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(schemaExportService.exportSchema(eq(testProject), eq(SchemaExportService.ExportFormat.HTML_DOCUMENTATION)))
             .thenReturn(domainResult);
         
@@ -204,7 +228,7 @@ class ExportServiceTest {
             true, expectedJson, validationResult, SchemaExportService.ExportFormat.JSON_SCHEMA
         );
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(schemaExportService.exportSchema(eq(testProject), eq(SchemaExportService.ExportFormat.JSON_SCHEMA)))
             .thenReturn(domainResult);
         
@@ -225,7 +249,7 @@ class ExportServiceTest {
             true, expectedCsv, validationResult, SchemaExportService.ExportFormat.CSV_TABLE_LIST
         );
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(schemaExportService.exportSchema(eq(testProject), eq(SchemaExportService.ExportFormat.CSV_TABLE_LIST)))
             .thenReturn(domainResult);
         
@@ -241,7 +265,7 @@ class ExportServiceTest {
     @DisplayName("내보내기 검증 - 성공")
     void validateForExport_Success() {
         // Given
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(validationDomainService.validateForSchemaExport(testProject)).thenReturn(validationResult);
         
         // When
@@ -267,7 +291,7 @@ class ExportServiceTest {
         when(validationResult.getStructuralErrors()).thenReturn(Arrays.asList("구조적 오류 1", "구조적 오류 2"));
         when(validationResult.getDataTypeErrors()).thenReturn(Arrays.asList("데이터 타입 오류"));
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         when(validationDomainService.validateForSchemaExport(testProject)).thenReturn(validationResult);
         
         // When
@@ -320,4 +344,38 @@ class ExportServiceTest {
         assertThat(ExportFormat.CSV.getFileExtension()).isEqualTo(".csv");
         assertThat(ExportFormat.CSV.getMimeType()).isEqualTo("text/csv");
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("SQL 스트리밍 - 캐시에 없으면 생성기가 출력 대상에 바로 씀")
+    void writeSqlScript_StreamsWhenNotCached() {
+        // Given
+        SchemaGenerationOptions options = SchemaGenerationOptions.defaultOptions();
+        doAnswer(invocation -> invocation.<ScriptWriter>getArgument(2).append("CREATE TABLE [TestTable]"))
+            .when(sqlGeneratorService).writeProjectSql(eq(testProject), eq(options), any(ScriptWriter.class));
+        StringBuilder out = new StringBuilder();
+        
+        // When
+        exportService.writeSqlScript(testProject, options, new ScriptWriter(out));
+        
+        // Then
+        assertThat(out.toString()).isEqualTo("CREATE TABLE [TestTable]");
+        verify(sqlGeneratorService, never()).generateProjectSql(any(), any());
+    }
+    
+    @Test
+    @DisplayName("SQL 스트리밍 - 같은 버전의 캐시된 결과는 다시 생성하지 않음")
+    void writeSqlScript_UsesCachedOutput() {
+        // Given
+        SchemaGenerationOptions options = SchemaGenerationOptions.defaultOptions();
+        when(schemaOutputCache.find(testProject, SchemaOutputCache.variantOf(options)))
+            .thenReturn(Optional.of("-- cached"));
+        StringBuilder out = new StringBuilder();
+        
+        // When
+        exportService.writeSqlScript(testProject, options, new ScriptWriter(out));
+        
+        // Then
+        assertThat(out.toString()).isEqualTo("-- cached");
+        verify(sqlGeneratorService, never()).writeProjectSql(any(Project.class), any(), any());
+    }
+}
@@ -0,0 +1,143 @@
+package com.dbmodeling.application.service;
+
+import com.dbmodeling.application.exception.ModelNotFoundException;
+import com.dbmodeling.application.port.in.ImportProjectUseCase.ImportResult;
+import com.dbmodeling.application.port.out.ProjectImportPort;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("프로젝트 가져오기 서비스 테스트")
+class ProjectImportServiceTest {
+    
+    @Mock
+    private ProjectRepository projectRepository;
+    
+    @Mock
+    private ProjectImportPort projectImportPort;
+    
+    @Mock
+    private ProjectImportPort.ImportBatch importBatch;
+    
+    @InjectMocks
+    private ProjectImportService projectImportService;
+    
+    private UUID projectId;
+    
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+    }
+    
+    @Test
+    @DisplayName("가져오기 - ID 할당 및 인덱스 컬럼 이름을 컬럼 ID로 변환")
+    void importTables_Success() {
+        // Given
+        Table users = createTable("users", "id", "email");
+        Index index = new Index("IX_users_email", Index.IndexType.NONCLUSTERED, true);
+        index.getColumns().add(new Index.IndexColumn(null, "email", Index.SortOrder.ASC));
+        users.getIndexes().add(index);
+        Table orders = createTable("orders", "id");
+        
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectImportPort.findTableNames(projectId)).thenReturn(Set.of());
+        when(projectImportPort.openBatch(projectId)).thenReturn(importBatch);
+        
+        // When
+        ImportResult result = projectImportService.importTables(projectId, List.of(users, orders).iterator());
+        
+        // Then
+        assertThat(result.tableCount()).isEqualTo(2);
+        assertThat(result.columnCount()).isEqualTo(3);
+        assertThat(result.indexCount()).isEqualTo(1);
+        
+        ArgumentCaptor<Table> captor = ArgumentCaptor.forClass(Table.class);
+        verify(importBatch, times(2)).add(captor.capture());
+        verify(importBatch).complete();
+        
+        Table staged = captor.getAllValues().get(0);
+        assertThat(staged.getProjectId()).isEqualTo(projectId);
+        assertThat(staged.getColumns()).extracting(Column::getOrderIndex).containsExactly(0, 1);
+        assertThat(staged.getColumns()).allMatch(column -> staged.getId().equals(column.getTableId()));
+        assertThat(staged.getIndexes().get(0).getColumns().get(0).getColumnId())
+            .isEqualTo(staged.getColumns().get(1).getId());
+    }
+    
+    @Test
+    @DisplayName("가져오기 - 기존 테이블 이름과 중복")
+    void importTables_DuplicateExistingTable() {
+        // Given
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectImportPort.findTableNames(projectId)).thenReturn(Set.of("users"));
+        when(projectImportPort.openBatch(projectId)).thenReturn(importBatch);
+        
+        // When & Then
+        assertThatThrownBy(() -> projectImportService.importTables(
+                projectId, List.of(createTable("users", "id")).iterator()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("이미 존재하는 테이블 이름입니다");
+        
+        verify(importBatch, never()).add(any(Table.class));
+        verify(importBatch, never()).complete();
+    }
+    
+    @Test
+    @DisplayName("가져오기 - 인덱스가 없는 컬럼을 참조")
+    void importTables_UnknownIndexColumn() {
+        // Given
+        Table users = createTable("users", "id");
+        Index index = new Index("IX_users_email", Index.IndexType.NONCLUSTERED, false);
+        index.getColumns().add(new Index.IndexColumn(null, "email", Index.SortOrder.ASC));
+        users.getIndexes().add(index);
+        
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectImportPort.findTableNames(projectId)).thenReturn(Set.of());
+        when(projectImportPort.openBatch(projectId)).thenReturn(importBatch);
+        
+        // When & Then
+        assertThatThrownBy(() -> projectImportService.importTables(projectId, List.of(users).iterator()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("컬럼을 찾을 수 없습니다: users.email");
+    }
+    
+    @Test
+    @DisplayName("가져오기 - 프로젝트가 존재하지 않음")
+    void importTables_ProjectNotFound() {
+        // Given
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+        
+        // When & Then
+        assertThatThrownBy(() -> projectImportService.importTables(projectId, List.<Table>of().iterator()))
+            .isInstanceOf(ModelNotFoundException.class)
+            .hasMessageContaining("프로젝트를 찾을 수 없습니다");
+        
+        verifyNoInteractions(projectImportPort);
+    }
+    
+    private Table createTable(String name, String... columnNames) {
+        Table table = new Table(name, null);
+        for (String columnName : columnNames) {
+            table.getColumns().add(new Column(columnName, MSSQLDataType.NVARCHAR, null));
+        }
+        return table;
+    }
+}
@@ -2,8 +2,13 @@ package com.dbmodeling.application.service;
 
 import com.dbmodeling.application.port.in.CreateProjectUseCase.CreateProjectCommand;
 import com.dbmodeling.application.port.in.UpdateProjectUseCase.UpdateProjectCommand;
+import com.dbmodeling.domain.model.CursorPage;
+import com.dbmodeling.domain.model.KeysetCursor;
 import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.ProjectSummary;
 import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
+import com.dbmodeling.infrastructure.cache.ModelCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +17,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +35,12 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     
+    @Mock
+    private SummaryQueryRepository summaryQueryRepository;
+    
+    @Mock
+    private ModelCache modelCache;
+    
     @InjectMocks
     private ProjectService projectService;
     
@@ -142,6 +155,8 @@ class ProjectServiceTest {
     void getProjectById_Success() {
         // Given
         when(projectRepository.findById(testProjectId)).thenReturn(Optional.of(testProject));
+        when(modelCache.readAfterWrite(eq(testProjectId), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
         
         // When
         Project result = projectService.getProjectById(testProjectId);
@@ -157,6 +172,8 @@ class ProjectServiceTest {
     void getProjectById_NotFound_ThrowsException() {
         // Given
         when(projectRepository.findById(testProjectId)).thenReturn(Optional.empty());
+        when(modelCache.readAfterWrite(eq(testProjectId), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
         
         // When & Then
         assertThatThrownBy(() -> projectService.getProjectById(testProjectId))
@@ -173,6 +190,8 @@ class ProjectServiceTest {
         Project project2 = new Project("프로젝트2", "설명2");
         List<Project> projects = Arrays.asList(testProject, project2);
         when(projectRepository.findAll()).thenReturn(projects);
+        when(modelCache.getAllProjects(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<Project>>>getArgument(0).get());
         
         // When
         List<Project> result = projectService.getAllProjects();
@@ -211,4 +230,70 @@ class ProjectServiceTest {
         verify(projectRepository).existsById(testProjectId);
         verify(projectRepository, never()).deleteById(any(UUID.class));
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("프로젝트 요약 목록 조회 - 테이블 로딩 없이 집계")
+    void getProjectSummaries_Success() {
+        // Given
+        ProjectSummary summary = new ProjectSummary(testProjectId, "테스트 프로젝트", "테스트 설명", 3, null, null);
+        when(summaryQueryRepository.findProjectSummaries()).thenReturn(List.of(summary));
+        
+        // When
+        List<ProjectSummary> result = projectService.getProjectSummaries();
+        
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).tableCount()).isEqualTo(3);
+        verify(projectRepository, never()).findAll();
+    }
+    
+    @Test
+    @DisplayName("프로젝트 요약 커서 페이지 조회 - 다음 페이지 커서 생성")
+    void getProjectSummaryPage_FirstPageWithNext() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0, 30);
+        UUID secondId = UUID.randomUUID();
+        ProjectSummary first = new ProjectSummary(testProjectId, "프로젝트1", null, 0, now, now);
+        ProjectSummary second = new ProjectSummary(secondId, "프로젝트2", null, 0, now.minusHours(1), now);
+        ProjectSummary third = new ProjectSummary(UUID.randomUUID(), "프로젝트3", null, 0, now.minusHours(2), now);
+        when(summaryQueryRepository.findProjectSummariesAfter(null, null, 3))
+            .thenReturn(List.of(first, second, third));
+        
+        // When
+        CursorPage<ProjectSummary> result = projectService.getProjectSummaryPage(null, 2);
+        
+        // Then
+        assertThat(result.content()).containsExactly(first, second);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(result.nextCursor(), 2))
+            .containsExactly(now.minusHours(1).toString(), secondId.toString());
+    }
+    
+    @Test
+    @DisplayName("프로젝트 요약 커서 페이지 조회 - 커서 이후부터 조회")
+    void getProjectSummaryPage_AfterCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0, 30);
+        String cursor = KeysetCursor.encode(createdAt.toString(), testProjectId.toString());
+        when(summaryQueryRepository.findProjectSummariesAfter(createdAt, testProjectId, 21))
+            .thenReturn(List.of());
+        
+        // When
+        CursorPage<ProjectSummary> result = projectService.getProjectSummaryPage(cursor, 20);
+        
+        // Then
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("프로젝트 요약 커서 페이지 조회 - 유효하지 않은 커서")
+    void getProjectSummaryPage_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> projectService.getProjectSummaryPage("invalid", 20))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("유효하지 않은 페이지 커서입니다");
+        
+        verifyNoInteractions(summaryQueryRepository);
+    }
+}
@@ -4,10 +4,14 @@ import com.dbmodeling.application.port.in.CreateTableUseCase.CreateTableCommand;
 import com.dbmodeling.application.port.in.ManageColumnUseCase.AddColumnCommand;
 import com.dbmodeling.application.port.in.UpdateTableUseCase.UpdateTableCommand;
 import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.CursorPage;
+import com.dbmodeling.domain.model.KeysetCursor;
 import com.dbmodeling.domain.model.MSSQLDataType;
 import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.model.TableSummary;
 import com.dbmodeling.domain.repository.ColumnRepository;
 import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
 import com.dbmodeling.domain.repository.TableRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +43,9 @@ class TableServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     
+    @Mock
+    private SummaryQueryRepository summaryQueryRepository;
+    
     @InjectMocks
     private TableService tableService;
     
@@ -199,4 +206,49 @@ class TableServiceTest {
         assertThat(result).contains(testTable, table2);
         verify(tableRepository).findByProjectId(testProjectId);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("프로젝트별 테이블 요약 조회 - 컬럼/인덱스 로딩 없이 집계")
+    void getTableSummariesByProjectId_Success() {
+        // Given
+        TableSummary summary = new TableSummary(
+            testTableId, testProjectId, "테스트테이블", "설명", 5, 2, 10, 20, null, null
+        );
+        when(summaryQueryRepository.findTableSummariesByProjectId(testProjectId))
+            .thenReturn(List.of(summary));
+        
+        // When
+        List<TableSummary> result = tableService.getTableSummariesByProjectId(testProjectId);
+        
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).columnCount()).isEqualTo(5);
+        assertThat(result.get(0).indexCount()).isEqualTo(2);
+        verify(summaryQueryRepository).findTableSummariesByProjectId(testProjectId);
+        verify(tableRepository, never()).findByProjectId(any(UUID.class));
+    }
+    
+    @Test
+    @DisplayName("테이블 요약 커서 페이지 조회 - 마지막 테이블 이름으로 커서 생성")
+    void getTableSummaryPage_FirstPageWithNext() {
+        // Given
+        TableSummary a = new TableSummary(UUID.randomUUID(), testProjectId, "a_table", null, 0, 0, 0, 0, null, null);
+        TableSummary b = new TableSummary(UUID.randomUUID(), testProjectId, "b_table", null, 0, 0, 0, 0, null, null);
+        when(summaryQueryRepository.findTableSummariesAfter(testProjectId, null, 2))
+            .thenReturn(List.of(a, b));
+        
+        // When
+        CursorPage<TableSummary> result = tableService.getTableSummaryPage(testProjectId, null, 1);
+        
+        // Then
+        assertThat(result.content()).containsExactly(a);
+        assertThat(KeysetCursor.decode(result.nextCursor(), 1)).containsExactly("a_table");
+        
+        // 커서로 다음 페이지 조회
+        when(summaryQueryRepository.findTableSummariesAfter(testProjectId, "a_table", 2))
+            .thenReturn(List.of(b));
+        CursorPage<TableSummary> next = tableService.getTableSummaryPage(testProjectId, result.nextCursor(), 1);
+        assertThat(next.content()).containsExactly(b);
+        assertThat(next.hasNext()).isFalse();
+    }
+}
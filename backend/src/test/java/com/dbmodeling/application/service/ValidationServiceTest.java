@@ -7,6 +7,7 @@ import com.dbmodeling.domain.repository.ColumnRepository;
 import com.dbmodeling.domain.repository.IndexRepository;
 import com.dbmodeling.domain.repository.ProjectRepository;
 import com.dbmodeling.domain.repository.TableRepository;
+import com.dbmodeling.infrastructure.cache.ValidationMemo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,8 +22,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +45,9 @@ class ValidationServiceTest {
     @Mock
     private IndexRepository indexRepository;
     
+    @Mock
+    private ValidationMemo validationMemo;
+    
     @InjectMocks
     private ValidationService validationService;
     
@@ -56,6 +62,10 @@ class ValidationServiceTest {
         projectId = UUID.randomUUID();
         tableId = UUID.randomUUID();
         
+        // 메모는 항상 검증을 그대로 실행
+        when(validationMemo.get(any(), any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+        
         // 네이밍 규칙 설정
         namingRules = new NamingRules();
         namingRules.setTablePattern("^[A-Z][a-zA-Z0-9]*$"); // PascalCase
@@ -88,10 +98,9 @@ class ValidationServiceTest {
         Column validColumn = new Column("user_id", MSSQLDataType.BIGINT, 0);
         validColumn.setPrimaryKey(true);
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
-        when(tableRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(testTable));
-        when(columnRepository.findByTableIdOrderByOrderIndex(tableId)).thenReturn(Arrays.asList(validColumn));
-        when(indexRepository.findByTableId(tableId)).thenReturn(Collections.emptyList());
+        testTable.setColumns(Arrays.asList(validColumn));
+        testProject.setTables(Arrays.asList(testTable));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
@@ -113,11 +122,9 @@ class ValidationServiceTest {
         
         Column invalidColumn = new Column("InvalidColumn", MSSQLDataType.NVARCHAR, 0); // PascalCase (규칙 위반)
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
-        when(tableRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(invalidTable));
-        when(columnRepository.findByTableIdOrderByOrderIndex(invalidTable.getId()))
-            .thenReturn(Arrays.asList(invalidColumn));
-        when(indexRepository.findByTableId(invalidTable.getId())).thenReturn(Collections.emptyList());
+        invalidTable.setColumns(Arrays.asList(invalidColumn));
+        testProject.setTables(Arrays.asList(invalidTable));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
@@ -146,7 +153,7 @@ class ValidationServiceTest {
     void validateProject_NoNamingRules() {
         // Given
         testProject.setNamingRules(null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
@@ -164,11 +171,9 @@ class ValidationServiceTest {
         Column columnWithoutPK = new Column("name", MSSQLDataType.NVARCHAR, 0);
         columnWithoutPK.setPrimaryKey(false);
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
-        when(tableRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(testTable));
-        when(columnRepository.findByTableIdOrderByOrderIndex(tableId))
-            .thenReturn(Arrays.asList(columnWithoutPK));
-        when(indexRepository.findByTableId(tableId)).thenReturn(Collections.emptyList());
+        testTable.setColumns(Arrays.asList(columnWithoutPK));
+        testProject.setTables(Arrays.asList(testTable));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
@@ -186,11 +191,9 @@ class ValidationServiceTest {
         Column columnWithoutLength = new Column("name", MSSQLDataType.NVARCHAR, 0);
         columnWithoutLength.setMaxLength(null); // 길이 누락
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
-        when(tableRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(testTable));
-        when(columnRepository.findByTableIdOrderByOrderIndex(tableId))
-            .thenReturn(Arrays.asList(columnWithoutLength));
-        when(indexRepository.findByTableId(tableId)).thenReturn(Collections.emptyList());
+        testTable.setColumns(Arrays.asList(columnWithoutLength));
+        testProject.setTables(Arrays.asList(testTable));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
@@ -209,11 +212,9 @@ class ValidationServiceTest {
         Column identityColumn = new Column("id", MSSQLDataType.NVARCHAR, 0);
         identityColumn.setIdentity(true); // NVARCHAR는 IDENTITY 지원하지 않음
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
-        when(tableRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(testTable));
-        when(columnRepository.findByTableIdOrderByOrderIndex(tableId))
-            .thenReturn(Arrays.asList(identityColumn));
-        when(indexRepository.findByTableId(tableId)).thenReturn(Collections.emptyList());
+        testTable.setColumns(Arrays.asList(identityColumn));
+        testProject.setTables(Arrays.asList(testTable));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
@@ -358,11 +359,9 @@ class ValidationServiceTest {
         Column normalColumn = new Column("user_id", MSSQLDataType.BIGINT, 0);
         normalColumn.setPrimaryKey(true);
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
-        when(tableRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(testTable));
-        when(columnRepository.findByTableIdOrderByOrderIndex(tableId))
-            .thenReturn(Arrays.asList(normalColumn));
-        when(indexRepository.findByTableId(tableId)).thenReturn(Collections.emptyList());
+        testTable.setColumns(Arrays.asList(normalColumn));
+        testProject.setTables(Arrays.asList(testTable));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
@@ -383,11 +382,9 @@ class ValidationServiceTest {
         Column idColumn = new Column("ID", MSSQLDataType.BIGINT, 0);
         idColumn.setPrimaryKey(true); // 단독명칭 사용
         
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
-        when(tableRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(testTable));
-        when(columnRepository.findByTableIdOrderByOrderIndex(tableId))
-            .thenReturn(Arrays.asList(idColumn));
-        when(indexRepository.findByTableId(tableId)).thenReturn(Collections.emptyList());
+        testTable.setColumns(Arrays.asList(idColumn));
+        testProject.setTables(Arrays.asList(testTable));
+        when(projectRepository.findByIdWithFullGraph(projectId)).thenReturn(Optional.of(testProject));
         
         // When
         ValidationResult result = validationService.validateProject(projectId);
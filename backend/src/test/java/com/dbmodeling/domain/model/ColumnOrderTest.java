@@ -0,0 +1,92 @@
+package com.dbmodeling.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 컬럼 정렬 키 계산 테스트
+ */
+class ColumnOrderTest {
+
+    @Test
+    void 뒤로_이동하면_이동한_컬럼만_키가_바뀜() {
+        // Given
+        List<Column> columns = columns(5);
+        Column moved = columns.remove(0);
+        columns.add(3, moved);
+
+        // When
+        List<Column> changed = ColumnOrder.reassignKeys(columns).orElseThrow();
+
+        // Then
+        assertEquals(List.of(moved), changed);
+        assertTrue(moved.getSortKey() > columns.get(2).getSortKey());
+        assertTrue(moved.getSortKey() < columns.get(4).getSortKey());
+    }
+
+    @Test
+    void 맨_앞으로_이동하면_첫_키보다_작은_키를_받음() {
+        // Given
+        List<Column> columns = columns(3);
+        Column moved = columns.remove(2);
+        columns.add(0, moved);
+
+        // When
+        List<Column> changed = ColumnOrder.reassignKeys(columns).orElseThrow();
+
+        // Then
+        assertEquals(List.of(moved), changed);
+        assertTrue(moved.getSortKey() < columns.get(1).getSortKey());
+    }
+
+    @Test
+    void 순서가_같으면_변경_없음() {
+        assertTrue(ColumnOrder.reassignKeys(columns(4)).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void 키_간격이_없으면_빈_결과() {
+        // Given
+        Column moved = column(5L);
+        List<Column> columns = new ArrayList<>(List.of(column(10L), column(11L), column(12L), moved, column(13L)));
+
+        // When
+        Optional<List<Column>> changed = ColumnOrder.reassignKeys(columns);
+
+        // Then
+        assertTrue(changed.isEmpty());
+        assertEquals(5L, moved.getSortKey());
+    }
+
+    @Test
+    void 위치를_순서_인덱스로_반영하고_키를_확정() {
+        // Given
+        Column column = new Column("a", MSSQLDataType.INT, 3);
+
+        // When
+        ColumnOrder.applyPositions(List.of(column));
+
+        // Then
+        assertEquals(0, column.getOrderIndex());
+        assertEquals(4 * ColumnOrder.GAP, column.getSortKey());
+    }
+
+    private List<Column> columns(int count) {
+        List<Column> columns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            columns.add(column((i + 1) * ColumnOrder.GAP));
+        }
+        return columns;
+    }
+
+    private Column column(long sortKey) {
+        Column column = new Column("col" + sortKey, MSSQLDataType.INT, 0);
+        column.setSortKey(sortKey);
+        return column;
+    }
+}
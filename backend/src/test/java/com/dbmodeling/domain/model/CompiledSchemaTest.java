@@ -0,0 +1,85 @@
+package com.dbmodeling.domain.model;
+
+import com.dbmodeling.domain.model.CompiledSchema.CompiledTable;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 컴파일된 스키마 모델 테스트
+ */
+class CompiledSchemaTest {
+
+    @Test
+    void 이름_중복_테이블과_컬럼_수집_테스트() {
+        // Given
+        Project project = new Project("테스트 프로젝트", null);
+        Table users = new Table("Users", null);
+        users.addColumn(new Column("Email", MSSQLDataType.NVARCHAR, 0));
+        users.addColumn(new Column("email", MSSQLDataType.NVARCHAR, 1));
+        Table duplicate = new Table("users", null);
+        project.addTable(users);
+        project.addTable(duplicate);
+
+        // When
+        CompiledSchema schema = CompiledSchema.of(project);
+
+        // Then
+        assertEquals(List.of(duplicate), schema.duplicateNamedTables());
+        assertSame(users, schema.tableByName("USERS").table());
+        assertSame(duplicate, schema.table(duplicate.getId()).table());
+        CompiledTable compiled = schema.tables().get(0);
+        assertEquals(List.of("email", "email"), compiled.lowerCaseColumnNames());
+        assertEquals(1, compiled.duplicateNamedColumns().size());
+        assertSame(users.getColumns().get(1), compiled.duplicateNamedColumns().get(0));
+    }
+
+    @Test
+    void 컬럼_정렬과_기본키_테스트() {
+        // Given
+        Table table = new Table("Orders", null);
+        Column code = new Column("Code", MSSQLDataType.NVARCHAR, 2);
+        code.setPrimaryKey(true);
+        Column id = new Column("Id", MSSQLDataType.BIGINT, 0);
+        id.setPrimaryKey(true);
+        Column name = new Column("Name", MSSQLDataType.NVARCHAR, 1);
+        table.addColumn(code);
+        table.addColumn(id);
+        table.addColumn(name);
+
+        // When
+        CompiledTable compiled = CompiledSchema.compile(table);
+
+        // Then
+        assertEquals(List.of(id, name, code), compiled.sortedColumns());
+        assertEquals(List.of(code, id), compiled.primaryKeyColumns());
+        assertEquals(List.of(id, code), compiled.sortedPrimaryKeyColumns());
+        assertTrue(compiled.hasPrimaryKey());
+        assertSame(name, compiled.column(name.getId()));
+        assertSame(name, compiled.columnByName("NAME"));
+    }
+
+    @Test
+    void 인덱스_컬럼_해석_테스트() {
+        // Given
+        Table table = new Table("Users", null);
+        Column email = new Column("Email", MSSQLDataType.NVARCHAR, 0);
+        table.addColumn(email);
+        Index index = new Index("IX_Users_Email", Index.IndexType.NONCLUSTERED, false);
+        index.setColumns(List.of(
+            new Index.IndexColumn(email.getId(), Index.SortOrder.ASC),
+            new Index.IndexColumn(UUID.randomUUID(), Index.SortOrder.DESC)));
+        table.addIndex(index);
+
+        // When
+        List<CompiledSchema.ResolvedIndexColumn> resolved = CompiledSchema.compile(table).indexColumns(index);
+
+        // Then
+        assertEquals(2, resolved.size());
+        assertTrue(resolved.get(0).isResolved());
+        assertSame(email, resolved.get(0).column());
+        assertFalse(resolved.get(1).isResolved());
+        assertNull(resolved.get(1).column());
+    }
+}
@@ -267,6 +267,62 @@ class NamingRulesTest {
         assertNull(namingRules.suggestIndexName("table", null));
     }
 
+    @Test
+    void 컴파일된_평가기_재사용_테스트() {
+        // Given
+        NamingRules namingRules = new NamingRules();
+        namingRules.setTablePattern("^[A-Z][a-zA-Z0-9]*$");
+
+        // When
+        CompiledNamingRules first = namingRules.compiled();
+        namingRules.validateTableName("User");
+        namingRules.setRequireDescription(true);
+
+        // Then
+        assertSame(first, namingRules.compiled());
+    }
+
+    @Test
+    void 규칙_변경_시_평가기_재컴파일_테스트() {
+        // Given
+        NamingRules namingRules = new NamingRules();
+        namingRules.setTablePattern("^[A-Z][a-zA-Z0-9]*$");
+        CompiledNamingRules first = namingRules.compiled();
+        assertTrue(namingRules.validateTableName("User"));
+
+        // When
+        namingRules.setTablePattern("^TB_[A-Z]+$");
+
+        // Then
+        assertNotSame(first, namingRules.compiled());
+        assertFalse(namingRules.validateTableName("User"));
+    }
+
+    @Test
+    void 잘못된_패턴은_해당_패턴_사용_시에만_예외_테스트() {
+        // Given
+        NamingRules namingRules = new NamingRules();
+        namingRules.setIndexPattern("[");
+        namingRules.setEnforceCase(null);
+
+        // When & Then
+        assertTrue(namingRules.validateTableName("User"));
+        assertThrows(java.util.regex.PatternSyntaxException.class, () -> namingRules.validateIndexName("IX_User"));
+    }
+
+    @Test
+    void 구분자와_camelCase_혼합_변환_테스트() {
+        // Given
+        NamingRules pascal = new NamingRules();
+        NamingRules snake = new NamingRules();
+        snake.setEnforceCase(NamingRules.CaseType.SNAKE);
+
+        // When & Then
+        assertEquals("UserOrderHistId", pascal.suggestColumnName("user--orderHIST_id"));
+        assertEquals("user_order_hist_id", snake.suggestColumnName("user  order-histId"));
+        assertEquals("", pascal.suggestColumnName("__"));
+    }
+
     @Test
     void 케이스타입_이름_테스트() {
         // When & Then
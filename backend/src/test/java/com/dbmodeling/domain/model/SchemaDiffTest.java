@@ -0,0 +1,168 @@
+package com.dbmodeling.domain.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스키마 차이 계산 테스트
+ */
+class SchemaDiffTest {
+
+    @Test
+    void ID가_같은_테이블과_컬럼은_이름_변경으로_판단_테스트() {
+        // Given
+        Project original = new Project("v1", null);
+        Table table = new Table("User", null);
+        Column email = new Column("email", MSSQLDataType.NVARCHAR, 1);
+        table.addColumn(email);
+        original.addTable(table);
+
+        Project modified = new Project("v2", null);
+        Table renamed = copyOf(table);
+        renamed.setName("Member");
+        renamed.getColumns().get(0).setName("email_address");
+        modified.addTable(renamed);
+
+        // When
+        SchemaDiff diff = SchemaDiff.between(original, modified);
+
+        // Then
+        assertTrue(diff.createdTables().isEmpty());
+        assertTrue(diff.droppedTables().isEmpty());
+        assertEquals(1, diff.changedTables().size());
+        SchemaDiff.TableDiff tableDiff = diff.changedTables().get(0);
+        assertTrue(tableDiff.isRenamed());
+        assertEquals(1, tableDiff.renamedColumns().size());
+        assertTrue(tableDiff.addedColumns().isEmpty());
+        assertTrue(tableDiff.droppedColumns().isEmpty());
+        assertTrue(tableDiff.alteredColumns().isEmpty());
+    }
+
+    @Test
+    void 테이블과_컬럼_추가_삭제_테스트() {
+        // Given
+        Project original = new Project("v1", null);
+        Table kept = new Table("User", null);
+        Column name = new Column("name", MSSQLDataType.NVARCHAR, 1);
+        kept.addColumn(name);
+        Table removed = new Table("Log", null);
+        original.addTable(kept);
+        original.addTable(removed);
+
+        Project modified = new Project("v2", null);
+        Table keptCopy = copyOf(kept);
+        keptCopy.getColumns().clear();
+        Column phone = new Column("phone", MSSQLDataType.NVARCHAR, 1);
+        keptCopy.addColumn(phone);
+        Table added = new Table("Order", null);
+        modified.addTable(keptCopy);
+        modified.addTable(added);
+
+        // When
+        SchemaDiff diff = SchemaDiff.between(original, modified);
+
+        // Then
+        assertEquals(List.of(added), diff.createdTables().stream().map(CompiledSchema.CompiledTable::table).toList());
+        assertEquals(List.of(removed), diff.droppedTables().stream().map(CompiledSchema.CompiledTable::table).toList());
+        SchemaDiff.TableDiff tableDiff = diff.changedTables().get(0);
+        assertEquals(List.of(phone), tableDiff.addedColumns());
+        assertEquals(1, tableDiff.droppedColumns().size());
+        assertEquals(name.getId(), tableDiff.droppedColumns().get(0).getId());
+    }
+
+    @Test
+    void 타입이_바뀐_컬럼을_참조하는_인덱스와_기본키는_다시_생성_테스트() {
+        // Given
+        Table table = new Table("User", null);
+        Column id = new Column("id", MSSQLDataType.INT, 1);
+        id.setPrimaryKey(true);
+        Column code = new Column("code", MSSQLDataType.NVARCHAR, 2);
+        code.setMaxLength(10);
+        table.addColumn(id);
+        table.addColumn(code);
+        Index codeIndex = new Index("IX_User_code", Index.IndexType.NONCLUSTERED, true);
+        codeIndex.addColumn(code.getId(), Index.SortOrder.ASC);
+        Index idIndex = new Index("IX_User_id", Index.IndexType.NONCLUSTERED, false);
+        idIndex.addColumn(id.getId(), Index.SortOrder.DESC);
+        table.addIndex(codeIndex);
+        table.addIndex(idIndex);
+
+        Table modified = copyOf(table);
+        modified.getColumns().get(0).setDataType(MSSQLDataType.BIGINT);
+        modified.getIndexes().get(0).updateIndex("UX_User_code", Index.IndexType.NONCLUSTERED, true);
+
+        // When
+        SchemaDiff.TableDiff diff = SchemaDiff.compare(CompiledSchema.compile(table), CompiledSchema.compile(modified));
+
+        // Then
+        assertTrue(diff.isPrimaryKeyChanged());
+        assertEquals(1, diff.alteredColumns().size());
+        assertTrue(diff.alteredColumns().get(0).isTypeChanged());
+        assertEquals(List.of(idIndex), diff.droppedIndexes());
+        assertEquals(1, diff.addedIndexes().size());
+        assertEquals(1, diff.renamedIndexes().size());
+        assertEquals("UX_User_code", diff.renamedIndexes().get(0).modified().getName());
+    }
+
+    @Test
+    void 변경이_없으면_빈_결과_테스트() {
+        // Given
+        Project project = new Project("v1", null);
+        Table table = new Table("User", null);
+        table.addColumn(new Column("id", MSSQLDataType.BIGINT, 1));
+        project.addTable(table);
+
+        Project copy = new Project("v2", null);
+        copy.addTable(copyOf(table));
+
+        // When
+        SchemaDiff diff = SchemaDiff.between(project, copy);
+
+        // Then
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    void IDENTITY_속성이_바뀐_컬럼은_변경_목록에_포함_테스트() {
+        // Given
+        Column before = new Column("id", MSSQLDataType.BIGINT, 1);
+        before.setIdentityProperties(true, 1, 1);
+        Column reseeded = new Column("id", MSSQLDataType.BIGINT, 1);
+        reseeded.setIdentityProperties(true, 100, 1);
+        Column plain = new Column("id", MSSQLDataType.BIGINT, 1);
+        Column plainWithOtherSeed = new Column("id", MSSQLDataType.BIGINT, 1);
+        plainWithOtherSeed.setIdentitySeed(100);
+
+        // When & Then
+        assertTrue(new SchemaDiff.ColumnChange(before, reseeded).isIdentityChanged());
+        assertTrue(new SchemaDiff.ColumnChange(before, plain).isIdentityChanged());
+        assertFalse(new SchemaDiff.ColumnChange(before, reseeded).isTypeChanged());
+        assertFalse(new SchemaDiff.ColumnChange(plain, plainWithOtherSeed).isIdentityChanged());
+    }
+
+    /**
+     * 같은 ID를 유지한 테이블 사본 (다른 스냅샷 흉내)
+     */
+    private static Table copyOf(Table table) {
+        Table copy = new Table(table.getName(), table.getDescription());
+        copy.setId(table.getId());
+        for (Column column : table.getColumns()) {
+            Column columnCopy = new Column(column.getName(), column.getDataType(), column.getOrderIndex());
+            columnCopy.setId(column.getId());
+            columnCopy.setMaxLength(column.getMaxLength());
+            columnCopy.setPrimaryKey(column.isPrimaryKey());
+            columnCopy.setNullable(column.isNullable());
+            columnCopy.setDefaultValue(column.getDefaultValue());
+            copy.addColumn(columnCopy);
+        }
+        for (Index index : table.getIndexes()) {
+            Index indexCopy = new Index(index.getName(), index.getType(), index.isUnique());
+            indexCopy.setId(index.getId());
+            indexCopy.setColumns(new ArrayList<>(index.getColumns()));
+            copy.addIndex(indexCopy);
+        }
+        return copy;
+    }
+}
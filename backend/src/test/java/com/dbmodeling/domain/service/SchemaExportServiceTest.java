@@ -20,8 +20,8 @@ class SchemaExportServiceTest {
     @BeforeEach
     void setUp() {
         MSSQLTypeMapper typeMapper = new MSSQLTypeMapper();
-        sqlGeneratorService = new SqlGeneratorService(typeMapper);
-        validationService = new ValidationDomainService();
+        sqlGeneratorService = new SqlGeneratorService(typeMapper, TableFragmentMemo.NONE, 0, 0);
+        validationService = new ValidationDomainService(TableResultMemo.NONE);
         schemaExportService = new SchemaExportService(sqlGeneratorService, validationService);
     }
 
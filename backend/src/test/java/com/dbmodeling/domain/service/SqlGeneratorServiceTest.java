@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,7 +22,7 @@ class SqlGeneratorServiceTest {
     @BeforeEach
     void setUp() {
         typeMapper = new MSSQLTypeMapper();
-        sqlGeneratorService = new SqlGeneratorService(typeMapper);
+        sqlGeneratorService = new SqlGeneratorService(typeMapper, TableFragmentMemo.NONE, 0, 0);
     }
 
     @Test
@@ -483,10 +484,270 @@ class SqlGeneratorServiceTest {
 
         // Then
         assertNotNull(sql);
-        assertTrue(sql.contains("ALTER TABLE [User] ADD"));
+        assertTrue(sql.contains("ALTER TABLE [dbo].[User] ADD"));
         assertTrue(sql.contains("[name] NVARCHAR(100)"));
         
         System.out.println("Generated Alter Table SQL:");
         System.out.println(sql);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("병렬 테이블 생성 결과가 순차 생성과 동일한지 테스트")
+    void testParallelProjectSqlMatchesSequential() {
+        // Given
+        Project project = new Project("LargeProject", "테이블이 많은 프로젝트");
+        for (int t = 0; t < 40; t++) {
+            Table table = new Table("Table" + t, "테이블 " + t);
+            table.setId(UUID.randomUUID());
+            
+            Column idColumn = new Column("id", MSSQLDataType.BIGINT, 1);
+            idColumn.setId(UUID.randomUUID());
+            idColumn.setPrimaryKey(true);
+            idColumn.setNullableWithValidation(false);
+            
+            Column nameColumn = new Column("name", MSSQLDataType.NVARCHAR, 2);
+            nameColumn.setId(UUID.randomUUID());
+            nameColumn.setMaxLength(50 + t);
+            nameColumn.setDescription("이름 " + t);
+            
+            table.addColumn(idColumn);
+            table.addColumn(nameColumn);
+            
+            Index index = new Index("IX_Table" + t + "_name", Index.IndexType.NONCLUSTERED, t % 2 == 0);
+            index.addColumn(nameColumn.getId(), Index.SortOrder.ASC);
+            table.addIndex(index);
+            
+            project.addTable(table);
+        }
+        
+        SchemaGenerationOptions options = SchemaGenerationOptions.developmentOptions();
+        SqlGeneratorService parallelGenerator = new SqlGeneratorService(typeMapper, TableFragmentMemo.NONE, 2, 3);
+
+        try {
+            // When
+            String sequential = sqlGeneratorService.generateProjectSql(project, options);
+            String parallel = parallelGenerator.generateProjectSql(project, options);
+
+            // Then (생성일 주석만 제외하고 바이트 단위로 동일)
+            String timestamp = "-- 생성일: .*\n";
+            assertEquals(sequential.replaceAll(timestamp, ""), parallel.replaceAll(timestamp, ""));
+            assertTrue(parallel.indexOf("[Table9]") < parallel.indexOf("[Table10]"));
+        } finally {
+            parallelGenerator.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("프로젝트 마이그레이션 스크립트 순서 테스트")
+    void testGenerateMigrationSql() {
+        // Given - 변경 전 프로젝트
+        Project original = new Project("Shop", "v1");
+        Table userTable = new Table("User", "사용자 테이블");
+        Column idColumn = new Column("id", MSSQLDataType.BIGINT, 1);
+        idColumn.setPrimaryKey(true);
+        idColumn.setNullableWithValidation(false);
+        Column emailColumn = new Column("email", MSSQLDataType.NVARCHAR, 2);
+        emailColumn.setMaxLength(100);
+        Column statusColumn = new Column("status", MSSQLDataType.INT, 3);
+        statusColumn.setDefaultValue("0");
+        userTable.addColumn(idColumn);
+        userTable.addColumn(emailColumn);
+        userTable.addColumn(statusColumn);
+        Index statusIndex = new Index("IX_User_status", Index.IndexType.NONCLUSTERED, false);
+        statusIndex.addColumn(statusColumn.getId(), Index.SortOrder.ASC);
+        userTable.addIndex(statusIndex);
+        Table logTable = new Table("Log", "로그 테이블");
+        logTable.addColumn(new Column("message", MSSQLDataType.NVARCHAR, 1));
+        original.addTable(userTable);
+        original.addTable(logTable);
+
+        // Given - 변경 후 프로젝트 (테이블/컬럼 이름 변경, 타입 변경, 테이블 추가/삭제)
+        Project modified = new Project("Shop", "v2");
+        Table memberTable = copyOf(userTable);
+        memberTable.setName("Member");
+        memberTable.getColumns().get(1).setName("email_address");
+        memberTable.getColumns().get(2).setDataType(MSSQLDataType.BIGINT);
+        Table orderTable = new Table("Order", "주문 테이블");
+        orderTable.addColumn(new Column("id", MSSQLDataType.BIGINT, 1));
+        modified.addTable(memberTable);
+        modified.addTable(orderTable);
+
+        // When
+        String sql = sqlGeneratorService.generateMigrationSql(original, modified);
+
+        // Then
+        assertTrue(sql.contains("EXEC sp_rename N'[dbo].[User]', N'Member';"));
+        assertTrue(sql.contains("EXEC sp_rename N'[dbo].[PK_User]', N'PK_Member', N'OBJECT';"));
+        assertTrue(sql.contains("EXEC sp_rename N'[dbo].[Member].[email]', N'email_address', N'COLUMN';"));
+        assertTrue(sql.contains("DROP TABLE IF EXISTS [dbo].[Log];"));
+        assertTrue(sql.contains("CREATE TABLE [dbo].[Order]"));
+
+        // 타입이 바뀌는 컬럼의 인덱스와 기본값은 ALTER COLUMN 전에 삭제하고 이후 다시 생성
+        int dropIndex = sql.indexOf("DROP INDEX [IX_User_status] ON [dbo].[User];");
+        int dropDefault = sql.indexOf("DROP CONSTRAINT [' + @constraintName");
+        int alterColumn = sql.indexOf("ALTER TABLE [dbo].[Member] ALTER COLUMN [status] BIGINT NULL;");
+        int addDefault = sql.indexOf("ALTER TABLE [dbo].[Member] ADD DEFAULT 0 FOR [status];");
+        int createIndex = sql.indexOf("CREATE NONCLUSTERED INDEX [IX_User_status] ON [dbo].[Member]");
+        assertTrue(dropIndex >= 0 && dropIndex < sql.indexOf("sp_rename"));
+        assertTrue(dropDefault > 0 && dropDefault < alterColumn);
+        assertTrue(alterColumn < addDefault && addDefault < createIndex);
+        assertFalse(sql.contains("-- 생성일:"));
+    }
+
+    @Test
+    @DisplayName("테이블 변경 스크립트는 기본값만 바뀐 컬럼과 따옴표가 든 이름도 처리")
+    void testGenerateAlterTableSqlDefaultAndQuotedRename() {
+        // Given
+        Table originalTable = new Table("User", null);
+        Column statusColumn = new Column("status", MSSQLDataType.INT, 1);
+        statusColumn.setDefaultValue("0");
+        originalTable.addColumn(statusColumn);
+
+        Table modifiedTable = copyOf(originalTable);
+        modifiedTable.setName("O'Brien");
+        modifiedTable.getColumns().get(0).setDefaultValue("1");
+
+        // When
+        String sql = sqlGeneratorService.generateAlterTableSql(originalTable, modifiedTable);
+
+        // Then
+        assertTrue(sql.contains("EXEC sp_rename N'[dbo].[User]', N'O''Brien';"));
+        assertTrue(sql.contains("DECLARE @constraintName sysname;"));
+        int dropDefault = sql.indexOf("DROP CONSTRAINT [' + @constraintName");
+        int addDefault = sql.indexOf("ALTER TABLE [dbo].[O'Brien] ADD DEFAULT 1 FOR [status];");
+        assertTrue(dropDefault > 0 && dropDefault < addDefault);
+        assertFalse(sql.contains("ALTER COLUMN"));
+    }
+
+    @Test
+    @DisplayName("서로 이름을 맞바꾼 테이블은 임시 이름을 거쳐 변경")
+    void testGenerateMigrationSqlSwapsNames() {
+        // Given
+        Project original = new Project("Shop", null);
+        Table first = new Table("A", null);
+        first.addColumn(new Column("x", MSSQLDataType.INT, 1));
+        Table second = new Table("B", null);
+        second.addColumn(new Column("y", MSSQLDataType.INT, 1));
+        original.addTable(first);
+        original.addTable(second);
+
+        Project modified = new Project("Shop", null);
+        Table renamedFirst = copyOf(first);
+        renamedFirst.setName("B");
+        Table renamedSecond = copyOf(second);
+        renamedSecond.setName("A");
+        modified.addTable(renamedFirst);
+        modified.addTable(renamedSecond);
+
+        // When
+        String sql = sqlGeneratorService.generateMigrationSql(original, modified);
+
+        // Then
+        assertTrue(sql.indexOf("N'[dbo].[A]', N'__rename_0_B'") < sql.indexOf("N'[dbo].[B]', N'__rename_1_A'"));
+        assertTrue(sql.indexOf("N'[dbo].[B]', N'__rename_1_A'") < sql.indexOf("N'[dbo].[__rename_0_B]', N'B'"));
+        assertTrue(sql.contains("EXEC sp_rename N'[dbo].[__rename_1_A]', N'A';"));
+        assertFalse(sql.contains("ALTER TABLE"));
+        assertFalse(sql.contains("CREATE TABLE"));
+    }
+
+    @Test
+    @DisplayName("변경사항이 없으면 빈 마이그레이션")
+    void testGenerateMigrationSqlWithoutChanges() {
+        // Given
+        Project project = new Project("Shop", null);
+        Table table = new Table("User", null);
+        table.addColumn(new Column("id", MSSQLDataType.BIGINT, 1));
+        project.addTable(table);
+
+        // When
+        String sql = sqlGeneratorService.generateMigrationSql(project, project);
+
+        // Then
+        assertTrue(sql.contains("-- 변경사항이 없습니다."));
+        assertFalse(sql.contains("BEGIN TRANSACTION"));
+    }
+
+    @Test
+    @DisplayName("CHECK 제약조건이 있는 컬럼은 삭제/타입 변경 전에 제약조건을 삭제하고 필요하면 다시 생성")
+    void testGenerateAlterTableSqlDropsCheckConstraints() {
+        // Given
+        Table originalTable = new Table("User", null);
+        originalTable.addColumn(new Column("is_active", MSSQLDataType.BIT, 1));
+        originalTable.addColumn(new Column("level", MSSQLDataType.TINYINT, 2));
+        originalTable.addColumn(new Column("flag", MSSQLDataType.BIT, 3));
+
+        Table modifiedTable = copyOf(originalTable);
+        modifiedTable.getColumns().get(1).setDataType(MSSQLDataType.SMALLINT);
+        modifiedTable.getColumns().get(2).setDataType(MSSQLDataType.INT);
+        modifiedTable.getColumns().remove(0);
+
+        // When
+        String sql = sqlGeneratorService.generateAlterTableSql(originalTable, modifiedTable);
+
+        // Then
+        assertTrue(sql.contains("DECLARE @constraintName sysname;"));
+        assertTrue(sql.contains("FROM sys.check_constraints"));
+        int dropCheck = sql.indexOf("OR [name] = N'CK_User_is_active'");
+        int dropColumn = sql.indexOf("ALTER TABLE [dbo].[User] DROP COLUMN [is_active];");
+        assertTrue(dropCheck > 0 && dropCheck < dropColumn);
+
+        int dropLevelCheck = sql.indexOf("OR [name] = N'CK_User_level'");
+        int alterLevel = sql.indexOf("ALTER TABLE [dbo].[User] ALTER COLUMN [level] SMALLINT");
+        int addLevelCheck = sql.indexOf("IF @constraintName IS NOT NULL ALTER TABLE [dbo].[User] "
+            + "ADD CONSTRAINT [CK_User_level] CHECK ([level] >= -32768 AND [level] <= 32767);");
+        assertTrue(dropLevelCheck > 0 && dropLevelCheck < alterLevel && alterLevel < addLevelCheck);
+
+        int dropFlagCheck = sql.indexOf("OR [name] = N'CK_User_flag'");
+        int alterFlag = sql.indexOf("ALTER TABLE [dbo].[User] ALTER COLUMN [flag] INT");
+        assertTrue(dropFlagCheck > 0 && dropFlagCheck < alterFlag);
+        assertFalse(sql.contains("[CK_User_flag] CHECK"));
+    }
+
+    @Test
+    @DisplayName("IDENTITY 속성 변경은 수동 변경 안내 주석으로 기록")
+    void testGenerateAlterTableSqlWarnsIdentityChange() {
+        // Given
+        Table originalTable = new Table("User", null);
+        Column id = new Column("id", MSSQLDataType.BIGINT, 1);
+        id.setIdentityProperties(true, 1, 1);
+        originalTable.addColumn(id);
+        Column code = new Column("code", MSSQLDataType.INT, 2);
+        originalTable.addColumn(code);
+
+        Table modifiedTable = copyOf(originalTable);
+        modifiedTable.getColumns().get(0).setIdentityProperties(true, 1000, 1);
+
+        // When
+        String sql = sqlGeneratorService.generateAlterTableSql(originalTable, modifiedTable);
+
+        // Then
+        assertTrue(sql.contains("-- 수동 변경 필요: [id] IDENTITY(1,1) → IDENTITY(1000,1)"));
+        assertFalse(sql.contains("-- 수동 변경 필요: [code]"));
+        assertFalse(sql.contains("ALTER COLUMN"));
+        assertFalse(sql.contains("DECLARE @constraintName"));
+    }
+
+    /**
+     * 같은 ID를 유지한 테이블 사본 (다른 스냅샷 흉내)
+     */
+    private static Table copyOf(Table table) {
+        Table copy = new Table(table.getName(), table.getDescription());
+        copy.setId(table.getId());
+        for (Column column : table.getColumns()) {
+            Column columnCopy = new Column(column.getName(), column.getDataType(), column.getOrderIndex());
+            columnCopy.setId(column.getId());
+            columnCopy.setMaxLength(column.getMaxLength());
+            columnCopy.setPrimaryKey(column.isPrimaryKey());
+            columnCopy.setNullable(column.isNullable());
+            columnCopy.setDefaultValue(column.getDefaultValue());
+            copy.addColumn(columnCopy);
+        }
+        for (Index index : table.getIndexes()) {
+            Index indexCopy = new Index(index.getName(), index.getType(), index.isUnique());
+            indexCopy.setId(index.getId());
+            indexCopy.setColumns(new ArrayList<>(index.getColumns()));
+            copy.addIndex(indexCopy);
+        }
+        return copy;
+    }
+}
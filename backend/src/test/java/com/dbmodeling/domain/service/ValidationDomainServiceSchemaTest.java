@@ -16,7 +16,7 @@ class ValidationDomainServiceSchemaTest {
 
     @BeforeEach
     void setUp() {
-        validationService = new ValidationDomainService();
+        validationService = new ValidationDomainService(TableResultMemo.NONE);
     }
 
     @Test
@@ -16,7 +16,7 @@ class ValidationDomainServiceTest {
 
     @BeforeEach
     void setUp() {
-        validationService = new ValidationDomainService();
+        validationService = new ValidationDomainService(TableResultMemo.NONE);
         namingRules = new NamingRules();
         namingRules.setTablePrefix("TB_");
         namingRules.setEnforceCase(NamingRules.CaseType.UPPER);
@@ -0,0 +1,97 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.SummaryQueryRepository;
+import com.dbmodeling.domain.service.SqlGeneratorService;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import com.dbmodeling.infrastructure.persistence.access.ProjectAccessStatsStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("캐시 예열 테스트")
+class CacheWarmerTest {
+
+    private ProjectRepository projectRepository;
+    private SummaryQueryRepository summaryQueryRepository;
+    private SqlGeneratorService sqlGeneratorService;
+    private ProjectAccessStatsStore accessStatsStore;
+    private ModelCache modelCache;
+    private CacheWarmer cacheWarmer;
+    private ExecutorService executor;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=1000,expireAfterWrite=30m", "maximumSize=100",
+            "maximumSize=100", "maximumWeight=10000,expireAfterWrite=10m");
+        CacheManager cacheManager = config.cacheManager(config.cacheStatsManager());
+        modelCache = new ModelCache(cacheManager);
+
+        projectRepository = mock(ProjectRepository.class);
+        summaryQueryRepository = mock(SummaryQueryRepository.class);
+        sqlGeneratorService = mock(SqlGeneratorService.class);
+        accessStatsStore = mock(ProjectAccessStatsStore.class);
+        cacheWarmer = new CacheWarmer(modelCache, new SchemaOutputCache(cacheManager), projectRepository,
+            summaryQueryRepository, sqlGeneratorService, accessStatsStore, true, 10, 2,
+            Duration.ofMinutes(1), Duration.ofMinutes(5));
+        executor = Executors.newFixedThreadPool(2);
+
+        project = new Project("프로젝트", null);
+        project.setId(UUID.randomUUID());
+        project.setContentVersion(1L);
+        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+        when(summaryQueryRepository.findProjectVersion(project.getId())).thenReturn(Optional.of(1L));
+        when(projectRepository.findByIdWithFullGraph(project.getId())).thenReturn(Optional.of(project));
+        when(sqlGeneratorService.generateProjectSql(any(Project.class))).thenReturn("CREATE TABLE ...");
+        when(accessStatsStore.findHottest(10)).thenReturn(List.of(project.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("상위 프로젝트의 캐시와 기본 SQL을 미리 채움")
+    void refreshHottest_WarmsProjectAndSql() throws InterruptedException {
+        // When
+        int refreshed = cacheWarmer.refreshHottest(executor);
+
+        // Then
+        assertThat(refreshed).isEqualTo(2);
+        assertThat(modelCache.peekProject(project.getId())).contains(project);
+        verify(accessStatsStore).flush();
+        verify(sqlGeneratorService).generateProjectSql(project);
+    }
+
+    @Test
+    @DisplayName("만료가 멀면 다시 로드하거나 생성하지 않음")
+    void refreshHottest_SkipsFreshEntries() throws InterruptedException {
+        // Given
+        cacheWarmer.refreshHottest(executor);
+
+        // When
+        int refreshed = cacheWarmer.refreshHottest(executor);
+
+        // Then
+        assertThat(refreshed).isZero();
+        verify(projectRepository, times(1)).findById(project.getId());
+        verify(sqlGeneratorService, times(1)).generateProjectSql(project);
+    }
+}
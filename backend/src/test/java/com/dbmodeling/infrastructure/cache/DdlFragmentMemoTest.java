@@ -0,0 +1,121 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.SchemaGenerationOptions;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.service.SqlGeneratorService;
+import com.dbmodeling.domain.service.TableFragmentMemo;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import com.dbmodeling.infrastructure.external.mssql.MSSQLTypeMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("테이블 DDL 조각 메모 테스트")
+class DdlFragmentMemoTest {
+
+    private DdlFragmentMemo fragmentMemo;
+    private Table users;
+    private Table orders;
+    private AtomicInteger rendered;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=1000", "maximumSize=100", "maximumSize=100", "maximumWeight=1000");
+        fragmentMemo = new DdlFragmentMemo(config.cacheManager(config.cacheStatsManager()));
+        users = table("Users");
+        orders = table("Orders");
+        rendered = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 테이블만 바뀌면 그 테이블만 다시 생성")
+    void changedTable_IsRerenderedAlone() {
+        // Given
+        renderAll("comments=true");
+
+        // When
+        orders.getColumns().get(0).setName("OrderNo");
+        renderAll("comments=true");
+
+        // Then
+        assertThat(rendered).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("옵션이 바뀌면 모든 테이블을 다시 생성")
+    void changedOptions_Rerender() {
+        // Given
+        renderAll("comments=true");
+
+        // When
+        renderAll("comments=false");
+
+        // Then
+        assertThat(rendered).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("컬럼 순서가 바뀐 테이블은 다시 생성")
+    void changedColumnOrder_Rerender() {
+        // Given
+        renderAll("comments=true");
+
+        // When
+        users.getColumns().get(0).setOrderIndex(5);
+        String usersBlock = fragmentMemo.get(users, "comments=true", () -> "-- " + rendered.incrementAndGet());
+        String ordersBlock = fragmentMemo.get(orders, "comments=true", () -> "-- " + rendered.incrementAndGet());
+
+        // Then
+        assertThat(rendered).hasValue(3);
+        assertThat(usersBlock).isEqualTo("-- 3");
+        assertThat(ordersBlock).isEqualTo("-- 2");
+    }
+
+    @Test
+    @DisplayName("메모된 조각으로 만든 프로젝트 DDL은 메모 없이 만든 결과와 같음")
+    void projectSql_MatchesUnmemoizedResult() {
+        // Given
+        Project project = new Project("프로젝트", "설명");
+        project.setTables(List.of(users, orders));
+        MSSQLTypeMapper typeMapper = new MSSQLTypeMapper();
+        SqlGeneratorService memoized = new SqlGeneratorService(typeMapper, fragmentMemo, 0, 0);
+        SqlGeneratorService plain = new SqlGeneratorService(typeMapper, TableFragmentMemo.NONE, 0, 0);
+        SchemaGenerationOptions options = SchemaGenerationOptions.developmentOptions();
+        String timestamp = "-- 생성일: .*\\n";
+
+        // When
+        memoized.generateProjectSql(project, options);
+        orders.getColumns().get(0).setDataType(MSSQLDataType.NVARCHAR);
+        orders.getColumns().get(0).setMaxLength(20);
+        String cached = memoized.generateProjectSql(project, options);
+        String expected = plain.generateProjectSql(project, options);
+
+        // Then
+        assertThat(cached.replaceAll(timestamp, "")).isEqualTo(expected.replaceAll(timestamp, ""));
+        assertThat(cached).contains("NVARCHAR(20)");
+    }
+
+    private void renderAll(String variant) {
+        for (Table table : List.of(users, orders)) {
+            fragmentMemo.get(table, variant, () -> "-- " + rendered.incrementAndGet());
+        }
+    }
+
+    private Table table(String name) {
+        Table table = new Table(name, null);
+        Column column = new Column(name + "Id", MSSQLDataType.BIGINT, 0);
+        column.setId(UUID.randomUUID());
+        table.addColumn(column);
+        return table;
+    }
+}
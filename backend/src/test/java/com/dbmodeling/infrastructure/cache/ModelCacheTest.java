@@ -0,0 +1,266 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import com.dbmodeling.infrastructure.persistence.datasource.PrimaryReadScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("모델 캐시 무효화 테스트")
+class ModelCacheTest {
+
+    private ModelCache modelCache;
+    private Cache projectCache;
+    private Cache tableCache;
+    private Project first;
+    private Project second;
+    private Map<UUID, Project> database;
+    private AtomicInteger loadAllCount;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=1000", "maximumSize=100", "maximumSize=100", "maximumSize=100");
+        CacheManager cacheManager = config.cacheManager(config.cacheStatsManager());
+        modelCache = new ModelCache(cacheManager);
+        projectCache = cacheManager.getCache(CacheConfig.PROJECT_CACHE);
+        tableCache = cacheManager.getCache(CacheConfig.TABLE_CACHE);
+
+        first = project("첫 번째");
+        second = project("두 번째");
+        database = new LinkedHashMap<>();
+        database.put(first.getId(), first);
+        database.put(second.getId(), second);
+        loadAllCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("프로젝트 변경은 해당 키만 제거하고 목록은 유지")
+    void projectChange_EvictsOnlyItsKey() {
+        // Given
+        loadAll();
+
+        // When
+        modelCache.evict(new ModelChanges(Set.of(first.getId()), Set.of(), Set.of(), Set.of()));
+
+        // Then
+        assertThat(projectCache.get(first.getId())).isNull();
+        assertThat(projectCache.get(second.getId())).isNotNull();
+        assertThat(loadAll()).extracting(Project::getName).containsExactly("첫 번째", "두 번째");
+        assertThat(loadAllCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("생성과 삭제는 목록을 다시 만들지 않고 제자리에서 갱신")
+    void createAndDelete_PatchProjectIds() {
+        // Given
+        loadAll();
+        Project third = project("세 번째");
+        database.put(third.getId(), third);
+        database.remove(first.getId());
+
+        // When
+        modelCache.evict(new ModelChanges(
+            Set.of(first.getId(), third.getId()), Set.of(), Set.of(third.getId()), Set.of(first.getId())));
+
+        // Then
+        assertThat(loadAll()).extracting(Project::getName).containsExactly("두 번째", "세 번째");
+        assertThat(loadAllCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("테이블 변경은 테이블 키를 제거")
+    void tableChange_EvictsTableKey() {
+        // Given
+        UUID tableId = UUID.randomUUID();
+        tableCache.put(tableId, "table");
+
+        // When
+        modelCache.evict(new ModelChanges(Set.of(first.getId()), Set.of(tableId), Set.of(), Set.of()));
+
+        // Then
+        assertThat(tableCache.get(tableId)).isNull();
+    }
+
+    @Test
+    @DisplayName("변경 반영과 전체 비우기는 Hibernate 2차 캐시에도 전달")
+    void evict_PropagatesToSecondLevelCache() {
+        // Given
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=1000", "maximumSize=100", "maximumSize=100", "maximumSize=100");
+        SecondLevelCache secondLevelCache = mock(SecondLevelCache.class);
+        ModelCache cache = new ModelCache(config.cacheManager(config.cacheStatsManager()), secondLevelCache);
+        ModelChanges changes = new ModelChanges(Set.of(first.getId()), Set.of(), Set.of(), Set.of());
+
+        // When
+        cache.evict(changes);
+        cache.evictAll();
+
+        // Then
+        verify(secondLevelCache).evict(changes);
+        verify(secondLevelCache).evictAll();
+    }
+
+    @Test
+    @DisplayName("없는 프로젝트는 잠시 기억하고 생성되면 잊음")
+    void missingProject_RememberedUntilCreated() {
+        // Given
+        UUID missingId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        modelCache.loadProjectGraph(missingId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }, id -> Optional.empty());
+        Optional<Project> again = modelCache.loadProjectGraph(missingId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }, id -> Optional.empty());
+
+        // Then
+        assertThat(again).isEmpty();
+        assertThat(loads).hasValue(1);
+
+        modelCache.evict(new ModelChanges(Set.of(missingId), Set.of(), Set.of(missingId), Set.of()));
+        assertThat(modelCache.isKnownMissing(missingId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 뒤의 그래프 로드는 이전 버전의 진행 중인 로드를 공유하지 않음")
+    void graphLoad_NotSharedAcrossVersions() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Project stale = project("변경 전");
+        CompletableFuture<Optional<Project>> inFlight = CompletableFuture.supplyAsync(() ->
+            modelCache.loadProjectGraph(first.getId(), id -> Optional.of(1L), id -> {
+                started.countDown();
+                await(release);
+                return Optional.of(stale);
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Optional<Project> current = modelCache.loadProjectGraph(first.getId(), id -> Optional.of(2L),
+            id -> Optional.of(first));
+        release.countDown();
+
+        // Then
+        assertThat(current).contains(first);
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).contains(stale);
+    }
+
+    @Test
+    @DisplayName("변경된 프로젝트는 복제 지연 시간 동안 주 데이터소스에서 다시 로드")
+    void changedProject_LoadsFromPrimaryWithinReplicaLag() {
+        // Given
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=1000", "maximumSize=100", "maximumSize=100", "maximumSize=100");
+        ModelCache cache = new ModelCache(config.cacheManager(config.cacheStatsManager()), null, Duration.ofMinutes(1));
+        cache.evict(new ModelChanges(Set.of(first.getId()), Set.of(), Set.of(), Set.of()));
+
+        // When
+        boolean changedOnPrimary = cache.readAfterWrite(first.getId(), PrimaryReadScope::isActive);
+        boolean untouchedOnPrimary = cache.readAfterWrite(second.getId(), PrimaryReadScope::isActive);
+        Optional<Project> graph = cache.loadProjectGraph(first.getId(), id -> Optional.of(0L), id -> {
+            assertThat(PrimaryReadScope.isActive()).isTrue();
+            return Optional.of(first);
+        });
+
+        // Then
+        assertThat(changedOnPrimary).isTrue();
+        assertThat(untouchedOnPrimary).isFalse();
+        assertThat(graph).contains(first);
+        assertThat(PrimaryReadScope.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("미리 갱신은 현재 집합 버전과 같은 프로젝트만 저장")
+    void refreshProject_StoresCurrentVersion() {
+        // Given
+        first.setContentVersion(3L);
+
+        // When
+        boolean refreshed = modelCache.refreshProject(first.getId(), Duration.ofMinutes(5),
+            id -> Optional.of(3L), id -> Optional.of(first));
+
+        // Then
+        assertThat(refreshed).isTrue();
+        assertThat(modelCache.peekProject(first.getId())).contains(first);
+    }
+
+    @Test
+    @DisplayName("로드한 뒤 커밋된 변경이 있으면 미리 갱신 결과를 저장하지 않음")
+    void refreshProject_SkipsStaleLoad() {
+        // Given
+        first.setContentVersion(3L);
+
+        // When
+        boolean refreshed = modelCache.refreshProject(first.getId(), Duration.ofMinutes(5),
+            id -> Optional.of(4L), id -> Optional.of(first));
+
+        // Then
+        assertThat(refreshed).isFalse();
+        assertThat(modelCache.peekProject(first.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 직전에 커밋되어 제거가 먼저 끝나도 저장한 항목을 되돌림")
+    void refreshProject_UndoesStoreCommittedMeanwhile() {
+        // Given
+        first.setContentVersion(3L);
+        AtomicInteger versionReads = new AtomicInteger();
+
+        // When
+        boolean refreshed = modelCache.refreshProject(first.getId(), Duration.ofMinutes(5),
+            id -> Optional.of(versionReads.incrementAndGet() == 1 ? 3L : 4L), id -> Optional.of(first));
+
+        // Then
+        assertThat(refreshed).isFalse();
+        assertThat(versionReads).hasValue(2);
+        assertThat(modelCache.peekProject(first.getId())).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Project> loadAll() {
+        return modelCache.getAllProjects(
+            () -> {
+                loadAllCount.incrementAndGet();
+                return List.copyOf(database.values());
+            },
+            id -> Optional.ofNullable(database.get(id)));
+    }
+
+    private Project project(String name) {
+        Project project = new Project(name, null);
+        project.setId(UUID.randomUUID());
+        return project;
+    }
+}
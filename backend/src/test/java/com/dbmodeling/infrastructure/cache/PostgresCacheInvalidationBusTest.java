@@ -0,0 +1,119 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("캐시 무효화 버스 테스트")
+class PostgresCacheInvalidationBusTest {
+
+    @Mock
+    private ModelCache localCache;
+
+    @Mock
+    private ModelCache remoteCache;
+
+    private PostgresCacheInvalidationBus local;
+    private PostgresCacheInvalidationBus remote;
+
+    @BeforeEach
+    void setUp() {
+        local = bus(localCache);
+        remote = bus(remoteCache);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 연속된 알림을 합쳐 한 번에 제거")
+    void remoteNotifications_AreCoalesced() {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        UUID tableId = UUID.randomUUID();
+        UUID createdId = UUID.randomUUID();
+        UUID columnId = UUID.randomUUID();
+        String first = local.encode(new ModelChanges(
+            Set.of(projectId), Set.of(tableId), Set.of(), Set.of(), Set.of(columnId), Set.of()));
+        String second = local.encode(new ModelChanges(Set.of(createdId), Set.of(), Set.of(createdId), Set.of()));
+
+        // When
+        remote.apply(List.of(first, second));
+
+        // Then
+        verify(remoteCache).evict(new ModelChanges(
+            Set.of(projectId, createdId), Set.of(tableId), Set.of(createdId), Set.of(), Set.of(columnId), Set.of()));
+        verifyNoMoreInteractions(remoteCache);
+    }
+
+    @Test
+    @DisplayName("컬럼/인덱스 ID가 없는 이전 형식 알림도 반영")
+    void legacyNotification_WithoutEntityIds() {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        String payload = "{\"node\":\"other\",\"flush\":false,\"changes\":{\"projectIds\":[\"" + projectId
+            + "\"],\"tableIds\":[],\"createdProjectIds\":[],\"deletedProjectIds\":[]}}";
+
+        // When
+        remote.apply(List.of(payload));
+
+        // Then
+        verify(remoteCache).evict(new ModelChanges(Set.of(projectId), Set.of(), Set.of(), Set.of()));
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 알림은 무시")
+    void ownNotification_IsIgnored() {
+        // Given
+        String payload = local.encode(new ModelChanges(Set.of(UUID.randomUUID()), Set.of(), Set.of(), Set.of()));
+
+        // When
+        local.apply(List.of(payload));
+
+        // Then
+        verifyNoInteractions(localCache);
+    }
+
+    @Test
+    @DisplayName("페이로드 한도를 넘으면 전체 비우기로 대체")
+    void oversizedChanges_FallBackToFlush() {
+        // Given
+        Set<UUID> projectIds = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            projectIds.add(UUID.randomUUID());
+        }
+        String payload = local.encode(new ModelChanges(projectIds, Set.of(), Set.of(), Set.of()));
+
+        // When
+        remote.apply(List.of(payload));
+
+        // Then
+        verify(remoteCache).evictAll();
+        verify(remoteCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 알림은 전체 비우기")
+    void malformedNotification_FlushesAll() {
+        // When
+        remote.apply(List.of("not-json"));
+
+        // Then
+        verify(remoteCache).evictAll();
+    }
+
+    private PostgresCacheInvalidationBus bus(ModelCache modelCache) {
+        return new PostgresCacheInvalidationBus(modelCache, new ObjectMapper(), "", "", "",
+            true, Duration.ofMillis(50), Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,102 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.SchemaGenerationOptions;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("생성 결과 캐시 테스트")
+class SchemaOutputCacheTest {
+
+    private SchemaOutputCache schemaOutputCache;
+    private CacheManager cacheManager;
+    private Project project;
+    private AtomicInteger generated;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=1000", "maximumSize=100", "maximumSize=100", "maximumWeight=100");
+        cacheManager = config.cacheManager(config.cacheStatsManager());
+        schemaOutputCache = new SchemaOutputCache(cacheManager);
+
+        project = new Project("프로젝트", null);
+        project.setId(UUID.randomUUID());
+        project.setContentVersion(3L);
+        generated = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 버전과 옵션이면 다시 생성하지 않음")
+    void sameVersionAndOptions_ReturnsCachedOutput() {
+        // When
+        String first = generate(SchemaGenerationOptions.defaultOptions());
+        String second = generate(SchemaGenerationOptions.defaultOptions());
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(generated).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("버전이나 옵션이 바뀌면 새로 생성")
+    void changedVersionOrOptions_Regenerates() {
+        // Given
+        generate(SchemaGenerationOptions.defaultOptions());
+
+        // When
+        generate(SchemaGenerationOptions.developmentOptions());
+        project.setContentVersion(4L);
+        generate(SchemaGenerationOptions.defaultOptions());
+
+        // Then
+        assertThat(generated).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("버전을 모르는 프로젝트는 캐시하지 않음")
+    void unknownVersion_BypassesCache() {
+        // Given
+        project.setContentVersion(null);
+
+        // When
+        generate(SchemaGenerationOptions.defaultOptions());
+        generate(SchemaGenerationOptions.defaultOptions());
+
+        // Then
+        assertThat(generated).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("생성 결과의 문자 수 합계가 상한을 넘으면 제거")
+    void outputsOverWeightLimit_AreEvicted() {
+        // Given
+        Cache cache = cacheManager.getCache(CacheConfig.SCHEMA_CACHE);
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+            (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+
+        // When
+        for (long version = 0; version < 5; version++) {
+            project.setContentVersion(version);
+            schemaOutputCache.get(project, "sql", () -> "x".repeat(40));
+        }
+        nativeCache.cleanUp();
+
+        // Then
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(2);
+    }
+
+    private String generate(SchemaGenerationOptions options) {
+        return schemaOutputCache.get(project, SchemaOutputCache.variantOf(options),
+            () -> "-- script " + generated.incrementAndGet());
+    }
+}
@@ -0,0 +1,161 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.application.port.out.BulkWritePort;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.repository.ColumnRepository;
+import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.TableRepository;
+import com.dbmodeling.infrastructure.persistence.entity.ColumnEntity;
+import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 2차 캐시 무효화 테스트
+ * 2차 캐시와 쿼리 캐시를 켠 상태에서 커밋 후 변경된 항목만 제거되고 다른 테이블의 항목은 남는지 확인합니다.
+ * 쓰기가 커밋되어야 무효화가 실행되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+    "spring.jpa.properties.hibernate.cache.region.factory_class=org.hibernate.cache.jcache.JCacheRegionFactory",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@DisplayName("2차 캐시 무효화 테스트")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private BulkWritePort bulkWritePort;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID projectId;
+    private UUID usersId;
+    private UUID ordersId;
+    private UUID userNameId;
+    private UUID orderNoId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectRepository.save(new Project("2차 캐시 테스트 " + UUID.randomUUID(), null)).getId();
+        usersId = createTable("Users");
+        ordersId = createTable("Orders");
+        userNameId = createColumn(usersId, "name", 0);
+        orderNoId = createColumn(ordersId, "order_no", 0);
+
+        // 생성 후 커밋 시 제거된 항목을 다시 적재
+        tableRepository.findById(usersId);
+        tableRepository.findById(ordersId);
+        columnRepository.findById(userNameId);
+        columnRepository.findById(orderNoId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteById(projectId);
+    }
+
+    @Test
+    @DisplayName("Hibernate로 수정하면 다른 테이블의 엔티티는 캐시에 남음")
+    void hibernateWrite_KeepsOtherTables() {
+        // Given
+        assertCached(TableEntity.class, ordersId);
+        assertCached(ColumnEntity.class, orderNoId);
+        Column userName = columnRepository.findById(userNameId).orElseThrow();
+        userName.setName("display_name");
+
+        // When
+        columnRepository.save(userName);
+
+        // Then
+        assertCached(TableEntity.class, ordersId);
+        assertCached(ColumnEntity.class, orderNoId);
+        assertThat(columnRepository.findById(userNameId).orElseThrow().getName()).isEqualTo("display_name");
+    }
+
+    @Test
+    @DisplayName("JDBC 일괄 수정은 수정한 컬럼만 ID로 제거")
+    void bulkUpdate_EvictsUpdatedColumnOnly() {
+        // Given
+        Column userName = columnRepository.findById(userNameId).orElseThrow();
+        userName.setName("display_name");
+
+        // When
+        bulkWritePort.updateColumns(List.of(userName));
+
+        // Then
+        assertThat(entityManagerFactory.getCache().contains(ColumnEntity.class, userNameId)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(TableEntity.class, usersId)).isFalse();
+        assertCached(TableEntity.class, ordersId);
+        assertCached(ColumnEntity.class, orderNoId);
+        assertThat(columnRepository.findById(userNameId).orElseThrow().getName()).isEqualTo("display_name");
+    }
+
+    @Test
+    @DisplayName("JDBC 일괄 추가 후 캐시된 컬럼 목록 쿼리에 새 컬럼이 포함됨")
+    void bulkInsert_RefreshesCachedColumnQuery() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        columnRepository.findByTableIdOrderByOrderIndex(usersId);
+        long hitsBefore = statistics.getQueryCacheHitCount();
+        assertThat(columnRepository.findByTableIdOrderByOrderIndex(usersId)).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(hitsBefore);
+
+        Column email = new Column("email", MSSQLDataType.NVARCHAR, 1);
+        email.setMaxLength(100);
+
+        // When
+        bulkWritePort.insertColumns(usersId, List.of(email));
+
+        // Then
+        assertThat(columnRepository.findByTableIdOrderByOrderIndex(usersId))
+            .extracting(Column::getName)
+            .containsExactly("name", "email");
+    }
+
+    private void assertCached(Class<?> entityClass, UUID id) {
+        assertThat(entityManagerFactory.getCache().contains(entityClass, id))
+            .as("%s %s", entityClass.getSimpleName(), id)
+            .isTrue();
+    }
+
+    private UUID createTable(String name) {
+        Table table = new Table(name, null);
+        table.setProjectId(projectId);
+        return tableRepository.save(table).getId();
+    }
+
+    private UUID createColumn(UUID tableId, String name, int orderIndex) {
+        Column column = new Column(name, MSSQLDataType.NVARCHAR, orderIndex);
+        column.setTableId(tableId);
+        column.setMaxLength(100);
+        return columnRepository.save(column).getId();
+    }
+}
@@ -0,0 +1,87 @@
+package com.dbmodeling.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("동시 계산 합치기 테스트")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 한 번만 계산하고 결과를 공유")
+    void concurrentCalls_ShareOneComputation() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                computations.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "result";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // 후속 호출이 진행 중인 계산에 합류할 시간
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+            assertThat(computations).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("완료된 결과는 보관하지 않고 예외는 호출자에게 그대로 전달")
+    void completedFlight_IsNotRetained() {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+
+        // When
+        singleFlight.execute("key", () -> "v" + computations.incrementAndGet());
+        String second = singleFlight.execute("key", () -> "v" + computations.incrementAndGet());
+
+        // Then
+        assertThat(second).isEqualTo("v2");
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalArgumentException("실패");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("실패");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
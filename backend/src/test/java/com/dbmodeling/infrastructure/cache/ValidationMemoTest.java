@@ -0,0 +1,112 @@
+package com.dbmodeling.infrastructure.cache;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.NamingRules;
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.service.TableResultMemo;
+import com.dbmodeling.domain.service.ValidationDomainService;
+import com.dbmodeling.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("테이블 검증 메모 테스트")
+class ValidationMemoTest {
+
+    private ValidationMemo validationMemo;
+    private NamingRules rules;
+    private Table users;
+    private Table orders;
+    private AtomicInteger validated;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=1000", "maximumSize=100", "maximumSize=100", "maximumWeight=1000");
+        validationMemo = new ValidationMemo(config.cacheManager(config.cacheStatsManager()));
+        rules = new NamingRules();
+        users = table("Users");
+        orders = table("Orders");
+        validated = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 테이블만 바뀌면 그 테이블만 다시 검증")
+    void changedTable_IsRevalidatedAlone() {
+        // Given
+        validateAll();
+
+        // When
+        orders.getColumns().get(0).setName("OrderNo");
+        validateAll();
+
+        // Then
+        assertThat(validated).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("네이밍 규칙이 바뀌면 모든 테이블을 다시 검증")
+    void changedRules_RevalidateAllTables() {
+        // Given
+        validateAll();
+
+        // When
+        rules.setEnforceUpperCase(true);
+        validateAll();
+
+        // Then
+        assertThat(validated).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("내용이 같은 테이블은 같은 해시")
+    void sameContent_HasSameHash() {
+        // Given
+        Table copy = table("Users");
+        copy.getColumns().get(0).setId(users.getColumns().get(0).getId());
+
+        // When & Then
+        assertThat(ValidationMemo.hashOf(copy)).isEqualTo(ValidationMemo.hashOf(users));
+        assertThat(ValidationMemo.hashOf(orders)).isNotEqualTo(ValidationMemo.hashOf(users));
+    }
+
+    @Test
+    @DisplayName("메모된 결과로 만든 스키마 검증 결과는 메모 없이 만든 결과와 같음")
+    void schemaExportValidation_MatchesUnmemoizedResult() {
+        // Given
+        Project project = new Project("프로젝트", null);
+        project.setNamingRules(rules);
+        project.setTables(List.of(users, orders, table("bad name")));
+        ValidationDomainService memoized = new ValidationDomainService(validationMemo);
+        ValidationDomainService plain = new ValidationDomainService(TableResultMemo.NONE);
+
+        // When
+        memoized.validateForSchemaExport(project);
+        ValidationDomainService.SchemaValidationResult cached = memoized.validateForSchemaExport(project);
+        ValidationDomainService.SchemaValidationResult expected = plain.validateForSchemaExport(project);
+
+        // Then
+        assertThat(cached.getTotalErrorCount()).isEqualTo(expected.getTotalErrorCount());
+        assertThat(cached.getTotalWarningCount()).isEqualTo(expected.getTotalWarningCount());
+        assertThat(cached.getStructuralWarnings()).isEqualTo(expected.getStructuralWarnings());
+    }
+
+    private void validateAll() {
+        for (Table table : List.of(users, orders)) {
+            validationMemo.get("test", table, rules, validated::incrementAndGet);
+        }
+    }
+
+    private Table table(String name) {
+        Table table = new Table(name, null);
+        table.addColumn(new Column(name + "Id", MSSQLDataType.BIGINT, 0));
+        return table;
+    }
+}
@@ -0,0 +1,82 @@
+package com.dbmodeling.infrastructure.config;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("캐시 설정 테스트")
+class CacheConfigTest {
+
+    private CacheConfig.CacheStatsManager cacheStatsManager;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig(
+            "maximumWeight=10", "maximumSize=2", "maximumSize=2", "maximumSize=2");
+        cacheStatsManager = config.cacheStatsManager();
+        cacheManager = config.cacheManager(cacheStatsManager);
+    }
+
+    @Test
+    @DisplayName("조회 적중과 실패가 통계에 기록됨")
+    void getAndPut_RecordsHitsAndMisses() {
+        // Given
+        Cache cache = cacheManager.getCache(CacheConfig.TABLE_CACHE);
+
+        // When
+        cache.get("a");
+        cache.put("a", "value");
+        cache.get("a");
+        cache.get("a");
+
+        // Then
+        CacheConfig.CacheStats stats = cacheStatsManager.getStats(CacheConfig.TABLE_CACHE);
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘으면 제거되고 통계에 기록됨")
+    void overCapacity_RecordsEvictions() {
+        // Given
+        Cache cache = cacheManager.getCache(CacheConfig.SCHEMA_CACHE);
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+            (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        nativeCache.cleanUp();
+
+        // Then
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(2);
+        assertThat(cacheStatsManager.getStats(CacheConfig.SCHEMA_CACHE).getEvictions()).isGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("프로젝트 가중치는 테이블, 컬럼, 인덱스 수를 반영")
+    void weightOf_CountsProjectGraph() {
+        // Given
+        Project project = new Project("프로젝트", "설명");
+        Table table = new Table("users", "사용자");
+        table.setColumns(List.of(new Column("id", MSSQLDataType.INT, 0), new Column("name", MSSQLDataType.NVARCHAR, 1)));
+        project.setTables(List.of(table));
+
+        // When & Then
+        assertThat(CacheConfig.weightOf(project)).isEqualTo(7);
+        assertThat(CacheConfig.weightOf(List.of(project, project))).isEqualTo(15);
+    }
+}
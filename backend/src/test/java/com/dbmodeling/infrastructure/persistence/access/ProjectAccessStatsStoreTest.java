@@ -0,0 +1,94 @@
+package com.dbmodeling.infrastructure.persistence.access;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("프로젝트 접근 통계 저장소 테스트")
+class ProjectAccessStatsStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ProjectAccessStatsStore store;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProjectAccessStatsStore(jdbcTemplate, Duration.ofDays(1));
+        projectId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 접근 횟수는 다음 주기에 다시 합산")
+    void flush_RestoresCountsOnFailure() {
+        // Given
+        store.record(projectId);
+        store.record(projectId);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new DataAccessResourceFailureException("연결 실패"))
+            .thenReturn(new int[] {1});
+
+        // When
+        store.flush();
+        store.record(projectId);
+        store.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        List<Object[]> retried = batches.getAllValues().get(1);
+        assertThat(retried).hasSize(1);
+        assertThat(retried.get(0)[0]).isEqualTo(3L);
+        assertThat(retried.get(0)[4]).isEqualTo(projectId);
+    }
+
+    @Test
+    @DisplayName("저장에 성공한 횟수는 다시 합산하지 않음")
+    void flush_DrainsCountsOnSuccess() {
+        // Given
+        store.record(projectId);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1});
+
+        // When
+        store.flush();
+        store.flush();
+
+        // Then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("상위 프로젝트는 인덱스가 있는 저장 컬럼 순서로 조회")
+    void findHottest_OrdersByStoredColumn() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(5))).thenReturn(List.of(projectId));
+
+        // When
+        List<UUID> hottest = store.findHottest(5);
+
+        // Then
+        assertThat(hottest).containsExactly(projectId);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForList(sql.capture(), eq(UUID.class), eq(5));
+        assertThat(sql.getValue()).contains("ORDER BY hot_until DESC");
+    }
+}
@@ -0,0 +1,263 @@
+package com.dbmodeling.infrastructure.persistence.bulk;
+
+import com.dbmodeling.application.port.out.ProjectImportPort;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.infrastructure.persistence.change.ProjectChangeTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Reader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * COPY 행 인코딩 테스트
+ * COPY로 보낸 CSV를 PostgreSQL csv 규칙으로 다시 읽어 스테이징 테이블 컬럼과 비교합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PostgreSQL COPY 가져오기 어댑터 테스트")
+class PostgresCopyImportAdapterTest {
+
+    private static final Pattern STAGING_TABLE =
+        Pattern.compile("CREATE TEMP TABLE (\\w+) \\((.*?)\\) ON COMMIT DROP");
+    private static final Pattern COPY_TARGET = Pattern.compile("COPY (\\w+) FROM STDIN");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProjectChangeTracker changeTracker;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    private PostgresCopyImportAdapter adapter;
+    private Map<String, String> copied;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        adapter = new PostgresCopyImportAdapter(jdbcTemplate, changeTracker);
+        copied = new HashMap<>();
+        projectId = UUID.randomUUID();
+
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString(), any(Reader.class))).thenAnswer(invocation -> {
+            Matcher target = COPY_TARGET.matcher(invocation.getArgument(0));
+            assertThat(target.find()).isTrue();
+            StringWriter data = new StringWriter();
+            invocation.<Reader>getArgument(1).transferTo(data);
+            copied.merge(target.group(1), data.toString(), String::concat);
+            return 0L;
+        });
+    }
+
+    @Test
+    @DisplayName("모든 행의 필드 수가 스테이징 테이블 컬럼 수와 같음")
+    void copyRows_MatchStagingLayout() {
+        // Given
+        Table table = createTable("users", "id", "name");
+        Index index = new Index("PK_users", Index.IndexType.CLUSTERED, true);
+        index.addColumn(table.getColumns().get(0).getId(), Index.SortOrder.ASC);
+        table.addIndex(index);
+
+        // When
+        importTable(table);
+
+        // Then
+        Map<String, Integer> layout = stagingLayout();
+        assertThat(copied.keySet()).containsExactlyInAnyOrderElementsOf(layout.keySet());
+        copied.forEach((stagingTable, data) ->
+            assertThat(parseCsv(data)).allSatisfy(row ->
+                assertThat(row).as(stagingTable).hasSize(layout.get(stagingTable))));
+    }
+
+    @Test
+    @DisplayName("따옴표, 쉼표, 줄바꿈, 역슬래시가 들어간 문자열은 원문 그대로 복원")
+    void copyRows_EscapeSpecialCharacters() {
+        // Given
+        String description = "그는 \"안녕\", 이라고 말했다\n두 번째 줄 C:\\temp\\N";
+        String defaultValue = "'{\"tags\": [\"a\", \"b\"]}'";
+        Table table = createTable("users", "profile");
+        table.setDescription(description);
+        Column profile = table.getColumns().get(0);
+        profile.setDefaultValue(defaultValue);
+
+        // When
+        importTable(table);
+
+        // Then
+        List<String> tableRow = parseCsv(copied.get("import_tables")).get(0);
+        assertThat(tableRow.get(1)).isEqualTo("users");
+        assertThat(tableRow.get(2)).isEqualTo(description);
+
+        List<String> columnRow = parseCsv(copied.get("import_columns")).get(0);
+        assertThat(columnRow.get(2)).isEqualTo("profile");
+        assertThat(columnRow.get(13)).isEqualTo(defaultValue);
+    }
+
+    @Test
+    @DisplayName("NULL은 따옴표 없는 빈 값, 빈 문자열은 따옴표로 구분")
+    void copyRows_DistinguishNullFromEmptyString() {
+        // Given
+        Table table = createTable("users", "name");
+        table.setDescription("");
+        Column name = table.getColumns().get(0);
+        name.setDescription(null);
+        name.setMaxLength(null);
+        name.setDefaultValue("");
+
+        // When
+        importTable(table);
+
+        // Then
+        List<String> tableRow = parseCsv(copied.get("import_tables")).get(0);
+        assertThat(tableRow.get(2)).isEmpty();
+
+        List<String> columnRow = parseCsv(copied.get("import_columns")).get(0);
+        assertThat(columnRow.get(3)).isNull();
+        assertThat(columnRow.get(5)).isNull();
+        assertThat(columnRow.get(13)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스 컬럼은 위치, 컬럼 ID, 정렬 방향을 가진 행으로 적재")
+    void copyRows_IndexMembersAsRows() {
+        // Given
+        Table table = createTable("users", "last_name", "first_name");
+        Column lastName = table.getColumns().get(0);
+        Column firstName = table.getColumns().get(1);
+        Index index = new Index("IX_users_name", Index.IndexType.NONCLUSTERED, true);
+        index.addColumn(lastName.getId(), Index.SortOrder.ASC);
+        index.addColumn(firstName.getId(), Index.SortOrder.DESC);
+        table.addIndex(index);
+
+        // When
+        importTable(table);
+
+        // Then
+        List<String> indexRow = parseCsv(copied.get("import_indexes")).get(0);
+        assertThat(indexRow).containsExactly(
+            index.getId().toString(), table.getId().toString(), "IX_users_name", "NONCLUSTERED", "true");
+
+        List<List<String>> members = parseCsv(copied.get("import_index_columns"));
+        assertThat(members).containsExactly(
+            List.of(index.getId().toString(), "0", lastName.getId().toString(), "ASC"),
+            List.of(index.getId().toString(), "1", firstName.getId().toString(), "DESC"));
+    }
+
+    private void importTable(Table table) {
+        ProjectImportPort.ImportBatch batch = adapter.openBatch(projectId);
+        batch.add(table);
+        batch.complete();
+    }
+
+    private Table createTable(String name, String... columnNames) {
+        Table table = new Table(name, null);
+        table.setProjectId(projectId);
+        for (int i = 0; i < columnNames.length; i++) {
+            Column column = new Column(columnNames[i], MSSQLDataType.NVARCHAR, i);
+            column.setMaxLength(100);
+            table.addColumn(column);
+        }
+        return table;
+    }
+
+    /**
+     * 스테이징 DDL에서 테이블별 컬럼 수 추출 (괄호 안 쉼표 제외)
+     */
+    private static Map<String, Integer> stagingLayout() {
+        Map<String, Integer> layout = new HashMap<>();
+        Matcher matcher = STAGING_TABLE.matcher(PostgresCopyImportAdapter.CREATE_STAGING_TABLES);
+        while (matcher.find()) {
+            int depth = 0;
+            int fields = 1;
+            for (char c : matcher.group(2).toCharArray()) {
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    fields++;
+                }
+            }
+            layout.put(matcher.group(1), fields);
+        }
+        return layout;
+    }
+
+    /**
+     * PostgreSQL COPY FORMAT csv 규칙으로 파싱 (따옴표 없는 빈 값은 null)
+     */
+    private static List<List<String>> parseCsv(String data) {
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < data.length() && data.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',' || c == '\n') {
+                row.add(field.length() == 0 && !wasQuoted ? null : field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+                if (c == '\n') {
+                    rows.add(row);
+                    row = new ArrayList<>();
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        assertThat(quoted).as("닫히지 않은 따옴표").isFalse();
+        assertThat(row).as("줄바꿈으로 끝나지 않은 행").isEmpty();
+        return rows;
+    }
+}
@@ -0,0 +1,192 @@
+package com.dbmodeling.infrastructure.persistence.change;
+
+import com.dbmodeling.infrastructure.cache.ModelCache;
+import com.dbmodeling.infrastructure.cache.ModelChanges;
+import com.dbmodeling.infrastructure.cache.PostgresCacheInvalidationBus;
+import com.dbmodeling.infrastructure.persistence.entity.ProjectEntity;
+import com.dbmodeling.infrastructure.persistence.entity.TableEntity;
+import com.dbmodeling.infrastructure.persistence.repository.TableJpaRepository;
+import com.dbmodeling.infrastructure.persistence.snapshot.ProjectSnapshotStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("프로젝트 변경 추적 테스트")
+class ProjectChangeTrackerTest {
+
+    @Mock
+    private ProjectSnapshotStore snapshotStore;
+
+    @Mock
+    private ModelCache modelCache;
+
+    @Mock
+    private PostgresCacheInvalidationBus invalidationBus;
+
+    @Mock
+    private TableJpaRepository tableJpaRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ProjectChangeTracker tracker;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ProjectChangeTracker(snapshotStore, modelCache, invalidationBus, tableJpaRepository, jdbcTemplate);
+        projectId = UUID.randomUUID();
+        when(snapshotStore.isEnabled()).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(tracker);
+    }
+
+    @Test
+    @DisplayName("커밋 직전 버전을 올리고 커밋 후 캐시 제거와 스냅샷 재생성 수행")
+    void markProject_BumpsVersionAndPublishesAfterCommit() {
+        // Given
+        tracker.markProject(projectId);
+
+        // When
+        commit();
+
+        // Then
+        ModelChanges expected = new ModelChanges(Set.of(projectId), Set.of(), Set.of(), Set.of());
+        verify(jdbcTemplate).update(any(PreparedStatementCreator.class));
+        verify(invalidationBus).publish(jdbcTemplate, expected);
+        verify(modelCache).evict(expected);
+        verify(snapshotStore).refreshAsync(Set.of(projectId));
+        assertThat(TransactionSynchronizationManager.hasResource(tracker)).isFalse();
+    }
+
+    @Test
+    @DisplayName("커밋 전에는 캐시를 제거하지 않음")
+    void markProject_DoesNotEvictBeforeCommit() {
+        // When
+        tracker.markProject(projectId);
+
+        // Then
+        assertThat(tracker.isMarked(projectId)).isTrue();
+        assertThat(tracker.isMarked(UUID.randomUUID())).isFalse();
+        verifyNoInteractions(modelCache);
+    }
+
+    @Test
+    @DisplayName("테이블 변경은 테이블과 소속 프로젝트 키를 함께 제거")
+    void markTable_EvictsTableAndOwningProject() {
+        // Given
+        UUID tableId = UUID.randomUUID();
+        ProjectEntity project = new ProjectEntity();
+        project.setId(projectId);
+        when(tableJpaRepository.findById(tableId)).thenReturn(Optional.of(new TableEntity("users", null, project)));
+
+        // When
+        tracker.markTable(tableId);
+        commit();
+
+        // Then
+        verify(modelCache).evict(new ModelChanges(Set.of(projectId), Set.of(tableId), Set.of(), Set.of()));
+    }
+
+    @Test
+    @DisplayName("컬럼과 인덱스 변경은 ID를 함께 전달하고 소속 프로젝트는 한 번만 조회")
+    void markColumnAndIndex_CarryEntityIds() {
+        // Given
+        UUID tableId = UUID.randomUUID();
+        UUID firstColumnId = UUID.randomUUID();
+        UUID secondColumnId = UUID.randomUUID();
+        UUID indexId = UUID.randomUUID();
+        ProjectEntity project = new ProjectEntity();
+        project.setId(projectId);
+        when(tableJpaRepository.findById(tableId)).thenReturn(Optional.of(new TableEntity("users", null, project)));
+
+        // When
+        tracker.markColumn(tableId, firstColumnId);
+        tracker.markColumn(tableId, secondColumnId);
+        tracker.markIndex(tableId, indexId);
+        commit();
+
+        // Then
+        verify(modelCache).evict(new ModelChanges(Set.of(projectId), Set.of(tableId), Set.of(), Set.of(),
+            Set.of(firstColumnId, secondColumnId), Set.of(indexId)));
+        verify(tableJpaRepository, times(1)).findById(tableId);
+    }
+
+    @Test
+    @DisplayName("삭제된 프로젝트는 스냅샷을 다시 만들지 않음")
+    void markProjectDeleted_SkipsSnapshotRefresh() {
+        // When
+        tracker.markProjectDeleted(projectId);
+        commit();
+
+        // Then
+        ArgumentCaptor<ModelChanges> changes = ArgumentCaptor.forClass(ModelChanges.class);
+        verify(modelCache).evict(changes.capture());
+        assertThat(changes.getValue().deletedProjectIds()).containsExactly(projectId);
+        verify(snapshotStore).refreshAsync(Set.of());
+    }
+
+    @Test
+    @DisplayName("스냅샷 비활성화 시에도 생성 결과 캐시를 위해 버전을 올림")
+    void snapshotDisabled_StillBumpsVersion() {
+        // Given
+        when(snapshotStore.isEnabled()).thenReturn(false);
+        tracker.markProject(projectId);
+
+        // When
+        commit();
+
+        // Then
+        verify(jdbcTemplate).update(any(PreparedStatementCreator.class));
+        verify(modelCache).evict(any(ModelChanges.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 변경은 즉시 반영")
+    void withoutTransaction_PublishesImmediately() {
+        // Given
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When
+        tracker.markProjectCreated(projectId);
+
+        // Then
+        verify(modelCache).evict(new ModelChanges(Set.of(projectId), Set.of(), Set.of(projectId), Set.of()));
+    }
+
+    private void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.dbmodeling.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("읽기/쓰기 라우팅 데이터소스 테스트")
+class ReadWriteRoutingDataSourceTest {
+    
+    @Mock
+    private DataSource primary;
+    
+    @Mock
+    private DataSource replica;
+    
+    @Mock
+    private Connection primaryConnection;
+    
+    @Mock
+    private Connection replicaConnection;
+    
+    private ReadWriteRoutingDataSource routingDataSource;
+    
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, Duration.ofMinutes(1));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+    
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 라우팅")
+    void readOnlyTransaction_RoutesToReplica() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        
+        // When (지연 프록시이므로 첫 문장 생성 시점에 실제 연결 획득)
+        try (Connection connection = routingDataSource.getConnection()) {
+            connection.createStatement();
+        }
+        
+        // Then
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+        assertThat(routingDataSource.getReplicaConnections()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("쓰기 트랜잭션은 주 데이터소스로 라우팅")
+    void writeTransaction_RoutesToPrimary() throws SQLException {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        
+        // When (지연 프록시이므로 첫 문장 생성 시점에 실제 연결 획득)
+        try (Connection connection = routingDataSource.getConnection()) {
+            connection.createStatement();
+        }
+        
+        // Then
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+        assertThat(routingDataSource.getPrimaryConnections()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("복제본 장애 시 주 데이터소스로 대체하고 재시도 대기")
+    void replicaFailure_FallsBackToPrimary() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        
+        // When
+        for (int i = 0; i < 2; i++) {
+            try (Connection connection = routingDataSource.getConnection()) {
+                connection.createStatement();
+            }
+        }
+        
+        // Then
+        verify(replica, times(1)).getConnection();
+        verify(primary, times(2)).getConnection();
+        assertThat(routingDataSource.getReplicaFallbacks()).isEqualTo(1);
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    }
+}
@@ -0,0 +1,188 @@
+package com.dbmodeling.infrastructure.persistence.repository;
+
+import com.dbmodeling.application.service.ColumnService;
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.repository.ColumnRepository;
+import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.TableRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PostgreSQL 컬럼 순서 변경 통합 테스트
+ * Flyway 마이그레이션을 적용한 스키마에서 컬럼 이동이 이동한 행만 UPDATE하는지 확인합니다.
+ * 정렬 키를 JDBC로 직접 바꾸는 경우가 있어 2차 캐시는 끕니다.
+ * 시스템 속성 test.postgresql=true로 실행 시에만 활성화
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:postgresql://localhost:5432/dbmodeling_test?currentSchema=column_order_it",
+    "spring.datasource.username=dbmodeling",
+    "spring.datasource.password=dbmodeling",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.hbm2ddl.auto=validate",
+    "spring.flyway.enabled=true",
+    "spring.flyway.schemas=column_order_it",
+    "spring.flyway.locations=classpath:db/migration",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("dev")
+@Tag("integration")
+@EnabledIfSystemProperty(named = "test.postgresql", matches = "true")
+class ColumnOrderPostgreSQLIntegrationTest {
+
+    private static final String[] COLUMN_NAMES = {"id", "name", "email", "phone", "created_at"};
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID projectId;
+    private UUID tableId;
+    private Map<String, UUID> columnIds;
+
+    @BeforeEach
+    void setUp() {
+        Project project = projectRepository.save(new Project("컬럼 순서 테스트 " + UUID.randomUUID(), null));
+        projectId = project.getId();
+
+        Table table = new Table("Users", null);
+        table.setProjectId(projectId);
+        tableId = tableRepository.save(table).getId();
+
+        columnIds = new HashMap<>();
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            Column column = new Column(COLUMN_NAMES[i], MSSQLDataType.NVARCHAR, i);
+            column.setTableId(tableId);
+            column.setMaxLength(100);
+            columnIds.put(COLUMN_NAMES[i], columnRepository.save(column).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteById(projectId);
+    }
+
+    @Test
+    @DisplayName("컬럼을 위로 이동하면 이동한 컬럼 한 행만 갱신")
+    void moveColumnUp_UpdatesOneRow() {
+        // Given
+        Map<String, Long> versionsBefore = versions();
+
+        // When
+        Column moved = columnService.updateColumnOrder(columnIds.get("created_at"), 1);
+
+        // Then
+        assertThat(moved.getOrderIndex()).isEqualTo(1);
+        assertThat(storedOrder()).containsExactly("id", "created_at", "name", "email", "phone");
+        assertThat(orderIndexes()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(changedColumns(versionsBefore)).containsExactly("created_at");
+    }
+
+    @Test
+    @DisplayName("컬럼을 아래로 이동하면 이동한 컬럼 한 행만 갱신")
+    void moveColumnDown_UpdatesOneRow() {
+        // Given
+        Map<String, Long> versionsBefore = versions();
+
+        // When
+        Column moved = columnService.updateColumnOrder(columnIds.get("id"), 3);
+
+        // Then
+        assertThat(moved.getOrderIndex()).isEqualTo(3);
+        assertThat(storedOrder()).containsExactly("name", "email", "phone", "id", "created_at");
+        assertThat(orderIndexes()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(changedColumns(versionsBefore)).containsExactly("id");
+    }
+
+    @Test
+    @DisplayName("위아래로 반복 이동해도 순서와 조회 순서 인덱스가 일치")
+    void moveColumnUpAndDown_KeepsOrderConsistent() {
+        // When
+        columnService.updateColumnOrder(columnIds.get("phone"), 0);
+        columnService.updateColumnOrder(columnIds.get("id"), 4);
+        columnService.updateColumnOrder(columnIds.get("phone"), 2);
+
+        // Then
+        assertThat(storedOrder()).containsExactly("name", "email", "phone", "created_at", "id");
+        List<Column> columns = columnRepository.findByTableIdOrderByOrderIndex(tableId);
+        assertThat(columns).extracting(Column::getName)
+            .containsExactly("name", "email", "phone", "created_at", "id");
+        assertThat(columnRepository.findById(columnIds.get("phone")).orElseThrow().getOrderIndex()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정렬 키 간격이 없으면 한 번에 재분배한 뒤 이동")
+    void moveColumnWithoutGap_RebalancesKeys() {
+        // Given
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            jdbcTemplate.update("UPDATE columns SET sort_key = ? WHERE id = ?", i + 1L, columnIds.get(COLUMN_NAMES[i]));
+        }
+
+        // When
+        columnService.updateColumnOrder(columnIds.get("phone"), 1);
+
+        // Then
+        assertThat(storedOrder()).containsExactly("id", "phone", "name", "email", "created_at");
+        List<Long> sortKeys = jdbcTemplate.queryForList(
+            "SELECT sort_key FROM columns WHERE table_id = ? ORDER BY sort_key", Long.class, tableId);
+        assertThat(sortKeys).doesNotHaveDuplicates().isSorted();
+    }
+
+    private List<String> storedOrder() {
+        return jdbcTemplate.queryForList(
+            "SELECT name FROM columns WHERE table_id = ? ORDER BY sort_key, id", String.class, tableId);
+    }
+
+    private List<Integer> orderIndexes() {
+        return columnRepository.findByTableIdOrderByOrderIndex(tableId).stream()
+            .map(Column::getOrderIndex)
+            .toList();
+    }
+
+    private Map<String, Long> versions() {
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT name, version FROM columns WHERE table_id = ?",
+            rs -> {
+                versions.put(rs.getString("name"), rs.getLong("version"));
+            }, tableId);
+        return versions;
+    }
+
+    private List<String> changedColumns(Map<String, Long> before) {
+        Map<String, Long> after = versions();
+        return after.keySet().stream()
+            .filter(name -> !after.get(name).equals(before.get(name)))
+            .toList();
+    }
+}
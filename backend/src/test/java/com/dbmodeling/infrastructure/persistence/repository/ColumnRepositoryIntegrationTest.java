@@ -74,7 +74,7 @@ class ColumnRepositoryIntegrationTest {
         assertThat(savedColumn.getTableId()).isEqualTo(testTable.getId());
         assertThat(savedColumn.isPrimaryKey()).isTrue();
         assertThat(savedColumn.isIdentity()).isTrue();
-        assertThat(savedColumn.getOrderIndex()).isEqualTo(1);
+        assertThat(savedColumn.getOrderIndex()).isEqualTo(0);
         
         // 조회 테스트
         Optional<Column> foundColumn = columnRepository.findById(savedColumn.getId());
@@ -208,7 +208,7 @@ class ColumnRepositoryIntegrationTest {
         Integer maxOrderIndex = columnRepository.findMaxOrderIndexByTableId(testTable.getId());
         
         // Then
-        assertThat(maxOrderIndex).isEqualTo(5);
+        assertThat(maxOrderIndex).isEqualTo(1);
     }
     
     @Test
@@ -218,6 +218,6 @@ class ColumnRepositoryIntegrationTest {
         Integer maxOrderIndex = columnRepository.findMaxOrderIndexByTableId(testTable.getId());
         
         // Then
-        assertThat(maxOrderIndex).isEqualTo(0);
+        assertThat(maxOrderIndex).isNull();
     }
 }
\ No newline at end of file
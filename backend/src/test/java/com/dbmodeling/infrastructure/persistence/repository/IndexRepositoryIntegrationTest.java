@@ -231,4 +231,26 @@ class IndexRepositoryIntegrationTest {
         assertThat(indexRepository.existsByTableIdAndType(testTable.getId(), Index.IndexType.CLUSTERED)).isTrue();
         assertThat(indexRepository.existsByTableIdAndType(testTable.getId(), Index.IndexType.NONCLUSTERED)).isFalse();
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("컬럼을 참조하는 인덱스 역조회")
+    void findByColumnId() {
+        // Given
+        Column otherColumn = new Column("user_name", MSSQLDataType.NVARCHAR, 2);
+        otherColumn.setTableId(testTable.getId());
+        otherColumn = columnRepository.save(otherColumn);
+        
+        indexRepository.save(testIndex);
+        Index otherIndex = new Index("IX_User_UserName", Index.IndexType.NONCLUSTERED, false);
+        otherIndex.setTableId(testTable.getId());
+        otherIndex.addColumn(otherColumn.getId(), Index.SortOrder.ASC);
+        indexRepository.save(otherIndex);
+        
+        // When
+        List<Index> referencing = indexRepository.findByColumnId(testColumn.getId());
+        
+        // Then
+        assertThat(referencing).extracting(Index::getName).containsExactly("IX_User_UserId");
+        assertThat(referencing.get(0).getColumns()).hasSize(1);
+    }
+}
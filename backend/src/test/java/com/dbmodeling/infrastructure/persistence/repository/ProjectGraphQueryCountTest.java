@@ -0,0 +1,119 @@
+package com.dbmodeling.infrastructure.persistence.repository;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.repository.ColumnRepository;
+import com.dbmodeling.domain.repository.IndexRepository;
+import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.TableRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 프로젝트 전체 그래프 조회 쿼리 수 테스트
+ * 2차 캐시가 쿼리를 가리지 않도록 끄고 Hibernate 통계로 실행된 문장 수를 셉니다.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+@Transactional
+class ProjectGraphQueryCountTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private IndexRepository indexRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("테이블과 컬럼 수가 늘어도 조회 쿼리 수는 같음")
+    void findByIdWithFullGraph_FixedStatementCount() {
+        // Given
+        UUID small = createProject("작은 프로젝트", 1, 1);
+        UUID large = createProject("큰 프로젝트", 8, 6);
+
+        // When
+        long smallStatements = countStatements(small, 1);
+        long largeStatements = countStatements(large, 8);
+
+        // Then
+        assertThat(smallStatements).isPositive();
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    private long countStatements(UUID projectId, int expectedTables) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Project project = projectRepository.findByIdWithFullGraph(projectId).orElseThrow();
+
+        assertThat(project.getTables()).hasSize(expectedTables);
+        assertThat(project.getTables()).allSatisfy(table -> {
+            assertThat(table.getColumns()).isNotEmpty();
+            assertThat(table.getIndexes()).hasSize(1);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UUID createProject(String name, int tableCount, int columnCount) {
+        Project project = projectRepository.save(new Project(name, null));
+        for (int t = 0; t < tableCount; t++) {
+            Table table = new Table("Table" + t, null);
+            table.setProjectId(project.getId());
+            table = tableRepository.save(table);
+
+            Column first = null;
+            for (int c = 0; c < columnCount; c++) {
+                Column column = new Column("column" + c, MSSQLDataType.INT, c + 1);
+                column.setTableId(table.getId());
+                column = columnRepository.save(column);
+                if (first == null) {
+                    first = column;
+                }
+            }
+
+            Index index = new Index("IX_Table" + t + "_column0", Index.IndexType.NONCLUSTERED, false);
+            index.setTableId(table.getId());
+            index.addColumn(first.getId(), Index.SortOrder.ASC);
+            indexRepository.save(index);
+        }
+        return project.getId();
+    }
+}
@@ -1,8 +1,15 @@
 package com.dbmodeling.infrastructure.persistence.repository;
 
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.Index;
+import com.dbmodeling.domain.model.MSSQLDataType;
 import com.dbmodeling.domain.model.NamingRules;
 import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.domain.repository.ColumnRepository;
+import com.dbmodeling.domain.repository.IndexRepository;
 import com.dbmodeling.domain.repository.ProjectRepository;
+import com.dbmodeling.domain.repository.TableRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +35,15 @@ class ProjectRepositoryIntegrationTest {
     @Autowired
     private ProjectRepository projectRepository;
     
+    @Autowired
+    private TableRepository tableRepository;
+    
+    @Autowired
+    private ColumnRepository columnRepository;
+    
+    @Autowired
+    private IndexRepository indexRepository;
+    
     private Project testProject;
     
     @BeforeEach
@@ -145,4 +161,65 @@ class ProjectRepositoryIntegrationTest {
         assertThat(projectRepository.existsByName("테스트 프로젝트")).isTrue();
         assertThat(projectRepository.existsByName("존재하지 않는 프로젝트")).isFalse();
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("프로젝트 전체 그래프 일괄 조회")
+    void findByIdWithFullGraph() {
+        // Given
+        Project savedProject = projectRepository.save(testProject);
+        
+        Table userTable = new Table("User", "사용자 테이블");
+        userTable.setProjectId(savedProject.getId());
+        userTable = tableRepository.save(userTable);
+        
+        Table orderTable = new Table("Order", "주문 테이블");
+        orderTable.setProjectId(savedProject.getId());
+        orderTable = tableRepository.save(orderTable);
+        
+        Column userId = new Column("user_id", MSSQLDataType.BIGINT, 1);
+        userId.setTableId(userTable.getId());
+        userId = columnRepository.save(userId);
+        
+        Column userName = new Column("user_name", MSSQLDataType.NVARCHAR, 2);
+        userName.setTableId(userTable.getId());
+        userName.setMaxLength(100);
+        columnRepository.save(userName);
+        
+        Column orderId = new Column("order_id", MSSQLDataType.BIGINT, 1);
+        orderId.setTableId(orderTable.getId());
+        columnRepository.save(orderId);
+        
+        Index index = new Index("IX_User_UserId", Index.IndexType.NONCLUSTERED, false);
+        index.setTableId(userTable.getId());
+        index.addColumn(userId.getId(), Index.SortOrder.ASC);
+        indexRepository.save(index);
+        
+        // When
+        Optional<Project> found = projectRepository.findByIdWithFullGraph(savedProject.getId());
+        
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getTables()).hasSize(2);
+        
+        Table foundUser = found.get().getTables().stream()
+            .filter(table -> table.getName().equals("User"))
+            .findFirst().orElseThrow();
+        assertThat(foundUser.getColumns()).extracting(Column::getName)
+            .containsExactly("user_id", "user_name");
+        assertThat(foundUser.getIndexes()).hasSize(1);
+        assertThat(foundUser.getIndexes().get(0).getColumns().get(0).getColumnName()).isEqualTo("user_id");
+        
+        Table foundOrder = found.get().getTables().stream()
+            .filter(table -> table.getName().equals("Order"))
+            .findFirst().orElseThrow();
+        assertThat(foundOrder.getColumns()).hasSize(1);
+        assertThat(foundOrder.getIndexes()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 프로젝트 전체 그래프 조회")
+    void findByIdWithFullGraph_NotFound() {
+        // When & Then
+        assertThat(projectRepository.findByIdWithFullGraph(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -0,0 +1,198 @@
+package com.dbmodeling.infrastructure.persistence.snapshot;
+
+import com.dbmodeling.domain.model.Column;
+import com.dbmodeling.domain.model.MSSQLDataType;
+import com.dbmodeling.domain.model.Project;
+import com.dbmodeling.domain.model.Table;
+import com.dbmodeling.infrastructure.persistence.repository.ProjectGraphLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("프로젝트 스냅샷 저장소 테스트")
+class ProjectSnapshotStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProjectGraphLoader graphLoader;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private List<Runnable> scheduled;
+    private ProjectSnapshotStore store;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        scheduled = new ArrayList<>();
+        Executor executor = scheduled::add;
+        store = new ProjectSnapshotStore(jdbcTemplate, graphLoader, new ObjectMapper().findAndRegisterModules(),
+            transactionManager, executor, true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        project = new Project("쇼핑몰", "스냅샷 테스트");
+        Table users = new Table("Users", null);
+        users.setProjectId(project.getId());
+        users.addColumn(new Column("id", MSSQLDataType.BIGINT, 0));
+        project.setTables(new ArrayList<>(List.of(users)));
+    }
+
+    @Test
+    @DisplayName("최신 버전 스냅샷이 있으면 그래프를 복원")
+    void find_Hit() {
+        // Given
+        stubContentVersion(3L);
+        when(graphLoader.load(project.getId())).thenReturn(Optional.of(project));
+        store.rebuild(project.getId());
+        stubSnapshot(savedPayload(3L));
+
+        // When
+        Optional<Project> found = store.find(project.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getId()).isEqualTo(project.getId());
+        assertThat(found.get().getName()).isEqualTo("쇼핑몰");
+        assertThat(found.get().getTables()).singleElement().satisfies(table -> {
+            assertThat(table.getName()).isEqualTo("Users");
+            assertThat(table.getColumns()).extracting(Column::getName).containsExactly("id");
+        });
+    }
+
+    @Test
+    @DisplayName("프로젝트 버전과 다른 스냅샷은 사용하지 않음")
+    void find_StaleVersion() {
+        // Given
+        stubSnapshot(null);
+
+        // When
+        Optional<Project> found = store.find(project.getId());
+
+        // Then
+        assertThat(found).isEmpty();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(ResultSetExtractor.class), eq(project.getId()));
+        assertThat(sql.getValue()).contains("p.content_version = s.version");
+    }
+
+    @Test
+    @DisplayName("재생성은 그래프를 읽기 전에 읽은 버전으로 저장")
+    void rebuild_StoresVersionReadBeforeGraph() {
+        // Given
+        stubContentVersion(7L);
+        when(graphLoader.load(project.getId())).thenReturn(Optional.of(project));
+
+        // When
+        store.rebuild(project.getId());
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate, graphLoader);
+        inOrder.verify(jdbcTemplate).query(startsWith("SELECT content_version"), any(ResultSetExtractor.class),
+            eq(project.getId()));
+        inOrder.verify(graphLoader).load(project.getId());
+        inOrder.verify(jdbcTemplate).update(startsWith("INSERT INTO project_snapshots"), eq(project.getId()),
+            eq(7L), anyString(), any(Timestamp.class));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 빈 결과를 돌려주고 재생성은 한 번만 예약")
+    void find_MissQueuesSingleRebuild() {
+        // Given
+        stubSnapshot(null);
+        stubContentVersion(1L);
+        when(graphLoader.load(project.getId())).thenReturn(Optional.of(project));
+
+        // When
+        Optional<Project> found = store.find(project.getId());
+        store.refreshAsync(Set.of(project.getId()));
+        store.refreshAsync(Set.of(project.getId()));
+        store.refreshAsync(Set.of(project.getId()));
+
+        // Then
+        assertThat(found).isEmpty();
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.get(0).run();
+        verify(graphLoader, times(1)).load(project.getId());
+        verify(jdbcTemplate).update(startsWith("INSERT INTO project_snapshots"), eq(project.getId()),
+            eq(1L), anyString(), any(Timestamp.class));
+    }
+
+    @Test
+    @DisplayName("재생성이 시작된 뒤 들어온 요청은 다시 예약")
+    void refreshAsync_RequeuesAfterStart() {
+        // Given
+        stubContentVersion(1L);
+        when(graphLoader.load(project.getId())).thenReturn(Optional.of(project));
+        store.refreshAsync(Set.of(project.getId()));
+
+        // When
+        scheduled.get(0).run();
+        store.refreshAsync(Set.of(project.getId()));
+
+        // Then
+        assertThat(scheduled).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("서로 다른 프로젝트는 각각 예약")
+    void refreshAsync_SchedulesEachProject() {
+        // When
+        store.refreshAsync(Set.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Then
+        assertThat(scheduled).hasSize(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubSnapshot(String payload) {
+        when(jdbcTemplate.query(startsWith("SELECT s.payload"), any(ResultSetExtractor.class), eq(project.getId())))
+            .thenReturn(payload);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubContentVersion(Long version) {
+        when(jdbcTemplate.query(startsWith("SELECT content_version"), any(ResultSetExtractor.class),
+            eq(project.getId())))
+            .thenReturn(version);
+    }
+
+    private String savedPayload(long version) {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO project_snapshots"), eq(project.getId()),
+            eq(version), payload.capture(), any(Timestamp.class));
+        return payload.getValue();
+    }
+}
@@ -0,0 +1,108 @@
+package com.dbmodeling.infrastructure.persistence.unitofwork;
+
+import com.dbmodeling.domain.model.Project;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("애그리거트 작업 단위 테스트")
+class AggregateUnitOfWorkTest {
+
+    private AggregateUnitOfWork unitOfWork;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        unitOfWork = new AggregateUnitOfWork();
+        id = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(unitOfWork);
+    }
+
+    @Test
+    @DisplayName("조회 상태와 같으면 변경 필드 없음")
+    void unchangedState_HasNoDirtyFields() {
+        // Given
+        unitOfWork.register(Project.class, id, state("프로젝트", "설명"));
+
+        // When
+        Optional<Set<String>> dirty = unitOfWork.dirtyFields(Project.class, id, state("프로젝트", "설명"));
+
+        // Then
+        assertThat(dirty).isPresent();
+        assertThat(dirty.get()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경된 필드만 반환")
+    void changedState_ReturnsOnlyChangedFields() {
+        // Given
+        unitOfWork.register(Project.class, id, state("프로젝트", null));
+
+        // When
+        Optional<Set<String>> dirty = unitOfWork.dirtyFields(Project.class, id, state("프로젝트", "새 설명"));
+
+        // Then
+        assertThat(dirty).contains(Set.of("description"));
+    }
+
+    @Test
+    @DisplayName("조회하지 않은 애그리거트는 변경 여부를 알 수 없음")
+    void unknownAggregate_ReturnsEmpty() {
+        assertThat(unitOfWork.dirtyFields(Project.class, id, state("프로젝트", "설명"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 종료 시 스냅샷 폐기")
+    void afterCompletion_DiscardsSnapshots() {
+        // Given
+        unitOfWork.register(Project.class, id, state("프로젝트", "설명"));
+
+        // When
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        // Then
+        assertThat(TransactionSynchronizationManager.hasResource(unitOfWork)).isFalse();
+        assertThat(unitOfWork.dirtyFields(Project.class, id, state("프로젝트", "설명"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 스냅샷을 보관하지 않음")
+    void withoutTransaction_DoesNotRegister() {
+        // Given
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When
+        unitOfWork.register(Project.class, id, state("프로젝트", "설명"));
+
+        // Then
+        assertThat(TransactionSynchronizationManager.hasResource(unitOfWork)).isFalse();
+    }
+
+    private Map<String, Object> state(String name, String description) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("name", name);
+        state.put("description", description);
+        return state;
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -246,9 +247,14 @@ class ExportControllerIntegrationTest {
         request.setIncludeIndexes(true);
         request.setIncludeConstraints(true);
 
-        mockMvc.perform(post("/api/projects/{projectId}/export/download", testProject.getId())
+        // 본문은 비동기로 스트리밍되므로 디스패치 후 확인
+        MvcResult result = mockMvc.perform(post("/api/projects/{projectId}/export/download", testProject.getId())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", "application/sql"))
                 .andExpect(header().exists("Content-Disposition"))
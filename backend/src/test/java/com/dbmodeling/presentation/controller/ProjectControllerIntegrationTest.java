@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -98,6 +99,21 @@ class ProjectControllerIntegrationTest {
                 .andExpect(jsonPath("$.error.code").value("RESOURCE_NOT_FOUND"));
     }
 
+    @Test
+    @DisplayName("ETag가 같으면 프로젝트 조회 시 304 응답")
+    void getProject_NotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/projects/{id}", testProject.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/projects/{id}", testProject.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("프로젝트 생성 성공")
     void createProject_Success() throws Exception {
@@ -178,6 +194,48 @@ class ProjectControllerIntegrationTest {
                 .andExpect(jsonPath("$.error.code").value("RESOURCE_NOT_FOUND"));
     }
 
+    @Test
+    @DisplayName("오래된 ETag로 프로젝트 수정 시 412 오류")
+    void updateProject_StaleIfMatch() throws Exception {
+        UpdateProjectRequest request = new UpdateProjectRequest();
+        request.setName("수정된 프로젝트");
+
+        mockMvc.perform(put("/api/projects/{id}", testProject.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"project-" + testProject.getId() + "-v999\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.code").value("PRECONDITION_FAILED"));
+    }
+
+    @Test
+    @DisplayName("현재 ETag로 수정하면 새 버전 ETag를 받고, 이전 ETag로는 다시 수정할 수 없음")
+    void updateProject_IfMatchReturnsCommittedVersion() throws Exception {
+        String eTag = mockMvc.perform(get("/api/projects/{id}", testProject.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        long version = Long.parseLong(eTag.substring(eTag.lastIndexOf("-v") + 2, eTag.length() - 1));
+
+        UpdateProjectRequest request = new UpdateProjectRequest();
+        request.setName("수정된 프로젝트");
+
+        mockMvc.perform(put("/api/projects/{id}", testProject.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        "\"project-" + testProject.getId() + "-v" + (version + 1) + "\""));
+
+        mockMvc.perform(put("/api/projects/{id}", testProject.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error.code").value("PRECONDITION_FAILED"));
+    }
+
     @Test
     @DisplayName("프로젝트 삭제 성공")
     void deleteProject_Success() throws Exception {